@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.tools;
+
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryRestApplication;
+import io.confluent.kafkarest.KafkaRestApplication;
+import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.rest.RestConfig;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
+import kafka.server.KafkaBroker;
+import kafka.server.KafkaConfig;
+import kafka.server.QuorumTestHarness;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.coordinator.group.GroupCoordinatorConfig;
+import org.apache.kafka.network.SocketServerConfigs;
+import org.apache.kafka.raft.QuorumConfig;
+import org.apache.kafka.server.config.KRaftConfigs;
+import org.apache.kafka.server.config.ServerConfigs;
+import org.apache.kafka.server.config.ServerLogConfigs;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.TestInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.Option;
+
+/**
+ * A single node Kafka cluster, optionally a Schema Registry, and a REST proxy in front of them, all
+ * running in this JVM. They are started the same way the integration tests start them, see {@code
+ * ClusterTestHarness}.
+ */
+final class EmbeddedKafkaRest implements EmbeddedServers {
+
+  private static final Logger log = LoggerFactory.getLogger(EmbeddedKafkaRest.class);
+
+  private static final int BROKER_ID = 0;
+
+  private final QuorumTestHarness quorum = new QuorumTestHarness() {};
+  private Path logDir;
+  private KafkaBroker broker;
+  private String bootstrapServers;
+  @Nullable private Server schemaRegistryServer;
+  @Nullable private String schemaRegistryUrl;
+  private Server restServer;
+  private String restUrl;
+
+  private EmbeddedKafkaRest() {}
+
+  /** Looked up by {@link EmbeddedServers#start}. */
+  static EmbeddedKafkaRest start(boolean withSchemaRegistry, Map<String, String> restConfigs)
+      throws Exception {
+    EmbeddedKafkaRest embedded = new EmbeddedKafkaRest();
+    try {
+      embedded.startBroker();
+      if (withSchemaRegistry) {
+        embedded.startSchemaRegistry();
+      }
+      embedded.startRest(restConfigs);
+    } catch (Exception e) {
+      embedded.close();
+      throw e;
+    }
+    return embedded;
+  }
+
+  private void startBroker() throws IOException {
+    log.info("Starting embedded Kafka broker.");
+    quorum.setUp(new ToolTestInfo());
+    logDir = Files.createTempDirectory("kafka-rest-load-");
+    String listener = String.format("PLAINTEXT://localhost:%d", choosePort());
+    Properties properties = new Properties();
+    properties.put(KRaftConfigs.NODE_ID_CONFIG, String.valueOf(BROKER_ID));
+    properties.put(ServerConfigs.BROKER_ID_CONFIG, String.valueOf(BROKER_ID));
+    properties.put(KRaftConfigs.PROCESS_ROLES_CONFIG, "broker");
+    properties.put(SocketServerConfigs.LISTENERS_CONFIG, listener);
+    properties.put(SocketServerConfigs.ADVERTISED_LISTENERS_CONFIG, listener);
+    properties.put(KRaftConfigs.CONTROLLER_LISTENER_NAMES_CONFIG, "CONTROLLER");
+    properties.put(
+        SocketServerConfigs.LISTENER_SECURITY_PROTOCOL_MAP_CONFIG,
+        "PLAINTEXT:PLAINTEXT,CONTROLLER:PLAINTEXT");
+    // A placeholder, QuorumTestHarness points the broker to its controller.
+    properties.put(QuorumConfig.QUORUM_VOTERS_CONFIG, "1000@localhost:0");
+    properties.put(ServerLogConfigs.LOG_DIR_CONFIG, logDir.toString());
+    properties.put(GroupCoordinatorConfig.OFFSETS_TOPIC_REPLICATION_FACTOR_CONFIG, "1");
+    properties.put(GroupCoordinatorConfig.GROUP_INITIAL_REBALANCE_DELAY_MS_CONFIG, "0");
+    broker =
+        quorum.createBroker(
+            KafkaConfig.fromProps(properties), Time.SYSTEM, /* startup= */ true, Option.empty());
+    bootstrapServers = listener.substring("PLAINTEXT://".length());
+  }
+
+  private void startSchemaRegistry() throws Exception {
+    log.info("Starting embedded Schema Registry.");
+    int port = choosePort();
+    Properties properties = new Properties();
+    properties.put(
+        SchemaRegistryConfig.LISTENERS_CONFIG, String.format("http://127.0.0.1:%d", port));
+    properties.put(
+        SchemaRegistryConfig.KAFKASTORE_TOPIC_CONFIG,
+        SchemaRegistryConfig.DEFAULT_KAFKASTORE_TOPIC);
+    properties.put(
+        SchemaRegistryConfig.KAFKASTORE_BOOTSTRAP_SERVERS_CONFIG,
+        "PLAINTEXT://" + bootstrapServers);
+    SchemaRegistryRestApplication application =
+        new SchemaRegistryRestApplication(new SchemaRegistryConfig(properties));
+    schemaRegistryServer = application.createServer();
+    schemaRegistryServer.start();
+    application.postServerStart();
+    schemaRegistryUrl = String.format("http://127.0.0.1:%d", port);
+  }
+
+  private void startRest(Map<String, String> restConfigs) throws Exception {
+    log.info("Starting embedded REST proxy.");
+    int port = choosePort();
+    Properties properties = new Properties();
+    properties.put(KafkaRestConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    properties.put(RestConfig.LISTENERS_CONFIG, String.format("http://127.0.0.1:%d", port));
+    if (schemaRegistryUrl != null) {
+      properties.put(KafkaRestConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+    }
+    properties.putAll(restConfigs);
+    restServer = new KafkaRestApplication(new KafkaRestConfig(properties)).createServer();
+    restServer.start();
+    restUrl = String.format("http://127.0.0.1:%d", port);
+  }
+
+  @Override
+  public void createTopic(String topic, int partitions) throws Exception {
+    try (Admin admin =
+        Admin.create(
+            Collections.singletonMap(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+      if (!admin.listTopics().names().get().contains(topic)) {
+        admin
+            .createTopics(
+                Collections.singletonList(
+                    new NewTopic(topic, partitions, /* replicationFactor= */ (short) 1)))
+            .all()
+            .get();
+      }
+    }
+  }
+
+  @Override
+  public String getRestUrl() {
+    return restUrl;
+  }
+
+  @Override
+  @Nullable
+  public String getSchemaRegistryUrl() {
+    return schemaRegistryUrl;
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (restServer != null) {
+        restServer.stop();
+        restServer.join();
+      }
+      if (schemaRegistryServer != null) {
+        schemaRegistryServer.stop();
+        schemaRegistryServer.join();
+      }
+    } catch (Exception e) {
+      log.warn("Error when stopping the embedded servers.", e);
+    }
+    if (broker != null) {
+      broker.shutdown();
+      broker.awaitShutdown();
+    }
+    quorum.tearDown();
+    if (logDir != null) {
+      try (Stream<Path> paths = Files.walk(logDir)) {
+        paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(file -> file.delete());
+      } catch (IOException e) {
+        log.warn("Error when deleting {}.", logDir, e);
+      }
+    }
+  }
+
+  private static int choosePort() {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** The {@link TestInfo} {@link QuorumTestHarness} requires. */
+  private static final class ToolTestInfo implements TestInfo {
+
+    @Override
+    public String getDisplayName() {
+      return StreamingProducerPerformance.class.getSimpleName();
+    }
+
+    @Override
+    public Set<String> getTags() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public Optional<Class<?>> getTestClass() {
+      return Optional.of(StreamingProducerPerformance.class);
+    }
+
+    @Override
+    public Optional<Method> getTestMethod() {
+      return Optional.empty();
+    }
+  }
+}
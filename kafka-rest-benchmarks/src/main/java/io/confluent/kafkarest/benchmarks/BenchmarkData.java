@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.io.BaseEncoding;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
+
+/** Inputs shared by the benchmarks. */
+public final class BenchmarkData {
+
+  private BenchmarkData() {}
+
+  /**
+   * Returns an {@link ObjectMapper} configured like {@code KafkaRestApplication#getJsonMapper()}.
+   */
+  public static ObjectMapper jsonMapper() {
+    return new ObjectMapper()
+        .registerModule(new GuavaModule())
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        .setDateFormat(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'"))
+        .setTimeZone(TimeZone.getTimeZone("UTC"));
+  }
+
+  /**
+   * Returns a v3 produce request body, i.e. {@code count} concatenated produce requests, each with
+   * a BINARY key and a {@code format} value of about {@code valueSize} bytes.
+   *
+   * <p>BINARY values are base64 encoded random-looking bytes, and JSON values are objects with
+   * several fields of different types, so that both the string and the token paths of the parser
+   * are exercised.
+   */
+  public static byte[] produceRequests(EmbeddedFormat format, int count, int valueSize) {
+    ObjectMapper mapper = jsonMapper();
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    try {
+      for (int i = 0; i < count; i++) {
+        ObjectNode request = JsonNodeFactory.instance.objectNode();
+        request.put("partition_id", i % 6);
+        request
+            .putObject("key")
+            .put("type", "BINARY")
+            .put("data", BaseEncoding.base64().encode(bytes(i, 16)));
+        ObjectNode value = request.putObject("value").put("type", format.name());
+        switch (format) {
+          case BINARY:
+            value.put("data", BaseEncoding.base64().encode(bytes(i, valueSize)));
+            break;
+          case JSON:
+            value.set("data", jsonValue(i, valueSize));
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        mapper.writeValue(body, request);
+        body.write('\n');
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return body.toByteArray();
+  }
+
+  /**
+   * Returns a JSON object of about {@code size} bytes once serialized, with an integer {@code id},
+   * a string {@code name}, a floating point {@code score} and an array of string {@code tags}.
+   */
+  public static ObjectNode jsonValue(int seed, int size) {
+    ObjectNode value = JsonNodeFactory.instance.objectNode();
+    value.put("id", seed);
+    value.put("name", "record-" + seed);
+    value.put("score", seed * 0.5);
+    ArrayNode tags = value.putArray("tags");
+    for (int i = 0; i < Math.max(1, size / 16); i++) {
+      tags.add("tag-" + ((seed + i) % 1000));
+    }
+    return value;
+  }
+
+  /** Returns {@code size} deterministic, random-looking bytes. */
+  public static byte[] bytes(int seed, int size) {
+    byte[] bytes = new byte[size];
+    long state = seed * 0x9E3779B97F4A7C15L + 1;
+    for (int i = 0; i < size; i++) {
+      state ^= state << 13;
+      state ^= state >>> 7;
+      state ^= state << 17;
+      bytes[i] = (byte) state;
+    }
+    return bytes;
+  }
+}
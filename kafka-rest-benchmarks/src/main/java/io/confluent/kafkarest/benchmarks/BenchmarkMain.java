@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks like {@link Main} does, but writes the results as JSON to {@code
+ * jmh-result.json} unless told otherwise, so that runs of different releases can be compared.
+ *
+ * <p>All the JMH options are accepted, e.g. {@code java -jar benchmarks.jar -rff 8.1.0.json
+ * ProduceRequestParsing} to run the produce request parsing benchmarks only and write their
+ * results to {@code 8.1.0.json}, or {@code -rf csv} to get the JMH default back.
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {}
+
+  public static void main(String[] args) throws Exception {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    if (!options.contains("-rf")) {
+      options.addAll(0, Arrays.asList("-rf", "json"));
+    }
+    Main.main(options.toArray(new String[0]));
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS;
+import static io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG;
+import static io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig.USE_LATEST_VERSION;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.json.JsonSchema;
+import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaProvider;
+import io.confluent.kafkarest.benchmarks.BenchmarkData;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import io.confluent.kafkarest.entities.RegisteredSchema;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SchemaRecordSerializerImpl} serializing the same record in each schema format,
+ * against a {@link MockSchemaRegistryClient} the schemas are registered with up front.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaRecordSerializerBenchmark {
+
+  private static final String TOPIC_NAME = "topic-1";
+  private static final Map<String, Object> SERIALIZER_CONFIGS =
+      ImmutableMap.of(
+          SCHEMA_REGISTRY_URL_CONFIG, "mock://benchmark",
+          AUTO_REGISTER_SCHEMAS, false,
+          USE_LATEST_VERSION, false);
+
+  @Param({"AVRO", "JSONSCHEMA", "PROTOBUF"})
+  private EmbeddedFormat format;
+
+  @Param({"100", "10000"})
+  private int valueSize;
+
+  private SchemaRecordSerializer serializer;
+  private Optional<RegisteredSchema> schema;
+  private JsonNode value;
+
+  @Setup
+  public void setUp() throws IOException, RestClientException {
+    MockSchemaRegistryClient schemaRegistryClient =
+        new MockSchemaRegistryClient(
+            Arrays.asList(
+                new AvroSchemaProvider(), new JsonSchemaProvider(), new ProtobufSchemaProvider()));
+    serializer =
+        new SchemaRecordSerializerImpl(
+            schemaRegistryClient,
+            SERIALIZER_CONFIGS,
+            SERIALIZER_CONFIGS,
+            SERIALIZER_CONFIGS,
+            /* nullRequestBodyAlwaysPublishEmptyRecord= */ false);
+    ParsedSchema parsedSchema = parseSchema(format);
+    String subject = TOPIC_NAME + "-value";
+    int schemaId = schemaRegistryClient.register(subject, parsedSchema);
+    schema =
+        Optional.of(
+            RegisteredSchema.create(subject, schemaId, /* schemaVersion= */ 1, parsedSchema));
+    value = BenchmarkData.jsonValue(/* seed= */ 42, valueSize);
+  }
+
+  @Benchmark
+  public Optional<ByteString> serialize() {
+    return serializer.serialize(format, TOPIC_NAME, schema, value, /* isKey= */ false);
+  }
+
+  /** Returns the schema of {@link BenchmarkData#jsonValue} records in {@code format}. */
+  private static ParsedSchema parseSchema(EmbeddedFormat format) {
+    switch (format) {
+      case AVRO:
+        return new AvroSchema(
+            "{\"type\": \"record\", \"name\": \"Record\", \"fields\": ["
+                + "{\"name\": \"id\", \"type\": \"long\"},"
+                + "{\"name\": \"name\", \"type\": \"string\"},"
+                + "{\"name\": \"score\", \"type\": \"double\"},"
+                + "{\"name\": \"tags\", \"type\": {\"type\": \"array\", \"items\": \"string\"}}"
+                + "]}");
+
+      case JSONSCHEMA:
+        return new JsonSchema(
+            "{\"type\": \"object\", \"properties\": {"
+                + "\"id\": {\"type\": \"integer\"},"
+                + "\"name\": {\"type\": \"string\"},"
+                + "\"score\": {\"type\": \"number\"},"
+                + "\"tags\": {\"type\": \"array\", \"items\": {\"type\": \"string\"}}"
+                + "}}");
+
+      case PROTOBUF:
+        return new ProtobufSchema(
+            "syntax = \"proto3\"; message Record {"
+                + " int64 id = 1; string name = 2; double score = 3; repeated string tags = 4; }");
+
+      default:
+        throw new IllegalArgumentException("Unsupported format: " + format);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import io.confluent.kafkarest.resources.v3.ProduceRateLimiters;
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link RateLimitBackend}s on the produce path, i.e. {@link
+ * ProduceRateLimiters#rateLimit}, with 64 threads producing concurrently.
+ *
+ * <p>By default the limits are high enough that no request is rejected, so that the benchmark
+ * measures the cost of checking them under contention. Lower {@code limitPerSecond} to also measure
+ * the rejection path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ProduceRateLimitersBenchmark {
+
+  private static final long REQUEST_SIZE = 1024;
+
+  @Param({"GUAVA", "RESILIENCE4J", "TOKEN_BUCKET", "DISTRIBUTED"})
+  private RateLimitBackend backend;
+
+  @Param({"1", "100"})
+  private int tenants;
+
+  @Param({"1000000000"})
+  private int limitPerSecond;
+
+  private ProduceRateLimiters rateLimiters;
+  private String[] clusterIds;
+
+  // Only used to record which limit was exceeded, which the benchmark does not look at.
+  private final HttpServletRequest request =
+      (HttpServletRequest)
+          Proxy.newProxyInstance(
+              HttpServletRequest.class.getClassLoader(),
+              new Class<?>[] {HttpServletRequest.class},
+              (proxy, method, args) -> null);
+
+  @Setup
+  public void setUp() {
+    Duration timeout = Duration.ZERO;
+    Duration cacheExpiry = Duration.ofHours(1);
+    // A ledger granting every lease measures the local fast path, as a remote one would only be
+    // called once per lease, and the limit is never reached anyway.
+    QuotaLedger ledger = (key, window, permits, limit) -> permits;
+    DistributedRateLimiters distributed = new DistributedRateLimiters(ledger, /* leaseCount= */ 10);
+    RequestRateLimiterFactory count =
+        new RequestRateLimiterProduceCountFactory(
+            backend, limitPerSecond, timeout, () -> distributed);
+    RequestRateLimiterFactory bytes =
+        new RequestRateLimiterProduceBytesFactory(
+            backend, limitPerSecond, timeout, () -> distributed);
+    RequestRateLimiterFactory countGlobal =
+        new RequestRateLimiterProduceCountGlobalFactory(
+            backend, limitPerSecond, timeout, () -> distributed);
+    RequestRateLimiterFactory bytesGlobal =
+        new RequestRateLimiterProduceBytesGlobalFactory(
+            backend, limitPerSecond, timeout, () -> distributed);
+    rateLimiters =
+        new ProduceRateLimiters(
+            count::provide,
+            bytes::provide,
+            countGlobal::provide,
+            bytesGlobal::provide,
+            /* produceRateLimitEnabledConfig= */ true,
+            cacheExpiry,
+            backend == RateLimitBackend.TOKEN_BUCKET
+                ? ProduceTokenBuckets.create(
+                    limitPerSecond,
+                    limitPerSecond,
+                    limitPerSecond,
+                    limitPerSecond,
+                    timeout,
+                    cacheExpiry)
+                : null);
+    clusterIds = new String[tenants];
+    for (int i = 0; i < tenants; i++) {
+      clusterIds[i] = "lkc-" + i;
+    }
+  }
+
+  @Benchmark
+  public boolean rateLimit() {
+    String clusterId = clusterIds[ThreadLocalRandom.current().nextInt(clusterIds.length)];
+    try {
+      rateLimiters.rateLimit(clusterId, REQUEST_SIZE, request);
+      return true;
+    } catch (RateLimitExceededException e) {
+      return false;
+    }
+  }
+}
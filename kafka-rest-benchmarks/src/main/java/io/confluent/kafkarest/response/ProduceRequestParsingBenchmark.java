@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.response;
+
+import com.google.common.reflect.TypeToken;
+import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.benchmarks.BenchmarkData;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import io.confluent.kafkarest.entities.v3.ProduceRequest;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading a stream of v3 produce requests off a request body, through {@link
+ * JsonStreamMessageBodyReader} and {@link ProduceRequest.Deserializer}, as the produce endpoints
+ * do. Scores are in produce requests per millisecond.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProduceRequestParsingBenchmark {
+
+  private static final int REQUESTS = 1000;
+
+  private static final Type JSON_STREAM_TYPE =
+      new TypeToken<JsonStream<ProduceRequest>>() {}.getType();
+
+  @Param({"BINARY", "JSON"})
+  private EmbeddedFormat format;
+
+  @Param({"100", "10000"})
+  private int valueSize;
+
+  @Param({"false", "true"})
+  private boolean streamingData;
+
+  @Param({"0", "20971520"})
+  private long sizeLimit;
+
+  private JsonStreamMessageBodyReader reader;
+  private byte[] body;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.put(
+        KafkaRestConfig.PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_CONFIG,
+        String.valueOf(streamingData));
+    properties.put(
+        KafkaRestConfig.PRODUCE_REQUEST_SIZE_LIMIT_MAX_BYTES_CONFIG, String.valueOf(sizeLimit));
+    reader =
+        new JsonStreamMessageBodyReader(
+            BenchmarkData.jsonMapper(), new KafkaRestConfig(properties));
+    body = BenchmarkData.produceRequests(format, REQUESTS, valueSize);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS)
+  @SuppressWarnings("unchecked")
+  public void parse(Blackhole blackhole) throws IOException {
+    try (JsonStream<ProduceRequest> requests =
+        (JsonStream<ProduceRequest>)
+            reader.readFrom(
+                null,
+                JSON_STREAM_TYPE,
+                new Annotation[0],
+                MediaType.APPLICATION_JSON_TYPE,
+                /* httpHeaders= */ null,
+                new ByteArrayInputStream(body))) {
+      while (requests.hasNext()) {
+        blackhole.consume(requests.nextValue());
+      }
+    }
+  }
+}
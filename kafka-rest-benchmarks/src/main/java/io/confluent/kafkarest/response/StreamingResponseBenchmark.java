@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.io.CountingOutputStream;
+import io.confluent.kafkarest.benchmarks.BenchmarkData;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import io.confluent.kafkarest.entities.v3.ProduceRequest;
+import io.confluent.kafkarest.entities.v3.ProduceResponse;
+import io.confluent.kafkarest.entities.v3.ProduceResponse.ProduceResponseData;
+import io.confluent.kafkarest.requestlog.CustomLog.ProduceRecordErrorCounter;
+import io.confluent.kafkarest.response.StreamingResponse.ResultOrError;
+import jakarta.ws.rs.container.AsyncResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a streamed produce request end to end: the requests are parsed off the request body,
+ * turned into responses by {@link StreamingResponse}, and the responses serialized into a {@link
+ * ChunkedOutput} that only counts their bytes. Producing itself completes immediately, so the
+ * scores, in produce requests per millisecond, are the overhead of streaming.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamingResponseBenchmark {
+
+  private static final int REQUESTS = 1000;
+
+  @Param({"0", "4"})
+  private int pipelineThreads;
+
+  @Param({"1", "100"})
+  private int chunkMaxRecords;
+
+  private final AtomicLong offset = new AtomicLong();
+
+  private ObjectReader requestReader;
+  private byte[] body;
+  private CountingChunkedOutputFactory chunkedOutputFactory;
+  private ExecutorService pipelineExecutor;
+  private ExecutorService flushExecutor;
+  private StreamingResponseFactory streamingResponseFactory;
+
+  // StreamingResponse only resumes it with the chunked output.
+  private final AsyncResponse asyncResponse =
+      (AsyncResponse)
+          Proxy.newProxyInstance(
+              AsyncResponse.class.getClassLoader(),
+              new Class<?>[] {AsyncResponse.class},
+              (proxy, method, args) -> method.getReturnType() == boolean.class ? true : null);
+
+  @Setup
+  public void setUp() {
+    ObjectMapper mapper = BenchmarkData.jsonMapper();
+    requestReader = mapper.readerFor(ProduceRequest.class);
+    body = BenchmarkData.produceRequests(EmbeddedFormat.BINARY, REQUESTS, /* valueSize= */ 100);
+    chunkedOutputFactory = new CountingChunkedOutputFactory(mapper);
+    pipelineExecutor = pipelineThreads > 0 ? Executors.newFixedThreadPool(pipelineThreads) : null;
+    flushExecutor = Executors.newSingleThreadExecutor();
+    streamingResponseFactory =
+        new StreamingResponseFactory(
+            chunkedOutputFactory,
+            /* maxDuration= */ Duration.ofDays(1),
+            /* gracePeriod= */ Duration.ofSeconds(1),
+            pipelineThreads,
+            /* pipelineMaxInFlight= */ 64,
+            pipelineExecutor,
+            /* chunkMaxLinger= */ Duration.ofMillis(5),
+            chunkMaxRecords,
+            flushExecutor);
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pipelineExecutor != null) {
+      pipelineExecutor.shutdown();
+    }
+    flushExecutor.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS)
+  public long stream() {
+    JsonStream<ProduceRequest> requests =
+        new JsonStream<>(
+            () -> {
+              try {
+                return requestReader.readValues(body);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+    streamingResponseFactory
+        .pipeline(
+            streamingResponseFactory.from(requests),
+            Function.<ProduceRequest>identity(),
+            this::produce)
+        .resume(asyncResponse, new ProduceRecordErrorCounter());
+    // The responses might still be being written if pipelining.
+    return chunkedOutputFactory.lastOutput.closed.join();
+  }
+
+  private CompletableFuture<ProduceResponse> produce(ProduceRequest request) {
+    return CompletableFuture.completedFuture(
+        ProduceResponse.builder()
+            .setErrorCode(200)
+            .setClusterId("lkc-benchmark")
+            .setTopicName("topic-1")
+            .setPartitionId(request.getPartitionId().orElse(0))
+            .setOffset(offset.getAndIncrement())
+            .setTimestamp(Instant.now())
+            .setValue(
+                ProduceResponseData.builder()
+                    .setType(EmbeddedFormat.BINARY)
+                    .setSize((int) request.getOriginalSize())
+                    .build())
+            .build());
+  }
+
+  private static final class CountingChunkedOutputFactory extends ChunkedOutputFactory {
+
+    private final ObjectMapper mapper;
+    private volatile CountingChunkedOutput lastOutput;
+
+    private CountingChunkedOutputFactory(ObjectMapper mapper) {
+      // The chunks are all written to the same stream.
+      this.mapper = mapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public ChunkedOutput<ResultOrError> getChunkedOutput() {
+      lastOutput = new CountingChunkedOutput(mapper);
+      return lastOutput;
+    }
+  }
+
+  /** Serializes the chunks written to it like Jersey does, and counts their bytes. */
+  private static final class CountingChunkedOutput extends ChunkedOutput<ResultOrError> {
+
+    private static final byte[] SEPARATOR =
+        ChunkedOutputFactory.CHUNK_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper mapper;
+    private final CountingOutputStream output =
+        new CountingOutputStream(OutputStream.nullOutputStream());
+    private final CompletableFuture<Long> closed = new CompletableFuture<>();
+
+    private CountingChunkedOutput(ObjectMapper mapper) {
+      super(ResultOrError.class, ChunkedOutputFactory.CHUNK_SEPARATOR);
+      this.mapper = mapper;
+    }
+
+    @Override
+    public synchronized void write(ResultOrError chunk) throws IOException {
+      mapper.writeValue(output, chunk);
+      output.write(SEPARATOR);
+    }
+
+    @Override
+    public synchronized void close() {
+      closed.complete(output.getCount());
+    }
+
+    @Override
+    public boolean isClosed() {
+      return closed.isDone();
+    }
+  }
+}
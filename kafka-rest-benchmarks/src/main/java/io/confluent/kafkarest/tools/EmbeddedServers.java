@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.tools;
+
+import jakarta.annotation.Nullable;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * The servers {@link StreamingProducerPerformance} starts in this JVM with {@code --embedded}.
+ *
+ * <p>They are started the way the integration tests start them, which needs Kafka's test jars. So
+ * that those stay out of the default build, the implementation is only compiled with {@code
+ * -Pembedded}, and looked up by name.
+ */
+interface EmbeddedServers extends Closeable {
+
+  /**
+   * Starts a single node Kafka cluster, with a Schema Registry if {@code withSchemaRegistry}, and a
+   * REST proxy configured with {@code restConfigs}.
+   */
+  static EmbeddedServers start(boolean withSchemaRegistry, Map<String, String> restConfigs)
+      throws Exception {
+    Class<?> implementation;
+    try {
+      implementation = Class.forName("io.confluent.kafkarest.tools.EmbeddedKafkaRest");
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(
+          "--embedded needs the benchmarks to be built with -Pembedded.", e);
+    }
+    Method start = implementation.getDeclaredMethod("start", boolean.class, Map.class);
+    try {
+      return (EmbeddedServers) start.invoke(null, withSchemaRegistry, restConfigs);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /** Creates {@code topic} with {@code partitions} partitions, unless it exists already. */
+  void createTopic(String topic, int partitions) throws Exception;
+
+  String getRestUrl();
+
+  @Nullable
+  String getSchemaRegistryUrl();
+
+  @Override
+  void close();
+}
@@ -0,0 +1,657 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.tools;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider;
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.json.JsonSchema;
+import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaProvider;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import jakarta.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.InputStreamResponseListener;
+import org.eclipse.jetty.client.OutputStreamRequestContent;
+import org.eclipse.jetty.client.Response;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Produces records at a fixed rate over long-lived v3 streaming connections, i.e. {@code POST
+ * /v3/clusters/{cluster_id}/topics/{topic_name}/records} requests whose bodies are a stream of
+ * produce requests, and reports how long each record took to be acknowledged.
+ *
+ * <p>Records are sent on a fixed schedule, regardless of how fast they are acknowledged. Latencies
+ * are recorded into HDR histograms both from the time each record was due to be sent and from the
+ * time it was actually sent. The former corrects for coordinated omission: if the REST proxy pushes
+ * back and the records can't be sent on time, the wait counts towards their latency. Likewise, the
+ * throughput is computed up to the last acknowledgement, not the last record sent.
+ *
+ * <p>With {@code --embedded}, a single node Kafka cluster, a Schema Registry if needed, and a REST
+ * proxy are all started in this JVM, so that nothing else has to be set up. That needs the
+ * benchmarks to be built with {@code -Pembedded}. Run it with
+ *
+ * <pre>
+ * java -cp kafka-rest-benchmarks/target/benchmarks.jar \
+ *     io.confluent.kafkarest.tools.StreamingProducerPerformance --embedded --format avro
+ * </pre>
+ */
+public final class StreamingProducerPerformance {
+
+  private static final Logger log = LoggerFactory.getLogger(StreamingProducerPerformance.class);
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final long HIGHEST_TRACKABLE_LATENCY_US = TimeUnit.HOURS.toMicros(1);
+  private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+  // Distinct payloads to cycle through, so that compression doesn't make things look too good.
+  private static final int PAYLOADS = 16;
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+  private static final String USAGE =
+      String.join(
+          System.lineSeparator(),
+          "Usage: java " + StreamingProducerPerformance.class.getName() + " [options]",
+          "  --url URL                    The REST proxy to produce to.",
+          "  --embedded                   Start a Kafka cluster and a REST proxy in this JVM"
+              + " instead. Needs a build with -Pembedded.",
+          "  --rest-config NAME=VALUE     A config of the embedded REST proxy. Can be repeated.",
+          "  --cluster-id ID              The cluster to produce to. Defaults to the first one.",
+          "  --topic NAME                 The topic to produce to. Defaults to "
+              + "streaming-producer-performance.",
+          "  --partitions N               The partitions of the topic, if embedded. Defaults to"
+              + " 6.",
+          "  --connections N              The streaming connections to open. Defaults to 4.",
+          "  --records-per-sec N          The total rate to produce at. Defaults to 10000.",
+          "  --record-size BYTES          The size of the record values. Defaults to 100.",
+          "  --format FORMAT              binary, json, avro, json-schema or protobuf. Defaults to"
+              + " binary.",
+          "  --schema-registry-url URL    The Schema Registry to register the value schema with.",
+          "  --duration SECONDS           How long to produce for, after the warmup. Defaults to"
+              + " 60.",
+          "  --warmup SECONDS             How long to produce for before measuring. Defaults to"
+              + " 10.",
+          "  --report-interval SECONDS    How often to report progress. Defaults to 5.",
+          "  --histogram-log FILE         Also write the interval histograms to FILE, in the"
+              + " HdrHistogram log format.");
+
+  private final Options options;
+
+  private final Recorder latencies =
+      new Recorder(HIGHEST_TRACKABLE_LATENCY_US, SIGNIFICANT_VALUE_DIGITS);
+  private final Recorder uncorrectedLatencies =
+      new Recorder(HIGHEST_TRACKABLE_LATENCY_US, SIGNIFICANT_VALUE_DIGITS);
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder unacknowledged = new LongAdder();
+  private final LongAccumulator lastAckNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+  private final LongAccumulator maxSendLagNanos = new LongAccumulator(Math::max, 0);
+
+  private StreamingProducerPerformance(Options options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) {
+    Options options;
+    try {
+      options = Options.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      System.out.println(USAGE);
+      System.exit(1);
+      return;
+    }
+    // The embedded servers and the HTTP client leave non-daemon threads behind, hence the exits.
+    try {
+      new StreamingProducerPerformance(options).run();
+    } catch (Exception e) {
+      log.error("Error when producing.", e);
+      System.exit(1);
+    }
+    System.exit(0);
+  }
+
+  private void run() throws Exception {
+    EmbeddedServers embedded = null;
+    HttpClient httpClient = new HttpClient();
+    try {
+      String restUrl = options.url;
+      String schemaRegistryUrl = options.schemaRegistryUrl;
+      if (options.embedded) {
+        embedded = EmbeddedServers.start(options.format.requiresSchema(), options.restConfigs);
+        embedded.createTopic(options.topic, options.partitions);
+        restUrl = embedded.getRestUrl();
+        schemaRegistryUrl = embedded.getSchemaRegistryUrl();
+      }
+      httpClient.start();
+      String clusterId =
+          options.clusterId != null ? options.clusterId : getClusterId(httpClient, restUrl);
+      byte[][] payloads = createPayloads(schemaRegistryUrl);
+      produce(
+          httpClient,
+          URI.create(
+              String.format(
+                  "%s/v3/clusters/%s/topics/%s/records", restUrl, clusterId, options.topic)),
+          payloads);
+    } finally {
+      httpClient.stop();
+      if (embedded != null) {
+        embedded.close();
+      }
+    }
+  }
+
+  private static String getClusterId(HttpClient httpClient, String restUrl) throws Exception {
+    ContentResponse response = httpClient.GET(restUrl + "/v3/clusters");
+    if (response.getStatus() != HttpStatus.OK_200) {
+      throw new IllegalStateException(
+          String.format(
+              "Unexpected HTTP status %d listing clusters: %s",
+              response.getStatus(), response.getContentAsString()));
+    }
+    return OBJECT_MAPPER
+        .readTree(response.getContent())
+        .path("data")
+        .path(0)
+        .path("cluster_id")
+        .asText();
+  }
+
+  /** Returns the produce requests to send, each a single record of {@code --record-size}. */
+  private byte[][] createPayloads(@Nullable String schemaRegistryUrl) throws Exception {
+    ObjectNode value = JsonNodeFactory.instance.objectNode();
+    if (options.format.requiresSchema()) {
+      value.put("schema_id", registerSchema(schemaRegistryUrl));
+    } else {
+      value.put("type", options.format.name());
+    }
+    Random random = new Random(0);
+    byte[][] payloads = new byte[PAYLOADS][];
+    for (int i = 0; i < PAYLOADS; i++) {
+      if (options.format == EmbeddedFormat.BINARY) {
+        byte[] data = new byte[options.recordSize];
+        random.nextBytes(data);
+        value.put("data", data);
+      } else {
+        value.putObject("data").put("payload", randomString(random, options.recordSize));
+      }
+      ObjectNode request = JsonNodeFactory.instance.objectNode();
+      request.set("value", value);
+      payloads[i] = (OBJECT_MAPPER.writeValueAsString(request) + "\n").getBytes(UTF_8);
+    }
+    return payloads;
+  }
+
+  /** Registers the schema of the records, a single {@code payload} string, and returns its ID. */
+  private int registerSchema(String schemaRegistryUrl) throws Exception {
+    ParsedSchema schema;
+    switch (options.format) {
+      case AVRO:
+        schema =
+            new AvroSchema(
+                "{\"type\": \"record\", \"name\": \"Record\", \"fields\": ["
+                    + "{\"name\": \"payload\", \"type\": \"string\"}]}");
+        break;
+
+      case JSONSCHEMA:
+        schema =
+            new JsonSchema(
+                "{\"type\": \"object\", \"properties\": {\"payload\": {\"type\": \"string\"}}}");
+        break;
+
+      case PROTOBUF:
+        schema = new ProtobufSchema("syntax = \"proto3\"; message Record { string payload = 1; }");
+        break;
+
+      default:
+        throw new AssertionError(String.format("Unexpected enum constant: %s", options.format));
+    }
+    SchemaRegistryClient schemaRegistryClient =
+        new CachedSchemaRegistryClient(
+            Collections.singletonList(schemaRegistryUrl),
+            /* cacheCapacity= */ 10,
+            Arrays.asList(
+                new AvroSchemaProvider(), new JsonSchemaProvider(), new ProtobufSchemaProvider()),
+            Collections.emptyMap());
+    return schemaRegistryClient.register(options.topic + "-value", schema);
+  }
+
+  private static String randomString(Random random, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+
+  private void produce(HttpClient httpClient, URI uri, byte[][] payloads) throws Exception {
+    long sendIntervalNanos =
+        Math.max(1, TimeUnit.SECONDS.toNanos(1) * options.connections / options.recordsPerSec);
+    long startNanos = System.nanoTime();
+    long warmupEndNanos = startNanos + options.warmup.toNanos();
+    long endNanos = warmupEndNanos + options.duration.toNanos();
+
+    System.out.printf(
+        "Producing %d records/s of %d bytes to %s over %d connections for %ds after a %ds"
+            + " warmup, marked with *.%n",
+        options.recordsPerSec,
+        options.recordSize,
+        uri,
+        options.connections,
+        options.duration.getSeconds(),
+        options.warmup.getSeconds());
+
+    CountDownLatch done = new CountDownLatch(options.connections);
+    for (int i = 0; i < options.connections; i++) {
+      // Spread the connections' schedules evenly over the send interval.
+      long firstSendNanos = startNanos + sendIntervalNanos * i / options.connections;
+      new StreamingConnection(i, payloads, firstSendNanos, sendIntervalNanos, endNanos, done)
+          .start(httpClient, uri);
+    }
+
+    HistogramLogWriter histogramLog = null;
+    if (options.histogramLog != null) {
+      histogramLog = new HistogramLogWriter(options.histogramLog);
+      histogramLog.outputLogFormatVersion();
+      long startMillis = System.currentTimeMillis();
+      histogramLog.outputStartTime(startMillis);
+      histogramLog.setBaseTime(startMillis);
+      histogramLog.outputLegend();
+    }
+
+    Histogram total = new Histogram(HIGHEST_TRACKABLE_LATENCY_US, SIGNIFICANT_VALUE_DIGITS);
+    Histogram uncorrectedTotal =
+        new Histogram(HIGHEST_TRACKABLE_LATENCY_US, SIGNIFICANT_VALUE_DIGITS);
+    Histogram interval = null;
+    Histogram uncorrectedInterval = null;
+    long intervalStartNanos = startNanos;
+    long totalErrors = 0;
+    boolean finished = false;
+    while (!finished) {
+      long now = System.nanoTime();
+      long timeout = options.reportInterval.toNanos();
+      if (now < warmupEndNanos) {
+        // End an interval with the warmup, so that the next ones can be measured exactly.
+        timeout = Math.min(timeout, warmupEndNanos - now);
+      }
+      finished = done.await(timeout, TimeUnit.NANOSECONDS);
+      now = System.nanoTime();
+      interval = latencies.getIntervalHistogram(interval);
+      uncorrectedInterval = uncorrectedLatencies.getIntervalHistogram(uncorrectedInterval);
+      long intervalErrors = errors.sumThenReset();
+      boolean measured = intervalStartNanos >= warmupEndNanos;
+      printInterval(
+          now - startNanos, now - intervalStartNanos, interval, intervalErrors, measured);
+      if (histogramLog != null) {
+        histogramLog.outputIntervalHistogram(interval);
+      }
+      if (measured) {
+        total.add(interval);
+        uncorrectedTotal.add(uncorrectedInterval);
+        totalErrors += intervalErrors;
+      }
+      intervalStartNanos = now;
+    }
+    if (histogramLog != null) {
+      histogramLog.close();
+    }
+
+    long lastNanos = Math.max(lastAckNanos.get(), endNanos);
+    printSummary(total, uncorrectedTotal, totalErrors, lastNanos - warmupEndNanos);
+  }
+
+  private static void printInterval(
+      long elapsedNanos, long intervalNanos, Histogram interval, long errors, boolean measured) {
+    double seconds = intervalNanos / 1e9;
+    System.out.printf(
+        "%7.1fs%s %10.1f records/s, %6d errors, latency ms p50 %8.2f, p99 %8.2f, p99.9 %8.2f,"
+            + " max %8.2f%n",
+        elapsedNanos / 1e9,
+        measured ? " " : "*",
+        interval.getTotalCount() / seconds,
+        errors,
+        interval.getValueAtPercentile(50) / 1e3,
+        interval.getValueAtPercentile(99) / 1e3,
+        interval.getValueAtPercentile(99.9) / 1e3,
+        interval.getMaxValue() / 1e3);
+  }
+
+  private void printSummary(
+      Histogram latencies, Histogram uncorrectedLatencies, long errors, long elapsedNanos) {
+    double seconds = elapsedNanos / 1e9;
+    long acknowledged = latencies.getTotalCount();
+    System.out.printf(
+        "%d records acknowledged, %d errors including %d records never acknowledged, %.1f"
+            + " records/s (%.2f MB/s) for a target of %d records/s.%n",
+        acknowledged,
+        errors,
+        unacknowledged.sum(),
+        acknowledged / seconds,
+        acknowledged * (double) options.recordSize / seconds / (1024 * 1024),
+        options.recordsPerSec);
+    System.out.printf(
+        "Sending fell behind schedule by up to %.2f ms.%n", maxSendLagNanos.get() / 1e6);
+    printPercentiles("Latency ms, from when due", latencies);
+    printPercentiles("Latency ms, from when sent", uncorrectedLatencies);
+  }
+
+  private static void printPercentiles(String title, Histogram histogram) {
+    StringBuilder line = new StringBuilder(title).append(':');
+    for (double percentile : PERCENTILES) {
+      line.append(
+          String.format(
+              Locale.ROOT,
+              " p%s %.2f,",
+              BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+              histogram.getValueAtPercentile(percentile) / 1e3));
+    }
+    line.append(String.format(Locale.ROOT, " max %.2f", histogram.getMaxValue() / 1e3));
+    System.out.println(line);
+  }
+
+  private static long toMicros(long nanos) {
+    return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_LATENCY_US);
+  }
+
+  /**
+   * A streaming produce request, with a thread writing produce requests to its body as they are
+   * due, and another reading the responses, which come back in the same order. Records still in
+   * flight once both are done, e.g. because the connection failed, count as errors.
+   */
+  private final class StreamingConnection {
+
+    private final int id;
+    private final byte[][] payloads;
+    private final long firstSendNanos;
+    private final long sendIntervalNanos;
+    private final long endNanos;
+    private final CountDownLatch done;
+    // The times each record was due and sent at, oldest first.
+    private final Queue<long[]> inFlight = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger(2);
+    private volatile boolean readDone = false;
+
+    private StreamingConnection(
+        int id,
+        byte[][] payloads,
+        long firstSendNanos,
+        long sendIntervalNanos,
+        long endNanos,
+        CountDownLatch done) {
+      this.id = id;
+      this.payloads = payloads;
+      this.firstSendNanos = firstSendNanos;
+      this.sendIntervalNanos = sendIntervalNanos;
+      this.endNanos = endNanos;
+      this.done = done;
+    }
+
+    private void start(HttpClient httpClient, URI uri) {
+      OutputStreamRequestContent content = new OutputStreamRequestContent("application/json");
+      InputStreamResponseListener responseListener = new InputStreamResponseListener();
+      httpClient
+          .POST(uri)
+          .headers(headers -> headers.put(HttpHeader.TRANSFER_ENCODING, "chunked"))
+          .body(content)
+          .send(responseListener);
+      new Thread(() -> write(content), "streaming-producer-" + id + "-writer").start();
+      new Thread(() -> read(responseListener), "streaming-producer-" + id + "-reader").start();
+    }
+
+    private void write(OutputStreamRequestContent content) {
+      long dueNanos = firstSendNanos;
+      int sent = 0;
+      try (OutputStream output =
+          new BufferedOutputStream(content.getOutputStream(), OUTPUT_BUFFER_SIZE)) {
+        // Stop sending once the responses end, as the records sent after would never be counted.
+        while (dueNanos < endNanos && !readDone) {
+          long now = System.nanoTime();
+          if (dueNanos > now) {
+            // Caught up, send what is buffered before waiting for the next record to be due.
+            output.flush();
+            LockSupport.parkNanos(dueNanos - now);
+            continue;
+          }
+          maxSendLagNanos.accumulate(now - dueNanos);
+          do {
+            inFlight.add(new long[] {dueNanos, now});
+            output.write(payloads[sent++ % payloads.length]);
+            dueNanos += sendIntervalNanos;
+          } while (dueNanos <= now && dueNanos < endNanos);
+        }
+      } catch (IOException e) {
+        log.error("Error when sending records on connection {}.", id, e);
+      } finally {
+        onThreadDone();
+      }
+    }
+
+    private void read(InputStreamResponseListener responseListener) {
+      try {
+        Response response = responseListener.get(1, TimeUnit.MINUTES);
+        try (InputStream input = responseListener.getInputStream()) {
+          if (response.getStatus() != HttpStatus.OK_200) {
+            log.error(
+                "Unexpected HTTP status {} on connection {}: {}",
+                response.getStatus(),
+                id,
+                new String(input.readAllBytes(), UTF_8));
+            return;
+          }
+          BufferedReader reader = new BufferedReader(new InputStreamReader(input, UTF_8));
+          for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isEmpty()) {
+              continue;
+            }
+            onAcknowledged(line, System.nanoTime());
+          }
+        }
+      } catch (Exception e) {
+        log.error("Error when reading acknowledgements on connection {}.", id, e);
+      } finally {
+        readDone = true;
+        onThreadDone();
+      }
+    }
+
+    private void onThreadDone() {
+      if (running.decrementAndGet() > 0) {
+        return;
+      }
+      long lost = 0;
+      while (inFlight.poll() != null) {
+        lost++;
+      }
+      if (lost > 0) {
+        log.error("{} records were never acknowledged on connection {}.", lost, id);
+        errors.add(lost);
+        unacknowledged.add(lost);
+      }
+      done.countDown();
+    }
+
+    private void onAcknowledged(String response, long now) throws IOException {
+      long[] times = inFlight.poll();
+      if (times == null) {
+        log.error("Unexpected response on connection {}: {}", id, response);
+        errors.increment();
+        return;
+      }
+      latencies.recordValue(toMicros(now - times[0]));
+      uncorrectedLatencies.recordValue(toMicros(now - times[1]));
+      lastAckNanos.accumulate(now);
+      int errorCode = OBJECT_MAPPER.readTree(response).path("error_code").asInt();
+      if (errorCode != HttpStatus.OK_200) {
+        log.debug("Record not produced on connection {}: {}", id, response);
+        errors.increment();
+      }
+    }
+  }
+
+  private static final class Options {
+
+    @Nullable private String url;
+    private boolean embedded = false;
+    private final Map<String, String> restConfigs = new HashMap<>();
+    @Nullable private String clusterId;
+    private String topic = "streaming-producer-performance";
+    private int partitions = 6;
+    private int connections = 4;
+    private long recordsPerSec = 10_000;
+    private int recordSize = 100;
+    private EmbeddedFormat format = EmbeddedFormat.BINARY;
+    @Nullable private String schemaRegistryUrl;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration reportInterval = Duration.ofSeconds(5);
+    @Nullable private String histogramLog;
+
+    private static Options parse(String[] args) {
+      Options options = new Options();
+      List<String> remaining = new ArrayList<>(Arrays.asList(args));
+      while (!remaining.isEmpty()) {
+        String name = remaining.remove(0);
+        if (name.equals("--embedded")) {
+          options.embedded = true;
+          continue;
+        }
+        if (remaining.isEmpty()) {
+          throw new IllegalArgumentException("Missing value for " + name);
+        }
+        String value = remaining.remove(0);
+        try {
+          options.set(name, value);
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException(
+              String.format("Invalid value for %s: %s", name, value), e);
+        }
+      }
+      if (options.embedded == (options.url != null)) {
+        throw new IllegalArgumentException("Exactly one of --url or --embedded is required.");
+      }
+      if (options.format.requiresSchema()
+          && options.url != null
+          && options.schemaRegistryUrl == null) {
+        throw new IllegalArgumentException(
+            "--schema-registry-url is required for format " + options.format);
+      }
+      if (options.connections < 1 || options.recordsPerSec < 1 || options.recordSize < 0) {
+        throw new IllegalArgumentException(
+            "--connections and --records-per-sec must be positive, --record-size must not be"
+                + " negative.");
+      }
+      return options;
+    }
+
+    private void set(String name, String value) {
+      switch (name) {
+        case "--url":
+          url = value;
+          break;
+        case "--rest-config":
+          int separator = value.indexOf('=');
+          if (separator < 1) {
+            throw new IllegalArgumentException("Expected NAME=VALUE for --rest-config: " + value);
+          }
+          restConfigs.put(value.substring(0, separator), value.substring(separator + 1));
+          break;
+        case "--cluster-id":
+          clusterId = value;
+          break;
+        case "--topic":
+          topic = value;
+          break;
+        case "--partitions":
+          partitions = Integer.parseInt(value);
+          break;
+        case "--connections":
+          connections = Integer.parseInt(value);
+          break;
+        case "--records-per-sec":
+          recordsPerSec = Long.parseLong(value);
+          break;
+        case "--record-size":
+          recordSize = Integer.parseInt(value);
+          break;
+        case "--format":
+          try {
+            format = EmbeddedFormat.valueOf(value.replace("-", "").toUpperCase(Locale.ROOT));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown format: " + value, e);
+          }
+          break;
+        case "--schema-registry-url":
+          schemaRegistryUrl = value;
+          break;
+        case "--duration":
+          duration = Duration.ofSeconds(Long.parseLong(value));
+          break;
+        case "--warmup":
+          warmup = Duration.ofSeconds(Long.parseLong(value));
+          break;
+        case "--report-interval":
+          reportInterval = Duration.ofSeconds(Long.parseLong(value));
+          break;
+        case "--histogram-log":
+          histogramLog = value;
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option: " + name);
+      }
+    }
+  }
+}
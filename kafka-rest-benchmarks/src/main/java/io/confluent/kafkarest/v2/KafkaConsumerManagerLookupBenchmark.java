@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.v2;
+
+import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.entities.ConsumerInstanceConfig;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of looking up a v2 consumer instance in {@link KafkaConsumerManager}, as
+ * every v2 consumer request does, with many instances registered. Scores are sampled times in
+ * nanoseconds per lookup.
+ *
+ * <p>{@code lookup} runs the lookups alone, while {@code lookupDuringSweep} runs them next to a
+ * thread sweeping the instances for expired ones back to back, rather than once a second as the
+ * manager does. None of the instances expire, so the sweep only ever looks at the soonest one.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaConsumerManagerLookupBenchmark {
+
+  private static final String GROUP = "benchmark";
+
+  @Param({"1000", "10000"})
+  private int instances;
+
+  private KafkaConsumerManager consumerManager;
+  private String[] names;
+
+  @Setup
+  public void setUp() {
+    consumerManager =
+        new KafkaConsumerManager(
+            new KafkaRestConfig(new Properties()),
+            props -> new MockConsumer<byte[], byte[]>(OffsetResetStrategy.EARLIEST));
+    names = new String[instances];
+    for (int i = 0; i < instances; i++) {
+      names[i] =
+          consumerManager.createConsumer(
+              GROUP,
+              ConsumerInstanceConfig.create(
+                  /* id= */ null,
+                  /* name= */ "instance-" + i,
+                  EmbeddedFormat.BINARY,
+                  /* autoOffsetReset= */ null,
+                  /* autoCommitEnable= */ null,
+                  /* responseMinBytes= */ null,
+                  /* requestWaitMs= */ null));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    consumerManager.shutdown();
+  }
+
+  /** Walks the instances in a different order on each thread. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next = (int) Thread.currentThread().getId();
+
+    int next(int instances) {
+      next = (next + 7919) % instances;
+      return next;
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object lookup(Cursor cursor) {
+    return consumerManager.getConsumerInstance(GROUP, names[cursor.next(instances)]);
+  }
+
+  @Benchmark
+  @Group("lookupDuringSweep")
+  @GroupThreads(4)
+  public Object lookupDuringSweep(Cursor cursor) {
+    return consumerManager.getConsumerInstance(GROUP, names[cursor.next(instances)]);
+  }
+
+  @Benchmark
+  @Group("lookupDuringSweep")
+  @GroupThreads(1)
+  public void sweep() {
+    consumerManager.removeExpiredConsumers(Instant.now());
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.v2;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.confluent.kafkarest.ConsumerInstanceId;
+import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.StreamingConsumerReadCallback;
+import io.confluent.kafkarest.benchmarks.BenchmarkData;
+import io.confluent.kafkarest.entities.ConsumerInstanceConfig;
+import io.confluent.kafkarest.entities.ConsumerRecord;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a v2 consumer read, i.e. {@link KafkaConsumerReadTask} turning the records polled from
+ * a {@link MockConsumer} into the records of the response, for each of the schemaless formats.
+ * Scores are in records per millisecond.
+ *
+ * <p>Every invocation reads the {@value #RECORDS} records added to the consumer right before it.
+ * {@code fetch.min.bytes} is set to 1, so that a single partial read returns all of them, as it
+ * would with a busy topic.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaConsumerReadTaskBenchmark {
+
+  private static final int RECORDS = 1000;
+  private static final TopicPartition PARTITION = new TopicPartition("topic-1", 0);
+
+  /** The consumer state, i.e. the embedded format, JSON_RAW being JSON with raw passthrough. */
+  @Param({"BINARY", "JSON", "JSON_RAW"})
+  private String format;
+
+  @Param({"100", "10000"})
+  private int valueSize;
+
+  @Param({"0", "65536"})
+  private long streamingChunkBytes;
+
+  private KafkaRestConfig config;
+  private MockConsumer<byte[], byte[]> consumer;
+  private KafkaConsumerState<byte[], byte[], ?, ?> consumerState;
+  private byte[][] keys;
+  private byte[][] values;
+  private long nextOffset = 0;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    Properties properties = new Properties();
+    properties.put(KafkaRestConfig.PROXY_FETCH_MIN_BYTES_CONFIG, "1");
+    properties.put(
+        KafkaRestConfig.CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG,
+        String.valueOf(streamingChunkBytes));
+    properties.put(
+        KafkaRestConfig.CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_CONFIG,
+        String.valueOf(format.equals("JSON_RAW")));
+    config = new KafkaRestConfig(properties);
+
+    consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    consumer.assign(Collections.singletonList(PARTITION));
+    consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+    ConsumerInstanceId instanceId = new ConsumerInstanceId("benchmark", "instance-1");
+    if (format.equals("BINARY")) {
+      consumerState =
+          new BinaryKafkaConsumerState(
+              config, ConsumerInstanceConfig.create(EmbeddedFormat.BINARY), instanceId, consumer);
+    } else {
+      consumerState =
+          new JsonKafkaConsumerState(
+              config, ConsumerInstanceConfig.create(EmbeddedFormat.JSON), instanceId, consumer);
+    }
+
+    ObjectMapper mapper = new ObjectMapper();
+    keys = new byte[RECORDS][];
+    values = new byte[RECORDS][];
+    for (int i = 0; i < RECORDS; i++) {
+      if (format.equals("BINARY")) {
+        keys[i] = BenchmarkData.bytes(i, 16);
+        values[i] = BenchmarkData.bytes(i, valueSize);
+      } else {
+        keys[i] = mapper.writeValueAsBytes("key-" + i);
+        values[i] = mapper.writeValueAsBytes(BenchmarkData.jsonValue(i, valueSize));
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void addRecords() {
+    for (int i = 0; i < RECORDS; i++) {
+      consumer.addRecord(
+          new org.apache.kafka.clients.consumer.ConsumerRecord<>(
+              PARTITION.topic(), PARTITION.partition(), nextOffset++, keys[i], values[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public int read() {
+    return read(consumerState);
+  }
+
+  private <K, V> int read(KafkaConsumerState<byte[], byte[], K, V> state) {
+    CountingCallback<K, V> callback = new CountingCallback<>();
+    KafkaConsumerReadTask<byte[], byte[], K, V> task =
+        new KafkaConsumerReadTask<>(
+            state, Duration.ofSeconds(1), /* maxBytes= */ Long.MAX_VALUE, callback, config);
+    while (!task.isDone()) {
+      task.doPartialRead();
+    }
+    if (callback.error != null) {
+      throw new IllegalStateException(callback.error);
+    }
+    return callback.records;
+  }
+
+  /** Counts the records read, whether they are streamed or all handed over at the end. */
+  private static final class CountingCallback<K, V> implements StreamingConsumerReadCallback<K, V> {
+
+    private int records = 0;
+    private Exception error;
+
+    @Override
+    public void onRecords(List<ConsumerRecord<K, V>> records) {
+      this.records += records.size();
+    }
+
+    @Override
+    public void onCompletion(List<ConsumerRecord<K, V>> records, Exception e) {
+      if (e != null) {
+        error = e;
+      } else {
+        this.records += records.size();
+      }
+    }
+  }
+}
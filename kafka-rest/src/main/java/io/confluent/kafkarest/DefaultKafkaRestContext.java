@@ -24,6 +24,7 @@ import io.confluent.kafkarest.config.SchemaRegistryConfig;
 import io.confluent.kafkarest.v2.KafkaConsumerManager;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.Admin;
@@ -32,6 +33,7 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,6 +80,21 @@ public class DefaultKafkaRestContext implements KafkaRestContext {
         config.getProducerConfigs(), new ByteArraySerializer(), new ByteArraySerializer());
   }
 
+  /**
+   * Pooled producers get their stripe appended to a configured {@code client.id}, so that each of
+   * them reports its own client metrics.
+   */
+  @Override
+  public Producer<byte[], byte[]> getProducer(int index) {
+    Map<String, Object> producerConfigs = config.getProducerConfigs();
+    Object clientId = producerConfigs.get(ProducerConfig.CLIENT_ID_CONFIG);
+    if (clientId != null && !clientId.toString().isEmpty()) {
+      producerConfigs.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + "-" + index);
+    }
+    return new KafkaProducer<>(
+        producerConfigs, new ByteArraySerializer(), new ByteArraySerializer());
+  }
+
   @Override
   public Consumer<byte[], byte[]> getConsumer(Properties properties) {
     Properties consumerProperties = config.getConsumerProperties();
@@ -37,6 +37,8 @@ import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
 import io.confluent.kafka.serializers.KafkaJsonSerializerConfig;
 import io.confluent.kafka.serializers.json.KafkaJsonSchemaSerializerConfig;
 import io.confluent.kafka.serializers.protobuf.KafkaProtobufSerializerConfig;
+import io.confluent.kafkarest.backends.kafka.ProducerPoolStriping;
+import io.confluent.kafkarest.ratelimit.QuotaLedger;
 import io.confluent.kafkarest.ratelimit.RateLimitBackend;
 import io.confluent.rest.RestConfig;
 import io.confluent.rest.RestConfigException;
@@ -51,6 +53,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -61,6 +64,7 @@ import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
 import org.apache.kafka.common.config.ConfigDef.Range;
 import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.apache.kafka.common.config.types.Password;
 import org.apache.kafka.common.metrics.Metrics;
@@ -109,6 +113,18 @@ public class KafkaRestConfig extends RestConfig {
           + " The value of -1 denotes unbounded thread creation";
   public static final String CONSUMER_MAX_THREADS_DEFAULT = "50";
 
+  public static final String CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG =
+      "consumer.virtual.threads.enable";
+  private static final String CONSUMER_VIRTUAL_THREADS_ENABLE_DOC =
+      "Whether to run consumer requests (reads, commits and closes) on a new virtual thread each, "
+          + "instead of on a pool of at most consumer.threads platform threads. This allows many "
+          + "thousands of concurrent long-poll reads without read tasks being rejected and "
+          + "retried when the pool is saturated. Requires Java 21 or later. Combined with "
+          + "consumer.poll.blocking.max.ms, each waiting read holds a virtual thread only. "
+          + "Consumer operations wait for the consumer, and poll, holding a lock rather than a "
+          + "monitor, so they don't pin their carrier thread before Java 24. Default is false.";
+  private static final boolean CONSUMER_VIRTUAL_THREADS_ENABLE_DEFAULT = false;
+
   public static final String BOOTSTRAP_SERVERS_CONFIG = "bootstrap.servers";
   private static final String BOOTSTRAP_SERVERS_DOC =
       "A list of host/port pairs to use for establishing the initial connection to the Kafka"
@@ -234,6 +250,223 @@ public class KafkaRestConfig extends RestConfig {
   public static final ConfigDef.Range PRODUCE_REQUEST_SIZE_LIMIT_MAX_BYTES_VALIDATOR =
       ConfigDef.Range.atLeast(0);
 
+  public static final String PRODUCE_PRODUCER_POOL_SIZE_CONFIG =
+      "api.v3.produce.producer.pool.size";
+  private static final String PRODUCE_PRODUCER_POOL_SIZE_DOC =
+      "Number of Kafka producers used to serve v3 produce requests. Each producer has its own "
+          + "sender thread and record accumulator, so increasing this allows produce throughput "
+          + "to scale beyond a single producer on hosts with many cores. Records are assigned to "
+          + "a producer according to api.v3.produce.producer.pool.striping. Default is 1.";
+  public static final String PRODUCE_PRODUCER_POOL_SIZE_DEFAULT = "1";
+  public static final ConfigDef.Range PRODUCE_PRODUCER_POOL_SIZE_VALIDATOR =
+      ConfigDef.Range.between(1, 1024);
+
+  public static final String PRODUCE_PRODUCER_POOL_STRIPING_CONFIG =
+      "api.v3.produce.producer.pool.striping";
+  private static final String PRODUCE_PRODUCER_POOL_STRIPING_DOC =
+      "How records are assigned to a producer when api.v3.produce.producer.pool.size is greater "
+          + "than 1. The options are 'partition' (hash of topic and explicit partition, or of the "
+          + "topic alone when no partition is given), 'topic' (hash of the topic) and 'tenant' "
+          + "(hash of the cluster ID). Records for the same partition always go through the same "
+          + "producer, so per-partition ordering is preserved. Default is 'partition'.";
+  public static final String PRODUCE_PRODUCER_POOL_STRIPING_DEFAULT = "partition";
+  public static final ConfigDef.ValidString PRODUCE_PRODUCER_POOL_STRIPING_VALIDATOR =
+      ConfigDef.ValidString.in("partition", "topic", "tenant");
+
+  public static final String PRODUCE_SCHEMA_CACHE_MAX_SIZE_CONFIG =
+      "api.v3.produce.schema.cache.max.size";
+  private static final String PRODUCE_SCHEMA_CACHE_MAX_SIZE_DOC =
+      "Maximum number of resolved schemas cached for v3 produce requests. Requests with the same "
+          + "schema arguments (schema ID, version, raw schema or latest, and subject) reuse the "
+          + "cached schema instead of fetching and parsing it again. Default is 0, which disables "
+          + "the cache.";
+  public static final String PRODUCE_SCHEMA_CACHE_MAX_SIZE_DEFAULT = "0";
+  public static final ConfigDef.Range PRODUCE_SCHEMA_CACHE_MAX_SIZE_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String PRODUCE_SCHEMA_CACHE_EXPIRY_MS_CONFIG =
+      "api.v3.produce.schema.cache.expiry.ms";
+  private static final String PRODUCE_SCHEMA_CACHE_EXPIRY_MS_DOC =
+      "How long a schema requested by ID, version or raw schema is cached for v3 produce "
+          + "requests. Default is 1 hour.";
+  public static final String PRODUCE_SCHEMA_CACHE_EXPIRY_MS_DEFAULT = "3600000";
+  public static final ConfigDef.Range PRODUCE_SCHEMA_CACHE_EXPIRY_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_CONFIG =
+      "api.v3.produce.schema.cache.latest.refresh.ms";
+  private static final String PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_DOC =
+      "How long the latest schema of a subject is cached for v3 produce requests that don't "
+          + "specify a schema. New schema versions are picked up after at most this long. "
+          + "Default is 0, which looks up the latest schema on every request, like when the "
+          + "cache is disabled.";
+  public static final String PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_DEFAULT = "0";
+  public static final ConfigDef.Range PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_CONFIG =
+      "api.v3.produce.streaming.data.deserialization.enable";
+  private static final String PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_DOC =
+      "Whether v3 produce requests decode BINARY and JSON data straight from the request "
+          + "stream, instead of first reading it into a JSON tree. Only applies to keys and "
+          + "values whose 'type' comes before their 'data'. BINARY data is base64-decoded as it "
+          + "is read, and JSON data is copied through as-is. In particular, duplicate object "
+          + "keys in JSON data are kept rather than collapsed. Default is false.";
+  private static final boolean PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_DEFAULT = false;
+
+  public static final String CLUSTER_CACHE_REFRESH_MS_CONFIG = "api.v3.cluster.cache.refresh.ms";
+  private static final String CLUSTER_CACHE_REFRESH_MS_DOC =
+      "How old the cached description of the Kafka cluster, used to look up the cluster of v3 "
+          + "requests, can get before it is refreshed in the background. Requests keep being "
+          + "served from the cache while it is refreshed. Only used if "
+          + "api.v3.cluster.cache.max.staleness.ms is positive. Default is 5 seconds.";
+  public static final String CLUSTER_CACHE_REFRESH_MS_DEFAULT = "5000";
+  public static final ConfigDef.Range CLUSTER_CACHE_REFRESH_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String CLUSTER_CACHE_MAX_STALENESS_MS_CONFIG =
+      "api.v3.cluster.cache.max.staleness.ms";
+  private static final String CLUSTER_CACHE_MAX_STALENESS_MS_DOC =
+      "How old the cached description of the Kafka cluster can be and still be used by v3 "
+          + "requests. Requests that find no description younger than this wait for the cluster "
+          + "to be described again. Set it to e.g. 30000 to cache the cluster, together with "
+          + "api.v3.cluster.cache.refresh.ms to refresh it in the background before then. The "
+          + "brokers and controller of the cluster are only served from the cache if "
+          + "api.v3.cluster.cache.brokers.enable is true. If 0, the cluster is described for "
+          + "every request. Default is 0.";
+  public static final String CLUSTER_CACHE_MAX_STALENESS_MS_DEFAULT = "0";
+  public static final ConfigDef.Range CLUSTER_CACHE_MAX_STALENESS_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String CLUSTER_CACHE_BROKERS_ENABLE_CONFIG =
+      "api.v3.cluster.cache.brokers.enable";
+  private static final String CLUSTER_CACHE_BROKERS_ENABLE_DOC =
+      "Whether the v3 cluster and broker endpoints, which return the brokers and controller of "
+          + "the Kafka cluster, are also served from the cluster cache. If false, they always "
+          + "describe the cluster, and only the other v3 requests, which look up the cluster to "
+          + "check that it exists, use the cache. Default is false.";
+  private static final boolean CLUSTER_CACHE_BROKERS_ENABLE_DEFAULT = false;
+
+  public static final String TOPIC_METADATA_CACHE_REFRESH_MS_CONFIG =
+      "api.v3.topic.metadata.cache.refresh.ms";
+  private static final String TOPIC_METADATA_CACHE_REFRESH_MS_DOC =
+      "How often the in-memory view of the topics, partitions and replicas of the Kafka cluster "
+          + "used by v3 requests is refreshed in the background. Each refresh lists the topics, "
+          + "describes the new ones, and describes again the topics that were refreshed the "
+          + "longest ago, up to api.v3.topic.metadata.cache.refresh.max.topics. Topics created or "
+          + "deleted through this server are refreshed on their next lookup. If the view could "
+          + "not be refreshed for three intervals, requests go to the brokers until it is. "
+          + "Requests for authorized operations always go to the brokers. If 0, the view is "
+          + "disabled and topics are described for every request. Default is 0.";
+  public static final String TOPIC_METADATA_CACHE_REFRESH_MS_DEFAULT = "0";
+  public static final ConfigDef.Range TOPIC_METADATA_CACHE_REFRESH_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_CONFIG =
+      "api.v3.topic.metadata.cache.refresh.max.topics";
+  private static final String TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_DOC =
+      "The number of already known topics described again by each refresh of the topic "
+          + "metadata view, and the maximum number of topics described per request to the "
+          + "brokers. On clusters with more than 10 times this many topics, each refresh "
+          + "describes a tenth of the topics again instead, so that the view of a topic is at "
+          + "most 10 refresh intervals old. Default is 1000.";
+  public static final String TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_DEFAULT = "1000";
+  public static final ConfigDef.Range TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_VALIDATOR =
+      ConfigDef.Range.atLeast(1);
+
+  public static final String PARTITION_OFFSETS_CACHE_TTL_MS_CONFIG =
+      "api.v3.partition.offsets.cache.ttl.ms";
+  private static final String PARTITION_OFFSETS_CACHE_TTL_MS_DOC =
+      "How long the earliest and latest offsets of a partition, looked up for v3 partition "
+          + "requests, are reused by later requests. Concurrent requests for the same partitions "
+          + "share a single lookup, and each request looks up all the partitions it is missing "
+          + "in one ListOffsets call. If 0, every request looks up its offsets. Default is 0.";
+  public static final String PARTITION_OFFSETS_CACHE_TTL_MS_DEFAULT = "0";
+  public static final ConfigDef.Range PARTITION_OFFSETS_CACHE_TTL_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String TOPIC_CONFIGS_LIST_CHUNK_SIZE_CONFIG =
+      "api.v3.topic.configs.list.chunk.size";
+  private static final String TOPIC_CONFIGS_LIST_CHUNK_SIZE_DOC =
+      "If positive, the v3 endpoint listing the configs of all topics streams its response, "
+          + "fetching the configs of this many topics at a time and writing each chunk as soon as "
+          + "it is fetched. Failures after the first chunk is written abort the response. If 0, "
+          + "the configs of all the requested topics are fetched before responding. Default is 0.";
+  public static final String TOPIC_CONFIGS_LIST_CHUNK_SIZE_DEFAULT = "0";
+  public static final ConfigDef.Range TOPIC_CONFIGS_LIST_CHUNK_SIZE_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String CONSUMER_LAG_SNAPSHOT_REFRESH_MS_CONFIG =
+      "api.v3.consumer.lag.snapshot.refresh.ms";
+  private static final String CONSUMER_LAG_SNAPSHOT_REFRESH_MS_DOC =
+      "How often the committed and log-end offsets of all consumer groups are snapshotted in the "
+          + "background. Each snapshot describes all the groups, lists their committed offsets, "
+          + "and lists the log-end offsets of all their partitions in one ListOffsets call. The v3 "
+          + "consumer lag endpoints are served from the latest snapshot, and report its age in "
+          + "snapshot_age_ms. Groups missing from the snapshot, or snapshots older than "
+          + "api.v3.consumer.lag.snapshot.max.staleness.ms, are looked up for every request. If 0, "
+          + "no snapshots are taken. Default is 0.";
+  public static final String CONSUMER_LAG_SNAPSHOT_REFRESH_MS_DEFAULT = "0";
+  public static final ConfigDef.Range CONSUMER_LAG_SNAPSHOT_REFRESH_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_CONFIG =
+      "api.v3.consumer.lag.snapshot.max.staleness.ms";
+  private static final String CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_DOC =
+      "The maximum age of a consumer lag snapshot for it to be used to serve v3 consumer lag "
+          + "requests. Default is 60 seconds.";
+  public static final String CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_DEFAULT = "60000";
+  public static final ConfigDef.Range CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(1);
+
+  public static final String ADMIN_COALESCING_ENABLE_CONFIG = "admin.coalescing.enable";
+  private static final String ADMIN_COALESCING_ENABLE_DOC =
+      "Whether the describeTopics, describeConsumerGroups, describeConfigs and listOffsets calls "
+          + "that concurrent requests make to the Kafka cluster are coalesced. Topics, groups, "
+          + "config resources and partitions already being looked up share the pending lookup, "
+          + "and the rest are looked up together after admin.coalescing.linger.ms. Default is "
+          + "false.";
+  private static final boolean ADMIN_COALESCING_ENABLE_DEFAULT = false;
+
+  public static final String ADMIN_COALESCING_LINGER_MS_CONFIG = "admin.coalescing.linger.ms";
+  private static final String ADMIN_COALESCING_LINGER_MS_DOC =
+      "How long coalesced Admin calls wait for other calls to look up their entities together. "
+          + "If 0, only calls for entities already being looked up are coalesced, and no call is "
+          + "delayed. Default is 0.";
+  public static final String ADMIN_COALESCING_LINGER_MS_DEFAULT = "0";
+  public static final ConfigDef.Range ADMIN_COALESCING_LINGER_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String CONSUMER_AVRO_DIRECT_JSON_ENABLE_CONFIG =
+      "consumer.avro.direct.json.enable";
+  private static final String CONSUMER_AVRO_DIRECT_JSON_ENABLE_DOC =
+      "Whether v2 Avro consumers write the records they read straight to JSON, instead of "
+          + "encoding them with Avro's JSON encoder and parsing the result back into a tree that "
+          + "is serialized again in the response. The JSON, and the sizes counted towards "
+          + "consumer.request.max.bytes, are the same either way. Default is false.";
+  private static final boolean CONSUMER_AVRO_DIRECT_JSON_ENABLE_DEFAULT = false;
+
+  public static final String CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG =
+      "consumer.response.streaming.chunk.bytes";
+  private static final String CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_DOC =
+      "If positive, v2 consumer read responses are streamed: the records are written to the "
+          + "response as they are read, whenever about this many bytes of them are pending and at "
+          + "the end of every poll, instead of being held in memory until the read is complete. "
+          + "Failures after the first records are written abort the response. If 0, responses "
+          + "are written once the read is complete. Default is 0.";
+  public static final String CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_DEFAULT = "0";
+  public static final ConfigDef.Range CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_CONFIG =
+      "consumer.json.raw.passthrough.enable";
+  private static final String CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_DOC =
+      "Whether v2 JSON consumers only check that the keys and values they read are valid JSON, "
+          + "and write them to the response as they are, instead of deserializing them and "
+          + "serializing them again. Keys and values followed by more than one JSON value are "
+          + "still deserialized, so they are returned the same way either way. Default is false.";
+  private static final boolean CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_DEFAULT = false;
+
   public static final String CONSUMER_ITERATOR_TIMEOUT_MS_CONFIG = "consumer.iterator.timeout.ms";
   private static final String CONSUMER_ITERATOR_TIMEOUT_MS_DOC =
       "Timeout for blocking consumer iterator operations. This should be set to a small enough "
@@ -250,6 +483,21 @@ public class KafkaRestConfig extends RestConfig {
           + "avoid busy waiting.";
   public static final String CONSUMER_ITERATOR_BACKOFF_MS_DEFAULT = "50";
 
+  public static final String CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG =
+      "consumer.poll.blocking.max.ms";
+  private static final String CONSUMER_POLL_BLOCKING_MAX_MS_DOC =
+      "If greater than 0, read requests wait for records in a blocking poll() of up to this long, "
+          + "and poll again straight away if the request is not complete yet, instead of "
+          + "polling without blocking and backing off for consumer.iterator.backoff.ms. Records "
+          + "are then returned as soon as they arrive, without busy waiting. Other operations on "
+          + "the same consumer instance, such as commits and seeks, only wait for the current "
+          + "100 ms slice of the poll. With a bounded consumer.threads pool, at most half of the "
+          + "threads wait in blocking polls at a time, and other reads back off as usual. "
+          + "Default is 0, which disables blocking polls.";
+  public static final String CONSUMER_POLL_BLOCKING_MAX_MS_DEFAULT = "0";
+  public static final ConfigDef.Range CONSUMER_POLL_BLOCKING_MAX_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
   public static final String CONSUMER_REQUEST_TIMEOUT_MS_CONFIG = "consumer.request.timeout.ms";
   private static final String CONSUMER_REQUEST_TIMEOUT_MS_DOC =
       "The maximum total time to wait for messages for a "
@@ -432,8 +680,11 @@ public class KafkaRestConfig extends RestConfig {
 
   public static final String RATE_LIMIT_BACKEND_CONFIG = "rate.limit.backend";
   private static final String RATE_LIMIT_BACKEND_DOC =
-      "The rate-limiting backend to use. The options are 'guava' and 'resilience4j'. Default is "
-          + "'guava'.";
+      "The rate-limiting backend to use. The options are 'guava', 'resilience4j' and "
+          + "'token_bucket'. With 'token_bucket', produce requests are checked against a single "
+          + "lock-free bucket for both their count and bytes per tenant, and the global limits "
+          + "are striped to reduce contention. With 'distributed', the limits are shared by all "
+          + "the nodes using the same rate.limit.distributed.ledger.class. Default is 'guava'.";
   private static final String RATE_LIMIT_BACKEND_DEFAULT = "guava";
 
   public static final String RATE_LIMIT_PERMITS_PER_SEC_CONFIG = "rate.limit.permits.per.sec";
@@ -479,6 +730,27 @@ public class KafkaRestConfig extends RestConfig {
           + "1 hour.";
   public static final String RATE_LIMIT_PER_CLUSTER_CACHE_EXPIRY_MS_DEFAULT = "3600000";
 
+  public static final String RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG =
+      "rate.limit.distributed.ledger.class";
+  private static final String RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_DOC =
+      "The io.confluent.kafkarest.ratelimit.QuotaLedger the 'distributed' rate-limiting backend "
+          + "leases permits from. All the nodes leasing from the same ledger share the same "
+          + "limits. If the ledger fails to lease permits, requests are rejected as if the limit "
+          + "was exceeded until the next one-second window. Required by the 'distributed' "
+          + "backend. No default.";
+  private static final Class<?> RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_DEFAULT = null;
+
+  public static final String RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_CONFIG =
+      "rate.limit.distributed.lease.count";
+  private static final String RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_DOC =
+      "The number of leases each second worth of permits is split into with the 'distributed' "
+          + "rate-limiting backend. A node leases permits from the ledger one lease at a time, "
+          + "when it runs out of them, so more leases share the permits more evenly between the "
+          + "nodes, at the cost of more calls to the ledger. Default is 10.";
+  private static final String RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_DEFAULT = "10";
+  private static final ConfigDef.Range RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_VALIDATOR =
+      ConfigDef.Range.atLeast(1);
+
   public static final String STREAMING_CONNECTION_MAX_DURATION_MS =
       "streaming.connection.max.duration.ms";
   private static final String STREAMING_CONNECTION_MAX_DURATION_MS_DOC =
@@ -494,6 +766,48 @@ public class KafkaRestConfig extends RestConfig {
           + "requests will be processed for before the connection is closed.";
   private static final String STREAMING_CONNECTION_MAX_DURATION_GRACE_PERIOD_MS_DEFAULT = "500";
 
+  public static final String STREAMING_PIPELINE_THREAD_POOL_SIZE_CONFIG =
+      "streaming.pipeline.thread.pool.size";
+  private static final String STREAMING_PIPELINE_THREAD_POOL_SIZE_DOC =
+      "Number of threads used to validate and serialize the records of streaming produce requests "
+          + "in parallel. Records are still sent to Kafka, and responded to, in the order they "
+          + "were received on the connection. If 0, records are processed one at a time on the "
+          + "thread reading the request.";
+  private static final String STREAMING_PIPELINE_THREAD_POOL_SIZE_DEFAULT = "0";
+  private static final ConfigDef.Range STREAMING_PIPELINE_THREAD_POOL_SIZE_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_CONFIG =
+      "streaming.pipeline.max.in.flight.requests";
+  private static final String STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_DOC =
+      "Maximum number of records of a single streaming produce connection that can be waiting to "
+          + "be sent to Kafka when streaming.pipeline.thread.pool.size is greater than 0. Once "
+          + "reached, no further records are read from the connection until one is sent.";
+  private static final String STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_DEFAULT = "64";
+  private static final ConfigDef.Range STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_VALIDATOR =
+      ConfigDef.Range.atLeast(1);
+
+  public static final String STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_CONFIG =
+      "streaming.response.chunk.max.linger.ms";
+  private static final String STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_DOC =
+      "How long the responses of a streaming produce connection can be held back so that they are "
+          + "written out together, as a single chunk. Batching responses reduces per-chunk "
+          + "serialization and write overhead on busy connections, at the cost of up to this much "
+          + "additional latency. If 0, each response is written as soon as it is ready.";
+  private static final String STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_DEFAULT = "0";
+  private static final ConfigDef.Range STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_VALIDATOR =
+      ConfigDef.Range.atLeast(0);
+
+  public static final String STREAMING_RESPONSE_CHUNK_MAX_RECORDS_CONFIG =
+      "streaming.response.chunk.max.records";
+  private static final String STREAMING_RESPONSE_CHUNK_MAX_RECORDS_DOC =
+      "Maximum number of responses of a streaming produce connection written together as a single "
+          + "chunk, when streaming.response.chunk.max.linger.ms is greater than 0. Once this many "
+          + "responses are ready, they are written without waiting for the linger to expire.";
+  private static final String STREAMING_RESPONSE_CHUNK_MAX_RECORDS_DEFAULT = "500";
+  private static final ConfigDef.Range STREAMING_RESPONSE_CHUNK_MAX_RECORDS_VALIDATOR =
+      ConfigDef.Range.atLeast(1);
+
   public static final String USE_CUSTOM_REQUEST_LOGGING_CONFIG = "use.custom.request.logging";
   private static final String USE_CUSTOM_REQUEST_LOGGING_DOC =
       "Whether to use custom-request-logging i.e. CustomLog.java. Instead of using"
@@ -538,6 +852,12 @@ public class KafkaRestConfig extends RestConfig {
             CONSUMER_MAX_THREADS_DEFAULT,
             Importance.MEDIUM,
             CONSUMER_MAX_THREADS_DOC)
+        .define(
+            CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            CONSUMER_VIRTUAL_THREADS_ENABLE_DEFAULT,
+            Importance.LOW,
+            CONSUMER_VIRTUAL_THREADS_ENABLE_DOC)
         .define(
             BOOTSTRAP_SERVERS_CONFIG,
             Type.STRING,
@@ -624,6 +944,141 @@ public class KafkaRestConfig extends RestConfig {
             PRODUCE_REQUEST_SIZE_LIMIT_MAX_BYTES_VALIDATOR,
             Importance.LOW,
             PRODUCE_REQUEST_SIZE_LIMIT_MAX_BYTES_DOC)
+        .define(
+            PRODUCE_PRODUCER_POOL_SIZE_CONFIG,
+            Type.INT,
+            PRODUCE_PRODUCER_POOL_SIZE_DEFAULT,
+            PRODUCE_PRODUCER_POOL_SIZE_VALIDATOR,
+            Importance.LOW,
+            PRODUCE_PRODUCER_POOL_SIZE_DOC)
+        .define(
+            PRODUCE_PRODUCER_POOL_STRIPING_CONFIG,
+            Type.STRING,
+            PRODUCE_PRODUCER_POOL_STRIPING_DEFAULT,
+            PRODUCE_PRODUCER_POOL_STRIPING_VALIDATOR,
+            Importance.LOW,
+            PRODUCE_PRODUCER_POOL_STRIPING_DOC)
+        .define(
+            PRODUCE_SCHEMA_CACHE_MAX_SIZE_CONFIG,
+            Type.INT,
+            PRODUCE_SCHEMA_CACHE_MAX_SIZE_DEFAULT,
+            PRODUCE_SCHEMA_CACHE_MAX_SIZE_VALIDATOR,
+            Importance.LOW,
+            PRODUCE_SCHEMA_CACHE_MAX_SIZE_DOC)
+        .define(
+            PRODUCE_SCHEMA_CACHE_EXPIRY_MS_CONFIG,
+            Type.LONG,
+            PRODUCE_SCHEMA_CACHE_EXPIRY_MS_DEFAULT,
+            PRODUCE_SCHEMA_CACHE_EXPIRY_MS_VALIDATOR,
+            Importance.LOW,
+            PRODUCE_SCHEMA_CACHE_EXPIRY_MS_DOC)
+        .define(
+            PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_CONFIG,
+            Type.LONG,
+            PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_DEFAULT,
+            PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_VALIDATOR,
+            Importance.LOW,
+            PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_DOC)
+        .define(
+            PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_DEFAULT,
+            Importance.LOW,
+            PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_DOC)
+        .define(
+            CLUSTER_CACHE_REFRESH_MS_CONFIG,
+            Type.LONG,
+            CLUSTER_CACHE_REFRESH_MS_DEFAULT,
+            CLUSTER_CACHE_REFRESH_MS_VALIDATOR,
+            Importance.LOW,
+            CLUSTER_CACHE_REFRESH_MS_DOC)
+        .define(
+            CLUSTER_CACHE_MAX_STALENESS_MS_CONFIG,
+            Type.LONG,
+            CLUSTER_CACHE_MAX_STALENESS_MS_DEFAULT,
+            CLUSTER_CACHE_MAX_STALENESS_MS_VALIDATOR,
+            Importance.LOW,
+            CLUSTER_CACHE_MAX_STALENESS_MS_DOC)
+        .define(
+            CLUSTER_CACHE_BROKERS_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            CLUSTER_CACHE_BROKERS_ENABLE_DEFAULT,
+            Importance.LOW,
+            CLUSTER_CACHE_BROKERS_ENABLE_DOC)
+        .define(
+            TOPIC_METADATA_CACHE_REFRESH_MS_CONFIG,
+            Type.LONG,
+            TOPIC_METADATA_CACHE_REFRESH_MS_DEFAULT,
+            TOPIC_METADATA_CACHE_REFRESH_MS_VALIDATOR,
+            Importance.LOW,
+            TOPIC_METADATA_CACHE_REFRESH_MS_DOC)
+        .define(
+            TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_CONFIG,
+            Type.INT,
+            TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_DEFAULT,
+            TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_VALIDATOR,
+            Importance.LOW,
+            TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_DOC)
+        .define(
+            PARTITION_OFFSETS_CACHE_TTL_MS_CONFIG,
+            Type.LONG,
+            PARTITION_OFFSETS_CACHE_TTL_MS_DEFAULT,
+            PARTITION_OFFSETS_CACHE_TTL_MS_VALIDATOR,
+            Importance.LOW,
+            PARTITION_OFFSETS_CACHE_TTL_MS_DOC)
+        .define(
+            TOPIC_CONFIGS_LIST_CHUNK_SIZE_CONFIG,
+            Type.INT,
+            TOPIC_CONFIGS_LIST_CHUNK_SIZE_DEFAULT,
+            TOPIC_CONFIGS_LIST_CHUNK_SIZE_VALIDATOR,
+            Importance.LOW,
+            TOPIC_CONFIGS_LIST_CHUNK_SIZE_DOC)
+        .define(
+            CONSUMER_LAG_SNAPSHOT_REFRESH_MS_CONFIG,
+            Type.LONG,
+            CONSUMER_LAG_SNAPSHOT_REFRESH_MS_DEFAULT,
+            CONSUMER_LAG_SNAPSHOT_REFRESH_MS_VALIDATOR,
+            Importance.LOW,
+            CONSUMER_LAG_SNAPSHOT_REFRESH_MS_DOC)
+        .define(
+            CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_CONFIG,
+            Type.LONG,
+            CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_DEFAULT,
+            CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_VALIDATOR,
+            Importance.LOW,
+            CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_DOC)
+        .define(
+            ADMIN_COALESCING_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            ADMIN_COALESCING_ENABLE_DEFAULT,
+            Importance.LOW,
+            ADMIN_COALESCING_ENABLE_DOC)
+        .define(
+            ADMIN_COALESCING_LINGER_MS_CONFIG,
+            Type.LONG,
+            ADMIN_COALESCING_LINGER_MS_DEFAULT,
+            ADMIN_COALESCING_LINGER_MS_VALIDATOR,
+            Importance.LOW,
+            ADMIN_COALESCING_LINGER_MS_DOC)
+        .define(
+            CONSUMER_AVRO_DIRECT_JSON_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            CONSUMER_AVRO_DIRECT_JSON_ENABLE_DEFAULT,
+            Importance.LOW,
+            CONSUMER_AVRO_DIRECT_JSON_ENABLE_DOC)
+        .define(
+            CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG,
+            Type.LONG,
+            CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_DEFAULT,
+            CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_VALIDATOR,
+            Importance.LOW,
+            CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_DOC)
+        .define(
+            CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_DEFAULT,
+            Importance.LOW,
+            CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_DOC)
         .define(
             CONSUMER_ITERATOR_TIMEOUT_MS_CONFIG,
             Type.INT,
@@ -636,6 +1091,13 @@ public class KafkaRestConfig extends RestConfig {
             CONSUMER_ITERATOR_BACKOFF_MS_DEFAULT,
             Importance.LOW,
             CONSUMER_ITERATOR_BACKOFF_MS_DOC)
+        .define(
+            CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG,
+            Type.INT,
+            CONSUMER_POLL_BLOCKING_MAX_MS_DEFAULT,
+            CONSUMER_POLL_BLOCKING_MAX_MS_VALIDATOR,
+            Importance.LOW,
+            CONSUMER_POLL_BLOCKING_MAX_MS_DOC)
         .define(
             CONSUMER_REQUEST_TIMEOUT_MS_CONFIG,
             Type.INT,
@@ -890,6 +1352,19 @@ public class KafkaRestConfig extends RestConfig {
             RATE_LIMIT_PER_CLUSTER_CACHE_EXPIRY_MS_DEFAULT,
             Importance.LOW,
             RATE_LIMIT_PER_CLUSTER_CACHE_EXPIRY_MS_DOC)
+        .define(
+            RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG,
+            Type.CLASS,
+            RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_DEFAULT,
+            Importance.LOW,
+            RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_DOC)
+        .define(
+            RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_CONFIG,
+            Type.INT,
+            RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_DEFAULT,
+            RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_VALIDATOR,
+            Importance.LOW,
+            RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_DOC)
         .define(
             STREAMING_CONNECTION_MAX_DURATION_MS,
             Type.LONG,
@@ -902,6 +1377,34 @@ public class KafkaRestConfig extends RestConfig {
             STREAMING_CONNECTION_MAX_DURATION_GRACE_PERIOD_MS_DEFAULT,
             Importance.LOW,
             STREAMING_CONNECTION_MAX_DURATION_GRACE_PERIOD_MS_DOC)
+        .define(
+            STREAMING_PIPELINE_THREAD_POOL_SIZE_CONFIG,
+            Type.INT,
+            STREAMING_PIPELINE_THREAD_POOL_SIZE_DEFAULT,
+            STREAMING_PIPELINE_THREAD_POOL_SIZE_VALIDATOR,
+            Importance.LOW,
+            STREAMING_PIPELINE_THREAD_POOL_SIZE_DOC)
+        .define(
+            STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_CONFIG,
+            Type.INT,
+            STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_DEFAULT,
+            STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_VALIDATOR,
+            Importance.LOW,
+            STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_DOC)
+        .define(
+            STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_CONFIG,
+            Type.LONG,
+            STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_DEFAULT,
+            STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_VALIDATOR,
+            Importance.LOW,
+            STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_DOC)
+        .define(
+            STREAMING_RESPONSE_CHUNK_MAX_RECORDS_CONFIG,
+            Type.INT,
+            STREAMING_RESPONSE_CHUNK_MAX_RECORDS_DEFAULT,
+            STREAMING_RESPONSE_CHUNK_MAX_RECORDS_VALIDATOR,
+            Importance.LOW,
+            STREAMING_RESPONSE_CHUNK_MAX_RECORDS_DOC)
         .define(
             USE_CUSTOM_REQUEST_LOGGING_CONFIG,
             Type.BOOLEAN,
@@ -960,6 +1463,24 @@ public class KafkaRestConfig extends RestConfig {
     metricsContext =
         new KafkaRestMetricsContext(
             getString(METRICS_JMX_PREFIX_CONFIG), originalsWithPrefix(METRICS_CONTEXT_PREFIX));
+    validateRateLimitDistributedLedger();
+  }
+
+  /**
+   * Checks that the 'distributed' rate-limiting backend, if used, has a ledger to share its limits
+   * between the nodes.
+   */
+  private void validateRateLimitDistributedLedger() {
+    if (!isRateLimitEnabled() || getRateLimitBackend() != RateLimitBackend.DISTRIBUTED) {
+      return;
+    }
+    Class<?> ledgerClass = getClass(RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG);
+    if (ledgerClass == null) {
+      throw new ConfigException(
+          String.format(
+              "%s is required when %s is 'distributed'.",
+              RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG, RATE_LIMIT_BACKEND_CONFIG));
+    }
   }
 
   /**
@@ -1205,6 +1726,14 @@ public class KafkaRestConfig extends RestConfig {
     return Duration.ofMillis(getLong(RATE_LIMIT_TIMEOUT_MS_CONFIG));
   }
 
+  public final QuotaLedger getRateLimitDistributedLedger() {
+    return getConfiguredInstance(RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG, QuotaLedger.class);
+  }
+
+  public final int getRateLimitDistributedLeaseCount() {
+    return getInt(RATE_LIMIT_DISTRIBUTED_LEASE_COUNT_CONFIG);
+  }
+
   public final Duration getStreamingConnectionMaxDuration() {
     return Duration.ofMillis(getLong(STREAMING_CONNECTION_MAX_DURATION_MS));
   }
@@ -1213,6 +1742,22 @@ public class KafkaRestConfig extends RestConfig {
     return Duration.ofMillis(getLong(STREAMING_CONNECTION_MAX_DURATION_GRACE_PERIOD_MS));
   }
 
+  public final int getStreamingPipelineThreadPoolSize() {
+    return getInt(STREAMING_PIPELINE_THREAD_POOL_SIZE_CONFIG);
+  }
+
+  public final int getStreamingPipelineMaxInFlightRequests() {
+    return getInt(STREAMING_PIPELINE_MAX_IN_FLIGHT_REQUESTS_CONFIG);
+  }
+
+  public final Duration getStreamingResponseChunkMaxLinger() {
+    return Duration.ofMillis(getLong(STREAMING_RESPONSE_CHUNK_MAX_LINGER_MS_CONFIG));
+  }
+
+  public final int getStreamingResponseChunkMaxRecords() {
+    return getInt(STREAMING_RESPONSE_CHUNK_MAX_RECORDS_CONFIG);
+  }
+
   public final int getRateLimitDefaultCost() {
     return getInt(RATE_LIMIT_DEFAULT_COST_CONFIG);
   }
@@ -1221,6 +1766,87 @@ public class KafkaRestConfig extends RestConfig {
     return getLong(PRODUCE_REQUEST_SIZE_LIMIT_MAX_BYTES_CONFIG);
   }
 
+  public final int getProducerPoolSize() {
+    return getInt(PRODUCE_PRODUCER_POOL_SIZE_CONFIG);
+  }
+
+  public final ProducerPoolStriping getProducerPoolStriping() {
+    return ProducerPoolStriping.valueOf(
+        getString(PRODUCE_PRODUCER_POOL_STRIPING_CONFIG).toUpperCase(Locale.ROOT));
+  }
+
+  public final int getProduceSchemaCacheMaxSize() {
+    return getInt(PRODUCE_SCHEMA_CACHE_MAX_SIZE_CONFIG);
+  }
+
+  public final Duration getProduceSchemaCacheExpiry() {
+    return Duration.ofMillis(getLong(PRODUCE_SCHEMA_CACHE_EXPIRY_MS_CONFIG));
+  }
+
+  public final Duration getProduceSchemaCacheLatestRefresh() {
+    return Duration.ofMillis(getLong(PRODUCE_SCHEMA_CACHE_LATEST_REFRESH_MS_CONFIG));
+  }
+
+  public final boolean isProduceStreamingDataDeserializationEnabled() {
+    return getBoolean(PRODUCE_STREAMING_DATA_DESERIALIZATION_ENABLE_CONFIG);
+  }
+
+  public final Duration getClusterCacheRefresh() {
+    return Duration.ofMillis(getLong(CLUSTER_CACHE_REFRESH_MS_CONFIG));
+  }
+
+  public final Duration getClusterCacheMaxStaleness() {
+    return Duration.ofMillis(getLong(CLUSTER_CACHE_MAX_STALENESS_MS_CONFIG));
+  }
+
+  public final boolean isClusterCacheBrokersEnabled() {
+    return getBoolean(CLUSTER_CACHE_BROKERS_ENABLE_CONFIG);
+  }
+
+  public final Duration getTopicMetadataCacheRefresh() {
+    return Duration.ofMillis(getLong(TOPIC_METADATA_CACHE_REFRESH_MS_CONFIG));
+  }
+
+  public final int getTopicMetadataCacheRefreshMaxTopics() {
+    return getInt(TOPIC_METADATA_CACHE_REFRESH_MAX_TOPICS_CONFIG);
+  }
+
+  public final Duration getPartitionOffsetsCacheTtl() {
+    return Duration.ofMillis(getLong(PARTITION_OFFSETS_CACHE_TTL_MS_CONFIG));
+  }
+
+  public final int getTopicConfigsListChunkSize() {
+    return getInt(TOPIC_CONFIGS_LIST_CHUNK_SIZE_CONFIG);
+  }
+
+  public final Duration getConsumerLagSnapshotRefresh() {
+    return Duration.ofMillis(getLong(CONSUMER_LAG_SNAPSHOT_REFRESH_MS_CONFIG));
+  }
+
+  public final Duration getConsumerLagSnapshotMaxStaleness() {
+    return Duration.ofMillis(getLong(CONSUMER_LAG_SNAPSHOT_MAX_STALENESS_MS_CONFIG));
+  }
+
+  public final boolean isAdminCoalescingEnabled() {
+    return getBoolean(ADMIN_COALESCING_ENABLE_CONFIG);
+  }
+
+  public final Duration getAdminCoalescingLinger() {
+    return Duration.ofMillis(getLong(ADMIN_COALESCING_LINGER_MS_CONFIG));
+  }
+
+  public final boolean isConsumerAvroDirectJsonEnabled() {
+    return getBoolean(CONSUMER_AVRO_DIRECT_JSON_ENABLE_CONFIG);
+  }
+
+  public final long getConsumerResponseStreamingChunkBytes() {
+    return getLong(CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG);
+  }
+
+  public final boolean isConsumerJsonRawPassthroughEnabled() {
+    return getBoolean(CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_CONFIG);
+  }
+
   public final boolean isNullRequestBodyAlwaysPublishEmptyRecordEnabled() {
     return getBoolean(NULL_REQUEST_BODY_ALWAYS_PUBLISH_EMPTY_RECORD_CONFIG);
   }
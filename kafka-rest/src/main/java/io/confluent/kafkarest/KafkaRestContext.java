@@ -32,6 +32,14 @@ public interface KafkaRestContext {
 
   Producer<byte[], byte[]> getProducer();
 
+  /**
+   * Returns one of the additional producers of the v3 {@link
+   * io.confluent.kafkarest.backends.kafka.ProducerPool}, {@code index} being its stripe.
+   */
+  default Producer<byte[], byte[]> getProducer(int index) {
+    return getProducer();
+  }
+
   default SchemaRegistryClient getSchemaRegistryClient() {
     return null;
   }
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest;
+
+import io.confluent.kafkarest.entities.ConsumerRecord;
+import java.util.List;
+
+/**
+ * A {@link ConsumerReadCallback} that is handed the records as they are read, instead of all at
+ * once when the read is complete. {@link #onCompletion} is then only passed the records not handed
+ * to {@link #onRecords} yet.
+ */
+public interface StreamingConsumerReadCallback<K, V> extends ConsumerReadCallback<K, V> {
+  void onRecords(List<ConsumerRecord<K, V>> records);
+}
@@ -0,0 +1,574 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.backends.kafka;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.CreatePartitionsResult;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeConfigsOptions;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsOptions;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsOptions;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicCollection.TopicNameCollection;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.Max;
+
+/**
+ * An {@link Admin} that coalesces the lookups that concurrent requests make to the brokers.
+ *
+ * <p>{@code describeTopics}, {@code describeConsumerGroups}, {@code describeConfigs} and {@code
+ * listOffsets} calls are split into their topics, groups, resources or partitions. Those that are
+ * already being looked up with the same options share the pending lookup, and the rest are
+ * gathered for {@code linger}, and then looked up together in a single call. Calls with a timeout,
+ * by topic id, or for offsets by timestamp are not coalesced. All other calls are forwarded as is.
+ *
+ * <p>A lookup that is shared may have been sent before a write that the caller has since seen
+ * complete. So that callers read their own writes, the topics and config resources written through
+ * this client ({@code createTopics}, {@code deleteTopics}, {@code createPartitions}, {@code
+ * alterConfigs} and {@code incrementalAlterConfigs}) stop sharing the lookups sent before the
+ * write, both when it is made and when it completes. Offsets and consumer groups change
+ * independently of this client, and lookups of them are only as fresh as the lookup they share.
+ *
+ * <p>Once closed, lookups that are still gathering fail, and calls are forwarded as is.
+ */
+final class CoalescingAdmin implements InvocationHandler {
+
+  private static final String GROUP_NAME = "admin-coalescing-metrics";
+
+  private static final String DESCRIBE_TOPICS = "describeTopics";
+  private static final String DESCRIBE_CONSUMER_GROUPS = "describeConsumerGroups";
+  private static final String DESCRIBE_CONFIGS = "describeConfigs";
+  private static final String LIST_OFFSETS = "listOffsets";
+
+  private static final List<String> APIS =
+      ImmutableList.of(DESCRIBE_TOPICS, DESCRIBE_CONSUMER_GROUPS, DESCRIBE_CONFIGS, LIST_OFFSETS);
+
+  private final Admin delegate;
+  private final long lingerNanos;
+  private final ScheduledExecutorService scheduler;
+
+  private final Map<String, ApiStats> stats;
+  private final ConcurrentHashMap<String, Batcher<?, ?>> batchers = new ConcurrentHashMap<>();
+  private volatile boolean closed = false;
+
+  CoalescingAdmin(Admin delegate, Duration linger) {
+    this.delegate = requireNonNull(delegate);
+    this.lingerNanos = linger.toNanos();
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("Admin-coalescing-thread-%d")
+                .setDaemon(true)
+                .build());
+    ImmutableMap.Builder<String, ApiStats> stats = ImmutableMap.builder();
+    APIS.forEach(api -> stats.put(api, new ApiStats()));
+    this.stats = stats.build();
+  }
+
+  /** Returns an {@link Admin} that coalesces its calls to the delegate. */
+  Admin asAdmin() {
+    return (Admin)
+        Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, this);
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    Object coalesced = null;
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "close":
+        close();
+        break;
+      case "createTopics":
+      case "deleteTopics":
+      case "createPartitions":
+      case "alterConfigs":
+      case "incrementalAlterConfigs":
+        return write(method, args);
+      default:
+        break;
+    }
+    if (closed) {
+      return forward(method, args);
+    }
+    switch (method.getName()) {
+      case DESCRIBE_TOPICS:
+        coalesced = describeTopics(args);
+        break;
+      case DESCRIBE_CONSUMER_GROUPS:
+        coalesced = describeConsumerGroups(args);
+        break;
+      case DESCRIBE_CONFIGS:
+        coalesced = describeConfigs(args);
+        break;
+      case LIST_OFFSETS:
+        coalesced = listOffsets(args);
+        break;
+      default:
+        break;
+    }
+    if (coalesced != null) {
+      return coalesced;
+    }
+    return forward(method, args);
+  }
+
+  private Object forward(Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(delegate, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void close() {
+    closed = true;
+    scheduler.shutdownNow();
+    batchers.values().forEach(Batcher::failPending);
+  }
+
+  /**
+   * Forwards a write, and stops the lookups of the written topics or config resources that were
+   * sent before it from being shared, both now and once the write completes.
+   */
+  @SuppressWarnings("unchecked")
+  private Object write(Method method, Object[] args) throws Throwable {
+    String api;
+    Collection<?> keys;
+    switch (method.getName()) {
+      case "createTopics":
+        api = DESCRIBE_TOPICS;
+        keys =
+            ((Collection<NewTopic>) args[0])
+                .stream()
+                .map(NewTopic::name)
+                .collect(Collectors.toList());
+        break;
+      case "deleteTopics":
+        api = DESCRIBE_TOPICS;
+        if (args[0] instanceof TopicNameCollection) {
+          keys = ((TopicNameCollection) args[0]).topicNames();
+        } else if (args[0] instanceof Collection) {
+          keys = (Collection<String>) args[0];
+        } else {
+          // Topics deleted by id can't be matched to the lookups by name.
+          keys = Collections.emptyList();
+        }
+        break;
+      case "createPartitions":
+        api = DESCRIBE_TOPICS;
+        keys = ((Map<String, ?>) args[0]).keySet();
+        break;
+      default:
+        api = DESCRIBE_CONFIGS;
+        keys = ((Map<ConfigResource, ?>) args[0]).keySet();
+        break;
+    }
+    keys = ImmutableList.copyOf(keys);
+    invalidate(api, keys);
+    Object result = forward(method, args);
+    KafkaFuture<Void> done;
+    if (result instanceof CreateTopicsResult) {
+      done = ((CreateTopicsResult) result).all();
+    } else if (result instanceof DeleteTopicsResult) {
+      done = ((DeleteTopicsResult) result).all();
+    } else if (result instanceof CreatePartitionsResult) {
+      done = ((CreatePartitionsResult) result).all();
+    } else if (result instanceof AlterConfigsResult) {
+      done = ((AlterConfigsResult) result).all();
+    } else {
+      return result;
+    }
+    Collection<?> written = keys;
+    done.whenComplete((value, error) -> invalidate(api, written));
+    return result;
+  }
+
+  private void invalidate(String api, Collection<?> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    batchers.forEach(
+        (name, batcher) -> {
+          if (name.startsWith(api + ":")) {
+            batcher.invalidate(keys);
+          }
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object describeTopics(Object[] args) {
+    Collection<String> topicNames;
+    if (args[0] instanceof TopicNameCollection) {
+      topicNames = ((TopicNameCollection) args[0]).topicNames();
+    } else if (args[0] instanceof Collection) {
+      topicNames = (Collection<String>) args[0];
+    } else {
+      return null;
+    }
+    DescribeTopicsOptions options =
+        args.length > 1 ? (DescribeTopicsOptions) args[1] : new DescribeTopicsOptions();
+    if (options.timeoutMs() != null) {
+      return null;
+    }
+    boolean includeAuthorizedOperations = options.includeAuthorizedOperations();
+    Batcher<String, TopicDescription> batcher =
+        batcher(
+            DESCRIBE_TOPICS,
+            String.valueOf(includeAuthorizedOperations),
+            names ->
+                delegate
+                    .describeTopics(
+                        TopicCollection.ofTopicNames(names),
+                        new DescribeTopicsOptions()
+                            .includeAuthorizedOperations(includeAuthorizedOperations))
+                    .topicNameValues());
+    return new DescribeTopicsResult(/* topicIdFutures= */ null, batcher.get(topicNames)) {};
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object describeConsumerGroups(Object[] args) {
+    Collection<String> groupIds = (Collection<String>) args[0];
+    DescribeConsumerGroupsOptions options =
+        args.length > 1
+            ? (DescribeConsumerGroupsOptions) args[1]
+            : new DescribeConsumerGroupsOptions();
+    if (options.timeoutMs() != null) {
+      return null;
+    }
+    boolean includeAuthorizedOperations = options.includeAuthorizedOperations();
+    Batcher<String, ConsumerGroupDescription> batcher =
+        batcher(
+            DESCRIBE_CONSUMER_GROUPS,
+            String.valueOf(includeAuthorizedOperations),
+            ids ->
+                delegate
+                    .describeConsumerGroups(
+                        ids,
+                        new DescribeConsumerGroupsOptions()
+                            .includeAuthorizedOperations(includeAuthorizedOperations))
+                    .describedGroups());
+    return new DescribeConsumerGroupsResult(batcher.get(groupIds));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object describeConfigs(Object[] args) {
+    Collection<ConfigResource> resources = (Collection<ConfigResource>) args[0];
+    DescribeConfigsOptions options =
+        args.length > 1 ? (DescribeConfigsOptions) args[1] : new DescribeConfigsOptions();
+    if (options.timeoutMs() != null) {
+      return null;
+    }
+    boolean includeSynonyms = options.includeSynonyms();
+    boolean includeDocumentation = options.includeDocumentation();
+    Batcher<ConfigResource, Config> batcher =
+        batcher(
+            DESCRIBE_CONFIGS,
+            includeSynonyms + "," + includeDocumentation,
+            keys ->
+                delegate
+                    .describeConfigs(
+                        keys,
+                        new DescribeConfigsOptions()
+                            .includeSynonyms(includeSynonyms)
+                            .includeDocumentation(includeDocumentation))
+                    .values());
+    return new DescribeConfigsResult(batcher.get(resources)) {};
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object listOffsets(Object[] args) {
+    Map<TopicPartition, OffsetSpec> specs = (Map<TopicPartition, OffsetSpec>) args[0];
+    ListOffsetsOptions options =
+        args.length > 1 ? (ListOffsetsOptions) args[1] : new ListOffsetsOptions();
+    if (options.timeoutMs() != null
+        || !specs.values().stream().allMatch(CoalescingAdmin::isCoalescable)) {
+      return null;
+    }
+    // Partitions are only coalesced with lookups of the same kind of offset.
+    Map<Class<?>, List<TopicPartition>> partitionsBySpec = new LinkedHashMap<>();
+    specs.forEach(
+        (partition, spec) ->
+            partitionsBySpec
+                .computeIfAbsent(spec.getClass(), key -> new ArrayList<>())
+                .add(partition));
+    Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> futures = new HashMap<>();
+    partitionsBySpec.forEach(
+        (specClass, partitions) -> {
+          OffsetSpec spec = specs.get(partitions.get(0));
+          Batcher<TopicPartition, ListOffsetsResultInfo> batcher =
+              batcher(
+                  LIST_OFFSETS,
+                  specClass.getName() + "," + options.isolationLevel(),
+                  keys -> {
+                    Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+                    keys.forEach(partition -> request.put(partition, spec));
+                    ListOffsetsResult result =
+                        delegate.listOffsets(
+                            request, new ListOffsetsOptions(options.isolationLevel()));
+                    Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> values =
+                        new HashMap<>();
+                    keys.forEach(
+                        partition -> values.put(partition, result.partitionResult(partition)));
+                    return values;
+                  });
+          futures.putAll(batcher.get(partitions));
+        });
+    return new ListOffsetsResult(futures);
+  }
+
+  private static boolean isCoalescable(OffsetSpec spec) {
+    return spec instanceof OffsetSpec.EarliestSpec
+        || spec instanceof OffsetSpec.LatestSpec
+        || spec instanceof OffsetSpec.MaxTimestampSpec;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <K, V> Batcher<K, V> batcher(
+      String api, String options, Function<Collection<K>, Map<K, KafkaFuture<V>>> lookup) {
+    return (Batcher<K, V>)
+        batchers.computeIfAbsent(
+            api + ":" + options, key -> new Batcher<>(stats.get(api), lookup));
+  }
+
+  /** Registers the per-API coalescing metrics. */
+  MetricsRegistration registerMetrics(Metrics metrics) {
+    MetricsRegistration registration = new MetricsRegistration(metrics, GROUP_NAME);
+    stats.forEach(
+        (api, apiStats) -> {
+          Map<String, String> tags = ImmutableMap.of("api", api);
+          registration.addCounter(
+              "admin-coalescing-call-total",
+              "The total number of calls made to the Admin client.",
+              tags,
+              apiStats.calls);
+          registration.addCounter(
+              "admin-coalescing-request-total",
+              "The total number of requests sent to the brokers for those calls.",
+              tags,
+              apiStats.requests);
+          registration.addMetric(
+              "admin-coalescing-saved-request-total",
+              "The total number of requests to the brokers saved by coalescing calls.",
+              tags,
+              (config, now) -> apiStats.calls.sum() - apiStats.requests.sum());
+          Sensor sensor = registration.sensor("admin-coalescing-batch-size:" + api);
+          registration.addMetric(
+              sensor,
+              "admin-coalescing-batch-size-avg",
+              "The average number of entities looked up per request to the brokers.",
+              tags,
+              new Avg());
+          registration.addMetric(
+              sensor,
+              "admin-coalescing-batch-size-max",
+              "The maximum number of entities looked up per request to the brokers.",
+              tags,
+              new Max());
+          apiStats.batchSize = sensor;
+        });
+    return registration;
+  }
+
+  private static final class ApiStats {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private volatile Sensor batchSize;
+  }
+
+  /** Coalesces the lookups of one API, with one set of options. */
+  private final class Batcher<K, V> {
+
+    private final ApiStats stats;
+    private final Function<Collection<K>, Map<K, KafkaFuture<V>>> lookup;
+
+    // Guarded by this. Every entity being looked up, whether already sent or still pending.
+    private final Map<K, KafkaFutureImpl<V>> inFlight = new HashMap<>();
+    // Guarded by this. The entities gathered for the next lookup.
+    private Map<K, KafkaFutureImpl<V>> pending = new HashMap<>();
+    private boolean flushScheduled = false;
+
+    private Batcher(ApiStats stats, Function<Collection<K>, Map<K, KafkaFuture<V>>> lookup) {
+      this.stats = stats;
+      this.lookup = lookup;
+    }
+
+    private Map<K, KafkaFuture<V>> get(Collection<K> keys) {
+      stats.calls.increment();
+      Map<K, KafkaFuture<V>> futures = new HashMap<>();
+      Map<K, KafkaFutureImpl<V>> toSend = null;
+      Map<K, KafkaFutureImpl<V>> toFail = null;
+      synchronized (this) {
+        for (K key : keys) {
+          KafkaFutureImpl<V> future = inFlight.get(key);
+          if (future == null) {
+            future = new KafkaFutureImpl<>();
+            inFlight.put(key, future);
+            pending.put(key, future);
+          }
+          futures.put(key, future);
+        }
+        if (!pending.isEmpty()) {
+          if (lingerNanos <= 0) {
+            toSend = pending;
+            pending = new HashMap<>();
+          } else if (!flushScheduled) {
+            try {
+              scheduler.schedule(this::flush, lingerNanos, TimeUnit.NANOSECONDS);
+              flushScheduled = true;
+            } catch (RejectedExecutionException e) {
+              // Closed concurrently with this call.
+              toFail = pending;
+              pending = new HashMap<>();
+            }
+          }
+        }
+      }
+      if (toSend != null) {
+        send(toSend);
+      }
+      if (toFail != null) {
+        fail(toFail);
+      }
+      return futures;
+    }
+
+    /** Fails the lookups still gathering, which will never be flushed once closed. */
+    private void failPending() {
+      Map<K, KafkaFutureImpl<V>> toFail;
+      synchronized (this) {
+        toFail = pending;
+        pending = new HashMap<>();
+        flushScheduled = false;
+      }
+      fail(toFail);
+    }
+
+    private void fail(Map<K, KafkaFutureImpl<V>> toFail) {
+      IllegalStateException error = new IllegalStateException("The Admin client is closed.");
+      toFail.forEach((key, future) -> complete(key, future, null, error));
+    }
+
+    /**
+     * Stops the lookups of {@code keys} that were already sent from being shared. Those still
+     * gathering are sent after the call that invalidates them, so they keep being shared.
+     */
+    private synchronized void invalidate(Collection<?> keys) {
+      for (Object key : keys) {
+        if (!pending.containsKey(key)) {
+          inFlight.remove(key);
+        }
+      }
+    }
+
+    private void flush() {
+      Map<K, KafkaFutureImpl<V>> toSend;
+      synchronized (this) {
+        toSend = pending;
+        pending = new HashMap<>();
+        flushScheduled = false;
+      }
+      if (!toSend.isEmpty()) {
+        send(toSend);
+      }
+    }
+
+    private void send(Map<K, KafkaFutureImpl<V>> toSend) {
+      stats.requests.increment();
+      Sensor batchSize = stats.batchSize;
+      if (batchSize != null) {
+        batchSize.record(toSend.size());
+      }
+      Map<K, KafkaFuture<V>> results;
+      try {
+        results = lookup.apply(ImmutableList.copyOf(toSend.keySet()));
+      } catch (RuntimeException e) {
+        toSend.forEach((key, future) -> complete(key, future, null, e));
+        return;
+      }
+      toSend.forEach(
+          (key, future) -> {
+            KafkaFuture<V> result = results.get(key);
+            if (result == null) {
+              complete(
+                  key, future, null, new IllegalStateException("No result returned for " + key));
+            } else {
+              result.whenComplete((value, error) -> complete(key, future, value, error));
+            }
+          });
+    }
+
+    private void complete(K key, KafkaFutureImpl<V> future, V value, Throwable error) {
+      synchronized (this) {
+        inFlight.remove(key, future);
+      }
+      if (error == null) {
+        future.complete(value);
+      } else {
+        future.completeExceptionally(error);
+      }
+    }
+  }
+}
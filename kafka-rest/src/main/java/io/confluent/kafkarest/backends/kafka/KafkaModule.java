@@ -20,8 +20,13 @@ import static java.util.Objects.requireNonNull;
 import io.confluent.kafkarest.DefaultKafkaRestContext;
 import io.confluent.kafkarest.KafkaRestConfig;
 import io.confluent.kafkarest.KafkaRestContext;
+import io.confluent.kafkarest.common.MetricsRegistration;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.producer.Producer;
 import org.glassfish.hk2.api.Factory;
@@ -46,6 +51,8 @@ public final class KafkaModule extends AbstractBinder {
     bindFactory(ProducerFactory.class)
         .to(new TypeLiteral<Producer<byte[], byte[]>>() {})
         .in(Singleton.class);
+
+    bindFactory(ProducerPoolFactory.class).to(ProducerPool.class).in(Singleton.class);
   }
 
   private static final class KafkaRestContextFactory implements Factory<KafkaRestContext> {
@@ -68,21 +75,34 @@ public final class KafkaModule extends AbstractBinder {
   }
 
   private static final class AdminFactory implements Factory<Admin> {
+    private final KafkaRestConfig config;
     private final KafkaRestContext context;
+    private MetricsRegistration metricsRegistration = MetricsRegistration.none();
 
     @Inject
-    private AdminFactory(KafkaRestContext context) {
+    private AdminFactory(KafkaRestConfig config, KafkaRestContext context) {
+      this.config = requireNonNull(config);
       this.context = requireNonNull(context);
     }
 
     @Override
     public Admin provide() {
-      return context.getAdmin();
+      Admin admin = context.getAdmin();
+      if (!config.isAdminCoalescingEnabled()) {
+        return admin;
+      }
+      CoalescingAdmin coalescingAdmin =
+          new CoalescingAdmin(admin, config.getAdminCoalescingLinger());
+      if (config.getMetrics() != null) {
+        metricsRegistration = coalescingAdmin.registerMetrics(config.getMetrics());
+      }
+      return coalescingAdmin.asAdmin();
     }
 
     @Override
     public void dispose(Admin admin) {
       admin.close();
+      metricsRegistration.remove();
     }
   }
 
@@ -104,4 +124,34 @@ public final class KafkaModule extends AbstractBinder {
       producer.close();
     }
   }
+
+  private static final class ProducerPoolFactory implements Factory<ProducerPool> {
+    private final KafkaRestConfig config;
+    private final Provider<KafkaRestContext> context;
+
+    @Inject
+    private ProducerPoolFactory(KafkaRestConfig config, Provider<KafkaRestContext> context) {
+      this.config = requireNonNull(config);
+      this.context = requireNonNull(context);
+    }
+
+    @Override
+    public ProducerPool provide() {
+      int size = config.getProducerPoolSize();
+      if (size == 1) {
+        return ProducerPool.single();
+      }
+      KafkaRestContext kafkaRestContext = context.get();
+      List<Producer<byte[], byte[]>> additionalProducers =
+          IntStream.range(1, size)
+              .mapToObj(kafkaRestContext::getProducer)
+              .collect(Collectors.toList());
+      return new ProducerPool(size, config.getProducerPoolStriping(), additionalProducers);
+    }
+
+    @Override
+    public void dispose(ProducerPool producerPool) {
+      producerPool.close();
+    }
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.backends.kafka;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.kafka.clients.producer.Producer;
+
+/**
+ * A fixed set of producers that v3 produce requests are striped across, so that produce throughput
+ * is not bounded by the sender thread and record accumulator of a single producer.
+ *
+ * <p>Stripe 0 is always the {@code Producer<byte[], byte[]>} injected alongside the pool, so that
+ * overriding that binding (e.g. to create a producer per request) keeps working. The pool only
+ * owns, and closes, the additional producers for stripes 1 to {@code size - 1}.
+ */
+public final class ProducerPool {
+
+  private final int size;
+  private final ProducerPoolStriping striping;
+  private final ImmutableList<Producer<byte[], byte[]>> additionalProducers;
+
+  public ProducerPool(
+      int size,
+      ProducerPoolStriping striping,
+      List<Producer<byte[], byte[]>> additionalProducers) {
+    checkArgument(size >= 1, "Producer pool size must be at least 1.");
+    checkArgument(
+        additionalProducers.size() == size - 1,
+        "Expected %s additional producers, got %s.",
+        size - 1,
+        additionalProducers.size());
+    this.size = size;
+    this.striping = requireNonNull(striping);
+    this.additionalProducers = ImmutableList.copyOf(additionalProducers);
+  }
+
+  /** Returns a pool that always selects the injected producer. */
+  public static ProducerPool single() {
+    return new ProducerPool(1, ProducerPoolStriping.PARTITION, ImmutableList.of());
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the producer to use for a record, or {@code defaultProducer} if the record falls on
+   * stripe 0.
+   */
+  public Producer<byte[], byte[]> select(
+      Producer<byte[], byte[]> defaultProducer,
+      String clusterId,
+      String topicName,
+      Optional<Integer> partitionId) {
+    if (size == 1) {
+      return defaultProducer;
+    }
+    int stripe = stripeOf(clusterId, topicName, partitionId);
+    return stripe == 0 ? defaultProducer : additionalProducers.get(stripe - 1);
+  }
+
+  int stripeOf(String clusterId, String topicName, Optional<Integer> partitionId) {
+    int hash;
+    switch (striping) {
+      case TENANT:
+        hash = clusterId.hashCode();
+        break;
+      case TOPIC:
+        hash = topicName.hashCode();
+        break;
+      case PARTITION:
+      default:
+        hash = Objects.hash(topicName, partitionId.orElse(null));
+        break;
+    }
+    return Math.floorMod(hash, size);
+  }
+
+  public void close() {
+    for (Producer<byte[], byte[]> producer : additionalProducers) {
+      producer.close();
+    }
+  }
+}
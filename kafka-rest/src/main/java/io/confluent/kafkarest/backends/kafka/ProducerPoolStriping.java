@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.backends.kafka;
+
+/** How v3 produce requests are assigned to a producer of the {@link ProducerPool}. */
+public enum ProducerPoolStriping {
+
+  /**
+   * Hash of the topic name and the requested partition. Records without an explicit partition are
+   * assigned by topic name only, so the producer's partitioner still sees every record of a key.
+   */
+  PARTITION,
+
+  /** Hash of the topic name. */
+  TOPIC,
+
+  /** Hash of the cluster ID, which is the tenant boundary used by the produce rate limiters. */
+  TENANT
+}
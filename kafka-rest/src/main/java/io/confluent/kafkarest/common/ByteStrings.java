@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.common;
+
+import com.google.protobuf.ByteOutput;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Copy-free conversions between {@code byte[]} and {@link ByteString}.
+ *
+ * <p>{@link ByteString#copyFrom(byte[])} and {@link ByteString#toByteArray()} each copy the whole
+ * payload. On the produce path the bytes come out of a serializer and go straight into a {@code
+ * ProducerRecord}, neither of which ever mutates them, so the copies can be skipped. Arrays passed
+ * to {@link #wrap(byte[])} must not be modified afterwards.
+ */
+public final class ByteStrings {
+
+  private ByteStrings() {}
+
+  /** Returns a {@link ByteString} backed by {@code bytes}, without copying them. */
+  public static ByteString wrap(byte[] bytes) {
+    return UnsafeByteOperations.unsafeWrap(bytes);
+  }
+
+  /**
+   * Returns the contents of {@code bytes} as a {@code byte[]}. If {@code bytes} is backed by a
+   * single array which it spans entirely (e.g. because it was created by {@link #wrap(byte[])}),
+   * that array is returned as-is. Otherwise, the contents are copied.
+   */
+  public static byte[] toByteArray(ByteString bytes) {
+    BackingArrayOutput output = new BackingArrayOutput(bytes.size());
+    try {
+      UnsafeByteOperations.unsafeWriteTo(bytes, output);
+    } catch (IOException e) {
+      // BackingArrayOutput does not throw.
+      throw new AssertionError(e);
+    }
+    return output.array != null ? output.array : bytes.toByteArray();
+  }
+
+  /** Captures the backing array of a {@link ByteString} written in a single, complete chunk. */
+  private static final class BackingArrayOutput extends ByteOutput {
+    private final int size;
+    private byte[] array;
+    private boolean seen;
+
+    private BackingArrayOutput(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public void write(byte value) {
+      seen = true;
+      array = null;
+    }
+
+    @Override
+    public void write(byte[] value, int offset, int length) {
+      seen = true;
+      array = null;
+    }
+
+    @Override
+    public void writeLazy(byte[] value, int offset, int length) {
+      array = !seen && offset == 0 && length == size && value.length == size ? value : null;
+      seen = true;
+    }
+
+    @Override
+    public void write(ByteBuffer value) {
+      seen = true;
+      array = null;
+    }
+
+    @Override
+    public void writeLazy(ByteBuffer value) {
+      seen = true;
+      array = null;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.common;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Measurable;
+import org.apache.kafka.common.metrics.MeasurableStat;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+
+/**
+ * The metrics and sensors a component registered in one group of a {@link Metrics} registry, so
+ * that they can all be removed together once the component is disposed of.
+ */
+public final class MetricsRegistration {
+
+  private static final MetricsRegistration NONE = new MetricsRegistration();
+
+  @Nullable private final Metrics metrics;
+  private final String groupName;
+  private final List<MetricName> metricNames = new ArrayList<>();
+  private final List<String> sensorNames = new ArrayList<>();
+
+  public MetricsRegistration(Metrics metrics, String groupName) {
+    this.metrics = requireNonNull(metrics);
+    this.groupName = requireNonNull(groupName);
+  }
+
+  private MetricsRegistration() {
+    this.metrics = null;
+    this.groupName = "";
+  }
+
+  /** Returns a registration of no metrics, for components whose metrics are not registered. */
+  public static MetricsRegistration none() {
+    return NONE;
+  }
+
+  /** Adds a metric reading {@code measurable}, e.g. the size of a cache. */
+  public MetricName addMetric(String name, String doc, Measurable measurable) {
+    return addMetric(name, doc, Collections.emptyMap(), measurable);
+  }
+
+  /** Adds a metric reading {@code measurable}, e.g. the size of a cache. */
+  public synchronized MetricName addMetric(
+      String name, String doc, Map<String, String> tags, Measurable measurable) {
+    MetricName metricName = metricName(name, doc, tags);
+    metrics.addMetric(metricName, measurable);
+    metricNames.add(metricName);
+    return metricName;
+  }
+
+  /** Adds a metric reading the current total of {@code counter}, e.g. the hits of a cache. */
+  public MetricName addCounter(String name, String doc, LongAdder counter) {
+    return addCounter(name, doc, Collections.emptyMap(), counter);
+  }
+
+  /** Adds a metric reading the current total of {@code counter}, e.g. the hits of a cache. */
+  public MetricName addCounter(
+      String name, String doc, Map<String, String> tags, LongAdder counter) {
+    return addMetric(name, doc, tags, (config, now) -> counter.sum());
+  }
+
+  /** Returns the sensor with the given name, which is removed along with the metrics. */
+  public synchronized Sensor sensor(String name) {
+    checkState(metrics != null, "Can't register metrics with no registry.");
+    sensorNames.add(name);
+    return metrics.sensor(name);
+  }
+
+  /** Adds a metric measuring the values recorded into {@code sensor}, e.g. their average. */
+  public MetricName addMetric(Sensor sensor, String name, String doc, MeasurableStat stat) {
+    return addMetric(sensor, name, doc, Collections.emptyMap(), stat);
+  }
+
+  /** Adds a metric measuring the values recorded into {@code sensor}, e.g. their average. */
+  public synchronized MetricName addMetric(
+      Sensor sensor, String name, String doc, Map<String, String> tags, MeasurableStat stat) {
+    MetricName metricName = metricName(name, doc, tags);
+    sensor.add(metricName, stat);
+    metricNames.add(metricName);
+    return metricName;
+  }
+
+  /** Returns the names of the metrics registered so far, including the ones of sensors. */
+  public synchronized List<MetricName> metricNames() {
+    return ImmutableList.copyOf(metricNames);
+  }
+
+  /** Removes the metrics and sensors registered so far. */
+  public synchronized void remove() {
+    if (metrics == null) {
+      return;
+    }
+    metricNames.forEach(metrics::removeMetric);
+    sensorNames.forEach(metrics::removeSensor);
+    metricNames.clear();
+    sensorNames.clear();
+  }
+
+  private MetricName metricName(String name, String doc, Map<String, String> tags) {
+    checkState(metrics != null, "Can't register metrics with no registry.");
+    return metrics.metricName(name, groupName, doc, tags);
+  }
+}
@@ -173,6 +173,10 @@ public final class ConfigModule extends AbstractBinder {
         .qualifiedBy(new RateLimitTimeoutConfigImpl())
         .to(Duration.class);
 
+    bind(config.getRateLimitDistributedLeaseCount())
+        .qualifiedBy(new RateLimitDistributedLeaseCountConfigImpl())
+        .to(Integer.class);
+
     bind(config.getStreamingConnectionMaxDuration())
         .qualifiedBy(new StreamingConnectionMaxDurationConfigImpl())
         .to(Duration.class);
@@ -181,6 +185,26 @@ public final class ConfigModule extends AbstractBinder {
         .qualifiedBy(new StreamingConnectionMaxDurationGracePeriodImpl())
         .to(Duration.class);
 
+    bind(config.getStreamingPipelineMaxInFlightRequests())
+        .qualifiedBy(new StreamingPipelineMaxInFlightRequestsConfigImpl())
+        .to(Integer.class);
+
+    bind(config.getStreamingPipelineThreadPoolSize())
+        .qualifiedBy(new StreamingPipelineThreadPoolSizeConfigImpl())
+        .to(Integer.class);
+
+    bind(config.getStreamingResponseChunkMaxLinger())
+        .qualifiedBy(new StreamingResponseChunkMaxLingerConfigImpl())
+        .to(Duration.class);
+
+    bind(config.getStreamingResponseChunkMaxRecords())
+        .qualifiedBy(new StreamingResponseChunkMaxRecordsConfigImpl())
+        .to(Integer.class);
+
+    bind(config.getTopicConfigsListChunkSize())
+        .qualifiedBy(new TopicConfigsListChunkSizeConfigImpl())
+        .to(Integer.class);
+
     bind(config.getSchemaRegistryConfigs())
         .qualifiedBy(new SchemaRegistryConfigsImpl())
         .to(new TypeLiteral<Map<String, Object>>() {});
@@ -442,6 +466,15 @@ public final class ConfigModule extends AbstractBinder {
   private static final class RateLimitTimeoutConfigImpl
       extends AnnotationLiteral<RateLimitTimeoutConfig> implements RateLimitTimeoutConfig {}
 
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface RateLimitDistributedLeaseCountConfig {}
+
+  private static final class RateLimitDistributedLeaseCountConfigImpl
+      extends AnnotationLiteral<RateLimitDistributedLeaseCountConfig>
+      implements RateLimitDistributedLeaseCountConfig {}
+
   @Qualifier
   @Retention(RetentionPolicy.RUNTIME)
   @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
@@ -485,6 +518,51 @@ public final class ConfigModule extends AbstractBinder {
       extends AnnotationLiteral<StreamingMaxConnectionGracePeriod>
       implements StreamingMaxConnectionGracePeriod {}
 
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamingPipelineMaxInFlightRequestsConfig {}
+
+  private static final class StreamingPipelineMaxInFlightRequestsConfigImpl
+      extends AnnotationLiteral<StreamingPipelineMaxInFlightRequestsConfig>
+      implements StreamingPipelineMaxInFlightRequestsConfig {}
+
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamingPipelineThreadPoolSizeConfig {}
+
+  private static final class StreamingPipelineThreadPoolSizeConfigImpl
+      extends AnnotationLiteral<StreamingPipelineThreadPoolSizeConfig>
+      implements StreamingPipelineThreadPoolSizeConfig {}
+
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamingResponseChunkMaxLingerConfig {}
+
+  private static final class StreamingResponseChunkMaxLingerConfigImpl
+      extends AnnotationLiteral<StreamingResponseChunkMaxLingerConfig>
+      implements StreamingResponseChunkMaxLingerConfig {}
+
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamingResponseChunkMaxRecordsConfig {}
+
+  private static final class StreamingResponseChunkMaxRecordsConfigImpl
+      extends AnnotationLiteral<StreamingResponseChunkMaxRecordsConfig>
+      implements StreamingResponseChunkMaxRecordsConfig {}
+
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface TopicConfigsListChunkSizeConfig {}
+
+  private static final class TopicConfigsListChunkSizeConfigImpl
+      extends AnnotationLiteral<TopicConfigsListChunkSizeConfig>
+      implements TopicConfigsListChunkSizeConfig {}
+
   @Qualifier
   @Retention(RetentionPolicy.RUNTIME)
   @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
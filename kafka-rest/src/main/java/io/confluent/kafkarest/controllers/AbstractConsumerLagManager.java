@@ -15,9 +15,11 @@
 
 package io.confluent.kafkarest.controllers;
 
+import static io.confluent.kafkarest.controllers.Entities.checkEntityExists;
 import static java.util.Objects.requireNonNull;
 
 import io.confluent.kafkarest.common.KafkaFutures;
+import io.confluent.kafkarest.controllers.ConsumerLagSnapshotService.GroupOffsets;
 import jakarta.ws.rs.NotFoundException;
 import java.util.Map;
 import java.util.Optional;
@@ -36,10 +38,53 @@ import org.apache.kafka.common.TopicPartition;
 abstract class AbstractConsumerLagManager {
 
   private final Admin kafkaAdminClient;
-  private static final IsolationLevel ISOLATION_LEVEL = IsolationLevel.READ_COMMITTED;
+  private final ConsumerGroupManager consumerGroupManager;
+  private final ConsumerLagSnapshotService lagSnapshots;
+  static final IsolationLevel ISOLATION_LEVEL = IsolationLevel.READ_COMMITTED;
 
-  AbstractConsumerLagManager(Admin kafkaAdminClient) {
+  AbstractConsumerLagManager(
+      Admin kafkaAdminClient,
+      ConsumerGroupManager consumerGroupManager,
+      ConsumerLagSnapshotService lagSnapshots) {
     this.kafkaAdminClient = requireNonNull(kafkaAdminClient);
+    this.consumerGroupManager = requireNonNull(consumerGroupManager);
+    this.lagSnapshots = requireNonNull(lagSnapshots);
+  }
+
+  /**
+   * Returns the consumer group {@code consumerGroupId}, its committed offsets and the log-end
+   * offsets of its partitions, from the latest lag snapshot if it is recent enough and has the
+   * group, or from the brokers otherwise.
+   */
+  final CompletableFuture<GroupOffsets> getGroupOffsets(String clusterId, String consumerGroupId) {
+    Optional<GroupOffsets> snapshotted = lagSnapshots.getGroupOffsets(clusterId, consumerGroupId);
+    if (snapshotted.isPresent()) {
+      return CompletableFuture.completedFuture(snapshotted.get());
+    }
+    return consumerGroupManager
+        .getConsumerGroup(clusterId, consumerGroupId)
+        .thenApply(
+            consumerGroup ->
+                checkEntityExists(
+                    consumerGroup, "Consumer Group %s could not be found.", consumerGroupId))
+        .thenCompose(
+            consumerGroup ->
+                getCurrentOffsets(consumerGroupId)
+                    .thenApply(
+                        fetchedCurrentOffsets ->
+                            checkOffsetsExist(
+                                fetchedCurrentOffsets,
+                                "Consumer group offsets could not be found."))
+                    .thenCompose(
+                        fetchedCurrentOffsets ->
+                            getLatestOffsets(fetchedCurrentOffsets)
+                                .thenApply(
+                                    latestOffsets ->
+                                        new GroupOffsets(
+                                            consumerGroup,
+                                            fetchedCurrentOffsets,
+                                            latestOffsets,
+                                            /* snapshotAge= */ Optional.empty()))));
   }
 
   final CompletableFuture<Map<TopicPartition, OffsetAndMetadata>> getCurrentOffsets(
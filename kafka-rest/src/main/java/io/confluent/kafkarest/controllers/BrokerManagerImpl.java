@@ -38,7 +38,7 @@ final class BrokerManagerImpl implements BrokerManager {
   @Override
   public CompletableFuture<List<Broker>> listBrokers(String clusterId) {
     return clusterManager
-        .getCluster(clusterId)
+        .getClusterWithBrokers(clusterId)
         .thenApply(cluster -> checkEntityExists(cluster, "Cluster %s cannot be found.", clusterId))
         .thenApply(Cluster::getBrokers);
   }
@@ -51,6 +51,6 @@ final class BrokerManagerImpl implements BrokerManager {
 
   @Override
   public CompletableFuture<List<Broker>> listLocalBrokers() {
-    return clusterManager.getLocalCluster().thenApply(Cluster::getBrokers);
+    return clusterManager.getLocalClusterWithBrokers().thenApply(Cluster::getBrokers);
   }
 }
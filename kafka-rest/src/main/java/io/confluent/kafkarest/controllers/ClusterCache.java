@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import io.confluent.kafkarest.entities.Cluster;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.Max;
+
+/**
+ * A cache of the local cluster described by {@link ClusterManagerImpl}, so that the cluster lookup
+ * most v3 requests start with does not need to talk to the brokers every time.
+ *
+ * <p>The cached cluster is served for up to {@code maxStaleness} after it was described. Once it
+ * is older than {@code refreshInterval}, it is described again in the background, while requests
+ * keep being served from the cache. Only requests that find no cluster younger than {@code
+ * maxStaleness} wait for the cluster to be described, and concurrent such requests share a single
+ * describe. Failures to describe the cluster are not cached.
+ *
+ * <p>Lookups that need the current brokers and controller of the cluster go through {@link
+ * #getWithBrokers(Supplier)}, which always describes the cluster unless {@code cacheBrokers} is
+ * set. The cache is disabled if {@code maxStaleness} is zero.
+ */
+final class ClusterCache {
+
+  private static final String GROUP_NAME = "cluster-cache-metrics";
+  private static final String REFRESH_LATENCY_SENSOR_NAME = "cluster-cache-refresh-latency";
+
+  private final boolean enabled;
+  private final boolean cacheBrokers;
+  private final long refreshIntervalNanos;
+  private final long maxStalenessNanos;
+  private final Ticker ticker;
+
+  private final AtomicReference<Entry> entry = new AtomicReference<>();
+  private final AtomicReference<CompletableFuture<Cluster>> refresh = new AtomicReference<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder refreshFailures = new LongAdder();
+  @Nullable private volatile Sensor refreshLatencySensor;
+
+  ClusterCache(Duration refreshInterval, Duration maxStaleness, boolean cacheBrokers) {
+    this(refreshInterval, maxStaleness, cacheBrokers, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ClusterCache(
+      Duration refreshInterval, Duration maxStaleness, boolean cacheBrokers, Ticker ticker) {
+    this.enabled = !maxStaleness.isZero();
+    this.cacheBrokers = cacheBrokers;
+    this.refreshIntervalNanos = refreshInterval.toNanos();
+    this.maxStalenessNanos = maxStaleness.toNanos();
+    this.ticker = requireNonNull(ticker);
+  }
+
+  static ClusterCache disabled() {
+    return new ClusterCache(Duration.ZERO, Duration.ZERO, /* cacheBrokers= */ false);
+  }
+
+  /**
+   * Returns the cluster with its current brokers and controller. Unless {@code cacheBrokers} is
+   * set, the cluster is described using {@code describer}, and the cache is updated with it.
+   */
+  CompletableFuture<Cluster> getWithBrokers(Supplier<CompletableFuture<Cluster>> describer) {
+    if (!enabled || cacheBrokers) {
+      return get(describer);
+    }
+    CompletableFuture<Cluster> result = new CompletableFuture<>();
+    describe(describer, result, /* inFlight= */ false);
+    return result;
+  }
+
+  /** Returns the cached cluster, or describes it using {@code describer}. */
+  CompletableFuture<Cluster> get(Supplier<CompletableFuture<Cluster>> describer) {
+    if (!enabled) {
+      return describer.get();
+    }
+    Entry current = entry.get();
+    if (current != null) {
+      long age = ticker.read() - current.describedAtNanos;
+      if (age < maxStalenessNanos) {
+        hits.increment();
+        if (age >= refreshIntervalNanos) {
+          refresh(describer);
+        }
+        return CompletableFuture.completedFuture(current.cluster);
+      }
+    }
+    misses.increment();
+    return refresh(describer);
+  }
+
+  /** Describes the cluster, unless there's a describe in flight already, and returns it. */
+  private CompletableFuture<Cluster> refresh(Supplier<CompletableFuture<Cluster>> describer) {
+    while (true) {
+      CompletableFuture<Cluster> inFlight = refresh.get();
+      if (inFlight != null) {
+        return inFlight;
+      }
+      CompletableFuture<Cluster> result = new CompletableFuture<>();
+      if (refresh.compareAndSet(null, result)) {
+        describe(describer, result, /* inFlight= */ true);
+        return result;
+      }
+    }
+  }
+
+  private void describe(
+      Supplier<CompletableFuture<Cluster>> describer,
+      CompletableFuture<Cluster> result,
+      boolean inFlight) {
+    long startNanos = ticker.read();
+    CompletableFuture<Cluster> described;
+    try {
+      described = describer.get();
+    } catch (RuntimeException e) {
+      described = new CompletableFuture<>();
+      described.completeExceptionally(e);
+    }
+    described.whenComplete(
+        (cluster, error) -> {
+          refreshes.increment();
+          Sensor sensor = refreshLatencySensor;
+          if (sensor != null) {
+            sensor.record(TimeUnit.NANOSECONDS.toMillis(ticker.read() - startNanos));
+          }
+          if (error == null) {
+            // The cluster is at least as recent as when we started describing it. Describes that
+            // aren't shared can complete out of order, so keep the most recent one.
+            Entry fresh = new Entry(cluster, startNanos);
+            entry.accumulateAndGet(
+                fresh,
+                (previous, next) ->
+                    previous == null || next.describedAtNanos - previous.describedAtNanos >= 0
+                        ? next
+                        : previous);
+          } else {
+            refreshFailures.increment();
+          }
+          // Clear the in-flight describe before completing it, so that requests that see the
+          // failure and retry start a new describe.
+          if (inFlight) {
+            refresh.set(null);
+          }
+          if (error == null) {
+            result.complete(cluster);
+          } else {
+            result.completeExceptionally(error);
+          }
+        });
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  long missCount() {
+    return misses.sum();
+  }
+
+  long refreshCount() {
+    return refreshes.sum();
+  }
+
+  /** Registers the hit, miss and refresh metrics of this cache, including the refresh latency. */
+  MetricsRegistration registerMetrics(Metrics metrics) {
+    MetricsRegistration registration = new MetricsRegistration(metrics, GROUP_NAME);
+    registration.addCounter(
+        "cluster-cache-hit-total",
+        "The total number of cluster lookups served from the cache.",
+        hits);
+    registration.addCounter(
+        "cluster-cache-miss-total",
+        "The total number of cluster lookups that had to wait for the cluster to be described.",
+        misses);
+    registration.addCounter(
+        "cluster-cache-refresh-total",
+        "The total number of times the cluster was described to refresh the cache.",
+        refreshes);
+    registration.addCounter(
+        "cluster-cache-refresh-failure-total",
+        "The total number of times describing the cluster to refresh the cache failed.",
+        refreshFailures);
+
+    Sensor sensor = registration.sensor(REFRESH_LATENCY_SENSOR_NAME);
+    registration.addMetric(
+        sensor,
+        "cluster-cache-refresh-latency-avg",
+        "The average time in ms taken to describe the cluster to refresh the cache.",
+        new Avg());
+    registration.addMetric(
+        sensor,
+        "cluster-cache-refresh-latency-max",
+        "The maximum time in ms taken to describe the cluster to refresh the cache.",
+        new Max());
+    refreshLatencySensor = sensor;
+    return registration;
+  }
+
+  private static final class Entry {
+
+    private final Cluster cluster;
+    private final long describedAtNanos;
+
+    private Entry(Cluster cluster, long describedAtNanos) {
+      this.cluster = requireNonNull(cluster);
+      this.describedAtNanos = describedAtNanos;
+    }
+  }
+}
@@ -41,4 +41,29 @@ public interface ClusterManager {
 
   /** Returns the Kafka {@link Cluster} this application is connected to. */
   CompletableFuture<Cluster> getLocalCluster();
+
+  /**
+   * Like {@link #listClusters()}, but with the current brokers and controller of the clusters.
+   *
+   * <p>The other methods can serve the cluster from a cache, and should only be relied on for the
+   * cluster ID. Implementations that don't cache the cluster can leave this to {@link
+   * #listClusters()}, which it delegates to by default.
+   */
+  default CompletableFuture<List<Cluster>> listClustersWithBrokers() {
+    return listClusters();
+  }
+
+  /**
+   * Like {@link #getCluster(String)}, but with the current brokers and controller of the cluster.
+   */
+  default CompletableFuture<Optional<Cluster>> getClusterWithBrokers(String clusterId) {
+    return getCluster(clusterId);
+  }
+
+  /**
+   * Like {@link #getLocalCluster()}, but with the current brokers and controller of the cluster.
+   */
+  default CompletableFuture<Cluster> getLocalClusterWithBrokers() {
+    return getLocalCluster();
+  }
 }
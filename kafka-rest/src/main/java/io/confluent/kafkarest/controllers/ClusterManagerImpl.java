@@ -36,10 +36,16 @@ import org.apache.kafka.clients.admin.DescribeClusterResult;
 final class ClusterManagerImpl implements ClusterManager {
 
   private final Admin adminClient;
+  private final ClusterCache clusterCache;
 
-  @Inject
   ClusterManagerImpl(Admin adminClient) {
+    this(adminClient, ClusterCache.disabled());
+  }
+
+  @Inject
+  ClusterManagerImpl(Admin adminClient, ClusterCache clusterCache) {
     this.adminClient = requireNonNull(adminClient);
+    this.clusterCache = requireNonNull(clusterCache);
   }
 
   @Override
@@ -56,6 +62,28 @@ final class ClusterManagerImpl implements ClusterManager {
 
   @Override
   public CompletableFuture<Cluster> getLocalCluster() {
+    return clusterCache.get(this::describeLocalCluster);
+  }
+
+  @Override
+  public CompletableFuture<List<Cluster>> listClustersWithBrokers() {
+    return getLocalClusterWithBrokers()
+        .thenApply(cluster -> unmodifiableList(singletonList(cluster)));
+  }
+
+  @Override
+  public CompletableFuture<Optional<Cluster>> getClusterWithBrokers(String clusterId) {
+    requireNonNull(clusterId);
+    return listClustersWithBrokers()
+        .thenApply(clusters -> findEntityByKey(clusters, Cluster::getClusterId, clusterId));
+  }
+
+  @Override
+  public CompletableFuture<Cluster> getLocalClusterWithBrokers() {
+    return clusterCache.getWithBrokers(this::describeLocalCluster);
+  }
+
+  private CompletableFuture<Cluster> describeLocalCluster() {
     DescribeClusterResult describeClusterResult =
         adminClient.describeCluster(
             new DescribeClusterOptions().includeAuthorizedOperations(false));
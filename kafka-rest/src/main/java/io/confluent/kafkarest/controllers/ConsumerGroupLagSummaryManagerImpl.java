@@ -15,15 +15,14 @@
 
 package io.confluent.kafkarest.controllers;
 
-import static io.confluent.kafkarest.controllers.Entities.checkEntityExists;
 import static java.util.Collections.emptyList;
-import static java.util.Objects.requireNonNull;
 
 import io.confluent.kafkarest.entities.Consumer;
 import io.confluent.kafkarest.entities.ConsumerGroup;
 import io.confluent.kafkarest.entities.ConsumerGroupLagSummary;
 import io.confluent.kafkarest.entities.Partition;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -37,57 +36,52 @@ import org.slf4j.LoggerFactory;
 final class ConsumerGroupLagSummaryManagerImpl extends AbstractConsumerLagManager
     implements ConsumerGroupLagSummaryManager {
 
-  private final ConsumerGroupManager consumerGroupManager;
   private static final Logger log =
       LoggerFactory.getLogger(ConsumerGroupLagSummaryManagerImpl.class);
 
-  @Inject
   ConsumerGroupLagSummaryManagerImpl(
       Admin kafkaAdminClient, ConsumerGroupManager consumerGroupManager) {
-    super(kafkaAdminClient);
-    this.consumerGroupManager = requireNonNull(consumerGroupManager);
+    this(
+        kafkaAdminClient,
+        consumerGroupManager,
+        ConsumerLagSnapshotService.disabled(kafkaAdminClient));
+  }
+
+  @Inject
+  ConsumerGroupLagSummaryManagerImpl(
+      Admin kafkaAdminClient,
+      ConsumerGroupManager consumerGroupManager,
+      ConsumerLagSnapshotService lagSnapshots) {
+    super(kafkaAdminClient, consumerGroupManager, lagSnapshots);
   }
 
   @Override
   public CompletableFuture<Optional<ConsumerGroupLagSummary>> getConsumerGroupLagSummary(
       String clusterId, String consumerGroupId) {
-    return consumerGroupManager
-        .getConsumerGroup(clusterId, consumerGroupId)
+    return getGroupOffsets(clusterId, consumerGroupId)
         .thenApply(
-            consumerGroup ->
-                checkEntityExists(
-                    consumerGroup, "Consumer Group %s could not be found.", consumerGroupId))
-        .thenCompose(
-            consumerGroup ->
-                getCurrentOffsets(consumerGroupId)
-                    .thenApply(
-                        fetchedCurrentOffsets ->
-                            checkOffsetsExist(
-                                fetchedCurrentOffsets,
-                                "Consumer group offsets could not be found."))
-                    .thenCompose(
-                        fetchedCurrentOffsets ->
-                            getLatestOffsets(fetchedCurrentOffsets)
-                                .thenApply(
-                                    latestOffsets ->
-                                        Optional.of(
-                                            createConsumerGroupLagSummary(
-                                                clusterId,
-                                                consumerGroup,
-                                                fetchedCurrentOffsets,
-                                                latestOffsets)))));
+            groupOffsets ->
+                Optional.of(
+                    createConsumerGroupLagSummary(
+                        clusterId,
+                        groupOffsets.consumerGroup,
+                        groupOffsets.currentOffsets,
+                        groupOffsets.latestOffsets,
+                        groupOffsets.snapshotAge)));
   }
 
   private static ConsumerGroupLagSummary createConsumerGroupLagSummary(
       String clusterId,
       ConsumerGroup consumerGroup,
       Map<TopicPartition, OffsetAndMetadata> fetchedCurrentOffsets,
-      Map<TopicPartition, ListOffsetsResultInfo> latestOffsets) {
+      Map<TopicPartition, ListOffsetsResultInfo> latestOffsets,
+      Optional<Duration> snapshotAge) {
     Map<Partition, Consumer> partitionAssignment = consumerGroup.getPartitionAssignment();
     ConsumerGroupLagSummary.Builder consumerGroupLagSummary =
         ConsumerGroupLagSummary.builder()
             .setClusterId(clusterId)
-            .setConsumerGroupId(consumerGroup.getConsumerGroupId());
+            .setConsumerGroupId(consumerGroup.getConsumerGroupId())
+            .setSnapshotAge(snapshotAge);
     fetchedCurrentOffsets
         .keySet()
         .forEach(
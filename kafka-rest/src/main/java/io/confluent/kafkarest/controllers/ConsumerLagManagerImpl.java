@@ -15,15 +15,14 @@
 
 package io.confluent.kafkarest.controllers;
 
-import static io.confluent.kafkarest.controllers.Entities.checkEntityExists;
 import static java.util.Collections.emptyList;
-import static java.util.Objects.requireNonNull;
 
 import io.confluent.kafkarest.entities.Consumer;
 import io.confluent.kafkarest.entities.ConsumerGroup;
 import io.confluent.kafkarest.entities.ConsumerLag;
 import io.confluent.kafkarest.entities.Partition;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -39,42 +38,35 @@ import org.slf4j.LoggerFactory;
 final class ConsumerLagManagerImpl extends AbstractConsumerLagManager
     implements ConsumerLagManager {
 
-  private final ConsumerGroupManager consumerGroupManager;
   private static final Logger log = LoggerFactory.getLogger(ConsumerLagManagerImpl.class);
 
-  @Inject
   ConsumerLagManagerImpl(Admin kafkaAdminClient, ConsumerGroupManager consumerGroupManager) {
-    super(kafkaAdminClient);
-    this.consumerGroupManager = requireNonNull(consumerGroupManager);
+    this(
+        kafkaAdminClient,
+        consumerGroupManager,
+        ConsumerLagSnapshotService.disabled(kafkaAdminClient));
+  }
+
+  @Inject
+  ConsumerLagManagerImpl(
+      Admin kafkaAdminClient,
+      ConsumerGroupManager consumerGroupManager,
+      ConsumerLagSnapshotService lagSnapshots) {
+    super(kafkaAdminClient, consumerGroupManager, lagSnapshots);
   }
 
   @Override
   public CompletableFuture<List<ConsumerLag>> listConsumerLags(
       String clusterId, String consumerGroupId) {
-    return consumerGroupManager
-        .getConsumerGroup(clusterId, consumerGroupId)
+    return getGroupOffsets(clusterId, consumerGroupId)
         .thenApply(
-            consumerGroup ->
-                checkEntityExists(
-                    consumerGroup, "Consumer Group %s could not be found.", consumerGroupId))
-        .thenCompose(
-            consumerGroup ->
-                getCurrentOffsets(consumerGroupId)
-                    .thenApply(
-                        fetchedCurrentOffsets ->
-                            checkOffsetsExist(
-                                fetchedCurrentOffsets,
-                                "Consumer group offsets could not be found."))
-                    .thenCompose(
-                        fetchedCurrentOffsets ->
-                            getLatestOffsets(fetchedCurrentOffsets)
-                                .thenApply(
-                                    latestOffsets ->
-                                        createConsumerLagList(
-                                            clusterId,
-                                            consumerGroup,
-                                            fetchedCurrentOffsets,
-                                            latestOffsets))));
+            groupOffsets ->
+                createConsumerLagList(
+                    clusterId,
+                    groupOffsets.consumerGroup,
+                    groupOffsets.currentOffsets,
+                    groupOffsets.latestOffsets,
+                    groupOffsets.snapshotAge));
   }
 
   @Override
@@ -94,7 +86,8 @@ final class ConsumerLagManagerImpl extends AbstractConsumerLagManager
       String clusterId,
       ConsumerGroup consumerGroup,
       Map<TopicPartition, OffsetAndMetadata> fetchedCurrentOffsets,
-      Map<TopicPartition, ListOffsetsResultInfo> latestOffsets) {
+      Map<TopicPartition, ListOffsetsResultInfo> latestOffsets,
+      Optional<Duration> snapshotAge) {
     Map<Partition, Consumer> partitionAssignment = consumerGroup.getPartitionAssignment();
     List<ConsumerLag> consumerLags = new ArrayList<>();
     fetchedCurrentOffsets
@@ -124,6 +117,7 @@ final class ConsumerLagManagerImpl extends AbstractConsumerLagManager
                         .setClientId(consumer.map(Consumer::getClientId).orElse(""))
                         .setCurrentOffset(currentOffset.get())
                         .setLogEndOffset(latestOffset.get())
+                        .setSnapshotAge(snapshotAge)
                         .build());
               } else {
                 log.debug(
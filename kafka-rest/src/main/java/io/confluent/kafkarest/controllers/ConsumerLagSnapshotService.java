@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static io.confluent.kafkarest.controllers.AbstractConsumerLagManager.ISOLATION_LEVEL;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import io.confluent.kafkarest.entities.ConsumerGroup;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsSpec;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.GroupState;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.metrics.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically snapshots the committed offsets of all the consumer groups of the local cluster,
+ * and the log-end offsets of all the partitions they committed offsets for, so that {@link
+ * ConsumerLagManagerImpl} and {@link ConsumerGroupLagSummaryManagerImpl} do not have to describe
+ * the group and list its offsets for every request.
+ *
+ * <p>Every {@code refreshInterval}, the groups are listed and described, their committed offsets
+ * are listed in one batched request, and the log-end offsets of the union of their partitions are
+ * listed in one ListOffsets request. Groups that could not be described, or that have no committed
+ * offsets, are left out of the snapshot, and so are snapshots older than {@code maxStaleness}:
+ * requests for them go to the brokers.
+ */
+final class ConsumerLagSnapshotService {
+
+  private static final Logger log = LoggerFactory.getLogger(ConsumerLagSnapshotService.class);
+
+  private static final String GROUP_NAME = "consumer-lag-snapshot-metrics";
+
+  private final Admin adminClient;
+  private final long refreshIntervalNanos;
+  private final long maxStalenessNanos;
+  private final Ticker ticker;
+
+  @Nullable private volatile Snapshot snapshot;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private ScheduledExecutorService executor;
+
+  ConsumerLagSnapshotService(Admin adminClient, Duration refreshInterval, Duration maxStaleness) {
+    this(adminClient, refreshInterval, maxStaleness, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ConsumerLagSnapshotService(
+      Admin adminClient, Duration refreshInterval, Duration maxStaleness, Ticker ticker) {
+    this.adminClient = requireNonNull(adminClient);
+    this.refreshIntervalNanos = refreshInterval.toNanos();
+    this.maxStalenessNanos = maxStaleness.toNanos();
+    this.ticker = requireNonNull(ticker);
+  }
+
+  static ConsumerLagSnapshotService disabled(Admin adminClient) {
+    return new ConsumerLagSnapshotService(adminClient, Duration.ZERO, Duration.ZERO);
+  }
+
+  boolean isEnabled() {
+    return refreshIntervalNanos > 0;
+  }
+
+  /** Starts taking snapshots in the background, if enabled. */
+  synchronized void start() {
+    if (!isEnabled() || executor != null) {
+      return;
+    }
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("Consumer-lag-snapshot-thread-%d")
+                .setDaemon(true)
+                .build());
+    executor.scheduleWithFixedDelay(
+        this::refreshQuietly, 0, refreshIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /**
+   * Returns the consumer group {@code consumerGroupId} of the cluster {@code clusterId} and its
+   * offsets, if they are in the latest snapshot and that snapshot is recent enough to be used.
+   */
+  Optional<GroupOffsets> getGroupOffsets(String clusterId, String consumerGroupId) {
+    Snapshot current = snapshot;
+    long ageNanos = current != null ? ticker.read() - current.takenAtNanos : 0;
+    GroupEntry group =
+        current != null && ageNanos < maxStalenessNanos && current.clusterId.equals(clusterId)
+            ? current.groups.get(consumerGroupId)
+            : null;
+    if (group == null) {
+      misses.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(
+        new GroupOffsets(
+            ConsumerGroup.fromConsumerGroupDescription(clusterId, group.description),
+            group.currentOffsets,
+            current.latestOffsets,
+            Optional.of(Duration.ofNanos(ageNanos))));
+  }
+
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.warn("Could not snapshot the consumer group offsets.", e);
+    }
+  }
+
+  /** Takes a new snapshot. See the class documentation. */
+  @VisibleForTesting
+  void refresh() throws InterruptedException, ExecutionException {
+    long startNanos = ticker.read();
+    String clusterId = adminClient.describeCluster().clusterId().get();
+    List<String> groupIds =
+        adminClient.listConsumerGroups().all().get().stream()
+            .map(ConsumerGroupListing::groupId)
+            .collect(Collectors.toList());
+
+    Map<String, ConsumerGroupDescription> descriptions = describeGroups(groupIds);
+    Map<String, Map<TopicPartition, OffsetAndMetadata>> currentOffsets =
+        listCurrentOffsets(descriptions.keySet());
+
+    Set<TopicPartition> partitions = new HashSet<>();
+    currentOffsets.values().forEach(offsets -> partitions.addAll(offsets.keySet()));
+    Map<TopicPartition, ListOffsetsResultInfo> latestOffsets = listLatestOffsets(partitions);
+
+    ImmutableMap.Builder<String, GroupEntry> groups = ImmutableMap.builder();
+    currentOffsets.forEach(
+        (groupId, offsets) ->
+            groups.put(groupId, new GroupEntry(descriptions.get(groupId), offsets)));
+    snapshot = new Snapshot(clusterId, startNanos, groups.build(), latestOffsets);
+  }
+
+  private Map<String, ConsumerGroupDescription> describeGroups(List<String> groupIds)
+      throws InterruptedException {
+    if (groupIds.isEmpty()) {
+      return ImmutableMap.of();
+    }
+    Map<String, KafkaFuture<ConsumerGroupDescription>> futures =
+        adminClient.describeConsumerGroups(groupIds).describedGroups();
+    Map<String, ConsumerGroupDescription> descriptions = new HashMap<>();
+    for (Map.Entry<String, KafkaFuture<ConsumerGroupDescription>> future : futures.entrySet()) {
+      try {
+        ConsumerGroupDescription description = future.getValue().get();
+        // See ConsumerGroupManagerImpl: groups deleted since they were listed come back as DEAD.
+        if (!description.isSimpleConsumerGroup() || description.groupState() != GroupState.DEAD) {
+          descriptions.put(future.getKey(), description);
+        }
+      } catch (ExecutionException e) {
+        log.debug("Could not describe consumer group {}.", future.getKey(), e.getCause());
+      }
+    }
+    return descriptions;
+  }
+
+  private Map<String, Map<TopicPartition, OffsetAndMetadata>> listCurrentOffsets(
+      Set<String> groupIds) throws InterruptedException {
+    if (groupIds.isEmpty()) {
+      return ImmutableMap.of();
+    }
+    Map<String, ListConsumerGroupOffsetsSpec> specs = new HashMap<>();
+    groupIds.forEach(groupId -> specs.put(groupId, new ListConsumerGroupOffsetsSpec()));
+    ListConsumerGroupOffsetsResult result = adminClient.listConsumerGroupOffsets(specs);
+    Map<String, Map<TopicPartition, OffsetAndMetadata>> currentOffsets = new HashMap<>();
+    for (String groupId : groupIds) {
+      try {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        result
+            .partitionsToOffsetAndMetadata(groupId)
+            .get()
+            .forEach(
+                (partition, offset) -> {
+                  if (offset != null) {
+                    offsets.put(partition, offset);
+                  }
+                });
+        if (!offsets.isEmpty()) {
+          currentOffsets.put(groupId, offsets);
+        }
+      } catch (ExecutionException e) {
+        log.debug("Could not list the offsets of consumer group {}.", groupId, e.getCause());
+      }
+    }
+    return currentOffsets;
+  }
+
+  private Map<TopicPartition, ListOffsetsResultInfo> listLatestOffsets(
+      Set<TopicPartition> partitions) throws InterruptedException {
+    if (partitions.isEmpty()) {
+      return ImmutableMap.of();
+    }
+    Map<TopicPartition, OffsetSpec> specs = new HashMap<>();
+    partitions.forEach(partition -> specs.put(partition, OffsetSpec.latest()));
+    ListOffsetsResult result =
+        adminClient.listOffsets(specs, new ListOffsetsOptions(ISOLATION_LEVEL));
+    Map<TopicPartition, ListOffsetsResultInfo> latestOffsets = new HashMap<>();
+    for (TopicPartition partition : partitions) {
+      try {
+        latestOffsets.put(partition, result.partitionResult(partition).get());
+      } catch (ExecutionException e) {
+        // The lag of this partition is left out, like when its offset is missing for a request.
+        log.debug("Could not list the latest offset of {}.", partition, e.getCause());
+      }
+    }
+    return latestOffsets;
+  }
+
+  /** Registers the hit, miss and snapshot metrics of this service. */
+  MetricsRegistration registerMetrics(Metrics metrics) {
+    MetricsRegistration registration = new MetricsRegistration(metrics, GROUP_NAME);
+    registration.addCounter(
+        "consumer-lag-snapshot-hit-total",
+        "The total number of consumer lag requests served from the snapshot.",
+        hits);
+    registration.addCounter(
+        "consumer-lag-snapshot-miss-total",
+        "The total number of consumer lag requests that had to go to the brokers.",
+        misses);
+    registration.addMetric(
+        "consumer-lag-snapshot-groups",
+        "The number of consumer groups in the latest snapshot.",
+        (config, now) -> {
+          Snapshot current = snapshot;
+          return current != null ? current.groups.size() : 0;
+        });
+    registration.addMetric(
+        "consumer-lag-snapshot-age-ms",
+        "The age of the latest snapshot, in milliseconds, or -1 if none was taken yet.",
+        (config, now) -> {
+          Snapshot current = snapshot;
+          return current != null
+              ? TimeUnit.NANOSECONDS.toMillis(ticker.read() - current.takenAtNanos)
+              : -1;
+        });
+    return registration;
+  }
+
+  /** A consumer group, its committed offsets, and the log-end offsets of its partitions. */
+  static final class GroupOffsets {
+
+    final ConsumerGroup consumerGroup;
+    final Map<TopicPartition, OffsetAndMetadata> currentOffsets;
+    final Map<TopicPartition, ListOffsetsResultInfo> latestOffsets;
+    // How long ago the offsets were snapshotted, or empty if they were just listed.
+    final Optional<Duration> snapshotAge;
+
+    GroupOffsets(
+        ConsumerGroup consumerGroup,
+        Map<TopicPartition, OffsetAndMetadata> currentOffsets,
+        Map<TopicPartition, ListOffsetsResultInfo> latestOffsets,
+        Optional<Duration> snapshotAge) {
+      this.consumerGroup = requireNonNull(consumerGroup);
+      this.currentOffsets = requireNonNull(currentOffsets);
+      this.latestOffsets = requireNonNull(latestOffsets);
+      this.snapshotAge = requireNonNull(snapshotAge);
+    }
+  }
+
+  private static final class GroupEntry {
+
+    private final ConsumerGroupDescription description;
+    private final Map<TopicPartition, OffsetAndMetadata> currentOffsets;
+
+    private GroupEntry(
+        ConsumerGroupDescription description,
+        Map<TopicPartition, OffsetAndMetadata> currentOffsets) {
+      this.description = requireNonNull(description);
+      this.currentOffsets = requireNonNull(currentOffsets);
+    }
+  }
+
+  private static final class Snapshot {
+
+    private final String clusterId;
+    private final long takenAtNanos;
+    private final Map<String, GroupEntry> groups;
+    private final Map<TopicPartition, ListOffsetsResultInfo> latestOffsets;
+
+    private Snapshot(
+        String clusterId,
+        long takenAtNanos,
+        Map<String, GroupEntry> groups,
+        Map<TopicPartition, ListOffsetsResultInfo> latestOffsets) {
+      this.clusterId = requireNonNull(clusterId);
+      this.takenAtNanos = takenAtNanos;
+      this.groups = requireNonNull(groups);
+      this.latestOffsets = requireNonNull(latestOffsets);
+    }
+  }
+}
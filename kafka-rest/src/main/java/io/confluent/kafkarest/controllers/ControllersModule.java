@@ -19,6 +19,8 @@ import static java.util.Objects.requireNonNull;
 
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.kafka.serializers.subject.strategy.SubjectNameStrategy;
+import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.common.MetricsRegistration;
 import io.confluent.kafkarest.config.ConfigModule.AvroSerializerConfigs;
 import io.confluent.kafkarest.config.ConfigModule.JsonschemaSerializerConfigs;
 import io.confluent.kafkarest.config.ConfigModule.NullRequestBodyAlwaysPublishEmptyRecordEnabledConfig;
@@ -27,6 +29,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.kafka.clients.admin.Admin;
 import org.glassfish.hk2.api.Factory;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 
@@ -38,21 +41,28 @@ public final class ControllersModule extends AbstractBinder {
     bind(BrokerConfigManagerImpl.class).to(BrokerConfigManager.class);
     bind(BrokerManagerImpl.class).to(BrokerManager.class);
     bind(ClusterConfigManagerImpl.class).to(ClusterConfigManager.class);
+    bindFactory(ClusterCacheFactory.class).to(ClusterCache.class).in(Singleton.class);
     bind(ClusterManagerImpl.class).to(ClusterManager.class);
     bind(ConsumerAssignmentManagerImpl.class).to(ConsumerAssignmentManager.class);
     bind(ConsumerGroupLagSummaryManagerImpl.class).to(ConsumerGroupLagSummaryManager.class);
     bind(ConsumerGroupManagerImpl.class).to(ConsumerGroupManager.class);
     bind(ConsumerLagManagerImpl.class).to(ConsumerLagManager.class);
+    bindFactory(ConsumerLagSnapshotServiceFactory.class)
+        .to(ConsumerLagSnapshotService.class)
+        .in(Singleton.class);
     bind(ConsumerManagerImpl.class).to(ConsumerManager.class);
     bindAsContract(NoSchemaRecordSerializer.class).in(Singleton.class);
+    bindFactory(OffsetsCacheFactory.class).to(OffsetsCache.class).in(Singleton.class);
     bind(PartitionManagerImpl.class).to(PartitionManager.class);
     bind(ProduceControllerImpl.class).to(ProduceController.class);
     bind(ReassignmentManagerImpl.class).to(ReassignmentManager.class);
     bind(RecordSerializerFacade.class).to(RecordSerializer.class);
     bind(ReplicaManagerImpl.class).to(ReplicaManager.class);
+    bindFactory(SchemaCacheFactory.class).to(SchemaCache.class).in(Singleton.class);
     bindFactory(SchemaManagerFactory.class).to(SchemaManager.class);
     bind(TopicConfigManagerImpl.class).to(TopicConfigManager.class);
     bind(TopicManagerImpl.class).to(TopicManager.class);
+    bindFactory(TopicMetadataCacheFactory.class).to(TopicMetadataCache.class).in(Singleton.class);
     // Singleton declaration makes sense with the assumption that SchemaRegistry is initiated at
     // application start. Revisit behavior in case this guarantee is not met.
     bindFactory(SchemaRecordSerializerFactory.class)
@@ -107,19 +117,23 @@ public final class ControllersModule extends AbstractBinder {
 
     private final Optional<SchemaRegistryClient> schemaRegistryClient;
     private final SubjectNameStrategy defaultSubjectNameStrategy;
+    private final SchemaCache schemaCache;
 
     @Inject
     private SchemaManagerFactory(
         Optional<SchemaRegistryClient> schemaRegistryClient,
-        SubjectNameStrategy defaultSubjectNameStrategy) {
+        SubjectNameStrategy defaultSubjectNameStrategy,
+        SchemaCache schemaCache) {
       this.schemaRegistryClient = requireNonNull(schemaRegistryClient);
       this.defaultSubjectNameStrategy = requireNonNull(defaultSubjectNameStrategy);
+      this.schemaCache = requireNonNull(schemaCache);
     }
 
     @Override
     public SchemaManager provide() {
       if (schemaRegistryClient.isPresent()) {
-        return new SchemaManagerImpl(schemaRegistryClient.get(), defaultSubjectNameStrategy);
+        return new SchemaManagerImpl(
+            schemaRegistryClient.get(), defaultSubjectNameStrategy, schemaCache);
       } else {
         return new SchemaManagerThrowing();
       }
@@ -128,4 +142,157 @@ public final class ControllersModule extends AbstractBinder {
     @Override
     public void dispose(SchemaManager schemaRecordSerializer) {}
   }
+
+  private static final class SchemaCacheFactory implements Factory<SchemaCache> {
+
+    private final KafkaRestConfig config;
+    private MetricsRegistration metricsRegistration = MetricsRegistration.none();
+
+    @Inject
+    private SchemaCacheFactory(KafkaRestConfig config) {
+      this.config = requireNonNull(config);
+    }
+
+    @Override
+    public SchemaCache provide() {
+      SchemaCache schemaCache =
+          new SchemaCache(
+              config.getProduceSchemaCacheMaxSize(),
+              config.getProduceSchemaCacheExpiry(),
+              config.getProduceSchemaCacheLatestRefresh());
+      if (config.getMetrics() != null) {
+        metricsRegistration = schemaCache.registerMetrics(config.getMetrics());
+      }
+      return schemaCache;
+    }
+
+    @Override
+    public void dispose(SchemaCache schemaCache) {
+      metricsRegistration.remove();
+    }
+  }
+
+  private static final class ClusterCacheFactory implements Factory<ClusterCache> {
+
+    private final KafkaRestConfig config;
+    private MetricsRegistration metricsRegistration = MetricsRegistration.none();
+
+    @Inject
+    private ClusterCacheFactory(KafkaRestConfig config) {
+      this.config = requireNonNull(config);
+    }
+
+    @Override
+    public ClusterCache provide() {
+      ClusterCache clusterCache =
+          new ClusterCache(
+              config.getClusterCacheRefresh(),
+              config.getClusterCacheMaxStaleness(),
+              config.isClusterCacheBrokersEnabled());
+      if (config.getMetrics() != null) {
+        metricsRegistration = clusterCache.registerMetrics(config.getMetrics());
+      }
+      return clusterCache;
+    }
+
+    @Override
+    public void dispose(ClusterCache clusterCache) {
+      metricsRegistration.remove();
+    }
+  }
+
+  private static final class TopicMetadataCacheFactory implements Factory<TopicMetadataCache> {
+
+    private final KafkaRestConfig config;
+    private final Admin adminClient;
+    private MetricsRegistration metricsRegistration = MetricsRegistration.none();
+
+    @Inject
+    private TopicMetadataCacheFactory(KafkaRestConfig config, Admin adminClient) {
+      this.config = requireNonNull(config);
+      this.adminClient = requireNonNull(adminClient);
+    }
+
+    @Override
+    public TopicMetadataCache provide() {
+      TopicMetadataCache topicMetadataCache =
+          new TopicMetadataCache(
+              adminClient,
+              config.getTopicMetadataCacheRefresh(),
+              config.getTopicMetadataCacheRefreshMaxTopics());
+      if (topicMetadataCache.isEnabled() && config.getMetrics() != null) {
+        metricsRegistration = topicMetadataCache.registerMetrics(config.getMetrics());
+      }
+      topicMetadataCache.start();
+      return topicMetadataCache;
+    }
+
+    @Override
+    public void dispose(TopicMetadataCache topicMetadataCache) {
+      topicMetadataCache.close();
+      metricsRegistration.remove();
+    }
+  }
+
+  private static final class ConsumerLagSnapshotServiceFactory
+      implements Factory<ConsumerLagSnapshotService> {
+
+    private final KafkaRestConfig config;
+    private final Admin adminClient;
+    private MetricsRegistration metricsRegistration = MetricsRegistration.none();
+
+    @Inject
+    private ConsumerLagSnapshotServiceFactory(KafkaRestConfig config, Admin adminClient) {
+      this.config = requireNonNull(config);
+      this.adminClient = requireNonNull(adminClient);
+    }
+
+    @Override
+    public ConsumerLagSnapshotService provide() {
+      ConsumerLagSnapshotService lagSnapshots =
+          new ConsumerLagSnapshotService(
+              adminClient,
+              config.getConsumerLagSnapshotRefresh(),
+              config.getConsumerLagSnapshotMaxStaleness());
+      if (lagSnapshots.isEnabled() && config.getMetrics() != null) {
+        metricsRegistration = lagSnapshots.registerMetrics(config.getMetrics());
+      }
+      lagSnapshots.start();
+      return lagSnapshots;
+    }
+
+    @Override
+    public void dispose(ConsumerLagSnapshotService lagSnapshots) {
+      lagSnapshots.close();
+      metricsRegistration.remove();
+    }
+  }
+
+  private static final class OffsetsCacheFactory implements Factory<OffsetsCache> {
+
+    private final KafkaRestConfig config;
+    private final Admin adminClient;
+    private MetricsRegistration metricsRegistration = MetricsRegistration.none();
+
+    @Inject
+    private OffsetsCacheFactory(KafkaRestConfig config, Admin adminClient) {
+      this.config = requireNonNull(config);
+      this.adminClient = requireNonNull(adminClient);
+    }
+
+    @Override
+    public OffsetsCache provide() {
+      OffsetsCache offsetsCache =
+          new OffsetsCache(adminClient, config.getPartitionOffsetsCacheTtl());
+      if (config.getMetrics() != null) {
+        metricsRegistration = offsetsCache.registerMetrics(config.getMetrics());
+      }
+      return offsetsCache;
+    }
+
+    @Override
+    public void dispose(OffsetsCache offsetsCache) {
+      metricsRegistration.remove();
+    }
+  }
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.util.Utf8;
+
+/**
+ * Converts JSON data into the Avro objects expected by the Avro serializer.
+ *
+ * <p>{@link AvroSchemaUtils#toObject(JsonNode, AvroSchema)} writes the {@link JsonNode} back out as
+ * text and reads it again through Avro's JSON decoder, walking the schema generically for every
+ * record. Instead, this class compiles a converter once per schema, which walks the {@code
+ * JsonNode} directly. Compiled converters are kept for as long as the schema itself is in use.
+ *
+ * <p>Compiled converters only handle what they can convert exactly like {@code
+ * AvroSchemaUtils#toObject} would. Schemas with logical types or custom string types are not
+ * compiled, and data the compiled converter does not accept as-is (e.g. a record with missing or
+ * unknown fields, or a number that needs coercing) falls back to {@code AvroSchemaUtils#toObject},
+ * so that both the results and the error messages stay the same.
+ */
+final class JsonToAvroConverter {
+
+  private static final NotConvertibleException NOT_CONVERTIBLE = new NotConvertibleException();
+
+  private final LoadingCache<Schema, Optional<Converter>> converters =
+      CacheBuilder.newBuilder()
+          // Schemas are compared by identity, and their converter dropped once no longer used.
+          .weakKeys()
+          .build(CacheLoader.from(JsonToAvroConverter::compile));
+
+  Object toObject(JsonNode data, AvroSchema schema) throws IOException {
+    Schema rawSchema = schema.rawSchema();
+    Optional<Converter> converter = converters.getUnchecked(rawSchema);
+    if (converter.isPresent()) {
+      try {
+        Object result = converter.get().convert(data);
+        return rawSchema.getType() == Schema.Type.STRING ? result.toString() : result;
+      } catch (NotConvertibleException e) {
+        // Let AvroSchemaUtils deal with it, and throw the appropriate error if needed.
+      }
+    }
+    return AvroSchemaUtils.toObject(data, schema);
+  }
+
+  @VisibleForTesting
+  boolean isCompiled(AvroSchema schema) {
+    return converters.getUnchecked(schema.rawSchema()).isPresent();
+  }
+
+  private static Optional<Converter> compile(Schema schema) {
+    if (schema.getType() == Schema.Type.NULL) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new Compiler().compile(schema));
+    } catch (NotConvertibleException e) {
+      return Optional.empty();
+    }
+  }
+
+  private interface Converter {
+
+    Object convert(JsonNode node);
+  }
+
+  private static final class Compiler {
+
+    // Converters already compiled, or being compiled, for this schema. Needed for recursive
+    // schemas, where a record references itself.
+    private final Map<Schema, Converter> compiled = new IdentityHashMap<>();
+
+    private Converter compile(Schema schema) {
+      if (schema.getLogicalType() != null || schema.getProp(GenericData.STRING_PROP) != null) {
+        throw NOT_CONVERTIBLE;
+      }
+      Converter converter = compiled.get(schema);
+      if (converter != null) {
+        return converter;
+      }
+      switch (schema.getType()) {
+        case RECORD:
+          return compileRecord(schema);
+        case ENUM:
+          return node -> {
+            if (!node.isTextual() || !schema.hasEnumSymbol(node.textValue())) {
+              throw NOT_CONVERTIBLE;
+            }
+            return new GenericData.EnumSymbol(schema, node.textValue());
+          };
+        case ARRAY:
+          return compileArray(schema);
+        case MAP:
+          return compileMap(schema);
+        case UNION:
+          return compileUnion(schema);
+        case FIXED:
+          return node -> {
+            byte[] bytes = toBytes(node);
+            if (bytes.length != schema.getFixedSize()) {
+              throw NOT_CONVERTIBLE;
+            }
+            return new GenericData.Fixed(schema, bytes);
+          };
+        case STRING:
+          return node -> {
+            if (!node.isTextual()) {
+              throw NOT_CONVERTIBLE;
+            }
+            return new Utf8(node.textValue());
+          };
+        case BYTES:
+          return node -> ByteBuffer.wrap(toBytes(node));
+        case INT:
+          return node -> {
+            if (!node.isInt()) {
+              throw NOT_CONVERTIBLE;
+            }
+            return node.intValue();
+          };
+        case LONG:
+          return node -> {
+            if (!node.isInt() && !node.isLong()) {
+              throw NOT_CONVERTIBLE;
+            }
+            return node.longValue();
+          };
+        case FLOAT:
+          return node -> (float) toDouble(node);
+        case DOUBLE:
+          return JsonToAvroConverter::toDouble;
+        case BOOLEAN:
+          return node -> {
+            if (!node.isBoolean()) {
+              throw NOT_CONVERTIBLE;
+            }
+            return node.booleanValue();
+          };
+        case NULL:
+          return node -> {
+            if (!node.isNull()) {
+              throw NOT_CONVERTIBLE;
+            }
+            return null;
+          };
+        default:
+          throw NOT_CONVERTIBLE;
+      }
+    }
+
+    private Converter compileRecord(Schema schema) {
+      List<Schema.Field> fields = schema.getFields();
+      String[] names = new String[fields.size()];
+      Converter[] fieldConverters = new Converter[fields.size()];
+      Converter converter =
+          node -> {
+            // Missing fields (which might have defaults) and unknown fields are left to the
+            // Avro decoder.
+            if (!node.isObject() || node.size() != names.length) {
+              throw NOT_CONVERTIBLE;
+            }
+            GenericData.Record record = new GenericData.Record(schema);
+            for (int i = 0; i < names.length; i++) {
+              JsonNode value = node.get(names[i]);
+              if (value == null) {
+                throw NOT_CONVERTIBLE;
+              }
+              record.put(i, fieldConverters[i].convert(value));
+            }
+            return record;
+          };
+      compiled.put(schema, converter);
+      for (Schema.Field field : fields) {
+        names[field.pos()] = field.name();
+        fieldConverters[field.pos()] = compile(field.schema());
+      }
+      return converter;
+    }
+
+    private Converter compileArray(Schema schema) {
+      Converter elementConverter = compile(schema.getElementType());
+      return node -> {
+        if (!node.isArray()) {
+          throw NOT_CONVERTIBLE;
+        }
+        GenericData.Array<Object> array = new GenericData.Array<>(node.size(), schema);
+        for (JsonNode element : node) {
+          array.add(elementConverter.convert(element));
+        }
+        return array;
+      };
+    }
+
+    private Converter compileMap(Schema schema) {
+      Converter valueConverter = compile(schema.getValueType());
+      return node -> {
+        if (!node.isObject()) {
+          throw NOT_CONVERTIBLE;
+        }
+        Map<Object, Object> map = new HashMap<>(node.size());
+        Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+        while (entries.hasNext()) {
+          Map.Entry<String, JsonNode> entry = entries.next();
+          map.put(new Utf8(entry.getKey()), valueConverter.convert(entry.getValue()));
+        }
+        return map;
+      };
+    }
+
+    private Converter compileUnion(Schema schema) {
+      // Non-null union values are written as {"<branch name>": value} in Avro's JSON encoding.
+      Map<String, Converter> branches = new HashMap<>();
+      boolean nullable = false;
+      for (Schema branch : schema.getTypes()) {
+        if (branch.getType() == Schema.Type.NULL) {
+          nullable = true;
+        } else {
+          branches.put(branch.getFullName(), compile(branch));
+        }
+      }
+      boolean acceptsNull = nullable;
+      return node -> {
+        if (node.isNull()) {
+          if (!acceptsNull) {
+            throw NOT_CONVERTIBLE;
+          }
+          return null;
+        }
+        if (!node.isObject() || node.size() != 1) {
+          throw NOT_CONVERTIBLE;
+        }
+        Map.Entry<String, JsonNode> entry = node.fields().next();
+        Converter branch = branches.get(entry.getKey());
+        if (branch == null) {
+          throw NOT_CONVERTIBLE;
+        }
+        return branch.convert(entry.getValue());
+      };
+    }
+  }
+
+  private static byte[] toBytes(JsonNode node) {
+    // Avro's JSON encoding represents bytes as ISO-8859-1 strings.
+    if (!node.isTextual()) {
+      throw NOT_CONVERTIBLE;
+    }
+    return node.textValue().getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  private static double toDouble(JsonNode node) {
+    if (!node.isInt() && !node.isLong() && !node.isDouble()) {
+      throw NOT_CONVERTIBLE;
+    }
+    return node.doubleValue();
+  }
+
+  private static final class NotConvertibleException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private NotConvertibleException() {
+      super(null, null, /* enableSuppression= */ false, /* writableStackTrace= */ false);
+    }
+  }
+}
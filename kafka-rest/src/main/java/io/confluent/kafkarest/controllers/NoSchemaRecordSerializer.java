@@ -18,24 +18,36 @@ package io.confluent.kafkarest.controllers;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.google.common.io.BaseEncoding;
 import com.google.protobuf.ByteString;
 import io.confluent.kafka.serializers.KafkaJsonSerializer;
 import io.confluent.kafka.serializers.KafkaJsonSerializerConfig;
+import io.confluent.kafkarest.common.ByteStrings;
 import io.confluent.kafkarest.config.ConfigModule.JsonSerializerConfigs;
 import io.confluent.kafkarest.entities.EmbeddedFormat;
 import io.confluent.kafkarest.exceptions.BadRequestException;
 import jakarta.inject.Inject;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
 
 final class NoSchemaRecordSerializer {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private final JsonSerializer jsonSerializer;
+  private final boolean indentOutput;
 
   @Inject
   NoSchemaRecordSerializer(@JsonSerializerConfigs Map<String, Object> jsonSerializerConfigs) {
     jsonSerializer = new JsonSerializer(jsonSerializerConfigs);
+    indentOutput =
+        new KafkaJsonSerializerConfig(jsonSerializerConfigs)
+            .getBoolean(KafkaJsonSerializerConfig.JSON_INDENT_OUTPUT);
   }
 
   Optional<ByteString> serialize(EmbeddedFormat format, JsonNode data) {
@@ -61,6 +73,10 @@ final class NoSchemaRecordSerializer {
   }
 
   private static ByteString serializeBinary(JsonNode data) {
+    if (data.isBinary()) {
+      // Already decoded while reading the request.
+      return ByteStrings.wrap(((BinaryNode) data).binaryValue());
+    }
     if (!data.isTextual()) {
       throw new BadRequestException(String.format("data=%s is not a base64 string.", data));
     }
@@ -71,11 +87,28 @@ final class NoSchemaRecordSerializer {
       throw new BadRequestException(
           String.format("data=%s is not a valid base64 string.", data), e);
     }
-    return ByteString.copyFrom(serialized);
+    return ByteStrings.wrap(serialized);
   }
 
   private ByteString serializeJson(JsonNode data) {
-    return ByteString.copyFrom(jsonSerializer.serialize(data));
+    if (data.isPojo() && ((POJONode) data).getPojo() instanceof RawValue) {
+      // Already serialized while reading the request.
+      Object raw = ((RawValue) ((POJONode) data).getPojo()).rawValue();
+      if (raw instanceof String) {
+        return indentOutput
+            ? ByteStrings.wrap(jsonSerializer.serialize(readTree((String) raw)))
+            : ByteString.copyFromUtf8((String) raw);
+      }
+    }
+    return ByteStrings.wrap(jsonSerializer.serialize(data));
+  }
+
+  private static JsonNode readTree(String json) {
+    try {
+      return OBJECT_MAPPER.readTree(json);
+    } catch (IOException e) {
+      throw new BadRequestException(String.format("data=%s is not valid JSON.", json), e);
+    }
   }
 
   private static final class JsonSerializer extends KafkaJsonSerializer<JsonNode> {
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import io.confluent.kafkarest.common.KafkaFutures;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.metrics.Metrics;
+
+/**
+ * A short-lived cache of the earliest and latest offsets of partitions, looked up by {@link
+ * PartitionManagerImpl}, that coalesces concurrent lookups of the same partitions.
+ *
+ * <p>Each lookup only asks the brokers for the partitions that have neither an offset younger than
+ * {@code ttl}, nor a lookup in flight, in a single ListOffsets request. Lookups of partitions that
+ * are already in flight share the in-flight result. Failed lookups are not cached, and offsets
+ * that have expired are dropped at most every {@code ttl}, on the next lookup.
+ */
+final class OffsetsCache {
+
+  private static final String GROUP_NAME = "partition-offsets-cache-metrics";
+
+  /** The offset to look up. */
+  enum Position {
+    EARLIEST,
+    LATEST;
+
+    private OffsetSpec toOffsetSpec() {
+      return this == EARLIEST ? OffsetSpec.earliest() : OffsetSpec.latest();
+    }
+  }
+
+  private final Admin adminClient;
+  private final boolean enabled;
+  private final long ttlNanos;
+  private final Ticker ticker;
+
+  private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong lastPurgeNanos;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder savedCalls = new LongAdder();
+
+  OffsetsCache(Admin adminClient, Duration ttl) {
+    this(adminClient, ttl, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  OffsetsCache(Admin adminClient, Duration ttl, Ticker ticker) {
+    this.adminClient = requireNonNull(adminClient);
+    this.enabled = !ttl.isZero();
+    this.ttlNanos = ttl.toNanos();
+    this.ticker = requireNonNull(ticker);
+    this.lastPurgeNanos = new AtomicLong(ticker.read());
+  }
+
+  static OffsetsCache disabled(Admin adminClient) {
+    return new OffsetsCache(adminClient, Duration.ZERO);
+  }
+
+  /** Returns the offset at {@code position} of each of {@code partitions}. */
+  Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> listOffsets(
+      List<TopicPartition> partitions, Position position) {
+    if (!enabled) {
+      ListOffsetsResult result = listOffsetsFromBrokers(partitions, position);
+      Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> offsets = new HashMap<>();
+      for (TopicPartition partition : partitions) {
+        offsets.put(partition, KafkaFutures.toCompletableFuture(result.partitionResult(partition)));
+      }
+      return offsets;
+    }
+
+    long now = ticker.read();
+    purgeExpired(now);
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> offsets = new HashMap<>();
+    Map<TopicPartition, Entry> toList = new HashMap<>();
+    for (TopicPartition partition : partitions) {
+      Entry created = new Entry();
+      Entry entry =
+          entries.compute(
+              Key.create(partition, position),
+              (key, existing) ->
+                  existing != null && !existing.isExpired(now) ? existing : created);
+      if (entry == created) {
+        toList.put(partition, entry);
+      }
+      offsets.put(partition, entry.offset);
+    }
+    hits.add(partitions.size() - toList.size());
+    misses.add(toList.size());
+    if (toList.isEmpty()) {
+      savedCalls.increment();
+      return offsets;
+    }
+
+    ListOffsetsResult result;
+    try {
+      result = listOffsetsFromBrokers(ImmutableList.copyOf(toList.keySet()), position);
+    } catch (RuntimeException e) {
+      toList.forEach((partition, entry) -> fail(Key.create(partition, position), entry, e));
+      return offsets;
+    }
+    toList.forEach(
+        (partition, entry) ->
+            KafkaFutures.toCompletableFuture(result.partitionResult(partition))
+                .whenComplete(
+                    (offset, error) -> {
+                      if (error == null) {
+                        entry.expiresAtNanos = ticker.read() + ttlNanos;
+                        entry.completed = true;
+                        entry.offset.complete(offset);
+                      } else {
+                        fail(Key.create(partition, position), entry, error);
+                      }
+                    }));
+    return offsets;
+  }
+
+  /**
+   * Drops the expired offsets, if they haven't been dropped for {@code ttl}, so that the offsets of
+   * partitions that are no longer looked up, e.g. of deleted topics, don't stay around.
+   */
+  private void purgeExpired(long now) {
+    long lastPurge = lastPurgeNanos.get();
+    if (now - lastPurge >= ttlNanos && lastPurgeNanos.compareAndSet(lastPurge, now)) {
+      // Only removes the entries that are still mapped to the expired entry.
+      entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  private ListOffsetsResult listOffsetsFromBrokers(
+      List<TopicPartition> partitions, Position position) {
+    Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+    for (TopicPartition partition : partitions) {
+      request.put(partition, position.toOffsetSpec());
+    }
+    return adminClient.listOffsets(request, new ListOffsetsOptions());
+  }
+
+  private void fail(Key key, Entry entry, Throwable error) {
+    entries.remove(key, entry);
+    entry.offset.completeExceptionally(
+        error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error);
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  long missCount() {
+    return misses.sum();
+  }
+
+  long savedCallCount() {
+    return savedCalls.sum();
+  }
+
+  /** Registers the hit, miss and saved calls metrics of this cache. */
+  MetricsRegistration registerMetrics(Metrics metrics) {
+    MetricsRegistration registration = new MetricsRegistration(metrics, GROUP_NAME);
+    registration.addCounter(
+        "partition-offsets-cache-hit-total",
+        "The total number of partition offsets served from the cache or from a lookup "
+            + "already in flight.",
+        hits);
+    registration.addCounter(
+        "partition-offsets-cache-miss-total",
+        "The total number of partition offsets that had to be looked up from the brokers.",
+        misses);
+    registration.addCounter(
+        "partition-offsets-cache-saved-calls-total",
+        "The total number of ListOffsets calls to the brokers saved, because all the offsets "
+            + "they would have looked up were served from the cache or from lookups already "
+            + "in flight.",
+        savedCalls);
+    return registration;
+  }
+
+  @AutoValue
+  abstract static class Key {
+
+    Key() {}
+
+    abstract TopicPartition getPartition();
+
+    abstract Position getPosition();
+
+    static Key create(TopicPartition partition, Position position) {
+      return new AutoValue_OffsetsCache_Key(partition, position);
+    }
+  }
+
+  private static final class Entry {
+
+    private final CompletableFuture<ListOffsetsResultInfo> offset = new CompletableFuture<>();
+    private volatile long expiresAtNanos;
+    // Entries in flight never expire.
+    private volatile boolean completed;
+
+    private boolean isExpired(long now) {
+      return completed && now - expiresAtNanos >= 0;
+    }
+  }
+}
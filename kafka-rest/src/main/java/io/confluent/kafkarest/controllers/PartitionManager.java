@@ -15,10 +15,17 @@
 
 package io.confluent.kafkarest.controllers;
 
+import io.confluent.kafkarest.common.CompletableFutures;
 import io.confluent.kafkarest.entities.Partition;
+import jakarta.ws.rs.NotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 /** A service to manage Kafka {@link Partition Partitions}. */
 public interface PartitionManager {
@@ -47,6 +54,37 @@ public interface PartitionManager {
   CompletableFuture<Optional<Partition>> getPartitionAllowMissing(
       String clusterId, String topicName, int partitionId);
 
+  /**
+   * Returns the list of Kafka {@link Partition Partitions} belonging to the {@link
+   * io.confluent.kafkarest.entities.Topic Topics} with the given {@code topicNames}, looked up in a
+   * single request and without their offsets. Topics that do not exist are left out.
+   *
+   * <p>By default, lists the partitions of each topic with {@link #listPartitions(String, String)}
+   * instead, with their offsets.
+   */
+  default CompletableFuture<List<Partition>> listPartitionsAllowMissing(
+      String clusterId, Collection<String> topicNames) {
+    List<CompletableFuture<List<Partition>>> partitions = new ArrayList<>();
+    for (String topicName : topicNames) {
+      partitions.add(
+          listPartitions(clusterId, topicName)
+              .handle(
+                  (topicPartitions, error) -> {
+                    if (error == null) {
+                      return topicPartitions;
+                    }
+                    Throwable cause =
+                        error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof NotFoundException) {
+                      return Collections.<Partition>emptyList();
+                    }
+                    throw new CompletionException(cause);
+                  }));
+    }
+    return CompletableFutures.allAsList(partitions)
+        .thenApply(lists -> lists.stream().flatMap(List::stream).collect(Collectors.toList()));
+  }
+
   /**
    * Returns the Kafka {@link Partition} with the given {@code partitionId}, belonging to the {@link
    * io.confluent.kafkarest.entities.Cluster} that this application is connected to.
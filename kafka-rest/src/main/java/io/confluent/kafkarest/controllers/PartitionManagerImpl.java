@@ -23,23 +23,21 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import com.google.common.collect.ImmutableList;
 import io.confluent.kafkarest.common.CompletableFutures;
-import io.confluent.kafkarest.common.KafkaFutures;
 import io.confluent.kafkarest.entities.Partition;
 import io.confluent.kafkarest.entities.Topic;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.NotFoundException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.ListOffsetsOptions;
-import org.apache.kafka.clients.admin.ListOffsetsResult;
 import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
-import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.slf4j.Logger;
@@ -47,15 +45,19 @@ import org.slf4j.LoggerFactory;
 
 final class PartitionManagerImpl implements PartitionManager {
 
-  private final Admin adminClient;
   private final TopicManager topicManager;
+  private final OffsetsCache offsetsCache;
 
   private static final Logger log = LoggerFactory.getLogger(PartitionManagerImpl.class);
 
-  @Inject
   PartitionManagerImpl(Admin adminClient, TopicManager topicManager) {
-    this.adminClient = requireNonNull(adminClient);
+    this(topicManager, OffsetsCache.disabled(adminClient));
+  }
+
+  @Inject
+  PartitionManagerImpl(TopicManager topicManager, OffsetsCache offsetsCache) {
     this.topicManager = requireNonNull(topicManager);
+    this.offsetsCache = requireNonNull(offsetsCache);
   }
 
   @Override
@@ -107,6 +109,18 @@ final class PartitionManagerImpl implements PartitionManager {
             });
   }
 
+  @Override
+  public CompletableFuture<List<Partition>> listPartitionsAllowMissing(
+      String clusterId, Collection<String> topicNames) {
+    return topicManager
+        .listTopicsAllowMissing(clusterId, topicNames)
+        .thenApply(
+            topics ->
+                topics.stream()
+                    .flatMap(topic -> topic.getPartitions().stream())
+                    .collect(Collectors.toList()));
+  }
+
   @Override
   public CompletableFuture<Optional<Partition>> getPartitionAllowMissing(
       String clusterId, String topicName, int partitionId) {
@@ -139,17 +153,21 @@ final class PartitionManagerImpl implements PartitionManager {
       return completedFuture(emptyList());
     }
 
-    ListOffsetsResult earliestResponse = listOffsets(partitions, OffsetSpec.earliest());
-    ListOffsetsResult latestResponse = listOffsets(partitions, OffsetSpec.latest());
+    List<TopicPartition> topicPartitions = new ArrayList<>();
+    for (Partition partition : partitions) {
+      topicPartitions.add(toTopicPartition(partition));
+    }
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> earliestResponse =
+        offsetsCache.listOffsets(topicPartitions, OffsetsCache.Position.EARLIEST);
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> latestResponse =
+        offsetsCache.listOffsets(topicPartitions, OffsetsCache.Position.LATEST);
 
     List<CompletableFuture<Partition>> partitionsWithOffsets = new ArrayList<>();
     for (Partition partition : partitions) {
       CompletableFuture<ListOffsetsResultInfo> earliestFuture =
-          KafkaFutures.toCompletableFuture(
-              earliestResponse.partitionResult(toTopicPartition(partition)));
+          earliestResponse.get(toTopicPartition(partition));
       CompletableFuture<ListOffsetsResultInfo> latestFuture =
-          KafkaFutures.toCompletableFuture(
-              latestResponse.partitionResult(toTopicPartition(partition)));
+          latestResponse.get(toTopicPartition(partition));
 
       CompletableFuture<Partition> partitionWithOffset =
           earliestFuture.thenCombine(
@@ -169,14 +187,6 @@ final class PartitionManagerImpl implements PartitionManager {
     return CompletableFutures.allAsList(partitionsWithOffsets);
   }
 
-  private ListOffsetsResult listOffsets(List<Partition> partitions, OffsetSpec offsetSpec) {
-    HashMap<TopicPartition, OffsetSpec> request = new HashMap<>();
-    for (Partition partition : partitions) {
-      request.put(toTopicPartition(partition), offsetSpec);
-    }
-    return adminClient.listOffsets(request, new ListOffsetsOptions());
-  }
-
   private static TopicPartition toTopicPartition(Partition partition) {
     return new TopicPartition(partition.getTopicName(), partition.getPartitionId());
   }
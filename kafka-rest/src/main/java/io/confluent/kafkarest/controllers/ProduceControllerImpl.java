@@ -19,6 +19,8 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.Multimap;
 import com.google.protobuf.ByteString;
+import io.confluent.kafkarest.backends.kafka.ProducerPool;
+import io.confluent.kafkarest.common.ByteStrings;
 import io.confluent.kafkarest.entities.ProduceResult;
 import jakarta.inject.Inject;
 import java.time.Instant;
@@ -36,10 +38,16 @@ final class ProduceControllerImpl implements ProduceController {
   private static final Logger log = LoggerFactory.getLogger(ProduceController.class);
 
   private final Producer<byte[], byte[]> producer;
+  private final ProducerPool producerPool;
 
-  @Inject
   ProduceControllerImpl(Producer<byte[], byte[]> producer) {
+    this(producer, ProducerPool.single());
+  }
+
+  @Inject
+  ProduceControllerImpl(Producer<byte[], byte[]> producer, ProducerPool producerPool) {
     this.producer = requireNonNull(producer);
+    this.producerPool = requireNonNull(producerPool);
   }
 
   @Override
@@ -53,19 +61,21 @@ final class ProduceControllerImpl implements ProduceController {
       Instant timestamp) {
     CompletableFuture<ProduceResult> result = new CompletableFuture<>();
     log.debug("Producing to kafka");
-    producer.send(
+    Producer<byte[], byte[]> selected =
+        producerPool.select(producer, clusterId, topicName, partitionId);
+    selected.send(
         new ProducerRecord<>(
             topicName,
             partitionId.orElse(null),
             timestamp.toEpochMilli(),
-            key.map(ByteString::toByteArray).orElse(null),
-            value.map(ByteString::toByteArray).orElse(null),
+            key.map(ByteStrings::toByteArray).orElse(null),
+            value.map(ByteStrings::toByteArray).orElse(null),
             headers.entries().stream()
                 .map(
                     header ->
                         new RecordHeader(
                             header.getKey(),
-                            header.getValue().map(ByteString::toByteArray).orElse(null)))
+                            header.getValue().map(ByteStrings::toByteArray).orElse(null)))
                 .collect(Collectors.toList())),
         (metadata, exception) -> {
           if (exception != null) {
@@ -17,22 +17,23 @@ package io.confluent.kafkarest.controllers;
 
 import static io.confluent.kafkarest.controllers.Entities.checkEntityExists;
 import static io.confluent.kafkarest.controllers.Entities.findEntityByKey;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.ImmutableList;
-import io.confluent.kafkarest.common.CompletableFutures;
 import io.confluent.kafkarest.common.KafkaFutures;
 import io.confluent.kafkarest.entities.Partition;
 import io.confluent.kafkarest.entities.PartitionReplica;
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeLogDirsOptions;
 import org.apache.kafka.clients.admin.DescribeLogDirsResult;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,15 +76,6 @@ final class ReplicaManagerImpl implements ReplicaManager {
         .thenApply(replicas -> findEntityByKey(replicas, PartitionReplica::getBrokerId, brokerId));
   }
 
-  // Gets a partition-replica but returns an empty Optional if the entities do not exist
-  CompletableFuture<Optional<PartitionReplica>> getReplicaAllowMissing(
-      String clusterId, String topicName, int partitionId, int brokerId) {
-    return partitionManager
-        .getPartitionAllowMissing(clusterId, topicName, partitionId)
-        .thenApply(partition -> partition.map(Partition::getReplicas).orElse(ImmutableList.of()))
-        .thenApply(replicas -> findEntityByKey(replicas, PartitionReplica::getBrokerId, brokerId));
-  }
-
   @Override
   public CompletableFuture<List<PartitionReplica>> searchReplicasByBrokerId(
       String clusterId, int brokerId) {
@@ -100,20 +92,35 @@ final class ReplicaManagerImpl implements ReplicaManager {
         .thenCompose(
             logDirs -> {
               log.debug("Describe log dirs {} ", logDirs);
-              return CompletableFutures.allAsList(
+              Set<TopicPartition> hostedPartitions =
                   logDirs.values().stream()
                       .flatMap(logDir -> logDir.replicaInfos().keySet().stream())
-                      .map(
-                          partition ->
-                              getReplicaAllowMissing(
-                                  clusterId, partition.topic(), partition.partition(), brokerId))
-                      .collect(Collectors.toList()));
-            })
-        .thenApply(
-            replicas ->
-                replicas.stream()
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .collect(Collectors.toList()));
+                      .collect(Collectors.toSet());
+              if (hostedPartitions.isEmpty()) {
+                return CompletableFuture.completedFuture(emptyList());
+              }
+              // Describe all the hosted topics at once, rather than each hosted partition.
+              Set<String> topicNames =
+                  hostedPartitions.stream().map(TopicPartition::topic).collect(Collectors.toSet());
+              return partitionManager
+                  .listPartitionsAllowMissing(clusterId, topicNames)
+                  .thenApply(
+                      partitions ->
+                          partitions.stream()
+                              .filter(
+                                  partition ->
+                                      hostedPartitions.contains(
+                                          new TopicPartition(
+                                              partition.getTopicName(),
+                                              partition.getPartitionId())))
+                              .map(
+                                  partition ->
+                                      findEntityByKey(
+                                          partition.getReplicas(),
+                                          PartitionReplica::getBrokerId,
+                                          brokerId))
+                              .flatMap(Optional::stream)
+                              .collect(Collectors.toList()));
+            });
   }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.confluent.kafka.serializers.subject.strategy.SubjectNameStrategy;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import io.confluent.kafkarest.entities.RegisteredSchema;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.kafka.common.metrics.Metrics;
+
+/**
+ * A cache of the schemas resolved by {@link SchemaManagerImpl}, keyed by the schema arguments of
+ * the produce request, so that producing with a schema does not need to talk to Schema Registry or
+ * parse the schema for every record.
+ *
+ * <p>Schemas looked up by id, version or raw schema don't change once registered, so they are kept
+ * for up to {@code expiry}. Schemas resolved as the latest version of a subject are only kept for
+ * {@code latestRefreshInterval}, after which the latest version is looked up again.
+ */
+final class SchemaCache {
+
+  private static final String GROUP_NAME = "schema-cache-metrics";
+
+  private final boolean enabled;
+  private final Cache<Key, RegisteredSchema> schemas;
+  private final Cache<Key, RegisteredSchema> latestSchemas;
+
+  SchemaCache(int maxSize, Duration expiry, Duration latestRefreshInterval) {
+    this(maxSize, expiry, latestRefreshInterval, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  SchemaCache(int maxSize, Duration expiry, Duration latestRefreshInterval, Ticker ticker) {
+    this.enabled = maxSize > 0;
+    this.schemas =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expiry)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    this.latestSchemas =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(latestRefreshInterval)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  static SchemaCache disabled() {
+    return new SchemaCache(/* maxSize= */ 0, Duration.ZERO, Duration.ZERO);
+  }
+
+  /**
+   * Returns the schema cached for {@code key}, or resolves and caches it using {@code resolver}.
+   * Failures to resolve the schema are not cached.
+   */
+  RegisteredSchema get(Key key, Supplier<RegisteredSchema> resolver) {
+    return getOrResolve(schemas, key, resolver);
+  }
+
+  /** Like {@link #get(Key, Supplier)}, but for schemas resolved as the latest of a subject. */
+  RegisteredSchema getLatest(Key key, Supplier<RegisteredSchema> resolver) {
+    return getOrResolve(latestSchemas, key, resolver);
+  }
+
+  private RegisteredSchema getOrResolve(
+      Cache<Key, RegisteredSchema> cache, Key key, Supplier<RegisteredSchema> resolver) {
+    if (!enabled) {
+      return resolver.get();
+    }
+    // Not using Cache#get(K, Callable), as it would wrap the exceptions thrown by the resolver.
+    // Concurrent misses for the same key might resolve the schema more than once, which is fine.
+    RegisteredSchema schema = cache.getIfPresent(key);
+    if (schema == null) {
+      schema = resolver.get();
+      cache.put(key, schema);
+    }
+    return schema;
+  }
+
+  CacheStats stats() {
+    return schemas.stats().plus(latestSchemas.stats());
+  }
+
+  long size() {
+    return schemas.size() + latestSchemas.size();
+  }
+
+  /** Registers the hit, miss, eviction and size metrics of this cache. */
+  MetricsRegistration registerMetrics(Metrics metrics) {
+    MetricsRegistration registration = new MetricsRegistration(metrics, GROUP_NAME);
+    registration.addMetric(
+        "schema-cache-hit-total",
+        "The total number of schema lookups served from the cache.",
+        (config, now) -> stats().hitCount());
+    registration.addMetric(
+        "schema-cache-miss-total",
+        "The total number of schema lookups that had to go to Schema Registry.",
+        (config, now) -> stats().missCount());
+    registration.addMetric(
+        "schema-cache-eviction-total",
+        "The total number of schemas evicted from the cache, because of size or expiry.",
+        (config, now) -> stats().evictionCount());
+    registration.addMetric(
+        "schema-cache-size",
+        "The number of schemas currently in the cache.",
+        (config, now) -> size());
+    return registration;
+  }
+
+  /** The arguments a schema was requested with. See {@link SchemaManager#getSchema}. */
+  @AutoValue
+  abstract static class Key {
+
+    Key() {}
+
+    abstract String getTopicName();
+
+    abstract boolean isKey();
+
+    abstract Optional<EmbeddedFormat> getFormat();
+
+    abstract Optional<String> getSubject();
+
+    abstract Optional<SubjectNameStrategy> getSubjectNameStrategy();
+
+    abstract Optional<Integer> getSchemaId();
+
+    abstract Optional<Integer> getSchemaVersion();
+
+    abstract Optional<String> getRawSchema();
+
+    static Key create(
+        String topicName,
+        boolean isKey,
+        Optional<EmbeddedFormat> format,
+        Optional<String> subject,
+        Optional<SubjectNameStrategy> subjectNameStrategy,
+        Optional<Integer> schemaId,
+        Optional<Integer> schemaVersion,
+        Optional<String> rawSchema) {
+      return new AutoValue_SchemaCache_Key(
+          topicName,
+          isKey,
+          format,
+          subject,
+          subjectNameStrategy,
+          schemaId,
+          schemaVersion,
+          rawSchema);
+    }
+  }
+}
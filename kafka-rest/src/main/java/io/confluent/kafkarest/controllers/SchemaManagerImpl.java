@@ -40,11 +40,20 @@ import org.apache.avro.SchemaParseException;
 final class SchemaManagerImpl implements SchemaManager {
   private final SchemaRegistryClient schemaRegistryClient;
   private final SubjectNameStrategy defaultSubjectNameStrategy;
+  private final SchemaCache schemaCache;
 
   SchemaManagerImpl(
       SchemaRegistryClient schemaRegistryClient, SubjectNameStrategy defaultSubjectNameStrategy) {
+    this(schemaRegistryClient, defaultSubjectNameStrategy, SchemaCache.disabled());
+  }
+
+  SchemaManagerImpl(
+      SchemaRegistryClient schemaRegistryClient,
+      SubjectNameStrategy defaultSubjectNameStrategy,
+      SchemaCache schemaCache) {
     this.schemaRegistryClient = requireNonNull(schemaRegistryClient);
     this.defaultSubjectNameStrategy = requireNonNull(defaultSubjectNameStrategy);
+    this.schemaCache = requireNonNull(schemaCache);
   }
 
   @Override
@@ -57,33 +66,54 @@ final class SchemaManagerImpl implements SchemaManager {
       Optional<Integer> schemaVersion,
       Optional<String> rawSchema,
       boolean isKey) {
-    // (subject|subjectNameStrategy)?, schemaId
+    SchemaCache.Key key =
+        SchemaCache.Key.create(
+            topicName,
+            isKey,
+            format,
+            subject,
+            subjectNameStrategy,
+            schemaId,
+            schemaVersion,
+            rawSchema);
 
+    // (subject|subjectNameStrategy)?, schemaId
     if (schemaId.isPresent()) {
       checkArgumentWrapper(!format.isPresent());
       checkArgumentWrapper(!schemaVersion.isPresent());
       checkArgumentWrapper(!rawSchema.isPresent());
-      return getSchemaFromSchemaId(topicName, subject, subjectNameStrategy, schemaId.get(), isKey);
+      return schemaCache.get(
+          key,
+          () ->
+              getSchemaFromSchemaId(
+                  topicName, subject, subjectNameStrategy, schemaId.get(), isKey));
     }
 
     // (subject|subjectNameStrategy)?, schemaVersion
     if (schemaVersion.isPresent()) {
       checkArgumentWrapper(!format.isPresent());
       checkArgumentWrapper(!rawSchema.isPresent());
-      return getSchemaFromSchemaVersion(
-          topicName, subject, subjectNameStrategy, schemaVersion.get(), isKey);
+      return schemaCache.get(
+          key,
+          () ->
+              getSchemaFromSchemaVersion(
+                  topicName, subject, subjectNameStrategy, schemaVersion.get(), isKey));
     }
 
     // format, (subject|subjectNameStrategy)?, rawSchema
     if (rawSchema.isPresent()) {
       checkArgumentWrapper(format.isPresent());
-      return getSchemaFromRawSchema(
-          topicName, format.get(), subject, subjectNameStrategy, rawSchema.get(), isKey);
+      return schemaCache.get(
+          key,
+          () ->
+              getSchemaFromRawSchema(
+                  topicName, format.get(), subject, subjectNameStrategy, rawSchema.get(), isKey));
     }
 
     // (subject|subjectNameStrategy)?
     checkArgumentWrapper(!format.isPresent());
-    return findLatestSchema(topicName, subject, subjectNameStrategy, isKey);
+    return schemaCache.getLatest(
+        key, () -> findLatestSchema(topicName, subject, subjectNameStrategy, isKey));
   }
 
   private RegisteredSchema getSchemaFromSchemaId(
@@ -16,10 +16,14 @@
 package io.confluent.kafkarest.controllers;
 
 import io.confluent.kafkarest.entities.Topic;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /** A service to manage Kafka {@link Topic Topics}. */
 public interface TopicManager {
@@ -39,6 +43,18 @@ public interface TopicManager {
    */
   CompletableFuture<List<Topic>> listTopics(String clusterId, boolean includeAuthorizedOperations);
 
+  /**
+   * Returns the names of the Kafka {@link Topic Topics} belonging to the {@link
+   * io.confluent.kafkarest.entities.Cluster} with the given {@code clusterId}, in lexicographic
+   * order. Unlike {@link #listTopics(String)}, does not describe the topics, unless left to the
+   * default implementation, which takes the names from {@link #listTopics(String)}.
+   */
+  default CompletableFuture<List<String>> listTopicNames(String clusterId) {
+    return listTopics(clusterId)
+        .thenApply(
+            topics -> topics.stream().map(Topic::getName).sorted().collect(Collectors.toList()));
+  }
+
   /**
    * Returns the list of Kafka {@link Topic Topics} belonging to the {@link
    * io.confluent.kafkarest.entities.Cluster} that this application is connected to.
@@ -57,6 +73,24 @@ public interface TopicManager {
   CompletableFuture<Optional<Topic>> getTopic(
       String clusterId, String topicName, boolean includeAuthorizedOperations);
 
+  /**
+   * Returns the Kafka {@link Topic Topics} with the given {@code topicNames}, described in a single
+   * request. Topics that do not exist are left out.
+   *
+   * <p>By default, picks the topics out of {@link #listTopics(String)}, which describes all the
+   * topics.
+   */
+  default CompletableFuture<List<Topic>> listTopicsAllowMissing(
+      String clusterId, Collection<String> topicNames) {
+    Set<String> names = new HashSet<>(topicNames);
+    return listTopics(clusterId)
+        .thenApply(
+            topics ->
+                topics.stream()
+                    .filter(topic -> names.contains(topic.getName()))
+                    .collect(Collectors.toList()));
+  }
+
   /**
    * Returns the Kafka {@link Topic} with the given {@code topicName}, belonging to the {@link
    * io.confluent.kafkarest.entities.Cluster} that this application is connected to.
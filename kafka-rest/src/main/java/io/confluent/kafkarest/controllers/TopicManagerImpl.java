@@ -15,12 +15,15 @@
 
 package io.confluent.kafkarest.controllers;
 
+import static io.confluent.kafkarest.common.CompletableFutures.catchingCompose;
 import static io.confluent.kafkarest.controllers.Entities.checkEntityExists;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.ImmutableList;
+import io.confluent.kafkarest.common.CompletableFutures;
 import io.confluent.kafkarest.common.KafkaFutures;
 import io.confluent.kafkarest.entities.Acl;
 import io.confluent.kafkarest.entities.Partition;
@@ -28,6 +31,7 @@ import io.confluent.kafkarest.entities.PartitionReplica;
 import io.confluent.kafkarest.entities.Topic;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,16 +52,24 @@ import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
 final class TopicManagerImpl implements TopicManager {
 
   private final Admin adminClient;
   private final ClusterManager clusterManager;
+  private final TopicMetadataCache topicMetadataCache;
 
-  @Inject
   TopicManagerImpl(Admin adminClient, ClusterManager clusterManager) {
+    this(adminClient, clusterManager, TopicMetadataCache.disabled(adminClient));
+  }
+
+  @Inject
+  TopicManagerImpl(
+      Admin adminClient, ClusterManager clusterManager, TopicMetadataCache topicMetadataCache) {
     this.adminClient = requireNonNull(adminClient);
     this.clusterManager = requireNonNull(clusterManager);
+    this.topicMetadataCache = requireNonNull(topicMetadataCache);
   }
 
   @Override
@@ -66,8 +78,40 @@ final class TopicManagerImpl implements TopicManager {
     return clusterManager
         .getCluster(clusterId)
         .thenApply(cluster -> checkEntityExists(cluster, "Cluster %s cannot be found.", clusterId))
-        .thenCompose(
-            cluster -> KafkaFutures.toCompletableFuture(adminClient.listTopics().listings()))
+        .thenCompose(cluster -> listAllTopics(clusterId, includeAuthorizedOperations));
+  }
+
+  @Override
+  public CompletableFuture<List<String>> listTopicNames(String clusterId) {
+    return clusterManager
+        .getCluster(clusterId)
+        .thenApply(cluster -> checkEntityExists(cluster, "Cluster %s cannot be found.", clusterId))
+        .thenCompose(cluster -> KafkaFutures.toCompletableFuture(adminClient.listTopics().names()))
+        .thenApply(
+            topicNames -> {
+              if (topicNames == null) {
+                return emptyList();
+              }
+              return topicNames.stream().sorted().collect(Collectors.toList());
+            });
+  }
+
+  @Override
+  public CompletableFuture<List<Topic>> listLocalTopics() {
+    return clusterManager
+        .getLocalCluster()
+        .thenCompose(cluster -> listAllTopics(cluster.getClusterId(), false));
+  }
+
+  private CompletableFuture<List<Topic>> listAllTopics(
+      String clusterId, boolean includeAuthorizedOperations) {
+    if (!includeAuthorizedOperations && topicMetadataCache.isEnabled()) {
+      Optional<List<TopicDescription>> cached = topicMetadataCache.listTopics();
+      if (cached.isPresent()) {
+        return CompletableFuture.completedFuture(toTopics(clusterId, cached.get()));
+      }
+    }
+    return KafkaFutures.toCompletableFuture(adminClient.listTopics().listings())
         .thenCompose(
             topicListings -> {
               if (topicListings == null) {
@@ -80,27 +124,6 @@ final class TopicManagerImpl implements TopicManager {
             });
   }
 
-  @Override
-  public CompletableFuture<List<Topic>> listLocalTopics() {
-    return clusterManager
-        .getLocalCluster()
-        .thenCompose(
-            cluster ->
-                KafkaFutures.toCompletableFuture(adminClient.listTopics().listings())
-                    .thenCompose(
-                        topicListings -> {
-                          if (topicListings == null) {
-                            return CompletableFuture.completedFuture(emptyList());
-                          }
-                          return describeTopics(
-                              cluster.getClusterId(),
-                              topicListings.stream()
-                                  .map(TopicListing::name)
-                                  .collect(Collectors.toList()),
-                              false);
-                        }));
-  }
-
   @Override
   public CompletableFuture<Optional<Topic>> getTopic(
       String clusterId, String topicName, boolean includeAuthorizedOperations) {
@@ -148,8 +171,63 @@ final class TopicManagerImpl implements TopicManager {
             });
   }
 
+  @Override
+  public CompletableFuture<List<Topic>> listTopicsAllowMissing(
+      String clusterId, Collection<String> topicNames) {
+    return clusterManager
+        .getCluster(clusterId)
+        .thenApply(cluster -> checkEntityExists(cluster, "Cluster %s cannot be found.", clusterId))
+        .thenCompose(
+            cluster -> describeTopicsAllowMissing(clusterId, ImmutableList.copyOf(topicNames)));
+  }
+
+  private CompletableFuture<List<Topic>> describeTopicsAllowMissing(
+      String clusterId, List<String> topicNames) {
+    if (topicNames.isEmpty()) {
+      return CompletableFuture.completedFuture(emptyList());
+    }
+    if (topicMetadataCache.isEnabled()) {
+      // The view fails the whole lookup if any of the topics does not exist. Only then are the
+      // topics described again, skipping the missing ones.
+      return catchingCompose(
+          topicMetadataCache
+              .describeTopics(topicNames)
+              .thenApply(topics -> toTopics(clusterId, topics)),
+          UnknownTopicOrPartitionException.class,
+          error -> describeExistingTopics(clusterId, topicNames));
+    }
+    return describeExistingTopics(clusterId, topicNames);
+  }
+
+  private CompletableFuture<List<Topic>> describeExistingTopics(
+      String clusterId, List<String> topicNames) {
+    Map<String, KafkaFuture<TopicDescription>> descriptions =
+        adminClient
+            .describeTopics(
+                topicNames, new DescribeTopicsOptions().includeAuthorizedOperations(false))
+            .topicNameValues();
+    List<CompletableFuture<Optional<Topic>>> topics = new ArrayList<>();
+    for (KafkaFuture<TopicDescription> description : descriptions.values()) {
+      topics.add(
+          catchingCompose(
+              KafkaFutures.toCompletableFuture(description)
+                  .thenApply(topicDescription -> Optional.of(toTopic(clusterId, topicDescription))),
+              UnknownTopicOrPartitionException.class,
+              error -> CompletableFuture.completedFuture(Optional.empty())));
+    }
+    return CompletableFutures.allAsList(topics)
+        .thenApply(
+            described ->
+                described.stream().flatMap(Optional::stream).collect(Collectors.toList()));
+  }
+
   private CompletableFuture<List<Topic>> describeTopics(
       String clusterId, List<String> topicNames, boolean includeAuthorizedOperations) {
+    if (!includeAuthorizedOperations && topicMetadataCache.isEnabled()) {
+      return topicMetadataCache
+          .describeTopics(topicNames)
+          .thenApply(topics -> toTopics(clusterId, topics));
+    }
     return KafkaFutures.toCompletableFuture(
             adminClient
                 .describeTopics(
@@ -164,6 +242,12 @@ final class TopicManagerImpl implements TopicManager {
                     .collect(Collectors.toList()));
   }
 
+  private static List<Topic> toTopics(String clusterId, List<TopicDescription> descriptions) {
+    return descriptions.stream()
+        .map(topicDescription -> toTopic(clusterId, topicDescription))
+        .collect(Collectors.toList());
+  }
+
   private static Topic toTopic(String clusterId, TopicDescription topicDescription) {
     return Topic.create(
         clusterId,
@@ -251,7 +335,13 @@ final class TopicManagerImpl implements TopicManager {
                     createTopicRequest,
                     partitionsCount,
                     replicationFactor,
-                    validateOnly));
+                    validateOnly))
+        .whenComplete(
+            (topic, error) -> {
+              if (!validateOnly) {
+                topicMetadataCache.invalidate(topicName);
+              }
+            });
   }
 
   private CompletableFuture<Topic> createTopicInternal(
@@ -330,7 +420,8 @@ final class TopicManagerImpl implements TopicManager {
         .thenCompose(
             cluster ->
                 KafkaFutures.toCompletableFuture(
-                    adminClient.deleteTopics(singletonList(topicName)).all()));
+                    adminClient.deleteTopics(singletonList(topicName)).all()))
+        .whenComplete((unused, error) -> topicMetadataCache.invalidate(topicName));
   }
 
   @Override
@@ -338,6 +429,7 @@ final class TopicManagerImpl implements TopicManager {
       String topicName, Integer partitionsCount) {
     Map<String, NewPartitions> newPartitionsMap =
         Collections.singletonMap(topicName, NewPartitions.increaseTo(partitionsCount));
-    return KafkaFutures.toCompletableFuture(adminClient.createPartitions(newPartitionsMap).all());
+    return KafkaFutures.toCompletableFuture(adminClient.createPartitions(newPartitionsMap).all())
+        .whenComplete((unused, error) -> topicMetadataCache.invalidate(topicName));
   }
 }
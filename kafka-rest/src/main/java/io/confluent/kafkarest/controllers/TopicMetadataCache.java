@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.confluent.kafkarest.common.KafkaFutures;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.metrics.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory view of the descriptions of the topics of the local cluster, shared by {@link
+ * TopicManagerImpl} and, through it, {@link PartitionManagerImpl} and {@link ReplicaManagerImpl}.
+ *
+ * <p>The view is refreshed incrementally in the background every {@code refreshInterval}: the topic
+ * names are listed, including the internal ones, deleted topics are dropped, new topics are
+ * described, and {@code maxRefreshTopics} of the longest-unrefreshed known topics are described
+ * again, to pick up changes to their partitions, leaders and in-sync replicas. On clusters with
+ * more than {@link #MAX_REFRESHES_BETWEEN_DESCRIBES} times {@code maxRefreshTopics} topics, more
+ * topics are described again, so that the view of a topic is never more than that many refresh
+ * intervals old. Topics are described in chunks of at most {@code maxRefreshTopics}, so that no
+ * single request to the brokers grows with the cluster.
+ *
+ * <p>Creating or deleting a topic through this server invalidates the view of that topic, and of
+ * the topic listing until the next complete refresh. If the view could not be refreshed for {@link
+ * #MAX_MISSED_REFRESHES} refresh intervals, it is not used at all, and requests go to the brokers.
+ *
+ * <p>Topic descriptions are cached without the authorized operations, which depend on the caller.
+ */
+final class TopicMetadataCache {
+
+  private static final Logger log = LoggerFactory.getLogger(TopicMetadataCache.class);
+
+  private static final String GROUP_NAME = "topic-metadata-cache-metrics";
+
+  @VisibleForTesting static final int MAX_MISSED_REFRESHES = 3;
+
+  @VisibleForTesting static final int MAX_REFRESHES_BETWEEN_DESCRIBES = 10;
+
+  private final Admin adminClient;
+  private final long refreshIntervalNanos;
+  private final int maxRefreshTopics;
+  private final Ticker ticker;
+
+  private final ConcurrentHashMap<String, Entry> topics = new ConcurrentHashMap<>();
+
+  // Bumped by every invalidation. Descriptions requested before an invalidation are not cached,
+  // since they might predate the create or delete that caused it.
+  private final AtomicLong generation = new AtomicLong();
+  // The number of refreshes started, used to order the topics by how long ago they were described.
+  private final AtomicLong refreshes = new AtomicLong();
+
+  // The generation and start time of the last refresh that completed with no invalidation in
+  // between, that is, the last refresh after which the cached topics were all the topics.
+  private volatile long listedGeneration = -1;
+  private volatile long listedAtNanos;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private ScheduledExecutorService executor;
+
+  TopicMetadataCache(Admin adminClient, Duration refreshInterval, int maxRefreshTopics) {
+    this(adminClient, refreshInterval, maxRefreshTopics, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  TopicMetadataCache(
+      Admin adminClient, Duration refreshInterval, int maxRefreshTopics, Ticker ticker) {
+    this.adminClient = requireNonNull(adminClient);
+    this.refreshIntervalNanos = refreshInterval.toNanos();
+    this.maxRefreshTopics = maxRefreshTopics;
+    this.ticker = requireNonNull(ticker);
+  }
+
+  static TopicMetadataCache disabled(Admin adminClient) {
+    return new TopicMetadataCache(adminClient, Duration.ZERO, /* maxRefreshTopics= */ 1);
+  }
+
+  boolean isEnabled() {
+    return refreshIntervalNanos > 0;
+  }
+
+  /** Starts refreshing the view in the background, if enabled. */
+  synchronized void start() {
+    if (!isEnabled() || executor != null) {
+      return;
+    }
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("Topic-metadata-refresh-thread-%d")
+                .setDaemon(true)
+                .build());
+    executor.scheduleWithFixedDelay(
+        this::refreshQuietly, 0, refreshIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /**
+   * Returns the descriptions of all the non-internal topics, if the view is complete and recent
+   * enough to be used.
+   */
+  Optional<List<TopicDescription>> listTopics() {
+    if (!isListingFresh()) {
+      misses.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(
+        topics.values().stream()
+            .map(entry -> entry.description)
+            .filter(description -> !description.isInternal())
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Returns the descriptions of {@code topicNames}, from the view if it is recent enough to be
+   * used, describing and caching the topics missing from it. Like {@link
+   * org.apache.kafka.clients.admin.DescribeTopicsResult#allTopicNames()}, fails if any of the
+   * topics does not exist.
+   */
+  CompletableFuture<List<TopicDescription>> describeTopics(List<String> topicNames) {
+    boolean fresh = isFresh();
+    List<TopicDescription> cached = new ArrayList<>(topicNames.size());
+    List<String> missing = new ArrayList<>();
+    for (String topicName : topicNames) {
+      Entry entry = fresh ? topics.get(topicName) : null;
+      if (entry != null) {
+        cached.add(entry.description);
+      } else {
+        missing.add(topicName);
+      }
+    }
+    hits.add(cached.size());
+    misses.add(missing.size());
+    if (missing.isEmpty()) {
+      return CompletableFuture.completedFuture(cached);
+    }
+
+    long describedGeneration = generation.get();
+    long describedRefresh = refreshes.get();
+    return KafkaFutures.toCompletableFuture(
+            adminClient
+                .describeTopics(
+                    missing, new DescribeTopicsOptions().includeAuthorizedOperations(false))
+                .allTopicNames())
+        .thenApply(
+            described -> {
+              described.values().forEach(d -> put(d, describedGeneration, describedRefresh));
+              return ImmutableList.<TopicDescription>builder()
+                  .addAll(cached)
+                  .addAll(described.values())
+                  .build();
+            });
+  }
+
+  /** Drops the view of {@code topicName}, and of the topic listing until the next refresh. */
+  void invalidate(String topicName) {
+    generation.incrementAndGet();
+    topics.remove(topicName);
+  }
+
+  private void put(TopicDescription description, long describedGeneration, long describedRefresh) {
+    if (!isEnabled()) {
+      return;
+    }
+    topics.put(description.name(), new Entry(description, describedRefresh));
+    // If the topic was invalidated while it was being described, the description might be from
+    // before the invalidation, so drop it again. The next refresh or lookup describes it anew.
+    if (generation.get() != describedGeneration) {
+      topics.remove(description.name());
+    }
+  }
+
+  private boolean isFresh() {
+    return isEnabled()
+        && listedGeneration >= 0
+        && ticker.read() - listedAtNanos < MAX_MISSED_REFRESHES * refreshIntervalNanos;
+  }
+
+  private boolean isListingFresh() {
+    return isFresh() && listedGeneration == generation.get();
+  }
+
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.warn("Could not refresh the topic metadata cache.", e);
+    }
+  }
+
+  /** Refreshes the view once. See the class documentation. */
+  @VisibleForTesting
+  void refresh() throws InterruptedException, ExecutionException {
+    long startNanos = ticker.read();
+    long startGeneration = generation.get();
+    long refresh = refreshes.incrementAndGet();
+
+    // Internal topics are listed too, so that the ones looked up by name stay in the view.
+    Set<String> topicNames =
+        adminClient.listTopics(new ListTopicsOptions().listInternal(true)).names().get();
+    topics.keySet().retainAll(topicNames);
+
+    List<String> toDescribe = new ArrayList<>();
+    for (String topicName : topicNames) {
+      if (!topics.containsKey(topicName)) {
+        toDescribe.add(topicName);
+      }
+    }
+    int refreshTopics =
+        Math.max(
+            maxRefreshTopics,
+            (topics.size() + MAX_REFRESHES_BETWEEN_DESCRIBES - 1)
+                / MAX_REFRESHES_BETWEEN_DESCRIBES);
+    topics.entrySet().stream()
+        .sorted((left, right) -> Long.compare(left.getValue().refresh, right.getValue().refresh))
+        .limit(refreshTopics)
+        .map(Map.Entry::getKey)
+        .forEach(toDescribe::add);
+
+    boolean complete = true;
+    for (List<String> chunk : Iterables.partition(toDescribe, maxRefreshTopics)) {
+      complete &= describeChunk(chunk, startGeneration, refresh);
+    }
+
+    if (complete && generation.get() == startGeneration) {
+      listedAtNanos = startNanos;
+      listedGeneration = startGeneration;
+    }
+  }
+
+  /** Describes and caches {@code topicNames}, and returns whether all of them were described. */
+  private boolean describeChunk(List<String> topicNames, long describedGeneration, long refresh)
+      throws InterruptedException {
+    Map<String, KafkaFuture<TopicDescription>> futures =
+        adminClient
+            .describeTopics(
+                topicNames, new DescribeTopicsOptions().includeAuthorizedOperations(false))
+            .topicNameValues();
+    boolean complete = true;
+    Map<String, TopicDescription> described = new HashMap<>();
+    for (Map.Entry<String, KafkaFuture<TopicDescription>> future : futures.entrySet()) {
+      try {
+        described.put(future.getKey(), future.getValue().get());
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+          // Deleted since it was listed.
+          topics.remove(future.getKey());
+        } else {
+          log.debug("Could not describe topic {}.", future.getKey(), e.getCause());
+          complete = false;
+        }
+      }
+    }
+    described.values().forEach(d -> put(d, describedGeneration, refresh));
+    return complete;
+  }
+
+  /** Registers the hit, miss and size metrics of this cache. */
+  MetricsRegistration registerMetrics(Metrics metrics) {
+    MetricsRegistration registration = new MetricsRegistration(metrics, GROUP_NAME);
+    registration.addCounter(
+        "topic-metadata-cache-hit-total",
+        "The total number of topic descriptions served from the cache.",
+        hits);
+    registration.addCounter(
+        "topic-metadata-cache-miss-total",
+        "The total number of topic descriptions that had to be requested from the brokers.",
+        misses);
+    registration.addMetric(
+        "topic-metadata-cache-size",
+        "The number of topics currently in the cache.",
+        (config, now) -> topics.size());
+    return registration;
+  }
+
+  private static final class Entry {
+
+    private final TopicDescription description;
+    private final long refresh;
+
+    private Entry(TopicDescription description, long refresh) {
+      this.description = requireNonNull(description);
+      this.refresh = refresh;
+    }
+  }
+}
@@ -15,20 +15,55 @@
 
 package io.confluent.kafkarest.converters;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.avro.generic.GenericContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Provides conversion of JSON to/from Avro. */
+/**
+ * Provides conversion of JSON to/from Avro.
+ *
+ * <p>By default, Avro data is encoded to JSON by {@link AvroSchemaUtils#toJson(Object)} and
+ * parsed back into a {@link JsonNode} tree, which is then serialized once more into the response.
+ * In direct mode, records and other Avro containers are instead walked by {@link AvroJsonWriter},
+ * and the JSON is kept in a raw value node (see {@link JsonNodeFactory#rawValueNode(RawValue)})
+ * that is copied verbatim into the response. The size is the exact number of bytes of that JSON,
+ * as before.
+ */
 public final class AvroConverter implements SchemaConverter {
 
   private static final Logger log = LoggerFactory.getLogger(AvroConverter.class);
 
   private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
 
+  // Generates JSON the same way Avro's JsonEncoder does.
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final boolean direct;
+
+  public AvroConverter() {
+    this(/* direct= */ false);
+  }
+
+  /**
+   * @param direct whether Avro data is written straight to JSON, without an intermediate {@link
+   *     JsonNode} tree
+   */
+  public AvroConverter(boolean direct) {
+    this.direct = direct;
+  }
+
   /**
    * Converts Avro data (including primitive types) to their equivalent JsonNode representation.
    *
@@ -38,7 +73,20 @@ public final class AvroConverter implements SchemaConverter {
    */
   @Override
   public JsonNodeAndSize toJson(Object value) {
+    if (value == null) {
+      return new JsonNodeAndSize(NullNode.getInstance(), 0);
+    }
     try {
+      if (direct) {
+        byte[] bytes = writeDirect(value);
+        if (bytes == null) {
+          bytes = AvroSchemaUtils.toJson(value);
+        }
+        return new JsonNodeAndSize(
+            JsonNodeFactory.instance.rawValueNode(
+                new RawValue(new String(bytes, StandardCharsets.UTF_8))),
+            bytes.length);
+      }
       byte[] bytes = AvroSchemaUtils.toJson(value);
       if (bytes == null) {
         return new JsonNodeAndSize(NullNode.getInstance(), 0);
@@ -55,4 +103,26 @@ public final class AvroConverter implements SchemaConverter {
       throw new ConversionException("Failed to convert Avro to JSON: " + e.getMessage());
     }
   }
+
+  /**
+   * Returns the JSON for {@code value} written by {@link AvroJsonWriter}, or {@code null} if it is
+   * not an Avro container, or holds data the writer does not handle.
+   */
+  @Nullable
+  private static byte[] writeDirect(Object value) throws IOException {
+    if (!(value instanceof GenericContainer)) {
+      // Primitives are cheap to convert either way.
+      return null;
+    }
+    ByteArrayBuilder out = new ByteArrayBuilder(JSON_FACTORY._getBufferRecycler());
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      AvroJsonWriter.write(generator, value, ((GenericContainer) value).getSchema());
+    } catch (RuntimeException e) {
+      log.debug("Falling back to Avro's JSON encoder: ", e);
+      return null;
+    }
+    byte[] bytes = out.toByteArray();
+    out.release();
+    return bytes;
+  }
 }
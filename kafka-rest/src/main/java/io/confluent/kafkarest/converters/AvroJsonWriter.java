@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.converters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+
+/**
+ * Writes Avro data as JSON tokens, producing the same JSON as Avro's {@code JsonEncoder} (which
+ * {@code AvroSchemaUtils.toJson} uses) without going through its grammar-driven encoder.
+ *
+ * <p>Datums of unexpected types (e.g. from logical type conversions) cause a {@link
+ * RuntimeException}, after which callers should fall back to {@code AvroSchemaUtils.toJson}.
+ */
+final class AvroJsonWriter {
+
+  private AvroJsonWriter() {}
+
+  static void write(JsonGenerator generator, Object datum, Schema schema) throws IOException {
+    switch (schema.getType()) {
+      case RECORD:
+        IndexedRecord record = (IndexedRecord) datum;
+        generator.writeStartObject();
+        for (Schema.Field field : schema.getFields()) {
+          generator.writeFieldName(field.name());
+          write(generator, record.get(field.pos()), field.schema());
+        }
+        generator.writeEndObject();
+        break;
+
+      case ENUM:
+      case STRING:
+        generator.writeString(datum.toString());
+        break;
+
+      case ARRAY:
+        generator.writeStartArray();
+        for (Object element : (Collection<?>) datum) {
+          write(generator, element, schema.getElementType());
+        }
+        generator.writeEndArray();
+        break;
+
+      case MAP:
+        generator.writeStartObject();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) datum).entrySet()) {
+          generator.writeFieldName(entry.getKey().toString());
+          write(generator, entry.getValue(), schema.getValueType());
+        }
+        generator.writeEndObject();
+        break;
+
+      case UNION:
+        Schema branch = schema.getTypes().get(GenericData.get().resolveUnion(schema, datum));
+        if (branch.getType() == Schema.Type.NULL) {
+          generator.writeNull();
+        } else {
+          generator.writeStartObject();
+          generator.writeFieldName(branch.getFullName());
+          write(generator, datum, branch);
+          generator.writeEndObject();
+        }
+        break;
+
+      case FIXED:
+        writeBytes(generator, ((GenericFixed) datum).bytes());
+        break;
+
+      case BYTES:
+        if (datum instanceof byte[]) {
+          writeBytes(generator, (byte[]) datum);
+        } else {
+          ByteBuffer buffer = ((ByteBuffer) datum).duplicate();
+          byte[] bytes = new byte[buffer.remaining()];
+          buffer.get(bytes);
+          writeBytes(generator, bytes);
+        }
+        break;
+
+      case INT:
+        generator.writeNumber(((Number) datum).intValue());
+        break;
+
+      case LONG:
+        generator.writeNumber(((Number) datum).longValue());
+        break;
+
+      case FLOAT:
+        // JsonEncoder widens floats to doubles before writing them.
+        generator.writeNumber(((Number) datum).floatValue() + 0d);
+        break;
+
+      case DOUBLE:
+        generator.writeNumber(((Number) datum).doubleValue());
+        break;
+
+      case BOOLEAN:
+        generator.writeBoolean((Boolean) datum);
+        break;
+
+      case NULL:
+        generator.writeNull();
+        break;
+
+      default:
+        throw new IllegalArgumentException("Unknown Avro type: " + schema.getType());
+    }
+  }
+
+  /** Bytes are written as strings with one character per byte, like JsonEncoder does. */
+  private static void writeBytes(JsonGenerator generator, byte[] bytes) throws IOException {
+    generator.writeString(new String(bytes, StandardCharsets.ISO_8859_1));
+  }
+}
@@ -16,6 +16,7 @@
 package io.confluent.kafkarest.entities;
 
 import com.google.auto.value.AutoValue;
+import java.time.Duration;
 import java.util.Optional;
 
 @AutoValue
@@ -41,6 +42,9 @@ public abstract class ConsumerGroupLagSummary {
 
   public abstract Long getTotalLag();
 
+  /** How long ago the offsets were snapshotted, or empty if they were listed for this request. */
+  public abstract Optional<Duration> getSnapshotAge();
+
   public static Builder builder() {
     return new AutoValue_ConsumerGroupLagSummary.Builder();
   }
@@ -94,6 +98,8 @@ public abstract class ConsumerGroupLagSummary {
 
     public abstract Builder setTotalLag(Long totalLag);
 
+    public abstract Builder setSnapshotAge(Optional<Duration> snapshotAge);
+
     public abstract ConsumerGroupLagSummary build();
   }
 }
@@ -18,6 +18,7 @@ package io.confluent.kafkarest.entities;
 import static java.lang.Math.max;
 
 import com.google.auto.value.AutoValue;
+import java.time.Duration;
 import java.util.Optional;
 
 @AutoValue
@@ -43,6 +44,9 @@ public abstract class ConsumerLag {
 
   public abstract Long getLogEndOffset();
 
+  /** How long ago the offsets were snapshotted, or empty if they were listed for this request. */
+  public abstract Optional<Duration> getSnapshotAge();
+
   public final Long getLag() {
     return max(0, getLogEndOffset() - getCurrentOffset());
   }
@@ -74,6 +78,8 @@ public abstract class ConsumerLag {
 
     public abstract Builder setLogEndOffset(Long logEndOffset);
 
+    public abstract Builder setSnapshotAge(Optional<Duration> snapshotAge);
+
     public abstract ConsumerLag build();
   }
 }
@@ -16,10 +16,13 @@
 package io.confluent.kafkarest.entities.v3;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.auto.value.AutoValue;
 import io.confluent.kafkarest.entities.ConsumerGroupLagSummary;
 import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.util.Optional;
 
 @AutoValue
@@ -60,6 +63,10 @@ public abstract class ConsumerGroupLagSummaryData extends Resource {
   @JsonProperty("max_lag_partition")
   public abstract Relationship getMaxLagPartition();
 
+  @JsonProperty("snapshot_age_ms")
+  @JsonInclude(Include.NON_ABSENT)
+  public abstract Optional<Long> getSnapshotAgeMs();
+
   public static Builder builder() {
     return new AutoValue_ConsumerGroupLagSummaryData.Builder()
         .setKind("KafkaConsumerGroupLagSummary");
@@ -76,7 +83,9 @@ public abstract class ConsumerGroupLagSummaryData extends Resource {
         .setMaxLagClientId(consumerGroupLagSummary.getMaxLagClientId())
         .setMaxLagInstanceId(consumerGroupLagSummary.getMaxLagInstanceId().orElse(null))
         .setMaxLagTopicName(consumerGroupLagSummary.getMaxLagTopicName())
-        .setMaxLagPartitionId(consumerGroupLagSummary.getMaxLagPartitionId());
+        .setMaxLagPartitionId(consumerGroupLagSummary.getMaxLagPartitionId())
+        .setSnapshotAgeMs(
+            consumerGroupLagSummary.getSnapshotAge().map(Duration::toMillis).orElse(null));
   }
 
   // CHECKSTYLE:OFF:ParameterNumber
@@ -94,7 +103,8 @@ public abstract class ConsumerGroupLagSummaryData extends Resource {
       @JsonProperty("max_lag_instance_id") @Nullable String maxLagInstanceId,
       @JsonProperty("max_lag_topic_name") String maxLagTopicName,
       @JsonProperty("max_lag_partition_id") Integer maxLagPartitionId,
-      @JsonProperty("max_lag_partition") Relationship maxLagPartition) {
+      @JsonProperty("max_lag_partition") Relationship maxLagPartition,
+      @JsonProperty("snapshot_age_ms") @Nullable Long snapshotAgeMs) {
     return builder()
         .setKind(kind)
         .setMetadata(metadata)
@@ -109,6 +119,7 @@ public abstract class ConsumerGroupLagSummaryData extends Resource {
         .setMaxLagTopicName(maxLagTopicName)
         .setMaxLagPartitionId(maxLagPartitionId)
         .setMaxLagPartition(maxLagPartition)
+        .setSnapshotAgeMs(snapshotAgeMs)
         .build();
   }
   // CHECKSTYLE:ON:ParameterNumber
@@ -140,6 +151,8 @@ public abstract class ConsumerGroupLagSummaryData extends Resource {
 
     public abstract Builder setMaxLagPartition(Relationship maxLagPartition);
 
+    public abstract Builder setSnapshotAgeMs(@Nullable Long snapshotAgeMs);
+
     public abstract ConsumerGroupLagSummaryData build();
   }
 }
@@ -16,10 +16,13 @@
 package io.confluent.kafkarest.entities.v3;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.auto.value.AutoValue;
 import io.confluent.kafkarest.entities.ConsumerLag;
 import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.util.Optional;
 
 @AutoValue
@@ -57,6 +60,10 @@ public abstract class ConsumerLagData extends Resource {
   @JsonProperty("lag")
   public abstract Long getLag();
 
+  @JsonProperty("snapshot_age_ms")
+  @JsonInclude(Include.NON_ABSENT)
+  public abstract Optional<Long> getSnapshotAgeMs();
+
   public static Builder builder() {
     return new AutoValue_ConsumerLagData.Builder().setKind("KafkaConsumerLag");
   }
@@ -72,7 +79,8 @@ public abstract class ConsumerLagData extends Resource {
         .setClientId(consumerLag.getClientId())
         .setCurrentOffset(consumerLag.getCurrentOffset())
         .setLogEndOffset(consumerLag.getLogEndOffset())
-        .setLag(consumerLag.getLag());
+        .setLag(consumerLag.getLag())
+        .setSnapshotAgeMs(consumerLag.getSnapshotAge().map(Duration::toMillis).orElse(null));
   }
 
   // CHECKSTYLE:OFF:ParameterNumber
@@ -89,7 +97,8 @@ public abstract class ConsumerLagData extends Resource {
       @JsonProperty("client_id") String clientId,
       @JsonProperty("current_offset") Long currentOffset,
       @JsonProperty("log_end_offset") Long logEndOffset,
-      @JsonProperty("lag") Long lag) {
+      @JsonProperty("lag") Long lag,
+      @JsonProperty("snapshot_age_ms") @Nullable Long snapshotAgeMs) {
     return builder()
         .setKind(kind)
         .setMetadata(metadata)
@@ -103,6 +112,7 @@ public abstract class ConsumerLagData extends Resource {
         .setCurrentOffset(currentOffset)
         .setLogEndOffset(logEndOffset)
         .setLag(lag)
+        .setSnapshotAgeMs(snapshotAgeMs)
         .build();
   }
   // CHECKSTYLE:ON:ParameterNumber
@@ -132,6 +142,8 @@ public abstract class ConsumerLagData extends Resource {
 
     public abstract Builder setLag(Long lag);
 
+    public abstract Builder setSnapshotAgeMs(@Nullable Long snapshotAgeMs);
+
     public abstract ConsumerLagData build();
   }
 }
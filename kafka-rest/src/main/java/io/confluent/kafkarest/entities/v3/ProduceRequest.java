@@ -24,23 +24,36 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.BaseEncoding;
 import com.google.protobuf.ByteString;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.serializers.subject.RecordNameStrategy;
 import io.confluent.kafka.serializers.subject.TopicNameStrategy;
 import io.confluent.kafka.serializers.subject.TopicRecordNameStrategy;
 import io.confluent.kafka.serializers.subject.strategy.SubjectNameStrategy;
+import io.confluent.kafkarest.common.ByteStrings;
 import io.confluent.kafkarest.entities.EmbeddedFormat;
 import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +63,12 @@ import java.util.Optional;
 @JsonDeserialize(using = ProduceRequest.Deserializer.class)
 public abstract class ProduceRequest {
 
+  /**
+   * Deserialization attribute that, when {@code true}, makes BINARY and JSON key/value data be
+   * read straight from the parser. See {@link StreamingDataDeserializer}.
+   */
+  public static final String STREAMING_DATA_ATTRIBUTE = "kafkarest.produce.streamingData";
+
   ProduceRequest() {}
 
   @JsonProperty("partition_id")
@@ -86,8 +105,10 @@ public abstract class ProduceRequest {
     static Builder fromJson(
         @JsonProperty("partition_id") @Nullable Integer partitionId,
         @JsonProperty("headers") @Nullable List<ProduceRequestHeader> headers,
-        @JsonProperty("key") @Nullable ProduceRequestData key,
-        @JsonProperty("value") @Nullable ProduceRequestData value,
+        @JsonProperty("key") @JsonDeserialize(using = StreamingDataDeserializer.class) @Nullable
+            ProduceRequestData key,
+        @JsonProperty("value") @JsonDeserialize(using = StreamingDataDeserializer.class) @Nullable
+            ProduceRequestData value,
         @JsonProperty("timestamp") @Nullable Instant timestamp) {
       return ProduceRequest.builder()
           .setPartitionId(partitionId)
@@ -132,6 +153,111 @@ public abstract class ProduceRequest {
     }
   }
 
+  /**
+   * Deserializes {@link ProduceRequestData}, reading BINARY and JSON {@code data} straight from the
+   * parser when {@link #STREAMING_DATA_ATTRIBUTE} is set.
+   *
+   * <p>By default, {@code data} is read into a {@link JsonNode} tree, which BINARY then decodes and
+   * JSON writes back out again. When the {@code type} of the data has already been read, BINARY
+   * data is instead base64-decoded from the parser's text buffer into a {@link BinaryNode}, and
+   * JSON data is copied token by token into its serialized form, held by a raw value node (see
+   * {@link JsonNodeFactory#rawValueNode(RawValue)}). Everything else is buffered and handed to the
+   * regular {@link ProduceRequestData} deserializer, so validation is unchanged.
+   */
+  static final class StreamingDataDeserializer extends JsonDeserializer<ProduceRequestData> {
+
+    // Generates JSON the same way a plain ObjectMapper would, independently of how the mapper
+    // reading the request is configured.
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public ProduceRequestData deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      if (!Boolean.TRUE.equals(context.getAttribute(STREAMING_DATA_ATTRIBUTE))
+          || !parser.isExpectedStartObjectToken()) {
+        return context.readValue(parser, ProduceRequestData.class);
+      }
+
+      TokenBuffer buffer = new TokenBuffer(parser, context);
+      buffer.writeStartObject();
+      EmbeddedFormat format = null;
+      for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+        JsonToken token = parser.nextToken();
+        buffer.writeFieldName(name);
+        if (name.equals("data") && format != null) {
+          Object data = readData(parser, context, format);
+          if (data != null) {
+            buffer.writeObject(data);
+            continue;
+          }
+        } else if (name.equals("type") && token == JsonToken.VALUE_STRING) {
+          format = readFormat(parser);
+        }
+        buffer.copyCurrentStructure(parser);
+      }
+      buffer.writeEndObject();
+
+      JsonParser bufferParser = buffer.asParser(parser.getCodec());
+      bufferParser.nextToken();
+      return context.readValue(bufferParser, ProduceRequestData.class);
+    }
+
+    @Nullable
+    private static EmbeddedFormat readFormat(JsonParser parser) throws IOException {
+      try {
+        return parser.getCodec().treeToValue(new TextNode(parser.getText()), EmbeddedFormat.class);
+      } catch (JsonProcessingException e) {
+        // Let the regular deserializer report it.
+        return null;
+      }
+    }
+
+    /**
+     * Returns the {@code byte[]} or {@link RawValue} for the current {@code data} value, or {@code
+     * null} if it should be read as a tree instead.
+     */
+    @Nullable
+    private static Object readData(
+        JsonParser parser, DeserializationContext context, EmbeddedFormat format)
+        throws IOException {
+      switch (format) {
+        case BINARY:
+          if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return null;
+          }
+          try {
+            return BaseEncoding.base64()
+                .decode(
+                    CharBuffer.wrap(
+                        parser.getTextCharacters(),
+                        parser.getTextOffset(),
+                        parser.getTextLength()));
+          } catch (IllegalArgumentException e) {
+            // Let NoSchemaRecordSerializer report invalid base64 data as usual.
+            return null;
+          }
+
+        case JSON:
+          // Trees would hold floats and integers as BigDecimal/BigInteger, which might be written
+          // out differently than the original token.
+          if (parser.currentToken() == JsonToken.VALUE_NULL
+              || context.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+              || context.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+            return null;
+          }
+          SegmentedStringWriter writer =
+              new SegmentedStringWriter(JSON_FACTORY._getBufferRecycler());
+          try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+          }
+          return new RawValue(writer.getAndClear());
+
+        default:
+          return null;
+      }
+    }
+  }
+
   @AutoValue
   public abstract static class ProduceRequestHeader {
 
@@ -156,7 +282,7 @@ public abstract class ProduceRequest {
     @JsonCreator
     static ProduceRequestHeader fromJson(
         @JsonProperty("name") String name, @JsonProperty("value") @Nullable byte[] value) {
-      return create(name, value != null ? ByteString.copyFrom(value) : null);
+      return create(name, value != null ? ByteStrings.wrap(value) : null);
     }
   }
 
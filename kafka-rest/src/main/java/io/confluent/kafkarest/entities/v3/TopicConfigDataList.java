@@ -23,10 +23,12 @@ import java.util.List;
 @AutoValue
 public abstract class TopicConfigDataList extends ResourceCollection<TopicConfigData> {
 
+  public static final String KIND = "KafkaTopicConfigList";
+
   TopicConfigDataList() {}
 
   public static Builder builder() {
-    return new AutoValue_TopicConfigDataList.Builder().setKind("KafkaTopicConfigList");
+    return new AutoValue_TopicConfigDataList.Builder().setKind(KIND);
   }
 
   @JsonCreator
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RequestRateLimiter} implementation that shares its limit with the other nodes leasing
+ * permits from the same {@link QuotaLedger}.
+ *
+ * <p>Permits are leased from the ledger a share of the limit at a time, and then handed out locally
+ * with compare-and-set only, so that the ledger is only called once the lease runs out. Leases last
+ * until the end of the current one-second window, which is based on the wall clock so that all the
+ * nodes agree on it.
+ *
+ * <p>Only one thread at a time leases more permits for the current window. The other threads that
+ * run out of permits meanwhile wait for it, up to their timeout, rather than each leasing a share
+ * of their own. Once the ledger has fewer permits left than asked for, it is not called again
+ * until the next window.
+ *
+ * <p>If the ledger fails, e.g. because it can't be reached, this fails closed: no more permits are
+ * leased for the current window, so requests are rejected with a {@link
+ * RateLimitExceededException} as if the limit was exceeded, and the ledger is only called again in
+ * the next window. Falling back to a local limit instead would let every node use the whole limit,
+ * multiplying it by the number of nodes for as long as the ledger is down.
+ */
+final class DistributedRateLimiter extends RequestRateLimiter {
+  private static final Logger log = LoggerFactory.getLogger(DistributedRateLimiter.class);
+
+  private static final long WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+  private final QuotaLedger ledger;
+  private final Clock clock;
+  private final String key;
+  private final int permitsPerSecond;
+  private final long leaseSize;
+  private final long timeoutMillis;
+  private final AtomicReference<Lease> lease = new AtomicReference<>(new Lease(Long.MIN_VALUE));
+
+  DistributedRateLimiter(
+      QuotaLedger ledger,
+      Clock clock,
+      String key,
+      int permitsPerSecond,
+      long leaseSize,
+      Duration timeout) {
+    this.ledger = requireNonNull(ledger);
+    this.clock = requireNonNull(clock);
+    this.key = requireNonNull(key);
+    this.permitsPerSecond = permitsPerSecond;
+    this.leaseSize = leaseSize;
+    this.timeoutMillis = timeout.toMillis();
+  }
+
+  @Override
+  public void rateLimit(int cost) {
+    long deadline = clock.millis() + timeoutMillis;
+    while (true) {
+      long now = clock.millis();
+      long window = now / WINDOW_MILLIS;
+      if (tryAcquire(window, cost, deadline)) {
+        return;
+      }
+      long nextWindowStart = (window + 1) * WINDOW_MILLIS;
+      if (nextWindowStart > deadline) {
+        throw new RateLimitExceededException();
+      }
+      Uninterruptibles.sleepUninterruptibly(nextWindowStart - now, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Limits each key, e.g. each cluster, separately, sharing each limit with the other nodes. */
+  @Override
+  RequestRateLimiter forKey(String key) {
+    return new DistributedRateLimiter(
+        ledger,
+        clock,
+        this.key + "/" + key,
+        permitsPerSecond,
+        leaseSize,
+        Duration.ofMillis(timeoutMillis));
+  }
+
+  private boolean tryAcquire(long window, int cost, long deadline) {
+    Lease current = lease.get();
+    while (current.window < window) {
+      Lease next = new Lease(window);
+      current = lease.compareAndSet(current, next) ? next : lease.get();
+    }
+    // Another thread may have moved on to the next window already, in which case the lease is for
+    // that one.
+    while (true) {
+      if (current.tryTake(cost)) {
+        return true;
+      }
+      if (current.exhausted) {
+        return false;
+      }
+      CountDownLatch refill = current.refill.get();
+      if (refill != null) {
+        long remaining = deadline - clock.millis();
+        if (remaining <= 0
+            || !Uninterruptibles.awaitUninterruptibly(refill, remaining, TimeUnit.MILLISECONDS)) {
+          throw new RateLimitExceededException();
+        }
+        continue;
+      }
+      CountDownLatch ours = new CountDownLatch(1);
+      if (!current.refill.compareAndSet(null, ours)) {
+        continue;
+      }
+      try {
+        // A refill may have completed between taking and starting ours.
+        if (current.tryTake(cost)) {
+          return true;
+        }
+        long permits = Math.max(cost, leaseSize);
+        long leased;
+        try {
+          leased = ledger.lease(key, current.window, permits, permitsPerSecond);
+        } catch (RuntimeException e) {
+          log.warn(
+              "Failed to lease permits for {} in window {}, rejecting requests until the next one.",
+              key,
+              current.window,
+              e);
+          leased = 0;
+        }
+        current.add(leased);
+        if (leased < permits) {
+          current.exhausted = true;
+        }
+      } finally {
+        current.refill.set(null);
+        ours.countDown();
+      }
+    }
+  }
+
+  private static final class Lease {
+    private final long window;
+    private final AtomicLong permits = new AtomicLong();
+    // Set while a thread is leasing more permits, and counted down once it is done.
+    private final AtomicReference<CountDownLatch> refill = new AtomicReference<>();
+    // Whether the ledger has no more permits to lease in this window.
+    private volatile boolean exhausted;
+
+    private Lease(long window) {
+      this.window = window;
+    }
+
+    private boolean tryTake(long cost) {
+      while (true) {
+        long available = permits.get();
+        if (available < cost) {
+          return false;
+        }
+        if (permits.compareAndSet(available, available - cost)) {
+          return true;
+        }
+      }
+    }
+
+    private void add(long leased) {
+      if (leased > 0) {
+        permits.addAndGet(leased);
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.confluent.kafkarest.config.ConfigModule.RateLimitDistributedLeaseCountConfig;
+import jakarta.inject.Inject;
+import java.time.Clock;
+import java.time.Duration;
+
+/** Creates the {@link DistributedRateLimiter}s leasing permits from the {@link QuotaLedger}. */
+final class DistributedRateLimiters {
+  private final QuotaLedger ledger;
+  private final Clock clock;
+  private final int leaseCount;
+
+  @Inject
+  DistributedRateLimiters(
+      QuotaLedger ledger, @RateLimitDistributedLeaseCountConfig Integer leaseCount) {
+    this(ledger, Clock.systemUTC(), leaseCount);
+  }
+
+  @VisibleForTesting
+  DistributedRateLimiters(QuotaLedger ledger, Clock clock, int leaseCount) {
+    this.ledger = requireNonNull(ledger);
+    this.clock = requireNonNull(clock);
+    this.leaseCount = leaseCount;
+  }
+
+  /**
+   * Returns a rate-limiter for {@code key}, sharing its limit of {@code permitsPerSecond} with the
+   * rate-limiters of the other nodes for the same key.
+   */
+  RequestRateLimiter create(String key, int permitsPerSecond, Duration timeout) {
+    long leaseSize = Math.max(1, (permitsPerSecond + leaseCount - 1) / leaseCount);
+    return new DistributedRateLimiter(ledger, clock, key, permitsPerSecond, leaseSize, timeout);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.confluent.kafkarest.ratelimit.RateLimitExceededException.ErrorCodes;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The produce rate-limits of the {@link RateLimitBackend#TOKEN_BUCKET} backend.
+ *
+ * <p>The count and bytes limits of a tenant are checked together against a single {@link
+ * TokenBucket}. The global limits are split across several stripes, each allowing a fraction of
+ * the global rate, so that concurrent requests do not all compete for the same bucket. A request
+ * is only charged if it passes both its global and its tenant limits.
+ */
+public final class ProduceTokenBuckets {
+
+  // The buckets rate-limit the count of requests first, and their bytes second.
+  private static final int COUNT = 0;
+
+  /** The produce rate-limits, and the error code logged when they are exceeded. */
+  public enum Limit {
+    COUNT_GLOBAL(ErrorCodes.PRODUCE_MAX_REQUESTS_GLOBAL_LIMIT_EXCEEDED),
+    BYTES_GLOBAL(ErrorCodes.PRODUCE_MAX_BYTES_GLOBAL_LIMIT_EXCEEDED),
+    COUNT_PER_TENANT(ErrorCodes.PRODUCE_MAX_REQUESTS_PER_TENANT_LIMIT_EXCEEDED),
+    BYTES_PER_TENANT(ErrorCodes.PRODUCE_MAX_BYTES_PER_TENANT_LIMIT_EXCEEDED);
+
+    private final int errorCode;
+
+    Limit(int errorCode) {
+      this.errorCode = errorCode;
+    }
+
+    public int getErrorCode() {
+      return errorCode;
+    }
+  }
+
+  private final TokenBucket[] globalStripes;
+  private final LoadingCache<String, TokenBucket> tenantBuckets;
+
+  @VisibleForTesting
+  ProduceTokenBuckets(
+      Ticker ticker,
+      int stripes,
+      int countPerSecond,
+      int bytesPerSecond,
+      int countGlobalPerSecond,
+      int bytesGlobalPerSecond,
+      Duration timeout,
+      Duration cacheExpiry) {
+    checkArgument(stripes > 0, "Number of stripes must be positive.");
+    requireNonNull(ticker);
+    requireNonNull(timeout);
+    globalStripes = new TokenBucket[stripes];
+    for (int i = 0; i < stripes; i++) {
+      globalStripes[i] =
+          new TokenBucket(
+              ticker,
+              timeout,
+              (double) countGlobalPerSecond / stripes,
+              (double) bytesGlobalPerSecond / stripes);
+    }
+    tenantBuckets =
+        CacheBuilder.newBuilder()
+            .expireAfterAccess(cacheExpiry)
+            .build(
+                CacheLoader.from(
+                    () -> new TokenBucket(ticker, timeout, countPerSecond, bytesPerSecond)));
+  }
+
+  public static ProduceTokenBuckets create(
+      int countPerSecond,
+      int bytesPerSecond,
+      int countGlobalPerSecond,
+      int bytesGlobalPerSecond,
+      Duration timeout,
+      Duration cacheExpiry) {
+    return new ProduceTokenBuckets(
+        Ticker.systemTicker(),
+        stripes(Runtime.getRuntime().availableProcessors(), countGlobalPerSecond),
+        countPerSecond,
+        bytesPerSecond,
+        countGlobalPerSecond,
+        bytesGlobalPerSecond,
+        timeout,
+        cacheExpiry);
+  }
+
+  /**
+   * Returns the largest power of two not above the number of processors, nor above the global
+   * request rate, so that each stripe still allows at least one request per second.
+   */
+  @VisibleForTesting
+  static int stripes(int processors, int countGlobalPerSecond) {
+    return Integer.highestOneBit(Math.max(1, Math.min(processors, countGlobalPerSecond)));
+  }
+
+  /**
+   * Charges a request of {@code requestSize} bytes to the global and the {@code tenant} limits,
+   * waiting for permits if needed.
+   *
+   * @return the limit that was exceeded, if any, in which case nothing was charged
+   */
+  public Optional<Limit> tryAcquire(String tenant, long requestSize) {
+    TokenBucket tenantBucket = tenantBuckets.getUnchecked(tenant);
+
+    int first = ThreadLocalRandom.current().nextInt(globalStripes.length);
+    TokenBucket globalStripe = null;
+    long globalWait = -1;
+    for (int i = 0; i < globalStripes.length && globalWait < 0; i++) {
+      globalStripe = globalStripes[(first + i) % globalStripes.length];
+      globalWait = globalStripe.tryReserve(1, requestSize);
+    }
+    if (globalWait < 0) {
+      return Optional.of(
+          TokenBucket.blockedDimension(globalWait) == COUNT
+              ? Limit.COUNT_GLOBAL
+              : Limit.BYTES_GLOBAL);
+    }
+
+    long tenantWait = tenantBucket.tryReserve(1, requestSize);
+    if (tenantWait < 0) {
+      globalStripe.refund(1, requestSize);
+      return Optional.of(
+          TokenBucket.blockedDimension(tenantWait) == COUNT
+              ? Limit.COUNT_PER_TENANT
+              : Limit.BYTES_PER_TENANT);
+    }
+
+    TokenBucket.waitFor(Math.max(globalWait, tenantWait));
+    return Optional.empty();
+  }
+
+  public void clear() {
+    tenantBuckets.invalidateAll();
+  }
+}
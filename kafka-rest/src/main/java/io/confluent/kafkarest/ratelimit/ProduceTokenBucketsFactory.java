@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitBytesConfig;
+import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitBytesGlobalConfig;
+import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitCacheExpiryConfig;
+import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitCountConfig;
+import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitCountGlobalConfig;
+import io.confluent.kafkarest.config.ConfigModule.RateLimitTimeoutConfig;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import org.glassfish.hk2.api.Factory;
+
+/** A {@link Factory} for {@link ProduceTokenBuckets}. */
+final class ProduceTokenBucketsFactory implements Factory<ProduceTokenBuckets> {
+  private final int countPerSecond;
+  private final int bytesPerSecond;
+  private final int countGlobalPerSecond;
+  private final int bytesGlobalPerSecond;
+  private final Duration timeout;
+  private final Duration cacheExpiry;
+
+  @Inject
+  ProduceTokenBucketsFactory(
+      @ProduceRateLimitCountConfig Integer countPerSecond,
+      @ProduceRateLimitBytesConfig Integer bytesPerSecond,
+      @ProduceRateLimitCountGlobalConfig Integer countGlobalPerSecond,
+      @ProduceRateLimitBytesGlobalConfig Integer bytesGlobalPerSecond,
+      @RateLimitTimeoutConfig Duration timeout,
+      @ProduceRateLimitCacheExpiryConfig Duration cacheExpiry) {
+    this.countPerSecond = countPerSecond;
+    this.bytesPerSecond = bytesPerSecond;
+    this.countGlobalPerSecond = countGlobalPerSecond;
+    this.bytesGlobalPerSecond = bytesGlobalPerSecond;
+    this.timeout = timeout;
+    this.cacheExpiry = cacheExpiry;
+  }
+
+  @Override
+  public ProduceTokenBuckets provide() {
+    return ProduceTokenBuckets.create(
+        countPerSecond,
+        bytesPerSecond,
+        countGlobalPerSecond,
+        bytesGlobalPerSecond,
+        timeout,
+        cacheExpiry);
+  }
+
+  @Override
+  public void dispose(ProduceTokenBuckets instance) {}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import java.io.Closeable;
+
+/**
+ * A store of the permits leased by the nodes sharing a {@link RateLimitBackend#DISTRIBUTED}
+ * rate-limit.
+ *
+ * <p>Permits are leased for fixed windows of time, identified by the number of whole seconds since
+ * the epoch. The nodes sharing a ledger can lease at most {@code limit} permits per key and window
+ * between them, and permits not used by the end of a window are lost, so the budget of a rate-limit
+ * is shared between the nodes anew every window.
+ *
+ * <p>Implementations are configured via {@link
+ * io.confluent.kafkarest.KafkaRestConfig#RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG}, and must be
+ * thread-safe.
+ */
+public interface QuotaLedger extends Closeable {
+
+  /**
+   * Leases up to {@code permits} permits for {@code key} in {@code window}, so that no more than
+   * {@code limit} permits are leased in total. If this throws, e.g. because the ledger can't be
+   * reached, the rate-limiter leasing the permits rejects its requests until the next window.
+   *
+   * @return the number of permits leased, between zero and {@code permits}
+   */
+  long lease(String key, long window, long permits, long limit);
+
+  @Override
+  default void close() {}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import io.confluent.kafkarest.KafkaRestConfig;
+import jakarta.inject.Inject;
+import org.glassfish.hk2.api.Factory;
+
+/**
+ * A {@link Factory} for the {@link QuotaLedger} configured via {@link
+ * KafkaRestConfig#RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG}.
+ */
+final class QuotaLedgerFactory implements Factory<QuotaLedger> {
+  private final KafkaRestConfig config;
+
+  @Inject
+  QuotaLedgerFactory(KafkaRestConfig config) {
+    this.config = requireNonNull(config);
+  }
+
+  @Override
+  public QuotaLedger provide() {
+    return config.getRateLimitDistributedLedger();
+  }
+
+  @Override
+  public void dispose(QuotaLedger ledger) {
+    ledger.close();
+  }
+}
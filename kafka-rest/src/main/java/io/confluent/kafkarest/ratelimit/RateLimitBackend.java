@@ -22,5 +22,21 @@ public enum RateLimitBackend {
   GUAVA,
 
   /** @see <a href="https://resilience4j.readme.io/docs/ratelimiter">Resilience4j RateLimiter</a> */
-  RESILIENCE4J
+  RESILIENCE4J,
+
+  /**
+   * Lock-free token buckets. Produce requests are checked against a single bucket for both their
+   * count and bytes per tenant, and against striped global buckets.
+   *
+   * @see TokenBucket
+   * @see ProduceTokenBuckets
+   */
+  TOKEN_BUCKET,
+
+  /**
+   * Rate-limits shared by all the nodes leasing permits from the same {@link QuotaLedger}.
+   *
+   * @see DistributedRateLimiter
+   */
+  DISTRIBUTED
 }
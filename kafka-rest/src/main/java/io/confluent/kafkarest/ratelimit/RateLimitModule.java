@@ -62,6 +62,13 @@ public final class RateLimitModule extends AbstractBinder {
         .qualifiedBy(new ProduceRateLimiterBytesGlobalImpl())
         .to(RequestRateLimiter.class)
         .in(Singleton.class);
+
+    bindFactory(ProduceTokenBucketsFactory.class)
+        .to(ProduceTokenBuckets.class)
+        .in(Singleton.class);
+
+    bindFactory(QuotaLedgerFactory.class).to(QuotaLedger.class).in(Singleton.class);
+    bindAsContract(DistributedRateLimiters.class).in(Singleton.class);
   }
 
   @Qualifier
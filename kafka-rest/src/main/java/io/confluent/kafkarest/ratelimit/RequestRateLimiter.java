@@ -43,4 +43,12 @@ public abstract class RequestRateLimiter {
    * @throws RateLimitExceededException if permission to go through has been denied
    */
   public abstract void rateLimit(int cost);
+
+  /**
+   * Returns the rate-limiter to use for {@code key}, e.g. a cluster ID, when this rate-limiter is
+   * created for it by a {@link RequestRateLimiterCacheLoader}.
+   */
+  RequestRateLimiter forKey(String key) {
+    return this;
+  }
 }
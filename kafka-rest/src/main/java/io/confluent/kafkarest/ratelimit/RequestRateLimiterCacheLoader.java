@@ -34,6 +34,6 @@ public final class RequestRateLimiterCacheLoader extends CacheLoader<String, Req
 
   @Override
   public RequestRateLimiter load(String key) {
-    return rateLimiter.get();
+    return rateLimiter.get().forKey(key);
   }
 }
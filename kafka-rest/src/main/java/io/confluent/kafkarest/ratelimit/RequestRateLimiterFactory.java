@@ -17,19 +17,33 @@ package io.confluent.kafkarest.ratelimit;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.inject.Provider;
 import java.time.Duration;
 import org.glassfish.hk2.api.Factory;
 
 /** A {@link Factory} for {@link RequestRateLimiter}. */
 abstract class RequestRateLimiterFactory implements Factory<RequestRateLimiter> {
+  private final String name;
   private final RateLimitBackend backend;
   private final int permitsPerSecond;
   private final Duration timeout;
+  private final Provider<DistributedRateLimiters> distributedRateLimiters;
 
-  RequestRateLimiterFactory(RateLimitBackend backend, Integer permitsPerSecond, Duration timeout) {
+  /**
+   * @param name identifies the rate-limit in the {@link QuotaLedger}, if the backend is {@link
+   *     RateLimitBackend#DISTRIBUTED}
+   */
+  RequestRateLimiterFactory(
+      String name,
+      RateLimitBackend backend,
+      Integer permitsPerSecond,
+      Duration timeout,
+      Provider<DistributedRateLimiters> distributedRateLimiters) {
+    this.name = requireNonNull(name);
     this.backend = requireNonNull(backend);
     this.permitsPerSecond = permitsPerSecond;
     this.timeout = requireNonNull(timeout);
+    this.distributedRateLimiters = requireNonNull(distributedRateLimiters);
   }
 
   @Override
@@ -39,6 +53,10 @@ abstract class RequestRateLimiterFactory implements Factory<RequestRateLimiter>
         return GuavaRateLimiter.create(permitsPerSecond, timeout);
       case RESILIENCE4J:
         return Resilience4JRateLimiter.create(permitsPerSecond, timeout);
+      case TOKEN_BUCKET:
+        return TokenBucketRateLimiter.create(permitsPerSecond, timeout);
+      case DISTRIBUTED:
+        return distributedRateLimiters.get().create(name, permitsPerSecond, timeout);
       default:
         throw new AssertionError("Unknown enum constant: " + backend);
     }
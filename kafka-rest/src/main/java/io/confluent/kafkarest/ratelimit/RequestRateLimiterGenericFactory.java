@@ -18,6 +18,7 @@ package io.confluent.kafkarest.ratelimit;
 import io.confluent.kafkarest.config.ConfigModule.RateLimitPermitsPerSecConfig;
 import io.confluent.kafkarest.config.ConfigModule.RateLimitTimeoutConfig;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import java.time.Duration;
 
 final class RequestRateLimiterGenericFactory extends RequestRateLimiterFactory {
@@ -26,7 +27,8 @@ final class RequestRateLimiterGenericFactory extends RequestRateLimiterFactory {
   public RequestRateLimiterGenericFactory(
       RateLimitBackend backend,
       @RateLimitPermitsPerSecConfig Integer permitsPerSecond,
-      @RateLimitTimeoutConfig Duration timeout) {
-    super(backend, permitsPerSecond, timeout);
+      @RateLimitTimeoutConfig Duration timeout,
+      Provider<DistributedRateLimiters> distributedRateLimiters) {
+    super("generic", backend, permitsPerSecond, timeout, distributedRateLimiters);
   }
 }
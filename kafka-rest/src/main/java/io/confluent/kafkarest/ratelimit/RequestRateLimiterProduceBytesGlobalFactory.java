@@ -18,6 +18,7 @@ package io.confluent.kafkarest.ratelimit;
 import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitBytesGlobalConfig;
 import io.confluent.kafkarest.config.ConfigModule.RateLimitTimeoutConfig;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import java.time.Duration;
 
 public class RequestRateLimiterProduceBytesGlobalFactory extends RequestRateLimiterFactory {
@@ -26,7 +27,8 @@ public class RequestRateLimiterProduceBytesGlobalFactory extends RequestRateLimi
   public RequestRateLimiterProduceBytesGlobalFactory(
       RateLimitBackend backend,
       @ProduceRateLimitBytesGlobalConfig Integer permitsPerSecond,
-      @RateLimitTimeoutConfig Duration timeout) {
-    super(backend, permitsPerSecond, timeout);
+      @RateLimitTimeoutConfig Duration timeout,
+      Provider<DistributedRateLimiters> distributedRateLimiters) {
+    super("produce-bytes-global", backend, permitsPerSecond, timeout, distributedRateLimiters);
   }
 }
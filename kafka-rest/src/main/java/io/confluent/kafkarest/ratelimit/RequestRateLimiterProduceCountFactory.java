@@ -17,6 +17,7 @@ package io.confluent.kafkarest.ratelimit;
 
 import io.confluent.kafkarest.config.ConfigModule;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import java.time.Duration;
 
 final class RequestRateLimiterProduceCountFactory extends RequestRateLimiterFactory {
@@ -25,7 +26,8 @@ final class RequestRateLimiterProduceCountFactory extends RequestRateLimiterFact
   RequestRateLimiterProduceCountFactory(
       RateLimitBackend backend,
       @ConfigModule.ProduceRateLimitCountConfig Integer permitsPerSecond,
-      @ConfigModule.RateLimitTimeoutConfig Duration timeout) {
-    super(backend, permitsPerSecond, timeout);
+      @ConfigModule.RateLimitTimeoutConfig Duration timeout,
+      Provider<DistributedRateLimiters> distributedRateLimiters) {
+    super("produce-count", backend, permitsPerSecond, timeout, distributedRateLimiters);
   }
 }
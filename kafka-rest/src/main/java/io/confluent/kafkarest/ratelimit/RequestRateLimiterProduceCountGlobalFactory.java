@@ -18,6 +18,7 @@ package io.confluent.kafkarest.ratelimit;
 import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitCountGlobalConfig;
 import io.confluent.kafkarest.config.ConfigModule.RateLimitTimeoutConfig;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import java.time.Duration;
 
 public class RequestRateLimiterProduceCountGlobalFactory extends RequestRateLimiterFactory {
@@ -26,7 +27,8 @@ public class RequestRateLimiterProduceCountGlobalFactory extends RequestRateLimi
   public RequestRateLimiterProduceCountGlobalFactory(
       RateLimitBackend backend,
       @ProduceRateLimitCountGlobalConfig Integer permitsPerSecond,
-      @RateLimitTimeoutConfig Duration timeout) {
-    super(backend, permitsPerSecond, timeout);
+      @RateLimitTimeoutConfig Duration timeout,
+      Provider<DistributedRateLimiters> distributedRateLimiters) {
+    super("produce-count-global", backend, permitsPerSecond, timeout, distributedRateLimiters);
   }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free token bucket that rate-limits several dimensions at once, e.g. the number and the
+ * bytes of produce requests. Permits are acquired for all the dimensions atomically: either all of
+ * them are acquired, or none is.
+ *
+ * <p>For each dimension, the bucket keeps the time at which all the permits acquired so far are
+ * paid for, and all of those times are replaced together with a single compare-and-set. Like Guava
+ * {@code RateLimiter}, up to one second worth of unused permits is stored, and permits can be
+ * acquired as long as the previous ones are paid for, which they are by waiting up to the timeout.
+ */
+public final class TokenBucket {
+
+  private static final long MAX_STORED_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Ticker ticker;
+  private final long timeoutNanos;
+  private final double[] nanosPerPermit;
+  private final AtomicReference<long[]> paidUntil;
+
+  @VisibleForTesting
+  TokenBucket(Ticker ticker, Duration timeout, double... permitsPerSecond) {
+    checkArgument(permitsPerSecond.length > 0, "No dimensions to rate-limit.");
+    this.ticker = requireNonNull(ticker);
+    this.timeoutNanos = timeout.toNanos();
+    this.nanosPerPermit = new double[permitsPerSecond.length];
+    for (int i = 0; i < permitsPerSecond.length; i++) {
+      checkArgument(permitsPerSecond[i] > 0, "Permits per second must be positive.");
+      nanosPerPermit[i] = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond[i];
+    }
+    long[] initial = new long[permitsPerSecond.length];
+    Arrays.fill(initial, Long.MIN_VALUE / 2);
+    this.paidUntil = new AtomicReference<>(initial);
+  }
+
+  /**
+   * Returns a bucket emitting {@code permitsPerSecond[i]} permits per second for the {@code i}-th
+   * dimension, where acquisitions wait up to {@code timeout} for permits.
+   */
+  public static TokenBucket create(Duration timeout, double... permitsPerSecond) {
+    return new TokenBucket(Ticker.systemTicker(), timeout, permitsPerSecond);
+  }
+
+  /**
+   * Acquires {@code costs[i]} permits for the {@code i}-th dimension, waiting for them if needed.
+   *
+   * @return {@code -1} if the permits were acquired, or else the first dimension whose permits
+   *     could not be acquired within the timeout
+   */
+  public int tryAcquire(long... costs) {
+    long result = tryReserve(costs);
+    if (result < 0) {
+      return blockedDimension(result);
+    }
+    waitFor(result);
+    return -1;
+  }
+
+  /**
+   * Reserves {@code costs[i]} permits for the {@code i}-th dimension if all of them can be had
+   * within the timeout, without waiting for them.
+   *
+   * @return how long to wait for the reserved permits, in nanoseconds, or a negative value
+   *     identifying the dimension that blocked the reservation (see {@link #blockedDimension})
+   */
+  long tryReserve(long... costs) {
+    checkArgument(costs.length == nanosPerPermit.length, "Expected a cost per dimension.");
+    while (true) {
+      long[] current = paidUntil.get();
+      long now = ticker.read();
+      long waitNanos = 0;
+      long[] next = new long[current.length];
+      for (int i = 0; i < current.length; i++) {
+        long start = Math.max(current[i], now - MAX_STORED_NANOS);
+        long wait = start - now;
+        if (wait > timeoutNanos) {
+          return -1 - i;
+        }
+        waitNanos = Math.max(waitNanos, wait);
+        next[i] = start + (long) Math.ceil(costs[i] * nanosPerPermit[i]);
+      }
+      if (paidUntil.compareAndSet(current, next)) {
+        return waitNanos;
+      }
+    }
+  }
+
+  /** Returns permits reserved by {@link #tryReserve}, e.g. if other permits could not be had. */
+  void refund(long... costs) {
+    while (true) {
+      long[] current = paidUntil.get();
+      long[] next = new long[current.length];
+      for (int i = 0; i < current.length; i++) {
+        next[i] = current[i] - (long) Math.ceil(costs[i] * nanosPerPermit[i]);
+      }
+      if (paidUntil.compareAndSet(current, next)) {
+        return;
+      }
+    }
+  }
+
+  /** Returns the dimension that blocked a {@link #tryReserve} call returning {@code result}. */
+  static int blockedDimension(long result) {
+    return (int) (-1 - result);
+  }
+
+  static void waitFor(long nanos) {
+    if (nanos > 0) {
+      Uninterruptibles.sleepUninterruptibly(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
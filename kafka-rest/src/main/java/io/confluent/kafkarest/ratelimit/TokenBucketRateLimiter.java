@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/** A {@link RequestRateLimiter} implementation based on a lock-free {@link TokenBucket}. */
+final class TokenBucketRateLimiter extends RequestRateLimiter {
+  private final TokenBucket delegate;
+
+  private TokenBucketRateLimiter(TokenBucket delegate) {
+    this.delegate = requireNonNull(delegate);
+  }
+
+  static TokenBucketRateLimiter create(int permitsPerSecond, Duration timeout) {
+    return new TokenBucketRateLimiter(TokenBucket.create(timeout, permitsPerSecond));
+  }
+
+  @Override
+  public void rateLimit(int cost) {
+    if (delegate.tryAcquire(cost) >= 0) {
+      throw new RateLimitExceededException();
+    }
+  }
+}
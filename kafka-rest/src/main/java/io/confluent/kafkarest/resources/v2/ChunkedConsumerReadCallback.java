@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.resources.v2;
+
+import static java.util.Objects.requireNonNull;
+
+import io.confluent.kafkarest.StreamingConsumerReadCallback;
+import io.confluent.kafkarest.entities.ConsumerRecord;
+import jakarta.annotation.Nullable;
+import jakarta.ws.rs.container.AsyncResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the records of a v2 consumer read to a {@link ChunkedOutput} as they are read.
+ *
+ * <p>The response is only resumed once the first records are read, so that reads that fail before
+ * that, or read no records, are responded to as usual. Once records are written, failures can't
+ * change the response status anymore, and abort the connection instead, so that clients see a
+ * transport failure rather than a truncated response.
+ */
+final class ChunkedConsumerReadCallback<K, V> implements StreamingConsumerReadCallback<K, V> {
+
+  private static final Logger log = LoggerFactory.getLogger(ChunkedConsumerReadCallback.class);
+
+  private final AsyncResponse asyncResponse;
+  private final Function<ConsumerRecord<K, V>, ?> toJsonWrapper;
+  private final Supplier<ChunkedOutput<ConsumerRecordsChunk>> outputFactory;
+
+  @Nullable private ChunkedOutput<ConsumerRecordsChunk> output;
+
+  ChunkedConsumerReadCallback(
+      AsyncResponse asyncResponse, Function<ConsumerRecord<K, V>, ?> toJsonWrapper) {
+    this(asyncResponse, toJsonWrapper, () -> new ChunkedOutput<>(ConsumerRecordsChunk.class));
+  }
+
+  ChunkedConsumerReadCallback(
+      AsyncResponse asyncResponse,
+      Function<ConsumerRecord<K, V>, ?> toJsonWrapper,
+      Supplier<ChunkedOutput<ConsumerRecordsChunk>> outputFactory) {
+    this.asyncResponse = requireNonNull(asyncResponse);
+    this.toJsonWrapper = requireNonNull(toJsonWrapper);
+    this.outputFactory = requireNonNull(outputFactory);
+  }
+
+  @Override
+  public synchronized void onRecords(List<ConsumerRecord<K, V>> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+    boolean first = output == null;
+    if (first) {
+      output = outputFactory.get();
+      asyncResponse.resume(output);
+    }
+    write(ConsumerRecordsChunk.create(first, /* last= */ false, wrap(records)));
+  }
+
+  @Override
+  public synchronized void onCompletion(List<ConsumerRecord<K, V>> records, Exception e) {
+    if (output == null) {
+      if (e != null) {
+        asyncResponse.resume(e);
+      } else {
+        asyncResponse.resume(wrap(records));
+      }
+      return;
+    }
+    if (e != null) {
+      log.error("Aborting consumer read response after some records were written.", e);
+      abort(e);
+      return;
+    }
+    write(ConsumerRecordsChunk.create(/* first= */ false, /* last= */ true, wrap(records)));
+    try {
+      output.close();
+    } catch (IOException closeError) {
+      log.error("Error when closing response channel.", closeError);
+    }
+  }
+
+  /**
+   * Closes the output with {@code error}, which resets the connection rather than ending the
+   * chunked response, as closing it normally would even though the JSON array is left open.
+   */
+  private void abort(Exception error) {
+    try {
+      output.close(error);
+    } catch (IOException closeError) {
+      log.error("Error when aborting response channel.", closeError);
+    }
+  }
+
+  private List<?> wrap(List<ConsumerRecord<K, V>> records) {
+    return records.stream().map(toJsonWrapper).collect(Collectors.toList());
+  }
+
+  private void write(ConsumerRecordsChunk chunk) {
+    if (output.isClosed()) {
+      return;
+    }
+    try {
+      output.write(chunk);
+    } catch (IOException e) {
+      // The client is gone. The read still completes, but nothing else is written.
+      log.debug("Failed to write consumer records to response.", e);
+    }
+  }
+}
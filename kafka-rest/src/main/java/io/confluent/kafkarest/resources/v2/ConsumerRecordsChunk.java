@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.resources.v2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Some of the records of a streamed v2 consumer read response. The chunks of a response are
+ * written one after the other, so that together they make up the same JSON array a response that
+ * is not streamed would have. See {@link ConsumerRecordsChunkSerializer}.
+ */
+@AutoValue
+@JsonSerialize(using = ConsumerRecordsChunk.ConsumerRecordsChunkSerializer.class)
+abstract class ConsumerRecordsChunk {
+
+  ConsumerRecordsChunk() {}
+
+  /** Whether this chunk opens the array. */
+  abstract boolean isFirst();
+
+  /** Whether this chunk closes the array. */
+  abstract boolean isLast();
+
+  abstract ImmutableList<Object> getRecords();
+
+  static ConsumerRecordsChunk create(boolean first, boolean last, List<?> records) {
+    return new AutoValue_ConsumerRecordsChunk(first, last, ImmutableList.copyOf(records));
+  }
+
+  static final class ConsumerRecordsChunkSerializer extends StdSerializer<ConsumerRecordsChunk> {
+
+    private static final SerializedString SEPARATOR = new SerializedString(",");
+
+    private ConsumerRecordsChunkSerializer() {
+      super(ConsumerRecordsChunk.class);
+    }
+
+    @Override
+    public void serialize(
+        ConsumerRecordsChunk value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      // The brackets and the separator between chunks are written raw, since neither starts or
+      // ends a value on its own. Records are written as root-level values, separated like the
+      // elements of an array.
+      if (value.isFirst()) {
+        generator.writeRaw('[');
+      } else if (!value.getRecords().isEmpty()) {
+        generator.writeRaw(',');
+      }
+      generator.setRootValueSeparator(SEPARATOR);
+      for (Object record : value.getRecords()) {
+        provider.defaultSerializeValue(record, generator);
+      }
+      if (value.isLast()) {
+        generator.writeRaw(']');
+      }
+    }
+  }
+}
@@ -399,6 +399,20 @@ public final class ConsumersResource {
       Function<ConsumerRecord<ClientKeyT, ClientValueT>, ?> toJsonWrapper) {
     maxBytes = (maxBytes <= 0) ? Long.MAX_VALUE : maxBytes;
 
+    if (context.get().getConfig().getConsumerResponseStreamingChunkBytes() > 0) {
+      context
+          .get()
+          .getKafkaConsumerManager()
+          .readRecords(
+              group,
+              instance,
+              consumerStateType,
+              timeout,
+              maxBytes,
+              new ChunkedConsumerReadCallback<>(asyncResponse, toJsonWrapper));
+      return;
+    }
+
     context
         .get()
         .getKafkaConsumerManager()
@@ -67,7 +67,7 @@ public final class ClustersResource {
     CompletableFuture<ListClustersResponse> response =
         clusterManager
             .get()
-            .listClusters()
+            .listClustersWithBrokers()
             .thenApply(
                 clusters ->
                     ListClustersResponse.create(
@@ -95,7 +95,7 @@ public final class ClustersResource {
     CompletableFuture<GetClusterResponse> response =
         clusterManager
             .get()
-            .getCluster(clusterId)
+            .getClusterWithBrokers(clusterId)
             .thenApply(cluster -> cluster.orElseThrow(NotFoundException::new))
             .thenApply(cluster -> GetClusterResponse.create(toClusterData(cluster)));
 
@@ -17,28 +17,44 @@ package io.confluent.kafkarest.resources.v3;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.Lists;
+import io.confluent.kafkarest.config.ConfigModule.TopicConfigsListChunkSizeConfig;
 import io.confluent.kafkarest.controllers.TopicConfigManager;
 import io.confluent.kafkarest.controllers.TopicManager;
 import io.confluent.kafkarest.entities.TopicConfig;
 import io.confluent.kafkarest.entities.v3.ListTopicConfigsResponse;
 import io.confluent.kafkarest.entities.v3.ResourceCollection;
+import io.confluent.kafkarest.entities.v3.TopicConfigData;
 import io.confluent.kafkarest.entities.v3.TopicConfigDataList;
 import io.confluent.kafkarest.extension.ResourceAccesslistFeature.ResourceName;
 import io.confluent.kafkarest.resources.AsyncResponses;
 import io.confluent.kafkarest.response.CrnFactory;
+import io.confluent.kafkarest.response.ResponseModule.StreamedCollectionWriteThreadPool;
+import io.confluent.kafkarest.response.StreamedCollection;
+import io.confluent.kafkarest.response.UrlBuilder;
 import io.confluent.kafkarest.response.UrlFactory;
 import io.confluent.rest.annotations.PerformanceMetric;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Path("/v3/clusters/{clusterId}/topics/-/configs")
@@ -49,69 +65,185 @@ public final class ListAllTopicsConfigsAction {
   private final Provider<TopicConfigManager> topicConfigManager;
   private final CrnFactory crnFactory;
   private final UrlFactory urlFactory;
+  private final int chunkSize;
+  private final ExecutorService writeExecutor;
 
   @Inject
   public ListAllTopicsConfigsAction(
       Provider<TopicManager> topicManager,
       Provider<TopicConfigManager> topicConfigManager,
       CrnFactory crnFactory,
-      UrlFactory urlFactory) {
+      UrlFactory urlFactory,
+      @TopicConfigsListChunkSizeConfig Integer chunkSize,
+      @StreamedCollectionWriteThreadPool ExecutorService writeExecutor) {
     this.topicManager = requireNonNull(topicManager);
     this.topicConfigManager = requireNonNull(topicConfigManager);
     this.crnFactory = requireNonNull(crnFactory);
     this.urlFactory = requireNonNull(urlFactory);
+    this.chunkSize = chunkSize;
+    this.writeExecutor = requireNonNull(writeExecutor);
   }
 
+  /**
+   * Lists the configs of the topics of the cluster, in topic name order.
+   *
+   * <p>If {@code page_size} is positive, only lists the configs of that many topics, starting
+   * after the topic named {@code page_token}, and links the next page, if any, in the {@code next}
+   * metadata. If {@code api.v3.topic.configs.list.chunk.size} is set, the response is streamed.
+   */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
   @PerformanceMetric("v3.topics.configs.list")
   @ResourceName("api.v3.topic-configs.list")
   public void listTopicConfigs(
-      @Suspended AsyncResponse asyncResponse, @PathParam("clusterId") String clusterId) {
+      @Suspended AsyncResponse asyncResponse,
+      @PathParam("clusterId") String clusterId,
+      @QueryParam("page_size") @DefaultValue("0") int pageSize,
+      @QueryParam("page_token") @DefaultValue("") String pageToken) {
+    if (pageSize < 0) {
+      throw new BadRequestException("page_size cannot be negative");
+    }
+
     // have to resolve dependencies here in request scope
     TopicConfigManager resolvedTopicConfigManager = topicConfigManager.get();
-    CompletableFuture<ListTopicConfigsResponse> response =
+    CompletableFuture<Page> page =
         topicManager
             .get()
-            .listTopics(clusterId)
-            .thenCompose(
-                topics ->
-                    resolvedTopicConfigManager
-                        .listTopicConfigs(
-                            clusterId,
-                            topics.stream()
-                                .map(topic -> topic.getName())
-                                .collect(Collectors.toList()))
-                        .thenApply(
-                            configs ->
-                                ListTopicConfigsResponse.create(
-                                    TopicConfigDataList.builder()
-                                        .setMetadata(
-                                            ResourceCollection.Metadata.builder()
-                                                .setSelf(
-                                                    urlFactory.create(
-                                                        "v3",
-                                                        "clusters",
-                                                        clusterId,
-                                                        "topics",
-                                                        "-",
-                                                        "configs"))
-                                                .build())
-                                        .setData(
-                                            configs.values().stream()
-                                                .flatMap(
-                                                    topicConfigs ->
-                                                        topicConfigs.stream()
-                                                            .sorted(
-                                                                Comparator.comparing(
-                                                                    TopicConfig::getName)))
-                                                .map(
-                                                    topicConfig ->
-                                                        TopicConfigsResource.toTopicConfigData(
-                                                            topicConfig, crnFactory, urlFactory))
-                                                .collect(Collectors.toList()))
-                                        .build())));
+            .listTopicNames(clusterId)
+            .thenApply(topicNames -> Page.of(topicNames, pageSize, pageToken));
+
+    if (chunkSize > 0) {
+      AsyncResponses.asyncResume(
+          asyncResponse,
+          page.thenCompose(
+              topics -> streamTopicConfigs(resolvedTopicConfigManager, clusterId, topics)));
+      return;
+    }
+
+    CompletableFuture<ListTopicConfigsResponse> response =
+        page.thenCompose(
+            topics ->
+                resolvedTopicConfigManager
+                    .listTopicConfigs(clusterId, topics.topicNames)
+                    .thenApply(
+                        configs ->
+                            ListTopicConfigsResponse.create(
+                                TopicConfigDataList.builder()
+                                    .setMetadata(toMetadata(clusterId, topics))
+                                    .setData(toTopicConfigData(topics.topicNames, configs))
+                                    .build())));
 
     AsyncResponses.asyncResume(asyncResponse, response);
   }
+
+  /**
+   * Returns the configs of {@code topics} as a {@link StreamedCollection}, fetching them in chunks.
+   * The first chunk is fetched before returning, so that the request can still fail cleanly if the
+   * configs can't be fetched at all.
+   *
+   * <p>The collection is completed on {@code writeExecutor}, so that the response is resumed, and
+   * written, there. Writing blocks on the remaining chunks, which only the Admin network thread
+   * the first chunk completes on can fetch.
+   */
+  private CompletableFuture<StreamedCollection<TopicConfigData>> streamTopicConfigs(
+      TopicConfigManager topicConfigManager, String clusterId, Page topics) {
+    List<Supplier<CompletableFuture<List<TopicConfigData>>>> chunks = new ArrayList<>();
+    for (List<String> chunk : Lists.partition(topics.topicNames, chunkSize)) {
+      chunks.add(
+          () ->
+              topicConfigManager
+                  .listTopicConfigs(clusterId, chunk)
+                  .thenApply(configs -> toTopicConfigData(chunk, configs)));
+    }
+    ResourceCollection.Metadata metadata = toMetadata(clusterId, topics);
+    if (chunks.isEmpty()) {
+      return CompletableFuture.completedFuture(
+          new StreamedCollection<>(TopicConfigDataList.KIND, metadata, chunks));
+    }
+    return chunks
+        .get(0)
+        .get()
+        .thenApplyAsync(
+            first -> {
+              chunks.set(0, () -> CompletableFuture.completedFuture(first));
+              return new StreamedCollection<>(TopicConfigDataList.KIND, metadata, chunks);
+            },
+            writeExecutor);
+  }
+
+  private List<TopicConfigData> toTopicConfigData(
+      List<String> topicNames, Map<String, List<TopicConfig>> configs) {
+    return topicNames.stream()
+        .flatMap(
+            topicName ->
+                configs.getOrDefault(topicName, Collections.emptyList()).stream()
+                    .sorted(Comparator.comparing(TopicConfig::getName)))
+        .map(
+            topicConfig ->
+                TopicConfigsResource.toTopicConfigData(topicConfig, crnFactory, urlFactory))
+        .collect(Collectors.toList());
+  }
+
+  private ResourceCollection.Metadata toMetadata(String clusterId, Page page) {
+    ResourceCollection.Metadata.Builder metadata =
+        ResourceCollection.Metadata.builder()
+            .setSelf(newUrlBuilder(clusterId, page.pageSize, page.pageToken).build());
+    if (page.nextPageToken != null) {
+      metadata.setNext(newUrlBuilder(clusterId, page.pageSize, page.nextPageToken).build());
+    }
+    return metadata.build();
+  }
+
+  private UrlBuilder newUrlBuilder(String clusterId, int pageSize, String pageToken) {
+    UrlBuilder urlBuilder =
+        urlFactory
+            .newUrlBuilder()
+            .appendPathSegment("v3")
+            .appendPathSegment("clusters")
+            .appendPathSegment(clusterId)
+            .appendPathSegment("topics")
+            .appendPathSegment("-")
+            .appendPathSegment("configs");
+    if (pageSize > 0) {
+      urlBuilder.putQueryParameter("page_size", String.valueOf(pageSize));
+      if (!pageToken.isEmpty()) {
+        urlBuilder.putQueryParameter("page_token", pageToken);
+      }
+    }
+    return urlBuilder;
+  }
+
+  /** A page of the lexicographically ordered topic names. */
+  private static final class Page {
+
+    private final List<String> topicNames;
+    private final int pageSize;
+    private final String pageToken;
+    @Nullable private final String nextPageToken;
+
+    private Page(
+        List<String> topicNames, int pageSize, String pageToken, @Nullable String nextPageToken) {
+      this.topicNames = topicNames;
+      this.pageSize = pageSize;
+      this.pageToken = pageToken;
+      this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Returns the page of at most {@code pageSize} topics after {@code pageToken}, or all the
+     * topics if {@code pageSize} is 0.
+     */
+    private static Page of(List<String> sortedTopicNames, int pageSize, String pageToken) {
+      if (pageSize == 0) {
+        return new Page(sortedTopicNames, pageSize, pageToken, /* nextPageToken= */ null);
+      }
+      int start = Collections.binarySearch(sortedTopicNames, pageToken);
+      // The page starts after the token, whether or not the topic still exists.
+      start = start >= 0 ? start + 1 : -start - 1;
+      int end = Math.min(start + pageSize, sortedTopicNames.size());
+      List<String> topicNames = sortedTopicNames.subList(start, end);
+      String nextPageToken = end < sortedTopicNames.size() ? sortedTopicNames.get(end - 1) : null;
+      return new Page(topicNames, pageSize, pageToken, nextPageToken);
+    }
+  }
 }
@@ -18,6 +18,7 @@ package io.confluent.kafkarest.resources.v3;
 import static java.util.Objects.requireNonNull;
 
 import com.fasterxml.jackson.databind.node.NullNode;
+import com.google.auto.value.AutoValue;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.protobuf.ByteString;
@@ -42,6 +43,7 @@ import io.confluent.kafkarest.requestlog.CustomLog.ProduceRecordErrorCounter;
 import io.confluent.kafkarest.requestlog.CustomLogRequestAttributes;
 import io.confluent.kafkarest.resources.v3.V3ResourcesModule.ProduceResponseThreadPool;
 import io.confluent.kafkarest.response.JsonStream;
+import io.confluent.kafkarest.response.StreamingResponse;
 import io.confluent.kafkarest.response.StreamingResponseFactory;
 import io.confluent.rest.annotations.PerformanceMetric;
 import jakarta.inject.Inject;
@@ -152,11 +154,17 @@ public final class ProduceAction {
     ProduceRecordErrorCounter produceRecordErrorCounter = new ProduceRecordErrorCounter();
 
     ProduceController controller = produceControllerProvider.get();
+    StreamingResponse<AdmittedRecord> admittedRecords =
+        streamingResponseFactory
+            .from(requests)
+            .compose(request -> admit(clusterId, request, producerMetricsProvider.get()));
+    // Validation and serialization can run in parallel, if enabled, but records are always sent
+    // in the order they were received so that per-partition ordering is preserved.
     streamingResponseFactory
-        .from(requests)
-        .compose(
-            request ->
-                produce(clusterId, topicName, request, controller, producerMetricsProvider.get()))
+        .pipeline(
+            admittedRecords,
+            record -> prepare(topicName, record),
+            record -> send(clusterId, topicName, record, controller))
         .resume(asyncResponse, produceRecordErrorCounter);
 
     httpServletRequest.setAttribute(
@@ -164,12 +172,8 @@ public final class ProduceAction {
         produceRecordErrorCounter);
   }
 
-  private CompletableFuture<ProduceResponse> produce(
-      String clusterId,
-      String topicName,
-      ProduceRequest request,
-      ProduceController controller,
-      ProducerMetrics metrics) {
+  private CompletableFuture<AdmittedRecord> admit(
+      String clusterId, ProduceRequest request, ProducerMetrics metrics) {
     final long requestStartNs = System.nanoTime();
 
     try {
@@ -184,6 +188,13 @@ public final class ProduceAction {
     // rate limiting, as these metrics are used for billing.
     recordRequestMetrics(metrics, request.getOriginalSize());
 
+    return CompletableFuture.completedFuture(
+        AdmittedRecord.create(request, metrics, requestStartNs));
+  }
+
+  private PreparedRecord prepare(String topicName, AdmittedRecord record) {
+    ProduceRequest request = record.getRequest();
+
     request
         .getPartitionId()
         .ifPresent(
@@ -211,14 +222,24 @@ public final class ProduceAction {
     Optional<ByteString> serializedValue =
         serialize(topicName, valueFormat, valueSchema, request.getValue(), /* isKey= */ false);
 
+    return PreparedRecord.create(
+        record, keyFormat, keySchema, serializedKey, valueFormat, valueSchema, serializedValue);
+  }
+
+  private CompletableFuture<ProduceResponse> send(
+      String clusterId, String topicName, PreparedRecord record, ProduceController controller) {
+    ProduceRequest request = record.getAdmitted().getRequest();
+    ProducerMetrics metrics = record.getAdmitted().getMetrics();
+    long requestStartNs = record.getAdmitted().getRequestStartNs();
+
     CompletableFuture<ProduceResult> produceResult =
         controller.produce(
             clusterId,
             topicName,
             request.getPartitionId(),
             request.getHeaders().stream().collect(PRODUCE_REQUEST_HEADER_COLLECTOR),
-            serializedKey,
-            serializedValue,
+            record.getSerializedKey(),
+            record.getSerializedValue(),
             request.getTimestamp().orElse(Instant.now()));
 
     return produceResult
@@ -236,7 +257,13 @@ public final class ProduceAction {
             result -> {
               ProduceResponse response =
                   toProduceResponse(
-                      clusterId, topicName, keyFormat, keySchema, valueFormat, valueSchema, result);
+                      clusterId,
+                      topicName,
+                      record.getKeyFormat(),
+                      record.getKeySchema(),
+                      record.getValueFormat(),
+                      record.getValueSchema(),
+                      result);
               long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStartNs);
               recordResponseMetrics(metrics, latency);
               return response;
@@ -343,4 +370,55 @@ public final class ProduceAction {
     // record request size
     metrics.recordRequestSize(size);
   }
+
+  @AutoValue
+  abstract static class AdmittedRecord {
+
+    abstract ProduceRequest getRequest();
+
+    abstract ProducerMetrics getMetrics();
+
+    abstract long getRequestStartNs();
+
+    private static AdmittedRecord create(
+        ProduceRequest request, ProducerMetrics metrics, long requestStartNs) {
+      return new AutoValue_ProduceAction_AdmittedRecord(request, metrics, requestStartNs);
+    }
+  }
+
+  @AutoValue
+  abstract static class PreparedRecord {
+
+    abstract AdmittedRecord getAdmitted();
+
+    abstract Optional<EmbeddedFormat> getKeyFormat();
+
+    abstract Optional<RegisteredSchema> getKeySchema();
+
+    abstract Optional<ByteString> getSerializedKey();
+
+    abstract Optional<EmbeddedFormat> getValueFormat();
+
+    abstract Optional<RegisteredSchema> getValueSchema();
+
+    abstract Optional<ByteString> getSerializedValue();
+
+    private static PreparedRecord create(
+        AdmittedRecord admitted,
+        Optional<EmbeddedFormat> keyFormat,
+        Optional<RegisteredSchema> keySchema,
+        Optional<ByteString> serializedKey,
+        Optional<EmbeddedFormat> valueFormat,
+        Optional<RegisteredSchema> valueSchema,
+        Optional<ByteString> serializedValue) {
+      return new AutoValue_ProduceAction_PreparedRecord(
+          admitted,
+          keyFormat,
+          keySchema,
+          serializedKey,
+          valueFormat,
+          valueSchema,
+          serializedValue);
+    }
+  }
 }
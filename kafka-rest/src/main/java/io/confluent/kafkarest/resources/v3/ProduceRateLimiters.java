@@ -22,6 +22,8 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
 import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitCacheExpiryConfig;
 import io.confluent.kafkarest.config.ConfigModule.ProduceRateLimitEnabledConfig;
+import io.confluent.kafkarest.ratelimit.ProduceTokenBuckets;
+import io.confluent.kafkarest.ratelimit.RateLimitBackend;
 import io.confluent.kafkarest.ratelimit.RateLimitExceededException;
 import io.confluent.kafkarest.ratelimit.RateLimitExceededException.ErrorCodes;
 import io.confluent.kafkarest.ratelimit.RateLimitModule.ProduceRateLimiterBytes;
@@ -31,10 +33,12 @@ import io.confluent.kafkarest.ratelimit.RateLimitModule.ProduceRateLimiterCountG
 import io.confluent.kafkarest.ratelimit.RequestRateLimiter;
 import io.confluent.kafkarest.ratelimit.RequestRateLimiterCacheLoader;
 import io.confluent.kafkarest.requestlog.CustomLogRequestAttributes;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.Duration;
+import java.util.Optional;
 
 public class ProduceRateLimiters {
 
@@ -43,6 +47,24 @@ public class ProduceRateLimiters {
   private final LoadingCache<String, RequestRateLimiter> bytesCache;
   private final Provider<RequestRateLimiter> bytesLimiterGlobal;
   private final Provider<RequestRateLimiter> countLimiterGlobal;
+  @Nullable private final ProduceTokenBuckets tokenBuckets;
+
+  public ProduceRateLimiters(
+      Provider<RequestRateLimiter> countLimiterProvider,
+      Provider<RequestRateLimiter> bytesLimiterProvider,
+      Provider<RequestRateLimiter> countLimiterGlobal,
+      Provider<RequestRateLimiter> bytesLimiterGlobal,
+      Boolean produceRateLimitEnabledConfig,
+      Duration produceRateLimitCacheExpiryConfig) {
+    this(
+        countLimiterProvider,
+        bytesLimiterProvider,
+        countLimiterGlobal,
+        bytesLimiterGlobal,
+        produceRateLimitEnabledConfig,
+        produceRateLimitCacheExpiryConfig,
+        /* tokenBuckets= */ null);
+  }
 
   @Inject
   public ProduceRateLimiters(
@@ -51,8 +73,35 @@ public class ProduceRateLimiters {
       @ProduceRateLimiterCountGlobal Provider<RequestRateLimiter> countLimiterGlobal,
       @ProduceRateLimiterBytesGlobal Provider<RequestRateLimiter> bytesLimiterGlobal,
       @ProduceRateLimitEnabledConfig Boolean produceRateLimitEnabledConfig,
-      @ProduceRateLimitCacheExpiryConfig Duration produceRateLimitCacheExpiryConfig) {
+      @ProduceRateLimitCacheExpiryConfig Duration produceRateLimitCacheExpiryConfig,
+      RateLimitBackend backend,
+      Provider<ProduceTokenBuckets> tokenBuckets) {
+    this(
+        countLimiterProvider,
+        bytesLimiterProvider,
+        countLimiterGlobal,
+        bytesLimiterGlobal,
+        produceRateLimitEnabledConfig,
+        produceRateLimitCacheExpiryConfig,
+        requireNonNull(produceRateLimitEnabledConfig) && backend == RateLimitBackend.TOKEN_BUCKET
+            ? tokenBuckets.get()
+            : null);
+  }
+
+  /**
+   * If {@code tokenBuckets} is not null, the produce rate-limits are checked against it rather
+   * than against the given rate-limiters.
+   */
+  public ProduceRateLimiters(
+      Provider<RequestRateLimiter> countLimiterProvider,
+      Provider<RequestRateLimiter> bytesLimiterProvider,
+      Provider<RequestRateLimiter> countLimiterGlobal,
+      Provider<RequestRateLimiter> bytesLimiterGlobal,
+      Boolean produceRateLimitEnabledConfig,
+      Duration produceRateLimitCacheExpiryConfig,
+      @Nullable ProduceTokenBuckets tokenBuckets) {
     this.rateLimitingEnabled = requireNonNull(produceRateLimitEnabledConfig);
+    this.tokenBuckets = tokenBuckets;
     this.countLimiterGlobal = requireNonNull(countLimiterGlobal);
     this.bytesLimiterGlobal = requireNonNull(bytesLimiterGlobal);
 
@@ -71,6 +120,17 @@ public class ProduceRateLimiters {
       return;
     }
 
+    if (tokenBuckets != null) {
+      Optional<ProduceTokenBuckets.Limit> exceeded =
+          tokenBuckets.tryAcquire(clusterId, requestSize);
+      if (exceeded.isPresent()) {
+        httpServletRequest.setAttribute(
+            CustomLogRequestAttributes.REST_ERROR_CODE, exceeded.get().getErrorCode());
+        throw new RateLimitExceededException();
+      }
+      return;
+    }
+
     // Apply global rate-limits
     try {
       // Global rate limit first to reduce CPU usage under load
@@ -115,5 +175,8 @@ public class ProduceRateLimiters {
   public void clear() {
     countCache.invalidateAll();
     bytesCache.invalidateAll();
+    if (tokenBuckets != null) {
+      tokenBuckets.clear();
+    }
   }
 }
@@ -29,13 +29,7 @@ import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.MetricNameTemplate;
 import org.apache.kafka.common.metrics.Metrics;
 import org.apache.kafka.common.metrics.Sensor;
-import org.apache.kafka.common.metrics.stats.Avg;
-import org.apache.kafka.common.metrics.stats.Max;
-import org.apache.kafka.common.metrics.stats.Meter;
 import org.apache.kafka.common.metrics.stats.Percentile;
-import org.apache.kafka.common.metrics.stats.Percentiles;
-import org.apache.kafka.common.metrics.stats.Rate;
-import org.apache.kafka.common.metrics.stats.WindowedCount;
 import org.apache.kafka.common.utils.Time;
 
 // CHECKSTYLE:OFF:ClassDataAbstractionCoupling
@@ -105,12 +99,12 @@ final class ProducerMetrics {
 
   private final Metrics metrics;
   private final String jmxPrefix;
-  private final String requestSensorName;
-  private final String requestSizeSensorName;
-  private final String responseSensorName;
-  private final String recordErrorSensorName;
-  private final String recordRateLimitedSensorName;
-  private final String requestLatencySensorName;
+  private final StripedSensor.Sum requestSensor;
+  private final StripedSensor.Sum requestSizeSensor;
+  private final StripedSensor.Sum responseSensor;
+  private final StripedSensor.Sum recordErrorSensor;
+  private final StripedSensor.Sum recordRateLimitedSensor;
+  private final StripedSensor.Latency requestLatencySensor;
 
   // TODO: Delete once all usages have been removed.
   ProducerMetrics(KafkaRestConfig config, Time time, Map<String, String> metricsTags) {
@@ -127,121 +121,126 @@ final class ProducerMetrics {
 
     this.metrics = requireNonNull(config.getMetrics());
     this.jmxPrefix = config.getString(KafkaRestConfig.METRICS_JMX_PREFIX_CONFIG);
-    String sensorNamePrefix = jmxPrefix + ":" + GROUP_NAME + ":";
-    this.recordErrorSensorName = sensorNamePrefix + RECORD_ERROR_SENSOR_NAME + sensorTags;
-    this.recordRateLimitedSensorName =
-        sensorNamePrefix + RECORD_RATE_LIMITED_SENSOR_NAME + sensorTags;
-    this.requestSensorName = sensorNamePrefix + REQUEST_SENSOR_NAME + sensorTags;
-    this.requestLatencySensorName = sensorNamePrefix + REQUEST_LATENCY_SENSOR_NAME + sensorTags;
-    this.requestSizeSensorName = sensorNamePrefix + REQUEST_SIZE_SENSOR_NAME + sensorTags;
-    this.responseSensorName = sensorNamePrefix + RESPONSE_SENSOR_NAME + sensorTags;
-
-    setupSensors(sortedMetricsTags, sensorTags);
-  }
 
-  private void setupSensors(Map<String, String> metricsTags, String sensorTags) {
     // request metrics
-    setupRequestSensor(metricsTags, sensorTags);
-    setupRequestSizeSensor(metricsTags, sensorTags);
+    this.requestSensor = setupRequestSensor(sortedMetricsTags, sensorTags);
+    this.requestSizeSensor = setupRequestSizeSensor(sortedMetricsTags, sensorTags);
 
     // response metrics
-    setupResponseSensor(metricsTags, sensorTags);
-    setupRecordErrorSensor(metricsTags, sensorTags);
-    setupRecordRateLimitedSensor(metricsTags, sensorTags);
-    setupRequestLatencySensor(metricsTags, sensorTags);
-  }
-
-  private void setupRequestSensor(Map<String, String> metricsTags, String sensorTags) {
-    Sensor requestSensor = createSensor(REQUEST_SENSOR_NAME, sensorTags);
-    addRate(requestSensor, REQUEST_RATE_METRIC_NAME, REQUEST_RATE_METRIC_DOC, metricsTags);
-    addWindowedCount(
-        requestSensor,
-        REQUEST_COUNT_WINDOWED_METRIC_NAME,
-        REQUEST_COUNT_WINDOWED_METRIC_DOC,
-        metricsTags);
+    this.responseSensor = setupResponseSensor(sortedMetricsTags, sensorTags);
+    this.recordErrorSensor = setupRecordErrorSensor(sortedMetricsTags, sensorTags);
+    this.recordRateLimitedSensor = setupRecordRateLimitedSensor(sortedMetricsTags, sensorTags);
+    this.requestLatencySensor = setupRequestLatencySensor(sortedMetricsTags, sensorTags);
   }
 
-  private void setupRequestSizeSensor(Map<String, String> metricsTags, String sensorTags) {
-    Sensor requestSizeSensor = createSensor(REQUEST_SIZE_SENSOR_NAME, sensorTags);
-    requestSizeSensor.add(createMeter(metrics, metricsTags, "request-byte", "request bytes"));
+  private StripedSensor.Sum setupRequestSensor(
+      Map<String, String> metricsTags, String sensorTags) {
+    StripedSensor.Sum requestSensor =
+        new StripedSensor.Sum(createSensor(REQUEST_SENSOR_NAME, sensorTags));
+    requestSensor.addRate(
+        metrics, getMetricName(REQUEST_RATE_METRIC_NAME, REQUEST_RATE_METRIC_DOC, metricsTags));
+    requestSensor.addWindowedCount(
+        metrics,
+        getMetricName(
+            REQUEST_COUNT_WINDOWED_METRIC_NAME, REQUEST_COUNT_WINDOWED_METRIC_DOC, metricsTags));
+    return (StripedSensor.Sum) requestSensor.shared();
   }
 
-  private Meter createMeter(
-      Metrics metrics, Map<String, String> metricTags, String baseName, String descriptiveName) {
-    MetricName rateMetricName =
+  private StripedSensor.Sum setupRequestSizeSensor(
+      Map<String, String> metricsTags, String sensorTags) {
+    StripedSensor.Sum requestSizeSensor =
+        new StripedSensor.Sum(createSensor(REQUEST_SIZE_SENSOR_NAME, sensorTags));
+    // Like a Meter, but with each stat folding the striped values when measured.
+    requestSizeSensor.addRate(
+        metrics,
         metrics.metricName(
-            baseName + "-rate",
+            "request-byte-rate",
             GROUP_NAME,
-            String.format("The number of %s per second", descriptiveName),
-            metricTags);
-    MetricName totalMetricName =
+            "The number of request bytes per second",
+            metricsTags));
+    requestSizeSensor.addCumulativeSum(
+        metrics,
         metrics.metricName(
-            baseName + "-total",
-            GROUP_NAME,
-            String.format("The total number of %s", descriptiveName),
-            metricTags);
-    return new Meter(rateMetricName, totalMetricName);
+            "request-byte-total", GROUP_NAME, "The total number of request bytes", metricsTags));
+    return (StripedSensor.Sum) requestSizeSensor.shared();
   }
 
-  private void setupResponseSensor(Map<String, String> metricsTags, String sensorTags) {
-    Sensor responseSensor = createSensor(RESPONSE_SENSOR_NAME, sensorTags);
-    addRate(responseSensor, RESPONSE_RATE_METRIC_NAME, RESPONSE_RATE_METRIC_DOC, metricsTags);
-    addWindowedCount(
-        responseSensor,
-        RESPONSE_COUNT_WINDOWED_METRIC_NAME,
-        RESPONSE_COUNT_WINDOWED_METRIC_DOC,
-        metricsTags);
+  private StripedSensor.Sum setupResponseSensor(
+      Map<String, String> metricsTags, String sensorTags) {
+    StripedSensor.Sum responseSensor =
+        new StripedSensor.Sum(createSensor(RESPONSE_SENSOR_NAME, sensorTags));
+    responseSensor.addRate(
+        metrics, getMetricName(RESPONSE_RATE_METRIC_NAME, RESPONSE_RATE_METRIC_DOC, metricsTags));
+    responseSensor.addWindowedCount(
+        metrics,
+        getMetricName(
+            RESPONSE_COUNT_WINDOWED_METRIC_NAME, RESPONSE_COUNT_WINDOWED_METRIC_DOC, metricsTags));
+    return (StripedSensor.Sum) responseSensor.shared();
   }
 
-  private void setupRecordErrorSensor(Map<String, String> metricsTags, String sensorTags) {
-    Sensor recordErrorSensor = createSensor(RECORD_ERROR_SENSOR_NAME, sensorTags);
-    addRate(
-        recordErrorSensor,
-        RECORD_ERROR_RATE_METRIC_NAME,
-        RECORD_ERROR_RATE_METRIC_DOC,
-        metricsTags);
-    addWindowedCount(
-        recordErrorSensor,
-        RECORD_ERROR_COUNT_WINDOWED_METRIC_NAME,
-        RECORD_ERROR_COUNT_WINDOWED_METRIC_DOC,
-        metricsTags);
+  private StripedSensor.Sum setupRecordErrorSensor(
+      Map<String, String> metricsTags, String sensorTags) {
+    StripedSensor.Sum recordErrorSensor =
+        new StripedSensor.Sum(createSensor(RECORD_ERROR_SENSOR_NAME, sensorTags));
+    recordErrorSensor.addRate(
+        metrics,
+        getMetricName(RECORD_ERROR_RATE_METRIC_NAME, RECORD_ERROR_RATE_METRIC_DOC, metricsTags));
+    recordErrorSensor.addWindowedCount(
+        metrics,
+        getMetricName(
+            RECORD_ERROR_COUNT_WINDOWED_METRIC_NAME,
+            RECORD_ERROR_COUNT_WINDOWED_METRIC_DOC,
+            metricsTags));
+    return (StripedSensor.Sum) recordErrorSensor.shared();
   }
 
-  private void setupRecordRateLimitedSensor(Map<String, String> metricsTags, String sensorTags) {
-    Sensor recordRateLimitedSensor = createSensor(RECORD_RATE_LIMITED_SENSOR_NAME, sensorTags);
-    addRate(
-        recordRateLimitedSensor,
-        RECORD_RATE_LIMITED_RATE_METRIC_NAME,
-        RECORD_RATE_LIMITED_RATE_METRIC_DOC,
-        metricsTags);
-    addWindowedCount(
-        recordRateLimitedSensor,
-        RECORD_RATE_LIMITED_COUNT_WINDOWED_METRIC_NAME,
-        RECORD_RATE_LIMITED_COUNT_WINDOWED_METRIC_DOC,
-        metricsTags);
+  private StripedSensor.Sum setupRecordRateLimitedSensor(
+      Map<String, String> metricsTags, String sensorTags) {
+    StripedSensor.Sum recordRateLimitedSensor =
+        new StripedSensor.Sum(createSensor(RECORD_RATE_LIMITED_SENSOR_NAME, sensorTags));
+    recordRateLimitedSensor.addRate(
+        metrics,
+        getMetricName(
+            RECORD_RATE_LIMITED_RATE_METRIC_NAME,
+            RECORD_RATE_LIMITED_RATE_METRIC_DOC,
+            metricsTags));
+    recordRateLimitedSensor.addWindowedCount(
+        metrics,
+        getMetricName(
+            RECORD_RATE_LIMITED_COUNT_WINDOWED_METRIC_NAME,
+            RECORD_RATE_LIMITED_COUNT_WINDOWED_METRIC_DOC,
+            metricsTags));
+    return (StripedSensor.Sum) recordRateLimitedSensor.shared();
   }
 
-  private void setupRequestLatencySensor(Map<String, String> metricsTags, String sensorTags) {
-    Sensor requestLatencySensor = createSensor(REQUEST_LATENCY_SENSOR_NAME, sensorTags);
-    addMax(
-        requestLatencySensor,
-        REQUEST_LATENCY_MAX_METRIC_NAME,
-        REQUEST_LATENCY_MAX_METRIC_DOC,
-        metricsTags);
-    addAvg(
-        requestLatencySensor,
-        REQUEST_LATENCY_AVG_METRIC_NAME,
-        REQUEST_LATENCY_AVG_METRIC_DOC,
-        metricsTags);
-    addPercentiles(
-        requestLatencySensor,
-        REQUEST_LATENCY_PCT_METRIC_PREFIX,
-        ImmutableMap.of(
-            "p95", 0.95,
-            "p99", 0.99,
-            "p999", 0.999),
-        REQUEST_LATENCY_PCT_METRIC_DOC,
-        metricsTags);
+  private StripedSensor.Latency setupRequestLatencySensor(
+      Map<String, String> metricsTags, String sensorTags) {
+    StripedSensor.Latency requestLatencySensor =
+        new StripedSensor.Latency(createSensor(REQUEST_LATENCY_SENSOR_NAME, sensorTags));
+    requestLatencySensor.addMax(
+        metrics,
+        getMetricName(
+            REQUEST_LATENCY_MAX_METRIC_NAME, REQUEST_LATENCY_MAX_METRIC_DOC, metricsTags));
+    requestLatencySensor.addAvg(
+        metrics,
+        getMetricName(
+            REQUEST_LATENCY_AVG_METRIC_NAME, REQUEST_LATENCY_AVG_METRIC_DOC, metricsTags));
+    Map<String, Double> percentiles = ImmutableMap.of("p95", 0.95, "p99", 0.99, "p999", 0.999);
+    requestLatencySensor.addPercentiles(
+        metrics,
+        30 * 1000 * 4,
+        30 * 1000,
+        percentiles.entrySet().stream()
+            .map(
+                entry ->
+                    new Percentile(
+                        getMetricName(
+                            REQUEST_LATENCY_PCT_METRIC_PREFIX + entry.getKey(),
+                            REQUEST_LATENCY_PCT_METRIC_DOC,
+                            metricsTags),
+                        entry.getValue()))
+            .toArray(Percentile[]::new));
+    return (StripedSensor.Latency) requestLatencySensor.shared();
   }
 
   private Sensor createSensor(String name, String sensorTags) {
@@ -250,43 +249,6 @@ final class ProducerMetrics {
     return metrics.sensor(fullSensorName, null, EXPIRY_SECONDS);
   }
 
-  private void addAvg(Sensor sensor, String name, String doc, Map<String, String> metricsTags) {
-    sensor.add(getMetricName(name, doc, metricsTags), new Avg());
-  }
-
-  private void addRate(Sensor sensor, String name, String doc, Map<String, String> metricsTags) {
-    sensor.add(getMetricName(name, doc, metricsTags), new Rate());
-  }
-
-  private void addMax(Sensor sensor, String name, String doc, Map<String, String> metricsTags) {
-    sensor.add(getMetricName(name, doc, metricsTags), new Max());
-  }
-
-  private void addWindowedCount(
-      Sensor sensor, String name, String doc, Map<String, String> metricsTags) {
-    sensor.add(getMetricName(name, doc, metricsTags), new WindowedCount());
-  }
-
-  private void addPercentiles(
-      Sensor sensor,
-      String prefix,
-      Map<String, Double> percentiles,
-      String doc,
-      Map<String, String> metricsTags) {
-    sensor.add(
-        new Percentiles(
-            30 * 1000 * 4,
-            30 * 1000,
-            Percentiles.BucketSizing.CONSTANT,
-            percentiles.entrySet().stream()
-                .map(
-                    entry ->
-                        new Percentile(
-                            getMetricName(prefix + entry.getKey(), doc, metricsTags),
-                            entry.getValue()))
-                .toArray(Percentile[]::new)));
-  }
-
   @VisibleForTesting
   protected MetricName getMetricName(String name, String doc, Map<String, String> metricsTags) {
     return metrics.metricInstance(
@@ -294,34 +256,27 @@ final class ProducerMetrics {
   }
 
   void recordResponse() {
-    recordMetric(responseSensorName, 1.0);
+    responseSensor.record(1);
   }
 
   void recordRequestLatency(long valueMs) {
-    recordMetric(requestLatencySensorName, valueMs);
+    requestLatencySensor.record(valueMs);
   }
 
   void recordError() {
-    recordMetric(recordErrorSensorName, 1.0);
+    recordErrorSensor.record(1);
   }
 
   void recordRateLimited() {
-    recordMetric(recordRateLimitedSensorName, 1.0);
+    recordRateLimitedSensor.record(1);
   }
 
   void recordRequest() {
-    recordMetric(requestSensorName, 1.0);
-  }
-
-  void recordRequestSize(double value) {
-    recordMetric(requestSizeSensorName, value);
+    requestSensor.record(1);
   }
 
-  private void recordMetric(String sensorName, double value) {
-    Sensor sensor = metrics.getSensor(sensorName);
-    if (sensor != null) {
-      sensor.record(value);
-    }
+  void recordRequestSize(long value) {
+    requestSizeSensor.record(value);
   }
   // CHECKSTYLE:ON:ClassDataAbstractionCoupling
 }
@@ -0,0 +1,461 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.resources.v3;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.Measurable;
+import org.apache.kafka.common.metrics.MeasurableStat;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.apache.kafka.common.metrics.stats.Percentiles;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.metrics.stats.WindowedCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the values of a {@link Sensor} into striped cells rather than into the sensor, which
+ * synchronizes every {@link Sensor#record}, so that threads recording values concurrently do not
+ * contend with each other.
+ *
+ * <p>The values recorded so far are folded into the sensor whenever one of its metrics is read, so
+ * the metrics keep their names and read as if the values had been recorded into the sensor. As the
+ * sensor attributes the values to the sample window they are folded in, they are also folded every
+ * second by a background thread, so that recording a value never does more than update a cell.
+ */
+// CHECKSTYLE:OFF:ClassDataAbstractionCoupling
+abstract class StripedSensor {
+
+  private static final Logger log = LoggerFactory.getLogger(StripedSensor.class);
+
+  private static final long FOLD_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+
+  private static final ScheduledExecutorService FOLD_EXECUTOR =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("Striped-sensor-fold-thread-%d")
+              .setDaemon(true)
+              .build());
+
+  private final Sensor sensor;
+  private volatile KafkaMetric foldingMetric;
+  private BackgroundFold backgroundFold;
+
+  StripedSensor(Sensor sensor) {
+    this.sensor = requireNonNull(sensor);
+  }
+
+  /**
+   * Records the values recorded since the last call into {@code sensor}. Only called when measuring
+   * a metric of the sensor, which holds the lock shared by all its metrics.
+   */
+  abstract void fold(Sensor sensor, long nowMs);
+
+  /**
+   * Returns the striped sensor to record values into: this one, or the one that added the metrics
+   * to the sensor first, if several were created for the same sensor. The first metric added must
+   * not be a {@link Percentiles} one. The returned sensor is folded in the background from then
+   * on.
+   */
+  final synchronized StripedSensor shared() {
+    Measurable measurable = requireNonNull(foldingMetric).measurable();
+    if (measurable instanceof Folding && ((Folding) measurable).owner() != this) {
+      return ((Folding) measurable).owner();
+    }
+    if (backgroundFold == null) {
+      backgroundFold = new BackgroundFold(this);
+      backgroundFold.schedule();
+    }
+    return this;
+  }
+
+  final void addPercentilesStat(Metrics metrics, Percentiles stat, MetricName firstName) {
+    sensor.add(stat);
+    if (foldingMetric == null) {
+      foldingMetric = metrics.metric(firstName);
+    }
+  }
+
+  final void add(Metrics metrics, MetricName name, MeasurableStat stat) {
+    sensor.add(name, stat);
+    if (foldingMetric == null) {
+      foldingMetric = metrics.metric(name);
+    }
+  }
+
+  private void foldNow(long nowMs) {
+    fold(sensor, nowMs);
+  }
+
+  /**
+   * Folds a striped sensor every second by measuring one of its metrics, which locks them all, for
+   * as long as the striped sensor is in use.
+   */
+  private static final class BackgroundFold implements Runnable {
+    private final WeakReference<StripedSensor> owner;
+    private volatile ScheduledFuture<?> future;
+
+    private BackgroundFold(StripedSensor owner) {
+      this.owner = new WeakReference<>(owner);
+    }
+
+    private void schedule() {
+      future =
+          FOLD_EXECUTOR.scheduleAtFixedRate(
+              this, FOLD_INTERVAL_MS, FOLD_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+      StripedSensor striped = owner.get();
+      if (striped == null) {
+        future.cancel(/* mayInterruptIfRunning= */ false);
+        return;
+      }
+      try {
+        striped.foldingMetric.metricValue();
+      } catch (RuntimeException e) {
+        log.warn("Failed to fold the values of sensor {}.", striped.sensor.name(), e);
+      }
+    }
+  }
+
+  /**
+   * A striped sensor recording sums, e.g. counts or sizes. They are summed as longs, which unlike
+   * doubles keep the difference between two running totals exact however large they grow.
+   */
+  static final class Sum extends StripedSensor {
+    private final LongAdder total = new LongAdder();
+    private long folded = 0;
+
+    Sum(Sensor sensor) {
+      super(sensor);
+    }
+
+    void record(long value) {
+      total.add(value);
+    }
+
+    void addRate(Metrics metrics, MetricName name) {
+      add(metrics, name, new FoldingRate(this));
+    }
+
+    void addWindowedCount(Metrics metrics, MetricName name) {
+      add(metrics, name, new FoldingWindowedCount(this));
+    }
+
+    void addCumulativeSum(Metrics metrics, MetricName name) {
+      add(metrics, name, new FoldingCumulativeSum(this));
+    }
+
+    /**
+     * Records the sum of the values recorded since the last call in one go. {@link Rate} and
+     * {@link CumulativeSum} read the same for it, and windowed counts are added to the sensor with
+     * {@link #addWindowedCount}, which counts the values summed rather than the calls.
+     */
+    @Override
+    void fold(Sensor sensor, long nowMs) {
+      // Reading the running total rather than resetting it, so concurrent additions are not lost.
+      long current = total.sum();
+      long delta = current - folded;
+      if (delta != 0) {
+        folded = current;
+        sensor.record(delta, nowMs);
+      }
+    }
+  }
+
+  /**
+   * A striped sensor recording latencies in milliseconds into a histogram. Latencies below 128ms
+   * are kept exactly, and larger ones to within 1/64th of their value, like an HDR histogram with
+   * two significant digits. Only the percentiles are read from the histogram: the maximum and the
+   * sum the average is computed from are kept exactly.
+   */
+  static final class Latency extends StripedSensor {
+    private static final int EXACT_BELOW = 128;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+    private static final int BUCKETS =
+        EXACT_BELOW + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final long[] folded = new long[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private long foldedSum = 0;
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    // The latencies being folded, only set while the sensor records them.
+    private final long[] pendingCounts = new long[BUCKETS];
+    private long pendingCount = 0;
+    private long pendingSum = 0;
+
+    Latency(Sensor sensor) {
+      super(sensor);
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = new LongAdder();
+      }
+    }
+
+    void record(long valueMs) {
+      // Counted last, so that a latency folded has always been added to the maximum and the sum.
+      max.accumulate(valueMs);
+      sum.add(valueMs);
+      counts[bucket(valueMs)].increment();
+    }
+
+    void addAvg(Metrics metrics, MetricName name) {
+      add(metrics, name, new FoldingAvg(this));
+    }
+
+    void addMax(Metrics metrics, MetricName name) {
+      add(metrics, name, new FoldingMax(this));
+    }
+
+    void addPercentiles(Metrics metrics, int sizeInBytes, double max, Percentile... percentiles) {
+      addPercentilesStat(
+          metrics,
+          new FoldingPercentiles(this, sizeInBytes, max, percentiles),
+          percentiles[0].name());
+    }
+
+    /**
+     * Records the latencies recorded since the last call with a single {@link Sensor#record} of
+     * their maximum, which is what {@link Max} keeps. {@link Avg} adds their sum and count instead,
+     * and only {@link Percentiles} records them one by one into its histogram.
+     */
+    @Override
+    void fold(Sensor sensor, long nowMs) {
+      int highest = -1;
+      for (int i = 0; i < BUCKETS; i++) {
+        long current = counts[i].sum();
+        long delta = current - folded[i];
+        pendingCounts[i] = delta;
+        if (delta == 0) {
+          continue;
+        }
+        folded[i] = current;
+        pendingCount += delta;
+        highest = i;
+      }
+      if (pendingCount == 0) {
+        return;
+      }
+      // Read after the counts, so these include every latency counted, and possibly some that will
+      // only be counted by the next fold.
+      long currentSum = sum.sum();
+      pendingSum = currentSum - foldedSum;
+      foldedSum = currentSum;
+      // A latency recorded during the last fold may be counted now, but in the maximum it reset.
+      long pendingMax = Math.max(max.getThenReset(), lowestValue(highest));
+      try {
+        sensor.record(pendingMax, nowMs);
+      } finally {
+        pendingCount = 0;
+        pendingSum = 0;
+      }
+    }
+
+    static int bucket(long valueMs) {
+      if (valueMs < EXACT_BELOW) {
+        return (int) Math.max(0, valueMs);
+      }
+      int exponent = Math.min(63 - Long.numberOfLeadingZeros(valueMs), MAX_EXPONENT);
+      int shift = exponent - SUB_BUCKET_BITS;
+      long subBucket = Math.min(valueMs >> shift, 2 * SUB_BUCKETS - 1) - SUB_BUCKETS;
+      return EXACT_BELOW + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + (int) subBucket;
+    }
+
+    static long lowestValue(int bucket) {
+      if (bucket < EXACT_BELOW) {
+        return bucket;
+      }
+      int exponent = (bucket - EXACT_BELOW) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+      long subBucket = (bucket - EXACT_BELOW) % SUB_BUCKETS + SUB_BUCKETS;
+      return subBucket << (exponent - SUB_BUCKET_BITS);
+    }
+  }
+
+  /** A stat that folds the values of its {@link #owner()} before it is measured. */
+  private interface Folding {
+    StripedSensor owner();
+  }
+
+  private static final class FoldingRate extends Rate implements Folding {
+    private final StripedSensor owner;
+
+    private FoldingRate(StripedSensor owner) {
+      this.owner = owner;
+    }
+
+    @Override
+    public StripedSensor owner() {
+      return owner;
+    }
+
+    @Override
+    public double measure(MetricConfig config, long now) {
+      owner.foldNow(now);
+      return super.measure(config, now);
+    }
+  }
+
+  /** A {@link WindowedCount} of the values summed by {@link Sum}, rather than of the calls. */
+  private static final class FoldingWindowedCount extends WindowedCount implements Folding {
+    private final StripedSensor owner;
+
+    private FoldingWindowedCount(StripedSensor owner) {
+      this.owner = owner;
+    }
+
+    @Override
+    public StripedSensor owner() {
+      return owner;
+    }
+
+    @Override
+    protected void update(Sample sample, MetricConfig config, double value, long now) {
+      sample.value += value;
+    }
+
+    @Override
+    public double measure(MetricConfig config, long now) {
+      owner.foldNow(now);
+      return super.measure(config, now);
+    }
+  }
+
+  private static final class FoldingCumulativeSum extends CumulativeSum implements Folding {
+    private final StripedSensor owner;
+
+    private FoldingCumulativeSum(StripedSensor owner) {
+      this.owner = owner;
+    }
+
+    @Override
+    public StripedSensor owner() {
+      return owner;
+    }
+
+    @Override
+    public double measure(MetricConfig config, long now) {
+      owner.foldNow(now);
+      return super.measure(config, now);
+    }
+  }
+
+  /** An {@link Avg} of the latencies folded by {@link Latency}, rather than of their maximum. */
+  private static final class FoldingAvg extends Avg implements Folding {
+    private final Latency owner;
+
+    private FoldingAvg(Latency owner) {
+      this.owner = owner;
+    }
+
+    @Override
+    public StripedSensor owner() {
+      return owner;
+    }
+
+    @Override
+    protected void update(Sample sample, MetricConfig config, double value, long now) {
+      if (owner.pendingCount == 0) {
+        return;
+      }
+      sample.value += owner.pendingSum;
+      // The sample counts the call recording the maximum already.
+      sample.eventCount += owner.pendingCount - 1;
+    }
+
+    @Override
+    public double measure(MetricConfig config, long now) {
+      owner.foldNow(now);
+      return super.measure(config, now);
+    }
+  }
+
+  private static final class FoldingMax extends Max implements Folding {
+    private final Latency owner;
+
+    private FoldingMax(Latency owner) {
+      this.owner = owner;
+    }
+
+    @Override
+    public StripedSensor owner() {
+      return owner;
+    }
+
+    @Override
+    public double measure(MetricConfig config, long now) {
+      owner.foldNow(now);
+      return super.measure(config, now);
+    }
+  }
+
+  /** {@link Percentiles} of the latencies folded by {@link Latency}, not of their maximum. */
+  private static final class FoldingPercentiles extends Percentiles implements Folding {
+    private final Latency owner;
+
+    private FoldingPercentiles(
+        Latency owner, int sizeInBytes, double max, Percentile... percentiles) {
+      super(sizeInBytes, max, BucketSizing.CONSTANT, percentiles);
+      this.owner = owner;
+    }
+
+    @Override
+    public StripedSensor owner() {
+      return owner;
+    }
+
+    @Override
+    protected void update(Sample sample, MetricConfig config, double value, long now) {
+      if (owner.pendingCount == 0) {
+        return;
+      }
+      for (int i = 0; i < Latency.BUCKETS; i++) {
+        double latency = Latency.lowestValue(i);
+        for (long j = 0; j < owner.pendingCounts[i]; j++) {
+          super.update(sample, config, latency, now);
+        }
+      }
+      sample.eventCount += owner.pendingCount - 1;
+    }
+
+    @Override
+    public double value(MetricConfig config, long now, double quantile) {
+      owner.foldNow(now);
+      return super.value(config, now, quantile);
+    }
+  }
+  // CHECKSTYLE:ON:ClassDataAbstractionCoupling
+}
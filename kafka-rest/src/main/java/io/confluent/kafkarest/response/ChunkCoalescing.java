@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.response;
+
+import com.google.auto.value.AutoValue;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * How a {@link StreamingResponse} coalesces responses into chunks of the response body.
+ *
+ * <p>When enabled, responses are buffered for up to {@link #getMaxLinger()} after the first one
+ * is ready, or until {@link #getMaxRecords()} are buffered, and then written as a single chunk.
+ * The bytes on the wire are the same as if each response had been written as its own chunk.
+ */
+@AutoValue
+abstract class ChunkCoalescing {
+
+  static final ChunkCoalescing DISABLED = create(Duration.ZERO, 1, Runnable::run);
+
+  ChunkCoalescing() {}
+
+  abstract Duration getMaxLinger();
+
+  abstract int getMaxRecords();
+
+  /** The executor lingering flushes are run on. */
+  abstract Executor getFlushExecutor();
+
+  final boolean isEnabled() {
+    return !getMaxLinger().isZero() && getMaxRecords() > 1;
+  }
+
+  static ChunkCoalescing create(Duration maxLinger, int maxRecords, Executor flushExecutor) {
+    return new AutoValue_ChunkCoalescing(maxLinger, maxRecords, flushExecutor);
+  }
+}
@@ -20,7 +20,7 @@ import org.glassfish.jersey.server.ChunkedOutput;
 
 public class ChunkedOutputFactory {
 
-  private static final String CHUNK_SEPARATOR = "\r\n";
+  static final String CHUNK_SEPARATOR = "\r\n";
 
   public ChunkedOutput<ResultOrError> getChunkedOutput() {
     return new ChunkedOutput<>(ResultOrError.class, CHUNK_SEPARATOR);
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.entities.v3.ProduceRequest;
 import io.confluent.kafkarest.response.JsonStream.SizeLimitEntityStream;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.WebApplicationException;
@@ -89,7 +90,12 @@ public final class JsonStreamMessageBodyReader implements MessageBodyReader<Json
             JsonParser parser =
                 objectMapper.createParser(
                     wrappedInputStream == null ? entityStream : wrappedInputStream);
-            return objectMapper.readValues(parser, wrappedType);
+            return objectMapper
+                .readerFor(wrappedType)
+                .withAttribute(
+                    ProduceRequest.STREAMING_DATA_ATTRIBUTE,
+                    config.isProduceStreamingDataDeserializationEnabled())
+                .readValues(parser);
           } catch (IOException e) {
             throw new BadRequestException("Unexpected error while starting JSON stream: ", e);
           }
@@ -15,6 +15,21 @@
 
 package io.confluent.kafkarest.response;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.confluent.kafkarest.config.ConfigModule.StreamingPipelineThreadPoolSizeConfig;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.glassfish.hk2.api.AnnotationLiteral;
+import org.glassfish.hk2.api.Factory;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.process.internal.RequestScoped;
 
@@ -23,5 +38,128 @@ public final class ResponseModule extends AbstractBinder {
   protected void configure() {
     bind(CrnFactoryImpl.class).to(CrnFactory.class);
     bind(UrlFactoryImpl.class).to(UrlFactory.class).in(RequestScoped.class);
+    bindFactory(StreamingPipelineExecutorServiceFactory.class)
+        .qualifiedBy(new StreamingPipelineThreadPoolImpl())
+        .to(ExecutorService.class)
+        .in(Singleton.class);
+    bindFactory(StreamingResponseFlushExecutorServiceFactory.class)
+        .qualifiedBy(new StreamingResponseFlushThreadPoolImpl())
+        .to(ExecutorService.class)
+        .in(Singleton.class);
+    bindFactory(StreamedCollectionWriteExecutorServiceFactory.class)
+        .qualifiedBy(new StreamedCollectionWriteThreadPoolImpl())
+        .to(ExecutorService.class)
+        .in(Singleton.class);
+  }
+
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamingPipelineThreadPool {}
+
+  private static final class StreamingPipelineThreadPoolImpl
+      extends AnnotationLiteral<StreamingPipelineThreadPool>
+      implements StreamingPipelineThreadPool {}
+
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamingResponseFlushThreadPool {}
+
+  private static final class StreamingResponseFlushThreadPoolImpl
+      extends AnnotationLiteral<StreamingResponseFlushThreadPool>
+      implements StreamingResponseFlushThreadPool {}
+
+  /**
+   * The threads {@link StreamedCollection}s are written on. {@link
+   * StreamedCollectionMessageBodyWriter} blocks waiting for each chunk, so it must never run on the
+   * thread that completes the chunks, e.g. the Kafka Admin network thread.
+   */
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+  public @interface StreamedCollectionWriteThreadPool {}
+
+  private static final class StreamedCollectionWriteThreadPoolImpl
+      extends AnnotationLiteral<StreamedCollectionWriteThreadPool>
+      implements StreamedCollectionWriteThreadPool {}
+
+  private static final class StreamingPipelineExecutorServiceFactory
+      implements Factory<ExecutorService> {
+
+    private final int threadPoolSize;
+
+    @Inject
+    StreamingPipelineExecutorServiceFactory(
+        @StreamingPipelineThreadPoolSizeConfig Integer threadPoolSize) {
+      this.threadPoolSize = threadPoolSize;
+    }
+
+    @Override
+    public ExecutorService provide() {
+      ThreadFactory namedThreadFactory =
+          new ThreadFactoryBuilder().setNameFormat("Streaming-pipeline-thread-%d").build();
+      // Threads are only started on first use, so this costs nothing while pipelining is disabled.
+      return Executors.newFixedThreadPool(Math.max(threadPoolSize, 1), namedThreadFactory);
+    }
+
+    @Override
+    public void dispose(ExecutorService executorService) {
+      shutdown(executorService);
+    }
+  }
+
+  private static final class StreamingResponseFlushExecutorServiceFactory
+      implements Factory<ExecutorService> {
+
+    @Inject
+    StreamingResponseFlushExecutorServiceFactory() {}
+
+    @Override
+    public ExecutorService provide() {
+      ThreadFactory namedThreadFactory =
+          new ThreadFactoryBuilder().setNameFormat("Streaming-response-flush-thread-%d").build();
+      // Only used when streaming.response.chunk.max.linger.ms is set, and threads are only started
+      // on first use.
+      return Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(), namedThreadFactory);
+    }
+
+    @Override
+    public void dispose(ExecutorService executorService) {
+      shutdown(executorService);
+    }
+  }
+
+  private static final class StreamedCollectionWriteExecutorServiceFactory
+      implements Factory<ExecutorService> {
+
+    @Inject
+    StreamedCollectionWriteExecutorServiceFactory() {}
+
+    @Override
+    public ExecutorService provide() {
+      ThreadFactory namedThreadFactory =
+          new ThreadFactoryBuilder().setNameFormat("Streamed-collection-write-thread-%d").build();
+      // One thread per response being streamed, like the container's own request threads. Only
+      // used when api.v3.topic.configs.list.chunk.size is set.
+      return Executors.newCachedThreadPool(namedThreadFactory);
+    }
+
+    @Override
+    public void dispose(ExecutorService executorService) {
+      shutdown(executorService);
+    }
+  }
+
+  private static void shutdown(ExecutorService executorService) {
+    executorService.shutdown();
+    try {
+      if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
+        executorService.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executorService.shutdownNow();
+    }
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.response;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.kafkarest.entities.v3.ResourceCollection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ResourceCollection} whose data is fetched in chunks while it is written, so that large
+ * collections don't need to be held in memory, and the first chunks reach the client before the
+ * last ones are fetched. Written as the JSON of the equivalent {@link ResourceCollection} by {@link
+ * StreamedCollectionMessageBodyWriter}.
+ *
+ * <p>Each chunk is requested while the previous one is being written. Once the first chunk is
+ * written, a failure to fetch a later one can't change the response status anymore, and aborts the
+ * response instead.
+ */
+public final class StreamedCollection<T> {
+
+  private final String kind;
+  private final ResourceCollection.Metadata metadata;
+  private final ImmutableList<Supplier<CompletableFuture<List<T>>>> chunks;
+
+  public StreamedCollection(
+      String kind,
+      ResourceCollection.Metadata metadata,
+      List<Supplier<CompletableFuture<List<T>>>> chunks) {
+    this.kind = requireNonNull(kind);
+    this.metadata = requireNonNull(metadata);
+    this.chunks = ImmutableList.copyOf(chunks);
+  }
+
+  public String getKind() {
+    return kind;
+  }
+
+  public ResourceCollection.Metadata getMetadata() {
+    return metadata;
+  }
+
+  public ImmutableList<Supplier<CompletableFuture<List<T>>>> getChunks() {
+    return chunks;
+  }
+}
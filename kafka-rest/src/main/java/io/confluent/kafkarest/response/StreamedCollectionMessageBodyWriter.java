@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.response;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MessageBodyWriter} for {@link StreamedCollection}. Writes and flushes the data of each
+ * chunk as soon as it is fetched.
+ *
+ * <p>Blocks waiting for each chunk, so the collection must not be written on a thread the chunks
+ * are completed on. See {@link ResponseModule.StreamedCollectionWriteThreadPool}.
+ */
+public final class StreamedCollectionMessageBodyWriter
+    implements MessageBodyWriter<StreamedCollection<?>> {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter objectWriter;
+
+  public StreamedCollectionMessageBodyWriter(ObjectMapper objectMapper) {
+    this.objectMapper = requireNonNull(objectMapper);
+    // Flushed once per chunk instead.
+    this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @Override
+  public boolean isWriteable(
+      Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return StreamedCollection.class.equals(type)
+        && MediaType.APPLICATION_JSON_TYPE.getType().equalsIgnoreCase(mediaType.getType())
+        && MediaType.APPLICATION_JSON_TYPE.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+  }
+
+  @Override
+  public void writeTo(
+      StreamedCollection<?> collection,
+      Class<?> type,
+      Type genericType,
+      Annotation[] annotations,
+      MediaType mediaType,
+      MultivaluedMap<String, Object> httpHeaders,
+      OutputStream entityStream)
+      throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(entityStream);
+    // The container owns the entity stream.
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    generator.writeStartObject();
+    generator.writeStringField("kind", collection.getKind());
+    generator.writeFieldName("metadata");
+    objectWriter.writeValue(generator, collection.getMetadata());
+    generator.writeArrayFieldStart("data");
+
+    List<? extends Supplier<? extends CompletableFuture<? extends List<?>>>> chunks =
+        collection.getChunks();
+    CompletableFuture<? extends List<?>> next = chunks.isEmpty() ? null : chunks.get(0).get();
+    for (int i = 0; i < chunks.size(); i++) {
+      CompletableFuture<? extends List<?>> current = next;
+      next = i + 1 < chunks.size() ? chunks.get(i + 1).get() : null;
+      for (Object value : await(current)) {
+        objectWriter.writeValue(generator, value);
+      }
+      generator.flush();
+    }
+
+    generator.writeEndArray();
+    generator.writeEndObject();
+    generator.close();
+  }
+
+  private static List<?> await(CompletableFuture<? extends List<?>> chunk) throws IOException {
+    try {
+      return chunk.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while fetching the collection.");
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to fetch the collection.", e.getCause());
+    }
+  }
+}
@@ -18,9 +18,14 @@ package io.confluent.kafkarest.response;
 import static java.util.Objects.requireNonNull;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.jakarta.rs.base.JsonMappingExceptionMapper;
 import com.fasterxml.jackson.jakarta.rs.base.JsonParseExceptionMapper;
 import com.google.auto.value.AutoValue;
@@ -48,10 +53,13 @@ import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.glassfish.jersey.server.ChunkedOutput;
@@ -68,6 +76,10 @@ import org.slf4j.LoggerFactory;
  *     .compose(request -> computeResponse(request))
  *     .resume(asyncResponse);
  * }</pre>
+ *
+ * <p>Requests whose transformation has an expensive, order-insensitive part can use {@link
+ * #compose(Function, Function, Executor, int)} to run that part in parallel, while still applying
+ * the order-sensitive part, and writing the responses, in request order.
  */
 // CHECKSTYLE:OFF:ClassDataAbstractionCoupling
 public abstract class StreamingResponse<T> {
@@ -113,6 +125,7 @@ public abstract class StreamingResponse<T> {
   private final Duration gracePeriod;
   private final Instant streamStartTime;
   private final Clock clock;
+  private final ChunkCoalescing chunkCoalescing;
 
   volatile boolean closingStarted = false;
 
@@ -120,12 +133,14 @@ public abstract class StreamingResponse<T> {
       ChunkedOutputFactory chunkedOutputFactory,
       Duration maxDuration,
       Duration gracePeriod,
-      Clock clock) {
+      Clock clock,
+      ChunkCoalescing chunkCoalescing) {
     this.clock = clock;
     this.streamStartTime = clock.instant();
     this.chunkedOutputFactory = requireNonNull(chunkedOutputFactory);
     this.maxDuration = maxDuration;
     this.gracePeriod = gracePeriod;
+    this.chunkCoalescing = requireNonNull(chunkCoalescing);
   }
 
   public static <T> StreamingResponse<T> from(
@@ -133,8 +148,23 @@ public abstract class StreamingResponse<T> {
       ChunkedOutputFactory chunkedOutputFactory,
       Duration maxDuration,
       Duration gracePeriod) {
+    return from(
+        inputStream, chunkedOutputFactory, maxDuration, gracePeriod, ChunkCoalescing.DISABLED);
+  }
+
+  static <T> StreamingResponse<T> from(
+      JsonStream<T> inputStream,
+      ChunkedOutputFactory chunkedOutputFactory,
+      Duration maxDuration,
+      Duration gracePeriod,
+      ChunkCoalescing chunkCoalescing) {
     return new InputStreamingResponse<>(
-        inputStream, chunkedOutputFactory, maxDuration, gracePeriod, Clock.systemUTC());
+        inputStream,
+        chunkedOutputFactory,
+        maxDuration,
+        gracePeriod,
+        Clock.systemUTC(),
+        chunkCoalescing);
   }
 
   @VisibleForTesting
@@ -145,7 +175,12 @@ public abstract class StreamingResponse<T> {
       Duration gracePeriod,
       Clock clock) {
     return new InputStreamingResponse<>(
-        inputStream, chunkedOutputFactory, maxDuration, gracePeriod, clock);
+        inputStream,
+        chunkedOutputFactory,
+        maxDuration,
+        gracePeriod,
+        clock,
+        ChunkCoalescing.DISABLED);
   }
 
   public final <O> StreamingResponse<O> compose(
@@ -154,6 +189,37 @@ public abstract class StreamingResponse<T> {
         this, transform, chunkedOutputFactory, maxDuration, gracePeriod);
   }
 
+  /**
+   * Like {@link #compose(Function)}, but splits the transformation in two stages.
+   *
+   * <p>{@code prepare} is applied on {@code executor}, so up to {@code maxInFlight} requests can be
+   * prepared concurrently. {@code transform} is then applied to the prepared requests strictly in
+   * the order the requests were read in, regardless of the order in which their preparation
+   * completes. Once {@code maxInFlight} requests are waiting on {@code transform}, reading the next
+   * request blocks until one of them is done.
+   *
+   * <p>If {@code executor} is null both stages are applied inline, exactly as {@code
+   * compose(request -> transform.apply(prepare.apply(request)))} would.
+   */
+  public final <P, O> StreamingResponse<O> compose(
+      Function<? super T, ? extends P> prepare,
+      Function<? super P, ? extends CompletableFuture<O>> transform,
+      @Nullable Executor executor,
+      int maxInFlight) {
+    if (executor == null) {
+      return compose(request -> transform.apply(prepare.apply(request)));
+    }
+    return new PipelinedStreamingResponse<>(
+        this,
+        prepare,
+        transform,
+        executor,
+        maxInFlight,
+        chunkedOutputFactory,
+        maxDuration,
+        gracePeriod);
+  }
+
   /**
    * Stream requests in and start transforming them into responses.
    *
@@ -163,7 +229,8 @@ public abstract class StreamingResponse<T> {
   public final void resume(
       AsyncResponse asyncResponse, ProduceRecordErrorCounter produceRecordErrorCounter) {
     log.debug("Resuming StreamingResponse");
-    AsyncResponseQueue responseQueue = new AsyncResponseQueue(chunkedOutputFactory);
+    AsyncResponseQueue responseQueue =
+        new AsyncResponseQueue(chunkedOutputFactory, chunkCoalescing);
     responseQueue.asyncResume(asyncResponse);
     ScheduledExecutorService executorService = null;
 
@@ -258,8 +325,9 @@ public abstract class StreamingResponse<T> {
         ChunkedOutputFactory chunkedOutputFactory,
         Duration maxDuration,
         Duration gracePeriod,
-        Clock clock) {
-      super(chunkedOutputFactory, maxDuration, gracePeriod, clock);
+        Clock clock,
+        ChunkCoalescing chunkCoalescing) {
+      super(chunkedOutputFactory, maxDuration, gracePeriod, clock, chunkCoalescing);
       this.inputStream = requireNonNull(inputStream);
     }
 
@@ -319,26 +387,19 @@ public abstract class StreamingResponse<T> {
         ChunkedOutputFactory chunkedOutputFactory,
         Duration maxDuration,
         Duration gracePeriod) {
-      super(chunkedOutputFactory, maxDuration, gracePeriod, streamingResponseInput.clock);
+      super(
+          chunkedOutputFactory,
+          maxDuration,
+          gracePeriod,
+          streamingResponseInput.clock,
+          streamingResponseInput.chunkCoalescing);
       this.streamingResponseInput = requireNonNull(streamingResponseInput);
       this.transform = requireNonNull(transform);
     }
 
     @Override
     public boolean hasNext() {
-      try {
-        return streamingResponseInput.hasNext();
-      } catch (BadRequestException e) {
-        // hasNext() hangs on an empty queue.  If the mapping iterator is closed during this
-        // hang, then it throws an ArrayOutOfBoundsException.
-        if (closingStarted
-            && e.getCause() != null
-            && e.getCause() instanceof ArrayIndexOutOfBoundsException) {
-          return false;
-        } else {
-          throw e;
-        }
-      }
+      return hasNextInput(streamingResponseInput, closingStarted);
     }
 
     @Override
@@ -351,9 +412,100 @@ public abstract class StreamingResponse<T> {
     }
   }
 
+  private static final class PipelinedStreamingResponse<I, P, O> extends StreamingResponse<O> {
+
+    private final StreamingResponse<I> streamingResponseInput;
+    private final Function<? super I, ? extends P> prepare;
+    private final Function<? super P, ? extends CompletableFuture<O>> transform;
+    private final Executor executor;
+    private final Semaphore inFlight;
+
+    // Completes once transform has been applied to the last request read in. Each request waits
+    // on its predecessor's before being transformed, which is what keeps transform in order. Only
+    // accessed by the thread reading the requests in.
+    private CompletableFuture<?> lastTransformed = CompletableFuture.completedFuture(null);
+
+    private PipelinedStreamingResponse(
+        StreamingResponse<I> streamingResponseInput,
+        Function<? super I, ? extends P> prepare,
+        Function<? super P, ? extends CompletableFuture<O>> transform,
+        Executor executor,
+        int maxInFlight,
+        ChunkedOutputFactory chunkedOutputFactory,
+        Duration maxDuration,
+        Duration gracePeriod) {
+      super(
+          chunkedOutputFactory,
+          maxDuration,
+          gracePeriod,
+          streamingResponseInput.clock,
+          streamingResponseInput.chunkCoalescing);
+      this.streamingResponseInput = requireNonNull(streamingResponseInput);
+      this.prepare = requireNonNull(prepare);
+      this.transform = requireNonNull(transform);
+      this.executor = requireNonNull(executor);
+      this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return hasNextInput(streamingResponseInput, closingStarted);
+    }
+
+    @Override
+    public CompletableFuture<O> next() {
+      try {
+        // Blocking here stops us from reading further requests in, which pushes back on the
+        // client instead of queueing up an unbounded amount of work.
+        inFlight.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return CompletableFutures.failedFuture(e);
+      }
+
+      CompletableFuture<P> prepared;
+      try {
+        prepared = streamingResponseInput.next().thenApplyAsync(prepare, executor);
+      } catch (RuntimeException e) {
+        inFlight.release();
+        throw e;
+      }
+
+      CompletableFuture<CompletableFuture<O>> transformed =
+          lastTransformed
+              .handle((unused, error) -> null)
+              .thenCombine(prepared, (unused, request) -> transform.apply(request));
+      transformed.whenComplete((unused, error) -> inFlight.release());
+      lastTransformed = transformed;
+
+      return transformed.thenCompose(Function.identity());
+    }
+
+    public void close() {
+      streamingResponseInput.close();
+    }
+  }
+
+  private static boolean hasNextInput(StreamingResponse<?> input, boolean closingStarted) {
+    try {
+      return input.hasNext();
+    } catch (BadRequestException e) {
+      // hasNext() hangs on an empty queue.  If the mapping iterator is closed during this
+      // hang, then it throws an ArrayOutOfBoundsException.
+      if (closingStarted
+          && e.getCause() != null
+          && e.getCause() instanceof ArrayIndexOutOfBoundsException) {
+        return false;
+      } else {
+        throw e;
+      }
+    }
+  }
+
   private static final class AsyncResponseQueue {
 
     private final ChunkedOutput<ResultOrError> sink;
+    private final ChunkCoalescing chunkCoalescing;
 
     // tail is the end of a linked list of completable futures. The futures are tied together by
     // allOf completion handles. For example, let's say we push 3 futures into the queue:
@@ -368,9 +520,16 @@ public abstract class StreamingResponse<T> {
     // then(allOf((f_i-1), f_i), write(f_i)) monad is made available for garbage collection.
     private CompletableFuture<Void> tail;
 
-    private AsyncResponseQueue(ChunkedOutputFactory chunkedOutputFactory) {
+    // When coalescing chunks, the responses written since the last flush, in order. Guarded by
+    // this, as flushes can also be triggered by the linger timeout.
+    private List<ResultOrError> pending = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    private AsyncResponseQueue(
+        ChunkedOutputFactory chunkedOutputFactory, ChunkCoalescing chunkCoalescing) {
       sink = chunkedOutputFactory.getChunkedOutput();
       tail = CompletableFuture.completedFuture(null);
+      this.chunkCoalescing = chunkCoalescing;
     }
 
     private void asyncResume(AsyncResponse asyncResponse) {
@@ -395,8 +554,12 @@ public abstract class StreamingResponse<T> {
                         return null;
                       }
                       ResultOrError res = result.join();
-                      log.debug("Writing to sink");
-                      sink.write(res);
+                      if (chunkCoalescing.isEnabled()) {
+                        coalesce(res);
+                      } else {
+                        log.debug("Writing to sink");
+                        sink.write(res);
+                      }
                     } catch (IOException e) {
                       log.error("Error when writing streaming result to response channel.", e);
                     }
@@ -404,10 +567,53 @@ public abstract class StreamingResponse<T> {
                   });
     }
 
+    private synchronized void coalesce(ResultOrError res) throws IOException {
+      pending.add(res);
+      if (pending.size() >= chunkCoalescing.getMaxRecords()) {
+        flush();
+      } else if (!flushScheduled) {
+        // A flush already scheduled for an earlier chunk might pick this one up before its linger
+        // is up, which is fine: the linger is an upper bound.
+        flushScheduled = true;
+        CompletableFuture.runAsync(
+            this::lingerExpired,
+            CompletableFuture.delayedExecutor(
+                chunkCoalescing.getMaxLinger().toNanos(),
+                TimeUnit.NANOSECONDS,
+                chunkCoalescing.getFlushExecutor()));
+      }
+    }
+
+    private synchronized void lingerExpired() {
+      flushScheduled = false;
+      try {
+        flush();
+      } catch (IOException e) {
+        log.error("Error when writing streaming result to response channel.", e);
+      }
+    }
+
+    private synchronized void flush() throws IOException {
+      if (pending.isEmpty()) {
+        return;
+      }
+      List<ResultOrError> chunk = pending;
+      pending = new ArrayList<>();
+      if (sinkClosed || sink.isClosed()) {
+        sinkClosed = true;
+        return;
+      }
+      log.debug("Writing {} coalesced results to sink", chunk.size());
+      sink.write(chunk.size() == 1 ? chunk.get(0) : ResultOrError.batch(chunk));
+    }
+
     private void close() {
       tail.whenComplete(
           (unused, throwable) -> {
             try {
+              if (chunkCoalescing.isEnabled()) {
+                flush();
+              }
               sinkClosed = true;
               sink.close();
             } catch (IOException e) {
@@ -426,6 +632,10 @@ public abstract class StreamingResponse<T> {
     public static ErrorHolder error(ErrorResponse error) {
       return new AutoValue_StreamingResponse_ErrorHolder(error);
     }
+
+    static BatchHolder batch(List<ResultOrError> results) {
+      return new AutoValue_StreamingResponse_BatchHolder(ImmutableList.copyOf(results));
+    }
   }
 
   @AutoValue
@@ -446,6 +656,37 @@ public abstract class StreamingResponse<T> {
     abstract ErrorResponse getError();
   }
 
+  /** Several results written as a single chunk. See {@link BatchHolderSerializer}. */
+  @AutoValue
+  @JsonSerialize(using = BatchHolderSerializer.class)
+  abstract static class BatchHolder extends ResultOrError {
+
+    BatchHolder() {}
+
+    abstract ImmutableList<ResultOrError> getResults();
+  }
+
+  private static final class BatchHolderSerializer extends StdSerializer<BatchHolder> {
+
+    private static final SerializedString SEPARATOR =
+        new SerializedString(ChunkedOutputFactory.CHUNK_SEPARATOR);
+
+    private BatchHolderSerializer() {
+      super(BatchHolder.class);
+    }
+
+    @Override
+    public void serialize(BatchHolder value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      // Write each result as its own root-level value, separated like chunks are, so the batch is
+      // indistinguishable on the wire from the individual chunks it replaces.
+      generator.setRootValueSeparator(SEPARATOR);
+      for (ResultOrError result : value.getResults()) {
+        provider.defaultSerializeValue(result, generator);
+      }
+    }
+  }
+
   private static final class ErrorMapper<T extends Throwable> {
 
     private final Class<T> errorClass;
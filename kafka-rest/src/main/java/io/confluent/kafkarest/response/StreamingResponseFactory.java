@@ -19,26 +19,79 @@ import static java.util.Objects.requireNonNull;
 
 import io.confluent.kafkarest.config.ConfigModule.StreamingMaxConnectionDurationConfig;
 import io.confluent.kafkarest.config.ConfigModule.StreamingMaxConnectionGracePeriod;
+import io.confluent.kafkarest.config.ConfigModule.StreamingPipelineMaxInFlightRequestsConfig;
+import io.confluent.kafkarest.config.ConfigModule.StreamingPipelineThreadPoolSizeConfig;
+import io.confluent.kafkarest.config.ConfigModule.StreamingResponseChunkMaxLingerConfig;
+import io.confluent.kafkarest.config.ConfigModule.StreamingResponseChunkMaxRecordsConfig;
+import io.confluent.kafkarest.response.ResponseModule.StreamingPipelineThreadPool;
+import io.confluent.kafkarest.response.ResponseModule.StreamingResponseFlushThreadPool;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 public final class StreamingResponseFactory {
 
   private final ChunkedOutputFactory chunkedOutputFactory;
   private final Duration maxDuration;
   private final Duration gracePeriod;
+  @Nullable private final ExecutorService pipelineExecutor;
+  private final int pipelineMaxInFlight;
+  private final ChunkCoalescing chunkCoalescing;
+
+  public StreamingResponseFactory(
+      ChunkedOutputFactory chunkedOutputFactory, Duration maxDuration, Duration gracePeriod) {
+    this(
+        chunkedOutputFactory,
+        maxDuration,
+        gracePeriod,
+        /* pipelineThreadPoolSize= */ 0,
+        /* pipelineMaxInFlight= */ 1,
+        /* pipelineExecutor= */ null,
+        /* chunkMaxLinger= */ Duration.ZERO,
+        /* chunkMaxRecords= */ 1,
+        /* chunkFlushExecutor= */ null);
+  }
 
   @Inject
   public StreamingResponseFactory(
       ChunkedOutputFactory chunkedOutputFactory,
       @StreamingMaxConnectionDurationConfig Duration maxDuration,
-      @StreamingMaxConnectionGracePeriod Duration gracePeriod) {
+      @StreamingMaxConnectionGracePeriod Duration gracePeriod,
+      @StreamingPipelineThreadPoolSizeConfig Integer pipelineThreadPoolSize,
+      @StreamingPipelineMaxInFlightRequestsConfig Integer pipelineMaxInFlight,
+      @StreamingPipelineThreadPool ExecutorService pipelineExecutor,
+      @StreamingResponseChunkMaxLingerConfig Duration chunkMaxLinger,
+      @StreamingResponseChunkMaxRecordsConfig Integer chunkMaxRecords,
+      @StreamingResponseFlushThreadPool ExecutorService chunkFlushExecutor) {
     this.chunkedOutputFactory = requireNonNull(chunkedOutputFactory);
     this.maxDuration = maxDuration;
     this.gracePeriod = gracePeriod;
+    this.pipelineExecutor = pipelineThreadPoolSize > 0 ? requireNonNull(pipelineExecutor) : null;
+    this.pipelineMaxInFlight = pipelineMaxInFlight;
+    this.chunkCoalescing =
+        chunkMaxLinger.isZero() || chunkMaxRecords <= 1
+            ? ChunkCoalescing.DISABLED
+            : ChunkCoalescing.create(
+                chunkMaxLinger, chunkMaxRecords, requireNonNull(chunkFlushExecutor));
   }
 
   public <T> StreamingResponse<T> from(JsonStream<T> inputStream) {
-    return StreamingResponse.from(inputStream, chunkedOutputFactory, maxDuration, gracePeriod);
+    return StreamingResponse.from(
+        inputStream, chunkedOutputFactory, maxDuration, gracePeriod, chunkCoalescing);
+  }
+
+  /**
+   * Composes {@code prepare} and {@code transform} onto {@code input}, running {@code prepare} in
+   * parallel if streaming pipelining is enabled. See {@link StreamingResponse#compose(Function,
+   * Function, java.util.concurrent.Executor, int)}.
+   */
+  public <T, P, O> StreamingResponse<O> pipeline(
+      StreamingResponse<T> input,
+      Function<? super T, ? extends P> prepare,
+      Function<? super P, ? extends CompletableFuture<O>> transform) {
+    return input.compose(prepare, transform, pipelineExecutor, pipelineMaxInFlight);
   }
 }
@@ -15,25 +15,42 @@
 
 package io.confluent.kafkarest.v2;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.confluent.kafkarest.ConsumerInstanceId;
 import io.confluent.kafkarest.ConsumerRecordAndSize;
 import io.confluent.kafkarest.KafkaRestConfig;
 import io.confluent.kafkarest.entities.ConsumerInstanceConfig;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.errors.SerializationException;
 
+/**
+ * JSON implementation of KafkaConsumerState, which decodes into Objects.
+ *
+ * <p>If {@link KafkaRestConfig#CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_CONFIG} is set, keys and values
+ * are instead only tokenized to check that they hold a single JSON value, and are returned as a
+ * {@link RawValue} that is written to the response verbatim.
+ */
 public class JsonKafkaConsumerState extends KafkaConsumerState<byte[], byte[], Object, Object> {
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
 
+  private static final JsonFactory jsonFactory = objectMapper.getFactory();
+
+  private final boolean rawPassthrough;
+
   public JsonKafkaConsumerState(
       KafkaRestConfig config,
       ConsumerInstanceConfig consumerInstanceConfig,
       ConsumerInstanceId instanceId,
       Consumer consumer) {
     super(config, consumerInstanceConfig, instanceId, consumer);
+    this.rawPassthrough = config.isConsumerJsonRawPassthroughEnabled();
   }
 
   @Override
@@ -46,7 +63,8 @@ public class JsonKafkaConsumerState extends KafkaConsumerState<byte[], byte[], O
 
     // The extra serialization here is unfortunate. We could use @JsonRawValue
     // and just use the raw bytes, but that risks returning invalid data to the user
-    // if their data is not actually JSON encoded.
+    // if their data is not actually JSON encoded. The raw passthrough mode avoids it by
+    // validating the bytes first.
 
     if (record.key() != null) {
       approxSize += record.key().length;
@@ -65,10 +83,46 @@ public class JsonKafkaConsumerState extends KafkaConsumerState<byte[], byte[], O
   }
 
   private Object deserialize(byte[] data) {
+    if (rawPassthrough && isSingleUtf8Value(data)) {
+      return new RawValue(new String(data, StandardCharsets.UTF_8));
+    }
     try {
       return objectMapper.readValue(data, Object.class);
     } catch (Exception e) {
       throw new SerializationException(e);
     }
   }
+
+  /**
+   * Returns whether {@code data} is a single UTF-8 encoded JSON value, which can be copied into the
+   * response as is. Throws a {@link SerializationException} if it is not valid JSON.
+   */
+  private static boolean isSingleUtf8Value(byte[] data) {
+    // Other encodings, and byte order marks, would need to be transcoded.
+    if (data.length == 0
+        || data[0] == 0
+        || (data.length > 1 && data[1] == 0)
+        || (data[0] & 0xFF) >= 0xEF) {
+      return false;
+    }
+    try (JsonParser parser = jsonFactory.createParser(data)) {
+      if (parser.nextToken() == null) {
+        return false;
+      }
+      parser.skipChildren();
+      return isAtEnd(parser);
+    } catch (IOException e) {
+      throw new SerializationException(e);
+    }
+  }
+
+  private static boolean isAtEnd(JsonParser parser) {
+    try {
+      return parser.nextToken() == null;
+    } catch (IOException e) {
+      // Anything after the first value is ignored when deserializing, so it is not an error, but
+      // it can't be copied either.
+      return false;
+    }
+  }
 }
@@ -16,6 +16,7 @@
 package io.confluent.kafkarest.v2;
 
 import static io.confluent.kafkarest.KafkaRestConfig.CONSUMER_MAX_THREADS_CONFIG;
+import static io.confluent.kafkarest.KafkaRestConfig.CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG;
 
 import io.confluent.kafkarest.ConsumerInstanceId;
 import io.confluent.kafkarest.ConsumerReadCallback;
@@ -45,23 +46,26 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 import java.util.Vector;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -83,6 +87,15 @@ import org.slf4j.LoggerFactory;
  * for handling read tasks. Since read tasks do not complete on the first run but rather call the AK
  * consumer's poll() method continuously, we re-schedule them via a {@link DelayQueue}. A {@link
  * ReadTaskSchedulerThread} runs in a separate thread and re-submits the tasks to the executor.
+ *
+ * <p>If {@link KafkaRestConfig#CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG} is set, each task runs on a
+ * new virtual thread instead, so tasks are never rejected.
+ *
+ * <p>If {@link KafkaRestConfig#CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG} is set, read tasks instead
+ * wait for records in a blocking poll() and are re-submitted without any backoff, so that records
+ * are returned as soon as they arrive without busy waiting. Each waiting read holds its thread, so
+ * with a bounded {@link ThreadPoolExecutor}, at most half of its threads wait in blocking polls at
+ * a time. The other read tasks poll without blocking and back off as usual.
  */
 public class KafkaConsumerManager {
 
@@ -93,12 +106,25 @@ public class KafkaConsumerManager {
 
   // KafkaConsumerState is generic, but we store them untyped here. This allows many operations to
   // work without having to know the types for the consumer, only requiring type information
-  // during read operations.
-  private final Map<ConsumerInstanceId, KafkaConsumerState> consumers =
-      new HashMap<ConsumerInstanceId, KafkaConsumerState>();
+  // during read operations. Lookups don't take any lock shared with other consumers, and in
+  // particular never wait on the ExpirationThread sweep. Instead, a consumer is only removed once
+  // it has been evicted (see KafkaConsumerState#evictIfExpired), after which lookups fail.
+  private final ConcurrentMap<ConsumerInstanceId, KafkaConsumerState> consumers =
+      new ConcurrentHashMap<>();
+  // The consumers by the expiration they had when last queued, soonest first. Lookups extend the
+  // expiration of a consumer without requeuing it, so the ExpirationThread only looks at the
+  // consumers whose queued expiration has passed, and requeues those that are still in use.
+  private final PriorityBlockingQueue<QueuedExpiration> expirations =
+      new PriorityBlockingQueue<>();
+  // IDs of consumers being created, reserved so that concurrent creations of the same ID fail.
+  private final Set<ConsumerInstanceId> reservedConsumerIds = ConcurrentHashMap.newKeySet();
   // All kind of operations, like reading records, committing offsets and closing a consumer
-  // are executed separately in dedicated threads via a cached thread pool.
+  // are executed separately in dedicated threads via a cached thread pool, or on a new virtual
+  // thread each.
   private final ExecutorService executor;
+  // Permits for read tasks to wait for records in a blocking poll, so that idle long-poll reads
+  // can't take up all the threads of a bounded executor.
+  private final Semaphore blockingPollPermits;
   private KafkaConsumerFactory consumerFactory;
   final DelayQueue<RunnableReadTask> delayedReadTasks = new DelayQueue<>();
   private final ExpirationThread expirationThread;
@@ -110,43 +136,11 @@ public class KafkaConsumerManager {
   public KafkaConsumerManager(final KafkaRestConfig config) {
     this.config = config;
 
-    // Cached thread pool
-    int maxThreadCount =
-        config.getInt(CONSUMER_MAX_THREADS_CONFIG) < 0
-            ? Integer.MAX_VALUE
-            : config.getInt(CONSUMER_MAX_THREADS_CONFIG);
-
     this.executor =
-        new KafkaConsumerThreadPoolExecutor(
-            0,
-            maxThreadCount,
-            60L,
-            TimeUnit.SECONDS,
-            new SynchronousQueue<Runnable>(),
-            new RejectedExecutionHandler() {
-              @Override
-              public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
-                if (r instanceof ReadFutureTask) {
-                  RunnableReadTask readTask = ((ReadFutureTask) r).readTask;
-                  Duration retry = Duration.ofMillis(ThreadLocalRandom.current().nextInt(25, 76));
-                  log.debug(
-                      "The runnable {} was rejected execution because the thread pool is saturated."
-                          + " Delaying execution for {}ms.",
-                      r,
-                      retry.toMillis());
-                  readTask.delayFor(retry);
-                } else {
-                  log.debug(
-                      "The runnable {} was rejected execution because the thread pool is saturated."
-                          + " Executing on calling thread.",
-                      r);
-                  // run commitOffset and consumer close tasks from the caller thread
-                  if (!executor.isShutdown()) {
-                    r.run();
-                  }
-                }
-              }
-            });
+        config.getBoolean(CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG)
+            ? newVirtualThreadPerTaskExecutor()
+            : newThreadPoolExecutor(config);
+    this.blockingPollPermits = new Semaphore(getBlockingPollPermits(config));
     this.consumerFactory = null;
     this.expirationThread = new ExpirationThread();
     this.readTaskSchedulerThread = new ReadTaskSchedulerThread();
@@ -159,6 +153,78 @@ public class KafkaConsumerManager {
     this.consumerFactory = consumerFactory;
   }
 
+  private ExecutorService newThreadPoolExecutor(KafkaRestConfig config) {
+    // Cached thread pool
+    int maxThreadCount =
+        config.getInt(CONSUMER_MAX_THREADS_CONFIG) < 0
+            ? Integer.MAX_VALUE
+            : config.getInt(CONSUMER_MAX_THREADS_CONFIG);
+
+    return new KafkaConsumerThreadPoolExecutor(
+        0,
+        maxThreadCount,
+        60L,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<Runnable>(),
+        new RejectedExecutionHandler() {
+          @Override
+          public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (r instanceof ReadFutureTask) {
+              RunnableReadTask readTask = ((ReadFutureTask) r).readTask;
+              Duration retry = Duration.ofMillis(ThreadLocalRandom.current().nextInt(25, 76));
+              log.debug(
+                  "The runnable {} was rejected execution because the thread pool is saturated."
+                      + " Delaying execution for {}ms.",
+                  r,
+                  retry.toMillis());
+              readTask.delayFor(retry);
+            } else {
+              log.debug(
+                  "The runnable {} was rejected execution because the thread pool is saturated."
+                      + " Executing on calling thread.",
+                  r);
+              // run commitOffset and consumer close tasks from the caller thread
+              if (!executor.isShutdown()) {
+                r.run();
+              }
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns how many read tasks may wait in a blocking poll at a time: none if blocking polls are
+   * disabled, half of {@code consumer.threads} if that is bounded, or any number otherwise.
+   */
+  private static int getBlockingPollPermits(KafkaRestConfig config) {
+    if (config.getInt(KafkaRestConfig.CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG) == 0) {
+      return 0;
+    }
+    if (config.getBoolean(CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG)
+        || config.getInt(CONSUMER_MAX_THREADS_CONFIG) < 0) {
+      return Integer.MAX_VALUE;
+    }
+    return Math.max(config.getInt(CONSUMER_MAX_THREADS_CONFIG) / 2, 1);
+  }
+
+  /**
+   * Returns an executor that starts a new virtual thread for each task. Virtual threads are only
+   * available from Java 21, so the executor is looked up reflectively.
+   */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new ConfigException(
+          CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG,
+          true,
+          "Virtual threads require Java 21 or later, but running on Java "
+              + Runtime.version().feature()
+              + ".");
+    }
+  }
+
   /**
    * Creates a new consumer instance and returns its unique ID.
    *
@@ -175,18 +241,18 @@ public class KafkaConsumerManager {
     // provide an alternate app name, or just reuse the name.
     String name = getConsumerInstanceName(instanceConfig);
     ConsumerInstanceId cid = new ConsumerInstanceId(group, name);
-    // Perform this check before
-    synchronized (this) {
-      if (consumers.containsKey(cid)) {
-        throw Errors.consumerAlreadyExistsException();
-      } else {
-        // Placeholder to reserve this ID
-        consumers.put(cid, null);
-      }
+    // Perform this check before. The ID is reserved before checking for an existing consumer, and
+    // only released after the new consumer has been added, so that a concurrent creation of the
+    // same ID sees either one or the other.
+    if (!reservedConsumerIds.add(cid)) {
+      throw Errors.consumerAlreadyExistsException();
+    }
+    if (consumers.containsKey(cid)) {
+      reservedConsumerIds.remove(cid);
+      throw Errors.consumerAlreadyExistsException();
     }
 
-    // Ensure we clean up the placeholder if there are any issues creating the consumer instance
-    boolean succeeded = false;
+    // Ensure we release the reservation whether or not creating the consumer instance succeeds
     try {
       log.debug("Creating consumer " + name + " in group " + group);
 
@@ -204,17 +270,11 @@ public class KafkaConsumerManager {
       }
 
       KafkaConsumerState state = createConsumerState(instanceConfig, cid, consumer);
-      synchronized (this) {
-        consumers.put(cid, state);
-      }
-      succeeded = true;
+      consumers.put(cid, state);
+      expirations.add(new QueuedExpiration(state));
       return name;
     } finally {
-      if (!succeeded) {
-        synchronized (this) {
-          consumers.remove(cid);
-        }
-      }
+      reservedConsumerIds.remove(cid);
     }
   }
 
@@ -300,7 +360,11 @@ public class KafkaConsumerManager {
         return new BinaryKafkaConsumerState(config, instanceConfig, cid, consumer);
       case AVRO:
         return new SchemaKafkaConsumerState(
-            config, instanceConfig, cid, consumer, new AvroConverter());
+            config,
+            instanceConfig,
+            cid,
+            consumer,
+            new AvroConverter(config.isConsumerAvroDirectJsonEnabled()));
       case JSON:
         return new JsonKafkaConsumerState(config, instanceConfig, cid, consumer);
       case JSONSCHEMA:
@@ -430,10 +494,19 @@ public class KafkaConsumerManager {
       try {
         log.trace("Executing consumer read task ({})", taskState.task);
 
-        taskState.task.doPartialRead();
+        boolean blocking = blockingPollPermits.tryAcquire();
+        try {
+          taskState.task.doPartialRead(/* mayBlock= */ blocking);
+        } finally {
+          if (blocking) {
+            blockingPollPermits.release();
+          }
+        }
         taskState.consumerState.updateExpiration();
         if (!taskState.task.isDone()) {
-          delayFor(this.backoff);
+          // After a blocking poll, the read task has already waited for records, so it can poll
+          // again straight away.
+          delayFor(blocking ? Duration.ZERO : this.backoff);
         } else {
           log.trace("Finished executing consumer read task ({})", taskState.task);
         }
@@ -651,32 +724,38 @@ public class KafkaConsumerManager {
   public void shutdown() {
     log.debug("Shutting down consumers");
     executor.shutdown();
-    // Expiration thread needs to be able to acquire a lock on the KafkaConsumerManager to make sure
-    // the shutdown will be able to complete.
     log.trace("Shutting down consumer expiration thread");
     expirationThread.shutdown();
     readTaskSchedulerThread.shutdown();
-    synchronized (this) {
-      for (Map.Entry<ConsumerInstanceId, KafkaConsumerState> entry : consumers.entrySet()) {
-        entry.getValue().close();
+    for (ConsumerInstanceId id : consumers.keySet()) {
+      KafkaConsumerState state = consumers.remove(id);
+      if (state != null) {
+        state.close();
       }
-      consumers.clear();
-      executor.shutdown();
     }
+    executor.shutdown();
   }
 
   /**
    * Gets the specified consumer instance or throws a not found exception. Also removes the
    * consumer's expiration timeout so it is not cleaned up mid-operation.
    */
-  private synchronized KafkaConsumerState<?, ?, ?, ?> getConsumerInstance(
+  private KafkaConsumerState<?, ?, ?, ?> getConsumerInstance(
       String group, String instance, boolean toRemove) {
     ConsumerInstanceId id = new ConsumerInstanceId(group, instance);
-    final KafkaConsumerState state = toRemove ? consumers.remove(id) : consumers.get(id);
-    if (state == null) {
+    if (toRemove) {
+      // Whoever removes the consumer closes it, even if it has just expired.
+      final KafkaConsumerState state = consumers.remove(id);
+      if (state == null) {
+        throw Errors.consumerInstanceNotFoundException();
+      }
+      return state;
+    }
+    final KafkaConsumerState state = consumers.get(id);
+    // If the consumer has just been evicted, it is about to be removed and closed.
+    if (state == null || !state.tryUpdateExpiration()) {
       throw Errors.consumerInstanceNotFoundException();
     }
-    state.updateExpiration();
     return state;
   }
 
@@ -684,6 +763,41 @@ public class KafkaConsumerManager {
     return getConsumerInstance(group, instance, false);
   }
 
+  /**
+   * Removes and closes the consumers that have expired by {@code now}. Only the consumers whose
+   * queued expiration has passed are looked at, and those used since are queued again.
+   */
+  void removeExpiredConsumers(Instant now) {
+    QueuedExpiration queued;
+    while ((queued = expirations.poll()) != null) {
+      if (queued.expiration.isAfter(now)) {
+        expirations.add(queued);
+        return;
+      }
+      final KafkaConsumerState state = queued.state;
+      if (consumers.get(state.getId()) != state) {
+        // Deleted already.
+        continue;
+      }
+      if (!state.evictIfExpired(now)) {
+        expirations.add(new QueuedExpiration(state));
+        continue;
+      }
+      // Whoever removes the consumer closes it. If it has been deleted concurrently, the deletion
+      // does.
+      if (consumers.remove(state.getId(), state)) {
+        log.debug("Removing the expired consumer {}", state.getId());
+        executor.submit(
+            new Runnable() {
+              @Override
+              public void run() {
+                state.close();
+              }
+            });
+      }
+    }
+  }
+
   private KafkaConsumerState<?, ?, ?, ?> getConsumerInstance(
       ConsumerInstanceId consumerInstanceId) {
     return getConsumerInstance(consumerInstanceId.getGroup(), consumerInstanceId.getInstance());
@@ -694,6 +808,21 @@ public class KafkaConsumerManager {
     Consumer createConsumer(Properties props);
   }
 
+  private static final class QueuedExpiration implements Comparable<QueuedExpiration> {
+    final KafkaConsumerState state;
+    final Instant expiration;
+
+    QueuedExpiration(KafkaConsumerState state) {
+      this.state = state;
+      this.expiration = state.expiration;
+    }
+
+    @Override
+    public int compareTo(QueuedExpiration other) {
+      return expiration.compareTo(other.expiration);
+    }
+  }
+
   private static class ReadTaskState {
     final KafkaConsumerReadTask task;
     final KafkaConsumerState consumerState;
@@ -758,25 +887,7 @@ public class KafkaConsumerManager {
     public void run() {
       try {
         while (isRunning.get()) {
-          synchronized (KafkaConsumerManager.this) {
-            Instant now = clock.instant();
-            Iterator itr = consumers.values().iterator();
-            while (itr.hasNext()) {
-              final KafkaConsumerState state = (KafkaConsumerState) itr.next();
-              if (state != null && state.expired(now)) {
-                log.debug("Removing the expired consumer {}", state.getId());
-                itr.remove();
-                executor.submit(
-                    new Runnable() {
-                      @Override
-                      public void run() {
-                        state.close();
-                      }
-                    });
-              }
-            }
-          }
-
+          removeExpiredConsumers(clock.instant());
           Thread.sleep(1000);
         }
       } catch (InterruptedException e) {
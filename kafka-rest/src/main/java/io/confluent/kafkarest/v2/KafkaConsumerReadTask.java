@@ -18,7 +18,9 @@ package io.confluent.kafkarest.v2;
 import io.confluent.kafkarest.ConsumerReadCallback;
 import io.confluent.kafkarest.ConsumerRecordAndSize;
 import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.StreamingConsumerReadCallback;
 import io.confluent.kafkarest.entities.ConsumerRecord;
+import jakarta.annotation.Nullable;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -37,6 +39,11 @@ import org.slf4j.LoggerFactory;
  * class uses two pairs of key-value generic type parameters: KafkaK/KafkaV is the format returned
  * by the Kafka consumer's decoder/deserializer, ClientK/ClientV is the format returned to the
  * client in the HTTP response. In some cases these may be identical.
+ *
+ * <p>If the callback is a {@link StreamingConsumerReadCallback} and {@link
+ * KafkaRestConfig#CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG} is positive, the records read
+ * are handed to it whenever about that many bytes of them are pending, and at the end of every
+ * partial read, so that only those are held at any time.
  */
 class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
 
@@ -50,11 +57,18 @@ class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
   // in cases where the functionality is disabled
   private final int responseMinBytes;
   private final long maxResponseBytes;
+  // the maximum time to wait for records in a single poll, or zero to never wait
+  private final Duration maxPollBlock;
   private final ConsumerReadCallback<ClientKeyT, ClientValueT> callback;
+  // the callback records are streamed to, if any
+  @Nullable
+  private final StreamingConsumerReadCallback<ClientKeyT, ClientValueT> streamingCallback;
+  private final long streamingChunkBytes;
   private boolean finished;
 
   private List<ConsumerRecord<ClientKeyT, ClientValueT>> messages;
   private long bytesConsumed = 0;
+  private long bytesPending = 0;
   private boolean exceededMinResponseBytes = false;
   private boolean exceededMaxResponseBytes = false;
   private final Instant started;
@@ -82,8 +96,16 @@ class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
             ? parent.getConsumerInstanceConfig().getResponseMinBytes()
             : config.getInt(KafkaRestConfig.PROXY_FETCH_MIN_BYTES_CONFIG);
     this.responseMinBytes = responseMinBytes < 0 ? Integer.MAX_VALUE : responseMinBytes;
+    this.maxPollBlock =
+        Duration.ofMillis(config.getInt(KafkaRestConfig.CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG));
 
     this.callback = callback;
+    this.streamingChunkBytes =
+        config.getLong(KafkaRestConfig.CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG);
+    this.streamingCallback =
+        streamingChunkBytes > 0 && callback instanceof StreamingConsumerReadCallback
+            ? (StreamingConsumerReadCallback<ClientKeyT, ClientValueT>) callback
+            : null;
     this.finished = false;
 
     started = clock.instant();
@@ -91,13 +113,21 @@ class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
 
   /** Performs one iteration of reading from a consumer iterator. */
   public void doPartialRead() {
+    doPartialRead(/* mayBlock= */ true);
+  }
+
+  /**
+   * Performs one iteration of reading from a consumer iterator, waiting for records in a blocking
+   * poll only if {@code mayBlock}.
+   */
+  void doPartialRead(boolean mayBlock) {
     try {
       // Initial setup requires locking, which must be done on this thread.
       if (messages == null) {
         messages = new Vector<>();
       }
 
-      addRecords();
+      addRecords(mayBlock ? pollTimeout() : Duration.ZERO);
 
       log.trace(
           "KafkaConsumerReadTask exiting read with id={} messages={} bytes={}, backing off if not"
@@ -121,6 +151,8 @@ class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
             exceededMaxResponseBytes,
             exceededMinResponseBytes);
         finish();
+      } else {
+        streamRecords();
       }
     } catch (Exception e) {
       finish(e);
@@ -132,25 +164,68 @@ class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
     return finished;
   }
 
+  /**
+   * Returns how long the first poll of a partial read may wait for records: up to {@link
+   * #maxPollBlock}, but never past the request timeout.
+   */
+  private Duration pollTimeout() {
+    if (maxPollBlock.isZero()) {
+      return Duration.ZERO;
+    }
+    Duration remaining = requestTimeout.minus(Duration.between(started, clock.instant()));
+    if (remaining.isNegative()) {
+      return Duration.ZERO;
+    }
+    return Collections.min(Arrays.asList(remaining, maxPollBlock));
+  }
+
   /**
    * Polls for and reads records until either the minimum response bytes are filled, the maximum
-   * response bytes will be reached, or no more records can be read from polling.
+   * response bytes will be reached, or no more records can be read from polling. Only the first
+   * poll waits for records, for up to {@code pollTimeout}.
    */
-  private void addRecords() {
-    while (!exceededMinResponseBytes && !exceededMaxResponseBytes && parent.hasNext()) {
-      synchronized (parent) {
+  private void addRecords(Duration pollTimeout) {
+    while (!exceededMinResponseBytes && !exceededMaxResponseBytes && parent.hasNext(pollTimeout)) {
+      pollTimeout = Duration.ZERO;
+      parent.lock();
+      try {
         if (parent.hasNext()) {
           maybeAddRecord();
         }
+      } finally {
+        parent.unlock();
       }
+      maybeStreamRecords();
     }
     while (!exceededMaxResponseBytes && parent.hasNextCached()) {
-      synchronized (parent) {
+      parent.lock();
+      try {
         if (parent.hasNextCached()) {
           maybeAddRecord();
         }
+      } finally {
+        parent.unlock();
       }
+      maybeStreamRecords();
+    }
+  }
+
+  /** Streams the pending records if they add up to a whole chunk. */
+  private void maybeStreamRecords() {
+    if (bytesPending >= streamingChunkBytes) {
+      streamRecords();
+    }
+  }
+
+  /** Hands the pending records to the streaming callback, if any. */
+  private void streamRecords() {
+    if (streamingCallback == null || messages.isEmpty()) {
+      return;
     }
+    List<ConsumerRecord<ClientKeyT, ClientValueT>> records = messages;
+    messages = new Vector<>();
+    bytesPending = 0;
+    streamingCallback.onRecords(records);
   }
 
   /**
@@ -170,6 +245,7 @@ class KafkaConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
     messages.add(recordAndSize.getRecord());
     parent.next(); // increment iterator
     bytesConsumed += roughMsgSize;
+    bytesPending += roughMsgSize;
     if (!exceededMinResponseBytes && bytesConsumed > responseMinBytes) {
       this.exceededMinResponseBytes = true;
     }
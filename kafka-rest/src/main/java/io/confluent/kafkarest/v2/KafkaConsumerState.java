@@ -46,8 +46,10 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -64,17 +66,30 @@ import org.apache.kafka.common.TopicPartition;
  */
 public abstract class KafkaConsumerState<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
 
+  // The longest a blocking poll holds the lock for, and so the longest other operations on the
+  // consumer wait for a read.
+  private static final Duration MAX_POLL_SLICE = Duration.ofMillis(100);
+
   private ConsumerInstanceId instanceId;
   private Consumer<KafkaKeyT, KafkaValueT> consumer;
   private final Clock clock = Clock.systemUTC();
   private final Duration consumerInstanceTimeout;
   private final ConsumerInstanceConfig consumerInstanceConfig;
 
+  // Guards the consumer, which is not thread-safe, and the records it has fetched. Unlike a
+  // monitor, holding it doesn't pin a virtual thread to its carrier. It is fair, so that operations
+  // waiting behind a blocking poll get the consumer as soon as the current slice of it returns.
+  private final ReentrantLock lock = new ReentrantLock(/* fair= */ true);
+
+  @GuardedBy("lock")
   private final Queue<ConsumerRecord<KafkaKeyT, KafkaValueT>> consumerRecords = new ArrayDeque<>();
 
   volatile Instant expiration;
   private final Object expirationLock = new Object();
 
+  @GuardedBy("expirationLock")
+  private boolean evicted = false;
+
   KafkaConsumerState(
       KafkaRestConfig config,
       ConsumerInstanceConfig consumerInstanceConfig,
@@ -106,241 +121,312 @@ public abstract class KafkaConsumerState<KafkaKeyT, KafkaValueT, ClientKeyT, Cli
       ConsumerRecord<KafkaKeyT, KafkaValueT> msg);
 
   /** Commit the given list of offsets */
-  public synchronized List<TopicPartitionOffset> commitOffsets(
+  public List<TopicPartitionOffset> commitOffsets(
       String async, ConsumerOffsetCommitRequest offsetCommitRequest) {
-    // If no offsets are given, then commit all the records read so far
-    if (offsetCommitRequest == null) {
-      if (async == null) {
-        consumer.commitSync();
-      } else {
-        consumer.commitAsync();
-      }
-    } else {
-      Map<TopicPartition, OffsetAndMetadata> offsetMap =
-          new HashMap<TopicPartition, OffsetAndMetadata>();
-
-      // commit each given offset
-      for (TopicPartitionOffsetMetadata t : offsetCommitRequest.getOffsets()) {
-        if (t.getMetadata() == null) {
-          offsetMap.put(
-              new TopicPartition(t.getTopic(), t.getPartition()),
-              new OffsetAndMetadata(t.getOffset() + 1));
+    lock.lock();
+    try {
+      // If no offsets are given, then commit all the records read so far
+      if (offsetCommitRequest == null) {
+        if (async == null) {
+          consumer.commitSync();
         } else {
-          offsetMap.put(
-              new TopicPartition(t.getTopic(), t.getPartition()),
-              new OffsetAndMetadata(t.getOffset() + 1, t.getMetadata()));
+          consumer.commitAsync();
         }
+      } else {
+        Map<TopicPartition, OffsetAndMetadata> offsetMap =
+            new HashMap<TopicPartition, OffsetAndMetadata>();
+
+        // commit each given offset
+        for (TopicPartitionOffsetMetadata t : offsetCommitRequest.getOffsets()) {
+          if (t.getMetadata() == null) {
+            offsetMap.put(
+                new TopicPartition(t.getTopic(), t.getPartition()),
+                new OffsetAndMetadata(t.getOffset() + 1));
+          } else {
+            offsetMap.put(
+                new TopicPartition(t.getTopic(), t.getPartition()),
+                new OffsetAndMetadata(t.getOffset() + 1, t.getMetadata()));
+          }
+        }
+        consumer.commitSync(offsetMap);
       }
-      consumer.commitSync(offsetMap);
+      List<TopicPartitionOffset> result = new Vector<TopicPartitionOffset>();
+      return result;
+    } finally {
+      lock.unlock();
     }
-    List<TopicPartitionOffset> result = new Vector<TopicPartitionOffset>();
-    return result;
   }
 
   /** Seek to the first offset for each of the given partitions. */
-  public synchronized void seekToBeginning(ConsumerSeekToRequest seekToRequest) {
-    if (seekToRequest != null) {
-      Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
-
-      for (io.confluent.kafkarest.entities.v2.TopicPartition t : seekToRequest.getPartitions()) {
-        topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
+  public void seekToBeginning(ConsumerSeekToRequest seekToRequest) {
+    lock.lock();
+    try {
+      if (seekToRequest != null) {
+        Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
+
+        for (io.confluent.kafkarest.entities.v2.TopicPartition t : seekToRequest.getPartitions()) {
+          topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
+        }
+        consumer.seekToBeginning(topicPartitions);
       }
-      consumer.seekToBeginning(topicPartitions);
+    } finally {
+      lock.unlock();
     }
   }
 
   /** Seek to the last offset for each of the given partitions. */
-  public synchronized void seekToEnd(ConsumerSeekToRequest seekToRequest) {
-    if (seekToRequest != null) {
-      Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
-
-      for (io.confluent.kafkarest.entities.v2.TopicPartition t : seekToRequest.getPartitions()) {
-        topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
+  public void seekToEnd(ConsumerSeekToRequest seekToRequest) {
+    lock.lock();
+    try {
+      if (seekToRequest != null) {
+        Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
+
+        for (io.confluent.kafkarest.entities.v2.TopicPartition t : seekToRequest.getPartitions()) {
+          topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
+        }
+        consumer.seekToEnd(topicPartitions);
       }
-      consumer.seekToEnd(topicPartitions);
+    } finally {
+      lock.unlock();
     }
   }
 
   /** Overrides the fetch offsets that the consumer will use on the next poll(timeout). */
-  public synchronized void seek(ConsumerSeekRequest request) {
-    if (request == null) {
-      return;
-    }
+  public void seek(ConsumerSeekRequest request) {
+    lock.lock();
+    try {
+      if (request == null) {
+        return;
+      }
 
-    for (ConsumerSeekRequest.PartitionOffset partition : request.getOffsets()) {
-      consumer.seek(
-          new TopicPartition(partition.getTopic(), partition.getPartition()),
-          new OffsetAndMetadata(partition.getOffset(), partition.getMetadata().orElse("")));
-    }
+      for (ConsumerSeekRequest.PartitionOffset partition : request.getOffsets()) {
+        consumer.seek(
+            new TopicPartition(partition.getTopic(), partition.getPartition()),
+            new OffsetAndMetadata(partition.getOffset(), partition.getMetadata().orElse("")));
+      }
 
-    Map<TopicPartition, Optional<String>> metadata =
-        request.getTimestamps().stream()
-            .collect(
-                Collectors.toMap(
-                    partition -> new TopicPartition(partition.getTopic(), partition.getPartition()),
-                    ConsumerSeekRequest.PartitionTimestamp::getMetadata));
-
-    Map<TopicPartition, OffsetAndTimestamp> offsets =
-        consumer.offsetsForTimes(
-            request.getTimestamps().stream()
-                .collect(
-                    Collectors.toMap(
-                        partition ->
-                            new TopicPartition(partition.getTopic(), partition.getPartition()),
-                        partition -> partition.getTimestamp().toEpochMilli())));
-
-    for (Map.Entry<TopicPartition, OffsetAndTimestamp> offset : offsets.entrySet()) {
-      consumer.seek(
-          offset.getKey(),
-          new OffsetAndMetadata(
-              offset.getValue().offset(), metadata.get(offset.getKey()).orElse("")));
+      Map<TopicPartition, Optional<String>> metadata =
+          request.getTimestamps().stream()
+              .collect(
+                  Collectors.toMap(
+                      partition ->
+                          new TopicPartition(partition.getTopic(), partition.getPartition()),
+                      ConsumerSeekRequest.PartitionTimestamp::getMetadata));
+
+      Map<TopicPartition, OffsetAndTimestamp> offsets =
+          consumer.offsetsForTimes(
+              request.getTimestamps().stream()
+                  .collect(
+                      Collectors.toMap(
+                          partition ->
+                              new TopicPartition(partition.getTopic(), partition.getPartition()),
+                          partition -> partition.getTimestamp().toEpochMilli())));
+
+      for (Map.Entry<TopicPartition, OffsetAndTimestamp> offset : offsets.entrySet()) {
+        consumer.seek(
+            offset.getKey(),
+            new OffsetAndMetadata(
+                offset.getValue().offset(), metadata.get(offset.getKey()).orElse("")));
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
   /** Manually assign a list of partitions to this consumer. */
-  public synchronized void assign(ConsumerAssignmentRequest assignmentRequest) {
-    if (assignmentRequest != null) {
-      Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
-
-      for (io.confluent.kafkarest.entities.v2.TopicPartition t :
-          assignmentRequest.getPartitions()) {
-        topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
+  public void assign(ConsumerAssignmentRequest assignmentRequest) {
+    lock.lock();
+    try {
+      if (assignmentRequest != null) {
+        Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
+
+        for (io.confluent.kafkarest.entities.v2.TopicPartition t :
+            assignmentRequest.getPartitions()) {
+          topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
+        }
+        consumer.assign(topicPartitions);
       }
-      consumer.assign(topicPartitions);
+    } finally {
+      lock.unlock();
     }
   }
 
   /** Close the consumer, */
-  public synchronized void close() {
-    if (consumer != null) {
-      consumer.close();
+  public void close() {
+    lock.lock();
+    try {
+      if (consumer != null) {
+        consumer.close();
+      }
+      // Marks this state entry as no longer valid because the consumer group is being destroyed.
+      consumer = null;
+    } finally {
+      lock.unlock();
     }
-    // Marks this state entry as no longer valid because the consumer group is being destroyed.
-    consumer = null;
   }
 
   /** Subscribe to the given list of topics to get dynamically assigned partitions. */
-  public synchronized void subscribe(ConsumerSubscriptionRecord subscription) {
-    if (subscription == null) {
-      return;
-    }
+  public void subscribe(ConsumerSubscriptionRecord subscription) {
+    lock.lock();
+    try {
+      if (subscription == null) {
+        return;
+      }
 
-    if (consumer != null) {
-      if (subscription.getTopics() != null) {
-        consumer.subscribe(subscription.getTopics());
-      } else if (subscription.getTopicPattern() != null) {
-        Pattern topicPattern = Pattern.compile(subscription.getTopicPattern());
-        NoOpOnRebalance noOpOnRebalance = new NoOpOnRebalance();
-        consumer.subscribe(topicPattern, noOpOnRebalance);
+      if (consumer != null) {
+        if (subscription.getTopics() != null) {
+          consumer.subscribe(subscription.getTopics());
+        } else if (subscription.getTopicPattern() != null) {
+          Pattern topicPattern = Pattern.compile(subscription.getTopicPattern());
+          NoOpOnRebalance noOpOnRebalance = new NoOpOnRebalance();
+          consumer.subscribe(topicPattern, noOpOnRebalance);
+        }
       }
+    } finally {
+      lock.unlock();
     }
   }
 
   /** Unsubscribe from topics currently subscribed with subscribe(Collection). */
-  public synchronized void unsubscribe() {
-    if (consumer != null) {
-      consumer.unsubscribe();
+  public void unsubscribe() {
+    lock.lock();
+    try {
+      if (consumer != null) {
+        consumer.unsubscribe();
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
   /** Get the current list of topics subscribed. */
-  public synchronized Set<String> subscription() {
-    Set<String> currSubscription = null;
-    if (consumer != null) {
-      currSubscription = consumer.subscription();
+  public Set<String> subscription() {
+    lock.lock();
+    try {
+      Set<String> currSubscription = null;
+      if (consumer != null) {
+        currSubscription = consumer.subscription();
+      }
+      return currSubscription;
+    } finally {
+      lock.unlock();
     }
-    return currSubscription;
   }
 
   /** Get the set of partitions currently assigned to this consumer. */
-  public synchronized Set<TopicPartition> assignment() {
-    Set<TopicPartition> currAssignment = null;
-    if (consumer != null) {
-      currAssignment = consumer.assignment();
+  public Set<TopicPartition> assignment() {
+    lock.lock();
+    try {
+      Set<TopicPartition> currAssignment = null;
+      if (consumer != null) {
+        currAssignment = consumer.assignment();
+      }
+      return currAssignment;
+    } finally {
+      lock.unlock();
     }
-    return currAssignment;
   }
 
   /**
    * Get the last committed offset for the given partition (whether the commit happened by this
    * process or another).
    */
-  public synchronized ConsumerCommittedResponse committed(ConsumerCommittedRequest request) {
-    Vector<TopicPartitionOffsetMetadata> offsets = new Vector<>();
-    if (consumer != null) {
-      for (io.confluent.kafkarest.entities.v2.TopicPartition t : request.getPartitions()) {
-        TopicPartition partition = new TopicPartition(t.getTopic(), t.getPartition());
-        OffsetAndMetadata offsetMetadata =
-            consumer.committed(Collections.singleton(partition)).get(partition);
-        if (offsetMetadata != null) {
-          offsets.add(
-              new TopicPartitionOffsetMetadata(
-                  partition.topic(),
-                  partition.partition(),
-                  offsetMetadata.offset(),
-                  offsetMetadata.metadata()));
+  public ConsumerCommittedResponse committed(ConsumerCommittedRequest request) {
+    lock.lock();
+    try {
+      Vector<TopicPartitionOffsetMetadata> offsets = new Vector<>();
+      if (consumer != null) {
+        for (io.confluent.kafkarest.entities.v2.TopicPartition t : request.getPartitions()) {
+          TopicPartition partition = new TopicPartition(t.getTopic(), t.getPartition());
+          OffsetAndMetadata offsetMetadata =
+              consumer.committed(Collections.singleton(partition)).get(partition);
+          if (offsetMetadata != null) {
+            offsets.add(
+                new TopicPartitionOffsetMetadata(
+                    partition.topic(),
+                    partition.partition(),
+                    offsetMetadata.offset(),
+                    offsetMetadata.metadata()));
+          }
         }
       }
+      return new ConsumerCommittedResponse(offsets);
+    } finally {
+      lock.unlock();
     }
-    return new ConsumerCommittedResponse(offsets);
   }
 
   /** Returns the beginning offset of the {@code topic} {@code partition}. */
-  synchronized long getBeginningOffset(String topic, int partition) {
-    if (consumer == null) {
-      throw new IllegalStateException("KafkaConsumerState has been closed.");
-    }
+  long getBeginningOffset(String topic, int partition) {
+    lock.lock();
+    try {
+      if (consumer == null) {
+        throw new IllegalStateException("KafkaConsumerState has been closed.");
+      }
 
-    Map<TopicPartition, Long> response =
-        consumer.beginningOffsets(singletonList(new TopicPartition(topic, partition)));
+      Map<TopicPartition, Long> response =
+          consumer.beginningOffsets(singletonList(new TopicPartition(topic, partition)));
 
-    if (response.size() != 1) {
-      throw new InternalServerErrorException(
-          String.format("Expected one offset, but got %d instead.", response.size()));
-    }
+      if (response.size() != 1) {
+        throw new InternalServerErrorException(
+            String.format("Expected one offset, but got %d instead.", response.size()));
+      }
 
-    return response.values().stream().findAny().get();
+      return response.values().stream().findAny().get();
+    } finally {
+      lock.unlock();
+    }
   }
 
   /** Returns the end offset of the {@code topic} {@code partition}. */
-  synchronized long getEndOffset(String topic, int partition) {
-    if (consumer == null) {
-      throw new IllegalStateException("KafkaConsumerState has been closed.");
-    }
+  long getEndOffset(String topic, int partition) {
+    lock.lock();
+    try {
+      if (consumer == null) {
+        throw new IllegalStateException("KafkaConsumerState has been closed.");
+      }
 
-    Map<TopicPartition, Long> response =
-        consumer.endOffsets(singletonList(new TopicPartition(topic, partition)));
+      Map<TopicPartition, Long> response =
+          consumer.endOffsets(singletonList(new TopicPartition(topic, partition)));
 
-    if (response.size() != 1) {
-      throw new InternalServerErrorException(
-          String.format("Expected one offset, but got %d instead.", response.size()));
-    }
+      if (response.size() != 1) {
+        throw new InternalServerErrorException(
+            String.format("Expected one offset, but got %d instead.", response.size()));
+      }
 
-    return response.values().stream().findAny().get();
+      return response.values().stream().findAny().get();
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
    * Returns the earliest offset whose timestamp is greater than or equal to the given {@code
    * timestamp} in the {@code topic} {@code partition}, or empty if such offset does not exist.
    */
-  synchronized Optional<Long> getOffsetForTime(String topic, int partition, Instant timestamp) {
-    if (consumer == null) {
-      throw new IllegalStateException("KafkaConsumerState has been closed.");
-    }
+  Optional<Long> getOffsetForTime(String topic, int partition, Instant timestamp) {
+    lock.lock();
+    try {
+      if (consumer == null) {
+        throw new IllegalStateException("KafkaConsumerState has been closed.");
+      }
 
-    Map<TopicPartition, OffsetAndTimestamp> response =
-        consumer.offsetsForTimes(
-            singletonMap(new TopicPartition(topic, partition), timestamp.toEpochMilli()));
+      Map<TopicPartition, OffsetAndTimestamp> response =
+          consumer.offsetsForTimes(
+              singletonMap(new TopicPartition(topic, partition), timestamp.toEpochMilli()));
 
-    if (response.size() != 1) {
-      throw new InternalServerErrorException(
-          String.format("Expected one offset, but got %d instead.", response.size()));
-    }
+      if (response.size() != 1) {
+        throw new InternalServerErrorException(
+            String.format("Expected one offset, but got %d instead.", response.size()));
+      }
 
-    return response.values().stream()
-        .filter(Objects::nonNull)
-        .findAny()
-        .map(OffsetAndTimestamp::offset);
+      return response.values().stream()
+          .filter(Objects::nonNull)
+          .findAny()
+          .map(OffsetAndTimestamp::offset);
+    } finally {
+      lock.unlock();
+    }
   }
 
   public boolean expired(Instant now) {
@@ -355,35 +441,115 @@ public abstract class KafkaConsumerState<KafkaKeyT, KafkaValueT, ClientKeyT, Cli
     }
   }
 
-  synchronized ConsumerRecord<KafkaKeyT, KafkaValueT> peek() {
-    return consumerRecords.peek();
+  /**
+   * Updates the expiration like {@link #updateExpiration()}, unless this consumer has already been
+   * {@link #evictIfExpired(Instant) evicted}. Returns whether the expiration was updated.
+   */
+  boolean tryUpdateExpiration() {
+    synchronized (this.expirationLock) {
+      if (evicted) {
+        return false;
+      }
+      this.expiration = clock.instant().plus(consumerInstanceTimeout);
+      return true;
+    }
+  }
+
+  /**
+   * Marks this consumer as evicted if it has {@link #expired(Instant) expired} by {@code now},
+   * after which {@link #tryUpdateExpiration()} always fails. Returns whether it was evicted.
+   */
+  boolean evictIfExpired(Instant now) {
+    synchronized (this.expirationLock) {
+      if (!evicted && !expiration.isAfter(now)) {
+        evicted = true;
+      }
+      return evicted;
+    }
   }
 
-  synchronized boolean hasNext() {
-    if (hasNextCached()) {
-      return true;
+  /**
+   * Acquires the lock guarding this consumer, so that several operations on it, e.g. {@link
+   * #hasNext()}, {@link #peek()} and {@link #next()}, can be done atomically.
+   */
+  void lock() {
+    lock.lock();
+  }
+
+  void unlock() {
+    lock.unlock();
+  }
+
+  ConsumerRecord<KafkaKeyT, KafkaValueT> peek() {
+    lock.lock();
+    try {
+      return consumerRecords.peek();
+    } finally {
+      lock.unlock();
     }
-    // If none are available, try checking for any records already fetched by the consumer.
-    getOrCreateConsumerRecords();
+  }
+
+  boolean hasNext() {
+    return hasNext(Duration.ZERO);
+  }
 
-    return hasNextCached();
+  /**
+   * Like {@link #hasNext()}, but if no records have been fetched by the consumer yet, waits for
+   * up to {@code pollTimeout} for some to arrive.
+   *
+   * <p>The lock is not held across the whole wait, but only across polls of at most {@link
+   * #MAX_POLL_SLICE} each, so that other operations on this consumer, such as commits and seeks,
+   * only wait for the current poll. If the caller already holds the lock, it is held throughout.
+   */
+  boolean hasNext(Duration pollTimeout) {
+    Instant deadline = clock.instant().plus(pollTimeout);
+    while (true) {
+      lock.lock();
+      try {
+        if (hasNextCached()) {
+          return true;
+        }
+        if (consumer == null) {
+          return false;
+        }
+        Duration remaining = Duration.between(clock.instant(), deadline);
+        if (remaining.compareTo(MAX_POLL_SLICE) <= 0 || lock.getHoldCount() > 1) {
+          // If none are available, try checking for any records already fetched by the consumer.
+          getOrCreateConsumerRecords(remaining.isNegative() ? Duration.ZERO : remaining);
+          return hasNextCached();
+        }
+        getOrCreateConsumerRecords(MAX_POLL_SLICE);
+      } finally {
+        lock.unlock();
+      }
+    }
   }
 
-  synchronized boolean hasNextCached() {
-    return !consumerRecords.isEmpty();
+  boolean hasNextCached() {
+    lock.lock();
+    try {
+      return !consumerRecords.isEmpty();
+    } finally {
+      lock.unlock();
+    }
   }
 
-  synchronized ConsumerRecord<KafkaKeyT, KafkaValueT> next() {
-    return consumerRecords.poll();
+  ConsumerRecord<KafkaKeyT, KafkaValueT> next() {
+    lock.lock();
+    try {
+      return consumerRecords.poll();
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
-   * Initiate poll(0) request to retrieve consumer records that are available immediately, or return
-   * the existing consumer records if the records have not been fully consumed by client yet. Must
-   * be invoked with the lock held, i.e. after startRead().
+   * Initiate poll(pollTimeout) request to retrieve consumer records that are available immediately
+   * (or within pollTimeout), or return the existing consumer records if the records have not been
+   * fully consumed by client yet. Must be invoked with the lock held.
    */
-  private synchronized void getOrCreateConsumerRecords() {
-    ConsumerRecords<KafkaKeyT, KafkaValueT> polledRecords = consumer.poll(Duration.ofSeconds(0L));
+  private void getOrCreateConsumerRecords(Duration pollTimeout) {
+    ConsumerRecords<KafkaKeyT, KafkaValueT> polledRecords = consumer.poll(pollTimeout);
     // drain the iterator and buffer to list
     for (ConsumerRecord<KafkaKeyT, KafkaValueT> consumerRecord : polledRecords) {
       consumerRecords.add(consumerRecord);
@@ -28,9 +28,13 @@ import static org.easymock.EasyMock.verify;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableMap;
 import io.confluent.kafka.serializers.subject.DefaultReferenceSubjectNameStrategy;
+import io.confluent.kafkarest.backends.kafka.ProducerPoolStriping;
+import io.confluent.kafkarest.ratelimit.QuotaLedger;
 import io.confluent.rest.metrics.RestMetricsContext;
 import java.util.Arrays;
 import java.util.Map;
@@ -38,6 +42,7 @@ import java.util.Properties;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.types.Password;
 import org.apache.kafka.common.utils.AppInfoParser;
 import org.junit.jupiter.api.Test;
@@ -579,6 +584,55 @@ public class KafkaRestConfigTest {
     assertThat(loggedToString, containsString("sasl.jaas.config=" + Password.HIDDEN));
   }
 
+  @Test
+  public void distributedRateLimitBackend_noLedger_throws() {
+    Properties properties = new Properties();
+    properties.put(KafkaRestConfig.RATE_LIMIT_ENABLE_CONFIG, "true");
+    properties.put(KafkaRestConfig.RATE_LIMIT_BACKEND_CONFIG, "distributed");
+
+    assertThrows(ConfigException.class, () -> new KafkaRestConfig(properties));
+  }
+
+  @Test
+  public void distributedRateLimitBackend_sharedLedger_createsLedger() {
+    Properties properties = new Properties();
+    properties.put(KafkaRestConfig.RATE_LIMIT_ENABLE_CONFIG, "true");
+    properties.put(KafkaRestConfig.RATE_LIMIT_BACKEND_CONFIG, "distributed");
+    properties.put(
+        KafkaRestConfig.RATE_LIMIT_DISTRIBUTED_LEDGER_CLASS_CONFIG,
+        SharedQuotaLedger.class.getName());
+
+    KafkaRestConfig config = new KafkaRestConfig(properties);
+
+    assertInstanceOf(SharedQuotaLedger.class, config.getRateLimitDistributedLedger());
+  }
+
+  @Test
+  public void producerPoolStriping_unknownValue_throws() {
+    Properties properties = new Properties();
+    properties.put(KafkaRestConfig.PRODUCE_PRODUCER_POOL_STRIPING_CONFIG, "cluster");
+
+    assertThrows(ConfigException.class, () -> new KafkaRestConfig(properties));
+  }
+
+  @Test
+  public void producerPoolStriping_knownValue_returnsStriping() {
+    Properties properties = new Properties();
+    properties.put(KafkaRestConfig.PRODUCE_PRODUCER_POOL_STRIPING_CONFIG, "tenant");
+
+    KafkaRestConfig config = new KafkaRestConfig(properties);
+
+    assertEquals(ProducerPoolStriping.TENANT, config.getProducerPoolStriping());
+  }
+
+  public static final class SharedQuotaLedger implements QuotaLedger {
+
+    @Override
+    public long lease(String key, long window, long permits, long limit) {
+      return permits;
+    }
+  }
+
   private String context_config(String suffix) {
     return CommonClientConfigs.METRICS_CONTEXT_PREFIX + suffix;
   }
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.backends.kafka;
+
+import static io.confluent.kafkarest.common.KafkaFutures.failedFuture;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.same;
+import static org.easymock.EasyMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreatePartitionsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsOptions;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicCollection.TopicNameCollection;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.metrics.Metrics;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockExtension;
+import org.easymock.Mock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(EasyMockExtension.class)
+public class CoalescingAdminTest {
+
+  private static final TopicDescription TOPIC_1 =
+      new TopicDescription("topic-1", /* internal= */ false, Collections.emptyList());
+  private static final TopicDescription TOPIC_2 =
+      new TopicDescription("topic-2", /* internal= */ false, Collections.emptyList());
+
+  private static final TopicPartition PARTITION_1 = new TopicPartition("topic-1", 0);
+  private static final TopicPartition PARTITION_2 = new TopicPartition("topic-1", 1);
+
+  @Mock private Admin delegate;
+
+  private Admin admin;
+
+  @AfterEach
+  public void tearDown() {
+    if (admin != null) {
+      admin.close();
+    }
+  }
+
+  @Test
+  public void describeTopics_topicInFlight_sharesLookup() throws Exception {
+    KafkaFutureImpl<TopicDescription> topic1 = new KafkaFutureImpl<>();
+    Capture<TopicCollection> firstRequest = Capture.newInstance();
+    Capture<TopicCollection> secondRequest = Capture.newInstance();
+    expectDescribeTopics(firstRequest, ImmutableMap.of("topic-1", topic1));
+    expectDescribeTopics(
+        secondRequest, ImmutableMap.of("topic-2", KafkaFuture.completedFuture(TOPIC_2)));
+    expectClose();
+    replay(delegate);
+    admin = new CoalescingAdmin(delegate, Duration.ZERO).asAdmin();
+
+    DescribeTopicsResult first = admin.describeTopics(Collections.singletonList("topic-1"));
+    DescribeTopicsResult second = admin.describeTopics(Arrays.asList("topic-1", "topic-2"));
+    assertFalse(second.topicNameValues().get("topic-1").isDone());
+    topic1.complete(TOPIC_1);
+
+    assertSame(TOPIC_1, first.allTopicNames().get().get("topic-1"));
+    assertEquals(
+        ImmutableMap.of("topic-1", TOPIC_1, "topic-2", TOPIC_2), second.allTopicNames().get());
+    assertEquals(
+        Collections.singletonList("topic-1"),
+        ((TopicNameCollection) firstRequest.getValue()).topicNames());
+    assertEquals(
+        Collections.singletonList("topic-2"),
+        ((TopicNameCollection) secondRequest.getValue()).topicNames());
+    verify(delegate);
+  }
+
+  @Test
+  public void describeTopics_failedLookup_isNotReused() throws Exception {
+    expectDescribeTopics(
+        Capture.newInstance(),
+        ImmutableMap.of("topic-1", failedFuture(new TimeoutException("timed out"))));
+    expectDescribeTopics(
+        Capture.newInstance(), ImmutableMap.of("topic-1", KafkaFuture.completedFuture(TOPIC_1)));
+    expectClose();
+    replay(delegate);
+    admin = new CoalescingAdmin(delegate, Duration.ZERO).asAdmin();
+
+    DescribeTopicsResult failed = admin.describeTopics(Collections.singletonList("topic-1"));
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> failed.allTopicNames().get());
+    assertEquals(TimeoutException.class, e.getCause().getClass());
+
+    DescribeTopicsResult retried = admin.describeTopics(Collections.singletonList("topic-1"));
+    assertSame(TOPIC_1, retried.allTopicNames().get().get("topic-1"));
+    verify(delegate);
+  }
+
+  @Test
+  public void describeTopics_afterWrite_doesNotShareEarlierLookup() throws Exception {
+    KafkaFutureImpl<TopicDescription> stale = new KafkaFutureImpl<>();
+    expectDescribeTopics(Capture.newInstance(), ImmutableMap.of("topic-1", stale));
+    Map<String, NewPartitions> newPartitions =
+        ImmutableMap.of("topic-1", NewPartitions.increaseTo(2));
+    CreatePartitionsResult createPartitions = EasyMock.createMock(CreatePartitionsResult.class);
+    expect(delegate.createPartitions(newPartitions)).andReturn(createPartitions);
+    expect(createPartitions.all()).andReturn(KafkaFuture.completedFuture(null));
+    replay(createPartitions);
+    expectDescribeTopics(
+        Capture.newInstance(), ImmutableMap.of("topic-1", KafkaFuture.completedFuture(TOPIC_1)));
+    expectClose();
+    replay(delegate);
+    admin = new CoalescingAdmin(delegate, Duration.ZERO).asAdmin();
+
+    DescribeTopicsResult before = admin.describeTopics(Collections.singletonList("topic-1"));
+    admin.createPartitions(newPartitions).all().get();
+    DescribeTopicsResult after = admin.describeTopics(Collections.singletonList("topic-1"));
+
+    assertSame(TOPIC_1, after.allTopicNames().get().get("topic-1"));
+    assertFalse(before.topicNameValues().get("topic-1").isDone());
+    verify(delegate);
+  }
+
+  @Test
+  public void describeTopics_closedWhileLingering_fails() {
+    expectClose();
+    replay(delegate);
+    admin = new CoalescingAdmin(delegate, Duration.ofHours(1)).asAdmin();
+
+    DescribeTopicsResult result = admin.describeTopics(Collections.singletonList("topic-1"));
+    admin.close();
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> result.allTopicNames().get());
+    assertEquals(IllegalStateException.class, e.getCause().getClass());
+    verify(delegate);
+  }
+
+  @Test
+  public void listOffsets_withinLinger_batchesPartitions() throws Exception {
+    Capture<Map<TopicPartition, OffsetSpec>> request = Capture.newInstance();
+    expect(delegate.listOffsets(capture(request), anyObject(ListOffsetsOptions.class)))
+        .andAnswer(
+            () -> {
+              Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> offsets = new HashMap<>();
+              request
+                  .getValue()
+                  .keySet()
+                  .forEach(
+                      partition ->
+                          offsets.put(
+                              partition,
+                              KafkaFuture.completedFuture(
+                                  new ListOffsetsResultInfo(
+                                      partition.partition(), -1L, Optional.empty()))));
+              return new ListOffsetsResult(offsets);
+            });
+    expectClose();
+    replay(delegate);
+    CoalescingAdmin coalescingAdmin = new CoalescingAdmin(delegate, Duration.ofMillis(100));
+    Metrics metrics = new Metrics();
+    coalescingAdmin.registerMetrics(metrics);
+    admin = coalescingAdmin.asAdmin();
+
+    ListOffsetsResult first = admin.listOffsets(ImmutableMap.of(PARTITION_1, OffsetSpec.latest()));
+    ListOffsetsResult second =
+        admin.listOffsets(
+            ImmutableMap.of(PARTITION_1, OffsetSpec.latest(), PARTITION_2, OffsetSpec.latest()));
+
+    assertEquals(0L, first.partitionResult(PARTITION_1).get().offset());
+    assertEquals(0L, second.partitionResult(PARTITION_1).get().offset());
+    assertEquals(1L, second.partitionResult(PARTITION_2).get().offset());
+    assertEquals(ImmutableSet.of(PARTITION_1, PARTITION_2), request.getValue().keySet());
+    assertEquals(1.0, metricValue(metrics, "admin-coalescing-saved-request-total", "listOffsets"));
+    assertEquals(2.0, metricValue(metrics, "admin-coalescing-batch-size-max", "listOffsets"));
+    verify(delegate);
+  }
+
+  @Test
+  public void listOffsets_byTimestamp_isForwarded() {
+    Map<TopicPartition, OffsetSpec> specs =
+        ImmutableMap.of(PARTITION_1, OffsetSpec.forTimestamp(1L));
+    ListOffsetsOptions options = new ListOffsetsOptions();
+    ListOffsetsResult result = new ListOffsetsResult(new HashMap<>());
+    expect(delegate.listOffsets(same(specs), same(options))).andReturn(result);
+    expectClose();
+    replay(delegate);
+    admin = new CoalescingAdmin(delegate, Duration.ZERO).asAdmin();
+
+    assertSame(result, admin.listOffsets(specs, options));
+    verify(delegate);
+  }
+
+  @Test
+  public void otherCalls_areForwarded() {
+    ListTopicsResult result = EasyMock.createMock(ListTopicsResult.class);
+    expect(delegate.listTopics()).andReturn(result);
+    expectClose();
+    replay(delegate);
+    admin = new CoalescingAdmin(delegate, Duration.ZERO).asAdmin();
+
+    assertSame(result, admin.listTopics());
+    verify(delegate);
+  }
+
+  private void expectDescribeTopics(
+      Capture<TopicCollection> request, Map<String, KafkaFuture<TopicDescription>> descriptions) {
+    DescribeTopicsResult result = EasyMock.createMock(DescribeTopicsResult.class);
+    expect(delegate.describeTopics(capture(request), anyObject(DescribeTopicsOptions.class)))
+        .andReturn(result);
+    expect(result.topicNameValues()).andReturn(descriptions);
+    replay(result);
+  }
+
+  private void expectClose() {
+    delegate.close();
+    EasyMock.expectLastCall().anyTimes();
+  }
+
+  private static Object metricValue(Metrics metrics, String name, String api) {
+    MetricName metricName =
+        metrics.metricName(name, "admin-coalescing-metrics", "", ImmutableMap.of("api", api));
+    return metrics.metric(metricName).metricValue();
+  }
+}
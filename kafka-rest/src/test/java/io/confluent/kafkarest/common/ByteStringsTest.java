@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.protobuf.ByteString;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ByteStringsTest {
+
+  @Test
+  public void wrappedArray_toByteArray_returnsSameArray() {
+    byte[] bytes = "foobar".getBytes(StandardCharsets.UTF_8);
+
+    assertSame(bytes, ByteStrings.toByteArray(ByteStrings.wrap(bytes)));
+  }
+
+  @Test
+  public void substring_toByteArray_copies() {
+    byte[] bytes = "foobar".getBytes(StandardCharsets.UTF_8);
+    ByteString substring = ByteStrings.wrap(bytes).substring(1, 4);
+
+    byte[] result = ByteStrings.toByteArray(substring);
+
+    assertNotSame(bytes, result);
+    assertArrayEquals("oob".getBytes(StandardCharsets.UTF_8), result);
+  }
+
+  @Test
+  public void concatenation_toByteArray_copies() {
+    ByteString concatenation =
+        ByteStrings.wrap(new byte[] {1, 2}).concat(ByteStrings.wrap(new byte[] {3}));
+
+    assertArrayEquals(new byte[] {1, 2, 3}, ByteStrings.toByteArray(concatenation));
+  }
+
+  @Test
+  public void empty_toByteArray_returnsEmptyArray() {
+    assertArrayEquals(new byte[0], ByteStrings.toByteArray(ByteString.EMPTY));
+  }
+}
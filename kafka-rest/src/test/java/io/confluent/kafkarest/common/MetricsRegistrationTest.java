@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MetricsRegistrationTest {
+
+  private static final String GROUP_NAME = "test-metrics";
+
+  private Metrics metrics;
+  private MetricsRegistration registration;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new Metrics();
+    registration = new MetricsRegistration(metrics, GROUP_NAME);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void addCounter_readsCounter() {
+    LongAdder hits = new LongAdder();
+    MetricName name = registration.addCounter("hit-total", "The hits.", hits);
+    hits.add(3);
+
+    assertEquals(GROUP_NAME, name.group());
+    assertEquals(3.0, metrics.metric(name).metricValue());
+  }
+
+  @Test
+  public void addMetric_toSensor_measuresSensor() {
+    Sensor sensor = registration.sensor("latency");
+    MetricName name =
+        registration.addMetric(
+            sensor, "latency-max", "The latency.", ImmutableMap.of("api", "test"), new Max());
+    sensor.record(5);
+    sensor.record(2);
+
+    assertEquals(ImmutableMap.of("api", "test"), name.tags());
+    assertEquals(5.0, metrics.metric(name).metricValue());
+  }
+
+  @Test
+  public void remove_removesMetricsAndSensors() {
+    MetricName counter = registration.addCounter("hit-total", "The hits.", new LongAdder());
+    MetricName max =
+        registration.addMetric(registration.sensor("latency"), "latency-max", "", new Max());
+
+    registration.remove();
+
+    assertNull(metrics.metric(counter));
+    assertNull(metrics.metric(max));
+    assertNull(metrics.getSensor("latency"));
+  }
+
+  @Test
+  public void none_removesNothing() {
+    MetricsRegistration.none().remove();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> MetricsRegistration.none().addCounter("hit-total", "The hits.", new LongAdder()));
+  }
+}
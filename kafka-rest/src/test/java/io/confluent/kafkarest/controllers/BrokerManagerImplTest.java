@@ -58,7 +58,7 @@ public class BrokerManagerImplTest {
 
   @Test
   public void listBrokers_existingCluster_returnsBrokers() throws Exception {
-    expect(clusterManager.getCluster(CLUSTER_ID))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_ID))
         .andReturn(CompletableFuture.completedFuture(Optional.of(CLUSTER)));
     replay(clusterManager);
 
@@ -69,7 +69,7 @@ public class BrokerManagerImplTest {
 
   @Test
   public void listBrokers_nonExistingCluster_throwsNotFound() throws Exception {
-    expect(clusterManager.getCluster(CLUSTER_ID))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_ID))
         .andReturn(CompletableFuture.completedFuture(Optional.empty()));
     replay(clusterManager);
 
@@ -83,7 +83,7 @@ public class BrokerManagerImplTest {
 
   @Test
   public void getBroker_existingClusterExistingBroker_returnsBroker() throws Exception {
-    expect(clusterManager.getCluster(CLUSTER_ID))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_ID))
         .andReturn(CompletableFuture.completedFuture(Optional.of(CLUSTER)));
     replay(clusterManager);
 
@@ -94,7 +94,7 @@ public class BrokerManagerImplTest {
 
   @Test
   public void getBroker_nonExistingCluster_throwsNotFound() throws Exception {
-    expect(clusterManager.getCluster(CLUSTER_ID))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_ID))
         .andReturn(CompletableFuture.completedFuture(Optional.empty()));
     replay(clusterManager);
 
@@ -108,7 +108,7 @@ public class BrokerManagerImplTest {
 
   @Test
   public void getBroker_nonExistingBroker_returnsEmpty() throws Exception {
-    expect(clusterManager.getCluster(CLUSTER_ID))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_ID))
         .andReturn(CompletableFuture.completedFuture(Optional.of(CLUSTER)));
     replay(clusterManager);
 
@@ -119,7 +119,8 @@ public class BrokerManagerImplTest {
 
   @Test
   public void listLocalBrokers_returnsBrokers() throws Exception {
-    expect(clusterManager.getLocalCluster()).andReturn(CompletableFuture.completedFuture(CLUSTER));
+    expect(clusterManager.getLocalClusterWithBrokers())
+        .andReturn(CompletableFuture.completedFuture(CLUSTER));
     replay(clusterManager);
 
     List<Broker> brokers = brokerManager.listLocalBrokers().get();
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.confluent.kafkarest.common.MetricsRegistration;
+import io.confluent.kafkarest.entities.Cluster;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.metrics.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ClusterCacheTest {
+
+  private static final Duration REFRESH = Duration.ofSeconds(5);
+  private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
+  private static final Cluster CLUSTER_1 = Cluster.builder().setClusterId("cluster-1").build();
+  private static final Cluster CLUSTER_2 = Cluster.builder().setClusterId("cluster-2").build();
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final List<CompletableFuture<Cluster>> describes = new ArrayList<>();
+
+  private final Ticker ticker =
+      new Ticker() {
+        @Override
+        public long read() {
+          return nanos.get();
+        }
+      };
+
+  private ClusterCache clusterCache;
+
+  @BeforeEach
+  public void setUp() {
+    clusterCache = new ClusterCache(REFRESH, MAX_STALENESS, /* cacheBrokers= */ false, ticker);
+  }
+
+  @Test
+  public void get_fresh_describesOnce() throws Exception {
+    CompletableFuture<Cluster> first = clusterCache.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+    advance(REFRESH.minusMillis(1));
+    CompletableFuture<Cluster> second = clusterCache.get(this::describe);
+
+    assertSame(CLUSTER_1, first.get());
+    assertSame(CLUSTER_1, second.get());
+    assertEquals(1, describes.size());
+    assertEquals(1, clusterCache.hitCount());
+    assertEquals(1, clusterCache.missCount());
+  }
+
+  @Test
+  public void get_concurrentMisses_shareDescribe() throws Exception {
+    CompletableFuture<Cluster> first = clusterCache.get(this::describe);
+    CompletableFuture<Cluster> second = clusterCache.get(this::describe);
+    assertFalse(first.isDone());
+    describes.get(0).complete(CLUSTER_1);
+
+    assertSame(CLUSTER_1, first.get());
+    assertSame(CLUSTER_1, second.get());
+    assertEquals(1, describes.size());
+  }
+
+  @Test
+  public void get_olderThanRefresh_servesCachedAndRefreshesInBackground() throws Exception {
+    clusterCache.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+    advance(REFRESH);
+
+    CompletableFuture<Cluster> stale = clusterCache.get(this::describe);
+    CompletableFuture<Cluster> staleAgain = clusterCache.get(this::describe);
+
+    assertSame(CLUSTER_1, stale.get());
+    assertSame(CLUSTER_1, staleAgain.get());
+    assertEquals(2, describes.size());
+
+    describes.get(1).complete(CLUSTER_2);
+
+    assertSame(CLUSTER_2, clusterCache.get(this::describe).get());
+    assertEquals(2, describes.size());
+    assertEquals(3, clusterCache.hitCount());
+  }
+
+  @Test
+  public void get_olderThanMaxStaleness_waitsForDescribe() throws Exception {
+    clusterCache.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+    advance(MAX_STALENESS);
+
+    CompletableFuture<Cluster> expired = clusterCache.get(this::describe);
+    assertFalse(expired.isDone());
+    describes.get(1).complete(CLUSTER_2);
+
+    assertSame(CLUSTER_2, expired.get());
+    assertEquals(2, clusterCache.missCount());
+  }
+
+  @Test
+  public void get_describeFails_failureNotCached() throws Exception {
+    CompletableFuture<Cluster> failed = clusterCache.get(this::describe);
+    describes.get(0).completeExceptionally(new TimeoutException());
+
+    ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+    assertTrue(e.getCause() instanceof TimeoutException);
+
+    CompletableFuture<Cluster> retried = clusterCache.get(this::describe);
+    describes.get(1).complete(CLUSTER_1);
+
+    assertSame(CLUSTER_1, retried.get());
+  }
+
+  @Test
+  public void get_backgroundRefreshFails_keepsServingCached() throws Exception {
+    clusterCache.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+    advance(REFRESH);
+
+    clusterCache.get(this::describe);
+    describes.get(1).completeExceptionally(new TimeoutException());
+
+    assertSame(CLUSTER_1, clusterCache.get(this::describe).get());
+    assertEquals(3, describes.size());
+  }
+
+  @Test
+  public void get_disabled_alwaysDescribes() throws Exception {
+    ClusterCache disabled = ClusterCache.disabled();
+    disabled.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+    CompletableFuture<Cluster> second = disabled.get(this::describe);
+
+    assertFalse(second.isDone());
+    assertEquals(2, describes.size());
+  }
+
+  @Test
+  public void getWithBrokers_alwaysDescribesAndUpdatesCache() throws Exception {
+    clusterCache.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+    CompletableFuture<Cluster> withBrokers = clusterCache.getWithBrokers(this::describe);
+
+    assertFalse(withBrokers.isDone());
+    describes.get(1).complete(CLUSTER_2);
+    assertSame(CLUSTER_2, withBrokers.get());
+    assertSame(CLUSTER_2, clusterCache.get(this::describe).get());
+    assertEquals(2, describes.size());
+  }
+
+  @Test
+  public void getWithBrokers_cacheBrokers_servesCached() throws Exception {
+    ClusterCache cacheBrokers =
+        new ClusterCache(REFRESH, MAX_STALENESS, /* cacheBrokers= */ true, ticker);
+    cacheBrokers.get(this::describe);
+    describes.get(0).complete(CLUSTER_1);
+
+    assertSame(CLUSTER_1, cacheBrokers.getWithBrokers(this::describe).get());
+    assertEquals(1, describes.size());
+  }
+
+  @Test
+  public void registerMetrics_reportsStats() {
+    Metrics metrics = new Metrics();
+    MetricsRegistration registration = clusterCache.registerMetrics(metrics);
+
+    clusterCache.get(this::describe);
+    advance(Duration.ofMillis(20));
+    describes.get(0).complete(CLUSTER_1);
+    clusterCache.get(this::describe);
+
+    assertEquals(1.0, metricValue(metrics, "cluster-cache-hit-total"));
+    assertEquals(1.0, metricValue(metrics, "cluster-cache-miss-total"));
+    assertEquals(1.0, metricValue(metrics, "cluster-cache-refresh-total"));
+    assertEquals(0.0, metricValue(metrics, "cluster-cache-refresh-failure-total"));
+    assertEquals(20.0, metricValue(metrics, "cluster-cache-refresh-latency-max"));
+    assertEquals(6, registration.metricNames().size());
+    metrics.close();
+  }
+
+  private CompletableFuture<Cluster> describe() {
+    CompletableFuture<Cluster> describe = new CompletableFuture<>();
+    describes.add(describe);
+    return describe;
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+  }
+
+  private static Object metricValue(Metrics metrics, String name) {
+    MetricName metricName = metrics.metricName(name, "cluster-cache-metrics");
+    return metrics.metric(metricName).metricValue();
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static io.confluent.kafkarest.common.KafkaFutures.failedFuture;
+import static java.util.Collections.emptyList;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.confluent.kafkarest.controllers.ConsumerLagSnapshotService.GroupOffsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.GroupState;
+import org.apache.kafka.common.GroupType;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.CoordinatorNotAvailableException;
+import org.easymock.Capture;
+import org.easymock.EasyMockExtension;
+import org.easymock.Mock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(EasyMockExtension.class)
+public class ConsumerLagSnapshotServiceTest {
+
+  private static final String CLUSTER_ID = "cluster-1";
+
+  private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(15);
+  private static final Duration MAX_STALENESS = Duration.ofMinutes(1);
+
+  private static final TopicPartition TOPIC_PARTITION_1 = new TopicPartition("topic-1", 1);
+  private static final TopicPartition TOPIC_PARTITION_2 = new TopicPartition("topic-1", 2);
+  private static final TopicPartition TOPIC_PARTITION_3 = new TopicPartition("topic-2", 1);
+
+  private static final ListOffsetsResultInfo LATEST_OFFSET_1 =
+      new ListOffsetsResultInfo(100L, 0L, Optional.empty());
+
+  @Mock private Admin adminClient;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private ConsumerLagSnapshotService lagSnapshots;
+
+  @BeforeEach
+  public void setUp() {
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        };
+    lagSnapshots =
+        new ConsumerLagSnapshotService(adminClient, REFRESH_INTERVAL, MAX_STALENESS, ticker);
+  }
+
+  @Test
+  public void getGroupOffsets_afterRefresh_returnsSnapshottedOffsets() throws Exception {
+    Capture<Map<TopicPartition, OffsetSpec>> latestOffsetsRequest = Capture.newInstance();
+    expectSnapshot(latestOffsetsRequest);
+    replay(adminClient);
+
+    lagSnapshots.refresh();
+    nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+    GroupOffsets groupOffsets = lagSnapshots.getGroupOffsets(CLUSTER_ID, "group-1").get();
+
+    assertEquals("group-1", groupOffsets.consumerGroup.getConsumerGroupId());
+    assertEquals(
+        ImmutableMap.of(
+            TOPIC_PARTITION_1,
+            new OffsetAndMetadata(10),
+            TOPIC_PARTITION_2,
+            new OffsetAndMetadata(20)),
+        groupOffsets.currentOffsets);
+    assertEquals(LATEST_OFFSET_1, groupOffsets.latestOffsets.get(TOPIC_PARTITION_1));
+    assertEquals(Optional.of(Duration.ofSeconds(5)), groupOffsets.snapshotAge);
+    // One ListOffsets for the union of the partitions with committed offsets of all the groups.
+    assertEquals(
+        ImmutableSet.of(TOPIC_PARTITION_1, TOPIC_PARTITION_2),
+        latestOffsetsRequest.getValue().keySet());
+    verify(adminClient);
+  }
+
+  @Test
+  public void getGroupOffsets_groupNotSnapshotted_returnsEmpty() throws Exception {
+    expectSnapshot(Capture.newInstance());
+    replay(adminClient);
+
+    lagSnapshots.refresh();
+
+    // Could not be described.
+    assertFalse(lagSnapshots.getGroupOffsets(CLUSTER_ID, "group-2").isPresent());
+    // Has no committed offsets.
+    assertFalse(lagSnapshots.getGroupOffsets(CLUSTER_ID, "group-3").isPresent());
+    assertFalse(lagSnapshots.getGroupOffsets(CLUSTER_ID, "group-4").isPresent());
+    assertFalse(lagSnapshots.getGroupOffsets("cluster-2", "group-1").isPresent());
+  }
+
+  @Test
+  public void getGroupOffsets_snapshotTooStale_returnsEmpty() throws Exception {
+    expectSnapshot(Capture.newInstance());
+    replay(adminClient);
+
+    lagSnapshots.refresh();
+    nanos.addAndGet(MAX_STALENESS.toNanos());
+
+    assertFalse(lagSnapshots.getGroupOffsets(CLUSTER_ID, "group-1").isPresent());
+  }
+
+  @Test
+  public void getGroupOffsets_noSnapshot_returnsEmpty() {
+    replay(adminClient);
+
+    assertFalse(lagSnapshots.getGroupOffsets(CLUSTER_ID, "group-1").isPresent());
+    assertFalse(
+        ConsumerLagSnapshotService.disabled(adminClient)
+            .getGroupOffsets(CLUSTER_ID, "group-1")
+            .isPresent());
+    verify(adminClient);
+  }
+
+  private void expectSnapshot(Capture<Map<TopicPartition, OffsetSpec>> latestOffsetsRequest) {
+    DescribeClusterResult describeClusterResult = createMock(DescribeClusterResult.class);
+    expect(adminClient.describeCluster()).andReturn(describeClusterResult);
+    expect(describeClusterResult.clusterId()).andReturn(KafkaFuture.completedFuture(CLUSTER_ID));
+    replay(describeClusterResult);
+
+    ListConsumerGroupsResult listConsumerGroupsResult = createMock(ListConsumerGroupsResult.class);
+    expect(adminClient.listConsumerGroups()).andReturn(listConsumerGroupsResult);
+    expect(listConsumerGroupsResult.all())
+        .andReturn(
+            KafkaFuture.completedFuture(
+                Arrays.asList(listing("group-1"), listing("group-2"), listing("group-3"))));
+    replay(listConsumerGroupsResult);
+
+    DescribeConsumerGroupsResult describeConsumerGroupsResult =
+        createMock(DescribeConsumerGroupsResult.class);
+    expect(adminClient.describeConsumerGroups(Arrays.asList("group-1", "group-2", "group-3")))
+        .andReturn(describeConsumerGroupsResult);
+    expect(describeConsumerGroupsResult.describedGroups())
+        .andReturn(
+            ImmutableMap.of(
+                "group-1",
+                KafkaFuture.completedFuture(description("group-1")),
+                "group-2",
+                failedFuture(new CoordinatorNotAvailableException("")),
+                "group-3",
+                KafkaFuture.completedFuture(description("group-3"))));
+    replay(describeConsumerGroupsResult);
+
+    Map<TopicPartition, OffsetAndMetadata> group1Offsets = new HashMap<>();
+    group1Offsets.put(TOPIC_PARTITION_1, new OffsetAndMetadata(10));
+    group1Offsets.put(TOPIC_PARTITION_2, new OffsetAndMetadata(20));
+    Map<TopicPartition, OffsetAndMetadata> group3Offsets = new HashMap<>();
+    // Partitions without a committed offset are listed with a null offset.
+    group3Offsets.put(TOPIC_PARTITION_3, null);
+    ListConsumerGroupOffsetsResult listConsumerGroupOffsetsResult =
+        createMock(ListConsumerGroupOffsetsResult.class);
+    expect(adminClient.listConsumerGroupOffsets(anyObject(Map.class)))
+        .andReturn(listConsumerGroupOffsetsResult);
+    expect(listConsumerGroupOffsetsResult.partitionsToOffsetAndMetadata("group-1"))
+        .andReturn(KafkaFuture.completedFuture(group1Offsets));
+    expect(listConsumerGroupOffsetsResult.partitionsToOffsetAndMetadata("group-3"))
+        .andReturn(KafkaFuture.completedFuture(group3Offsets));
+    replay(listConsumerGroupOffsetsResult);
+
+    ListOffsetsResult listOffsetsResult = createMock(ListOffsetsResult.class);
+    expect(adminClient.listOffsets(capture(latestOffsetsRequest), anyObject()))
+        .andReturn(listOffsetsResult);
+    expect(listOffsetsResult.partitionResult(TOPIC_PARTITION_1))
+        .andReturn(KafkaFuture.completedFuture(LATEST_OFFSET_1));
+    expect(listOffsetsResult.partitionResult(TOPIC_PARTITION_2))
+        .andReturn(failedFuture(new CoordinatorNotAvailableException("")));
+    replay(listOffsetsResult);
+  }
+
+  private static ConsumerGroupListing listing(String groupId) {
+    ConsumerGroupListing listing = createMock(ConsumerGroupListing.class);
+    expect(listing.groupId()).andStubReturn(groupId);
+    replay(listing);
+    return listing;
+  }
+
+  private static ConsumerGroupDescription description(String groupId) {
+    ConsumerGroupDescription description = createNiceMock(ConsumerGroupDescription.class);
+    expect(description.groupId()).andStubReturn(groupId);
+    expect(description.partitionAssignor()).andStubReturn("");
+    expect(description.groupState()).andStubReturn(GroupState.STABLE);
+    expect(description.type()).andStubReturn(GroupType.CLASSIC);
+    expect(description.members()).andStubReturn(emptyList());
+    expect(description.coordinator()).andStubReturn(new Node(1, "broker-1", 9092));
+    replay(description);
+    return description;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
+import org.apache.avro.AvroTypeException;
+import org.junit.jupiter.api.Test;
+
+public class JsonToAvroConverterTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final AvroSchema RECORD_SCHEMA =
+      new AvroSchema(
+          "{\"type\": \"record\", \"name\": \"Record\", \"namespace\": \"io.confluent\","
+              + " \"fields\": ["
+              + "{\"name\": \"int\", \"type\": \"int\"},"
+              + "{\"name\": \"long\", \"type\": \"long\"},"
+              + "{\"name\": \"float\", \"type\": \"float\"},"
+              + "{\"name\": \"double\", \"type\": \"double\"},"
+              + "{\"name\": \"boolean\", \"type\": \"boolean\"},"
+              + "{\"name\": \"string\", \"type\": \"string\"},"
+              + "{\"name\": \"bytes\", \"type\": \"bytes\"},"
+              + "{\"name\": \"fixed\","
+              + " \"type\": {\"type\": \"fixed\", \"name\": \"Fixed\", \"size\": 2}},"
+              + "{\"name\": \"enum\","
+              + " \"type\": {\"type\": \"enum\", \"name\": \"Enum\", \"symbols\": [\"A\", \"B\"]}},"
+              + "{\"name\": \"array\", \"type\": {\"type\": \"array\", \"items\": \"int\"}},"
+              + "{\"name\": \"map\", \"type\": {\"type\": \"map\", \"values\": \"string\"}},"
+              + "{\"name\": \"union\", \"type\": [\"null\", \"string\", \"Enum\"]},"
+              + "{\"name\": \"next\", \"type\": [\"null\", \"Record\"]}"
+              + "]}");
+
+  private static final String RECORD_DATA =
+      "{\"int\": 1, \"long\": 2, \"float\": 3.5, \"double\": 4, \"boolean\": true,"
+          + " \"string\": \"foo\", \"bytes\": \"\\u00ff\\u0001\", \"fixed\": \"ab\","
+          + " \"enum\": \"B\", \"array\": [1, 2, 3], \"map\": {\"x\": \"y\"},"
+          + " \"union\": {\"io.confluent.Enum\": \"A\"}, \"next\": %s}";
+
+  private final JsonToAvroConverter converter = new JsonToAvroConverter();
+
+  @Test
+  public void toObject_record_convertsLikeAvroSchemaUtils() throws Exception {
+    String nested =
+        String.format(RECORD_DATA, "null")
+            .replace("{\"io.confluent.Enum\": \"A\"}", "{\"string\": \"bar\"}");
+    String data = String.format(RECORD_DATA, "{\"io.confluent.Record\": " + nested + "}");
+
+    assertTrue(converter.isCompiled(RECORD_SCHEMA));
+    assertConvertsLikeAvroSchemaUtils(RECORD_SCHEMA, data);
+  }
+
+  @Test
+  public void toObject_primitives_convertsLikeAvroSchemaUtils() throws Exception {
+    assertConvertsLikeAvroSchemaUtils(new AvroSchema("{\"type\": \"string\"}"), "\"foo\"");
+    assertConvertsLikeAvroSchemaUtils(new AvroSchema("{\"type\": \"int\"}"), "123");
+    assertConvertsLikeAvroSchemaUtils(new AvroSchema("{\"type\": \"long\"}"), "123");
+    assertConvertsLikeAvroSchemaUtils(new AvroSchema("{\"type\": \"double\"}"), "0.1");
+    assertConvertsLikeAvroSchemaUtils(new AvroSchema("[\"null\", \"int\"]"), "null");
+  }
+
+  @Test
+  public void toObject_missingFieldWithDefault_fallsBackToAvroSchemaUtils() throws Exception {
+    AvroSchema schema =
+        new AvroSchema(
+            "{\"type\": \"record\", \"name\": \"Record\", \"fields\": ["
+                + "{\"name\": \"foo\", \"type\": \"int\"},"
+                + "{\"name\": \"bar\", \"type\": \"int\", \"default\": 1}]}");
+
+    assertTrue(converter.isCompiled(schema));
+    assertConvertsLikeAvroSchemaUtils(schema, "{\"foo\": 0, \"bar\": 2}");
+    assertConvertsLikeAvroSchemaUtils(schema, "{\"foo\": 0}");
+  }
+
+  @Test
+  public void toObject_logicalType_notCompiled() throws Exception {
+    AvroSchema schema = new AvroSchema("{\"type\": \"int\", \"logicalType\": \"date\"}");
+
+    assertFalse(converter.isCompiled(schema));
+    assertConvertsLikeAvroSchemaUtils(schema, "18000");
+  }
+
+  @Test
+  public void toObject_invalidData_throwsLikeAvroSchemaUtils() {
+    AvroSchema schema = new AvroSchema("{\"type\": \"int\"}");
+    JsonNode data = readTree("\"foo\"");
+
+    AvroTypeException expected =
+        assertThrows(AvroTypeException.class, () -> AvroSchemaUtils.toObject(data, schema));
+    AvroTypeException actual =
+        assertThrows(AvroTypeException.class, () -> converter.toObject(data, schema));
+    assertEquals(expected.getMessage(), actual.getMessage());
+  }
+
+  private void assertConvertsLikeAvroSchemaUtils(AvroSchema schema, String data)
+      throws Exception {
+    JsonNode node = readTree(data);
+    assertEquals(AvroSchemaUtils.toObject(node, schema), converter.toObject(node, schema));
+  }
+
+  private static JsonNode readTree(String data) {
+    try {
+      return OBJECT_MAPPER.readTree(data);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static io.confluent.kafkarest.common.KafkaFutures.failedFuture;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Ticker;
+import io.confluent.kafkarest.controllers.OffsetsCache.Position;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.easymock.Capture;
+import org.easymock.EasyMockExtension;
+import org.easymock.Mock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(EasyMockExtension.class)
+public class OffsetsCacheTest {
+
+  private static final Duration TTL = Duration.ofSeconds(1);
+
+  private static final TopicPartition PARTITION_0 = new TopicPartition("topic-1", 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition("topic-1", 1);
+
+  private static final ListOffsetsResultInfo OFFSET_0 =
+      new ListOffsetsResultInfo(10L, -1L, Optional.empty());
+  private static final ListOffsetsResultInfo OFFSET_1 =
+      new ListOffsetsResultInfo(20L, -1L, Optional.empty());
+
+  @Mock private Admin adminClient;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private OffsetsCache offsetsCache;
+
+  @BeforeEach
+  public void setUp() {
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        };
+    offsetsCache = new OffsetsCache(adminClient, TTL, ticker);
+  }
+
+  @Test
+  public void listOffsets_overlappingInFlight_sharesLookupAndListsOnlyMissingPartitions()
+      throws Exception {
+    KafkaFutureImpl<ListOffsetsResultInfo> inFlight = new KafkaFutureImpl<>();
+    Capture<Map<TopicPartition, OffsetSpec>> firstRequest = Capture.newInstance();
+    Capture<Map<TopicPartition, OffsetSpec>> secondRequest = Capture.newInstance();
+    expectListOffsets(firstRequest, PARTITION_0, inFlight);
+    expectListOffsets(secondRequest, PARTITION_1, KafkaFuture.completedFuture(OFFSET_1));
+    replay(adminClient);
+
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> first =
+        offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> second =
+        offsetsCache.listOffsets(Arrays.asList(PARTITION_0, PARTITION_1), Position.LATEST);
+    assertFalse(second.get(PARTITION_0).isDone());
+    inFlight.complete(OFFSET_0);
+
+    assertSame(OFFSET_0, first.get(PARTITION_0).get());
+    assertSame(OFFSET_0, second.get(PARTITION_0).get());
+    assertSame(OFFSET_1, second.get(PARTITION_1).get());
+    assertEquals(singleton(PARTITION_0), firstRequest.getValue().keySet());
+    assertEquals(singleton(PARTITION_1), secondRequest.getValue().keySet());
+    assertEquals(1, offsetsCache.hitCount());
+    assertEquals(2, offsetsCache.missCount());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listOffsets_fresh_savesCall() throws Exception {
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    replay(adminClient);
+
+    offsetsCache.listOffsets(singletonList(PARTITION_0), Position.EARLIEST);
+    nanos.addAndGet(TimeUnit.NANOSECONDS.convert(TTL.minusMillis(1)));
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> cached =
+        offsetsCache.listOffsets(singletonList(PARTITION_0), Position.EARLIEST);
+
+    assertSame(OFFSET_0, cached.get(PARTITION_0).get());
+    assertEquals(1, offsetsCache.savedCallCount());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listOffsets_differentPositions_listsEach() throws Exception {
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_1));
+    replay(adminClient);
+
+    offsetsCache.listOffsets(singletonList(PARTITION_0), Position.EARLIEST);
+    offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+
+    assertEquals(0, offsetsCache.savedCallCount());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listOffsets_expired_listsAgain() throws Exception {
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_1));
+    replay(adminClient);
+
+    offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+    nanos.addAndGet(TimeUnit.NANOSECONDS.convert(TTL));
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> refreshed =
+        offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+
+    assertSame(OFFSET_1, refreshed.get(PARTITION_0).get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listOffsets_expired_droppedOnLaterLookup() throws Exception {
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    expectListOffsets(Capture.newInstance(), PARTITION_1, KafkaFuture.completedFuture(OFFSET_1));
+    replay(adminClient);
+
+    offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+    nanos.addAndGet(TimeUnit.NANOSECONDS.convert(TTL));
+    offsetsCache.listOffsets(singletonList(PARTITION_1), Position.LATEST);
+
+    assertEquals(1, offsetsCache.size());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listOffsets_failed_failureNotCached() throws Exception {
+    expectListOffsets(Capture.newInstance(), PARTITION_0, failedFuture(new TimeoutException()));
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    replay(adminClient);
+
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> failed =
+        offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+    ExecutionException e = assertThrows(ExecutionException.class, failed.get(PARTITION_0)::get);
+    assertEquals(TimeoutException.class, e.getCause().getClass());
+
+    Map<TopicPartition, CompletableFuture<ListOffsetsResultInfo>> retried =
+        offsetsCache.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+    assertSame(OFFSET_0, retried.get(PARTITION_0).get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listOffsets_disabled_alwaysLists() throws Exception {
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    expectListOffsets(Capture.newInstance(), PARTITION_0, KafkaFuture.completedFuture(OFFSET_0));
+    replay(adminClient);
+
+    OffsetsCache disabled = OffsetsCache.disabled(adminClient);
+    disabled.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+    disabled.listOffsets(singletonList(PARTITION_0), Position.LATEST);
+
+    verify(adminClient);
+  }
+
+  private void expectListOffsets(
+      Capture<Map<TopicPartition, OffsetSpec>> request,
+      TopicPartition partition,
+      KafkaFuture<ListOffsetsResultInfo> offset) {
+    ListOffsetsResult result = createMock(ListOffsetsResult.class);
+    expect(adminClient.listOffsets(capture(request), anyObject())).andReturn(result);
+    expect(result.partitionResult(partition)).andReturn(offset);
+    replay(result);
+  }
+}
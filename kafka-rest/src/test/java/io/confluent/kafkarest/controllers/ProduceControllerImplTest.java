@@ -19,9 +19,12 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import com.google.common.collect.ImmutableMultimap;
 import com.google.protobuf.ByteString;
+import io.confluent.kafkarest.backends.kafka.ProducerPool;
+import io.confluent.kafkarest.backends.kafka.ProducerPoolStriping;
 import io.confluent.kafkarest.entities.ProduceResult;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -446,6 +449,51 @@ public class ProduceControllerImplTest {
         producer.history());
   }
 
+  @Test
+  public void produceWithProducerPool_stripesByPartition() {
+    MockProducer<byte[], byte[]> otherProducer =
+        new MockProducer<>(
+            CLUSTER,
+            /* autoComplete= */ true,
+            new RoundRobinPartitioner(),
+            new ByteArraySerializer(),
+            new ByteArraySerializer());
+    producer =
+        new MockProducer<>(
+            CLUSTER,
+            /* autoComplete= */ true,
+            new RoundRobinPartitioner(),
+            new ByteArraySerializer(),
+            new ByteArraySerializer());
+    produceController =
+        new ProduceControllerImpl(
+            producer,
+            new ProducerPool(2, ProducerPoolStriping.PARTITION, singletonList(otherProducer)));
+
+    for (int i = 0; i < 6; i++) {
+      produceController
+          .produce(
+              "cluster-1",
+              "topic-1",
+              /* partitionId= */ Optional.of(i % 3),
+              /* headers= */ ImmutableMultimap.of(),
+              Optional.of(ByteString.copyFromUtf8("key-" + i)),
+              Optional.of(ByteString.copyFromUtf8("value-" + i)),
+              Instant.ofEpochMilli(1000))
+          .join();
+    }
+
+    // Both producers are used, and a partition is never spread across producers.
+    assertEquals(6, producer.history().size() + otherProducer.history().size());
+    assertFalse(producer.history().isEmpty());
+    assertFalse(otherProducer.history().isEmpty());
+    for (ProducerRecord<byte[], byte[]> record : producer.history()) {
+      assertFalse(
+          otherProducer.history().stream()
+              .anyMatch(other -> other.partition().equals(record.partition())));
+    }
+  }
+
   private static void assertProducerRecordsEquals(
       List<ProducerRecord<byte[], byte[]>> expected, List<ProducerRecord<byte[], byte[]>> actual) {
     assertEquals(
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.FloatNode;
 import com.fasterxml.jackson.databind.node.IntNode;
@@ -30,6 +31,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.BaseEncoding;
 import com.google.protobuf.ByteString;
@@ -291,6 +293,36 @@ public class RecordSerializerFacadeTest {
     assertEquals("{\"foo\":1,\"bar\":false}", serialized.toStringUtf8());
   }
 
+  @Test
+  public void serializeRawJsonValue_returnsRawValue() {
+    ByteString serialized =
+        recordSerializer
+            .serialize(
+                EmbeddedFormat.JSON,
+                TOPIC_NAME,
+                /* schema= */ Optional.empty(),
+                JsonNodeFactory.instance.rawValueNode(new RawValue("{\"foo\":1,\"bar\":false}")),
+                /* isKey= */ false)
+            .get();
+
+    assertEquals("{\"foo\":1,\"bar\":false}", serialized.toStringUtf8());
+  }
+
+  @Test
+  public void serializeDecodedBinaryValue_returnsDecodedBytes() {
+    ByteString serialized =
+        recordSerializer
+            .serialize(
+                EmbeddedFormat.BINARY,
+                TOPIC_NAME,
+                /* schema= */ Optional.empty(),
+                BinaryNode.valueOf("foobar".getBytes(StandardCharsets.UTF_8)),
+                /* isKey= */ false)
+            .get();
+
+    assertEquals("foobar", serialized.toStringUtf8());
+  }
+
   @Test
   public void serializeArrayJsonKey_returnsSerialized() {
     ArrayNode node = new ArrayNode(JsonNodeFactory.instance);
@@ -16,6 +16,7 @@
 package io.confluent.kafkarest.controllers;
 
 import static io.confluent.kafkarest.common.CompletableFutures.failedFuture;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -23,6 +24,7 @@ import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -243,10 +245,8 @@ public class ReplicaManagerImplTest {
                 BROKER_ID_1,
                 KafkaFuture.completedFuture(
                     singletonMap(null, new LogDirDescription(null, partitions)))));
-    expect(partitionManager.getPartitionAllowMissing(CLUSTER_ID, TOPIC_NAME, PARTITION_ID_1))
-        .andReturn(completedFuture(Optional.of(PARTITION_1)));
-    expect(partitionManager.getPartitionAllowMissing(CLUSTER_ID, TOPIC_NAME, PARTITION_ID_2))
-        .andReturn(completedFuture(Optional.of(PARTITION_2)));
+    expect(partitionManager.listPartitionsAllowMissing(CLUSTER_ID, singleton(TOPIC_NAME)))
+        .andReturn(completedFuture(Arrays.asList(PARTITION_1, PARTITION_2)));
     replay(adminClient, describeLogDirsResult, brokerManager, partitionManager);
 
     List<PartitionReplica> replicas =
@@ -273,10 +273,8 @@ public class ReplicaManagerImplTest {
     // This is slightly fake but the idea is that the describeLogDirs returns information which
     // subsequently can't be found by the partition manager. In this test, just one partition has
     // evaporated.
-    expect(partitionManager.getPartitionAllowMissing(CLUSTER_ID, TOPIC_NAME, PARTITION_ID_1))
-        .andReturn(completedFuture(Optional.empty()));
-    expect(partitionManager.getPartitionAllowMissing(CLUSTER_ID, TOPIC_NAME, PARTITION_ID_2))
-        .andReturn(completedFuture(Optional.of(PARTITION_2)));
+    expect(partitionManager.listPartitionsAllowMissing(CLUSTER_ID, singleton(TOPIC_NAME)))
+        .andReturn(completedFuture(singletonList(PARTITION_2)));
     replay(adminClient, describeLogDirsResult, brokerManager, partitionManager);
 
     List<PartitionReplica> replicas =
@@ -285,6 +283,36 @@ public class ReplicaManagerImplTest {
     assertEquals(new HashSet<>(Arrays.asList(REPLICA_2_1)), new HashSet<>(replicas));
   }
 
+  @Test
+  public void searchByBrokerId_existingBroker_describesHostedTopicsOnce() throws Exception {
+    HashMap<TopicPartition, ReplicaInfo> partitions = new HashMap<>();
+    partitions.put(new TopicPartition(TOPIC_NAME, PARTITION_ID_2), null);
+    partitions.put(new TopicPartition("topic-2", PARTITION_ID_1), null);
+    expect(brokerManager.getBroker(CLUSTER_ID, BROKER_ID_1))
+        .andReturn(completedFuture(Optional.of(BROKER_1)));
+    expect(adminClient.describeLogDirs(eq(singletonList(BROKER_ID_1)), anyObject()))
+        .andReturn(describeLogDirsResult);
+    expect(describeLogDirsResult.descriptions())
+        .andReturn(
+            singletonMap(
+                BROKER_ID_1,
+                KafkaFuture.completedFuture(
+                    singletonMap(null, new LogDirDescription(null, partitions)))));
+    // topic-2 was deleted after the log dirs were described.
+    expect(
+            partitionManager.listPartitionsAllowMissing(
+                CLUSTER_ID, new HashSet<>(Arrays.asList(TOPIC_NAME, "topic-2"))))
+        .andReturn(completedFuture(Arrays.asList(PARTITION_1, PARTITION_2)));
+    replay(adminClient, describeLogDirsResult, brokerManager, partitionManager);
+
+    List<PartitionReplica> replicas =
+        replicaManager.searchReplicasByBrokerId(CLUSTER_ID, BROKER_ID_1).get();
+
+    // PARTITION_1 has a replica on the broker, but not in its log dirs.
+    assertEquals(singletonList(REPLICA_2_1), replicas);
+    verify(partitionManager);
+  }
+
   @Test
   public void searchByBrokerId_existingBroker_returnsEmptyList() throws Exception {
     expect(brokerManager.getBroker(CLUSTER_ID, BROKER_ID_1))
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Ticker;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import io.confluent.kafkarest.entities.RegisteredSchema;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SchemaCacheTest {
+
+  private static final Duration EXPIRY = Duration.ofMinutes(10);
+  private static final Duration LATEST_REFRESH = Duration.ofSeconds(30);
+
+  private static final RegisteredSchema SCHEMA =
+      RegisteredSchema.create("topic-1-value", 1, 1, new AvroSchema("{\"type\": \"int\"}"));
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger resolutions = new AtomicInteger();
+
+  private SchemaCache schemaCache;
+
+  @BeforeEach
+  public void setUp() {
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        };
+    schemaCache = new SchemaCache(/* maxSize= */ 10, EXPIRY, LATEST_REFRESH, ticker);
+  }
+
+  @Test
+  public void get_sameKey_resolvesOnce() {
+    assertSame(SCHEMA, schemaCache.get(key(Optional.of(1)), this::resolve));
+    assertSame(SCHEMA, schemaCache.get(key(Optional.of(1)), this::resolve));
+
+    assertEquals(1, resolutions.get());
+    assertEquals(1, schemaCache.stats().hitCount());
+    assertEquals(1, schemaCache.stats().missCount());
+  }
+
+  @Test
+  public void get_differentKeys_resolvesEach() {
+    schemaCache.get(key(Optional.of(1)), this::resolve);
+    schemaCache.get(key(Optional.of(2)), this::resolve);
+
+    assertEquals(2, resolutions.get());
+  }
+
+  @Test
+  public void get_afterExpiry_resolvesAgain() {
+    schemaCache.get(key(Optional.of(1)), this::resolve);
+    nanos.addAndGet(EXPIRY.toNanos() + 1);
+    schemaCache.get(key(Optional.of(1)), this::resolve);
+
+    assertEquals(2, resolutions.get());
+    assertEquals(1, schemaCache.stats().evictionCount());
+  }
+
+  @Test
+  public void getLatest_refreshedAfterRefreshInterval() {
+    schemaCache.getLatest(key(Optional.empty()), this::resolve);
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    schemaCache.getLatest(key(Optional.empty()), this::resolve);
+    assertEquals(1, resolutions.get());
+
+    nanos.addAndGet(LATEST_REFRESH.toNanos());
+    schemaCache.getLatest(key(Optional.empty()), this::resolve);
+    assertEquals(2, resolutions.get());
+  }
+
+  @Test
+  public void get_resolverThrows_errorNotCached() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            schemaCache.get(
+                key(Optional.of(1)),
+                () -> {
+                  throw new IllegalStateException();
+                }));
+
+    assertSame(SCHEMA, schemaCache.get(key(Optional.of(1)), this::resolve));
+    assertEquals(1, resolutions.get());
+  }
+
+  @Test
+  public void disabled_alwaysResolves() {
+    SchemaCache disabled = SchemaCache.disabled();
+
+    disabled.get(key(Optional.of(1)), this::resolve);
+    disabled.get(key(Optional.of(1)), this::resolve);
+
+    assertEquals(2, resolutions.get());
+  }
+
+  @Test
+  public void registerMetrics_reportsStats() {
+    Metrics metrics = new Metrics();
+    schemaCache.registerMetrics(metrics);
+
+    schemaCache.get(key(Optional.of(1)), this::resolve);
+    schemaCache.get(key(Optional.of(1)), this::resolve);
+    schemaCache.get(key(Optional.of(2)), this::resolve);
+
+    assertEquals(1.0, metricValue(metrics, "schema-cache-hit-total"));
+    assertEquals(2.0, metricValue(metrics, "schema-cache-miss-total"));
+    assertEquals(0.0, metricValue(metrics, "schema-cache-eviction-total"));
+    assertEquals(2.0, metricValue(metrics, "schema-cache-size"));
+    metrics.close();
+  }
+
+  private RegisteredSchema resolve() {
+    resolutions.incrementAndGet();
+    return SCHEMA;
+  }
+
+  private static SchemaCache.Key key(Optional<Integer> schemaId) {
+    return SchemaCache.Key.create(
+        "topic-1",
+        /* isKey= */ false,
+        /* format= */ Optional.<EmbeddedFormat>empty(),
+        /* subject= */ Optional.empty(),
+        /* subjectNameStrategy= */ Optional.empty(),
+        schemaId,
+        /* schemaVersion= */ Optional.empty(),
+        /* rawSchema= */ Optional.empty());
+  }
+
+  private static Object metricValue(Metrics metrics, String name) {
+    MetricName metricName = metrics.metricName(name, "schema-cache-metrics");
+    return metrics.metric(metricName).metricValue();
+  }
+}
@@ -20,6 +20,7 @@ import static java.util.Collections.emptyList;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.mock;
 import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -46,6 +47,7 @@ import io.confluent.rest.exceptions.RestConstraintViolationException;
 import io.confluent.rest.exceptions.RestException;
 import jakarta.ws.rs.core.Response.Status;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -293,6 +295,73 @@ public class SchemaManagerImplTest {
     assertEquals(RegisteredSchema.create(KEY_SUBJECT, schemaId, schemaVersion, schema), actual);
   }
 
+  @Test
+  public void getSchema_withCache_latestSchema_servedFromCacheUntilRefresh() throws Exception {
+    SchemaManager cachingSchemaManager =
+        new SchemaManagerImpl(
+            schemaRegistryClient,
+            new TopicNameStrategy(),
+            new SchemaCache(
+                /* maxSize= */ 10, Duration.ofHours(1), /* latestRefreshInterval= */ Duration.ZERO));
+    ParsedSchema schema = new AvroSchema("{\"type\": \"int\"}");
+    int schemaId = schemaRegistryClient.register(KEY_SUBJECT, schema);
+    int schemaVersion = schemaRegistryClient.getVersion(KEY_SUBJECT, schema);
+
+    RegisteredSchema first = getLatestKeySchema(cachingSchemaManager);
+    // A zero refresh interval means the latest schema is looked up again every time.
+    ParsedSchema newSchema = new AvroSchema("{\"type\": \"long\"}");
+    int newSchemaId = schemaRegistryClient.register(KEY_SUBJECT, newSchema);
+    int newSchemaVersion = schemaRegistryClient.getVersion(KEY_SUBJECT, newSchema);
+    RegisteredSchema second = getLatestKeySchema(cachingSchemaManager);
+
+    assertEquals(RegisteredSchema.create(KEY_SUBJECT, schemaId, schemaVersion, schema), first);
+    assertEquals(
+        RegisteredSchema.create(KEY_SUBJECT, newSchemaId, newSchemaVersion, newSchema), second);
+  }
+
+  @Test
+  public void getSchema_withCache_rawSchema_resolvedOnce() throws Exception {
+    SchemaRegistryClient schemaRegistryClientMock = mock(SchemaRegistryClient.class);
+    ParsedSchema schema = new AvroSchema("{\"type\": \"int\"}");
+    expect(schemaRegistryClientMock.getId(KEY_SUBJECT, schema)).andReturn(1);
+    expect(schemaRegistryClientMock.getVersion(KEY_SUBJECT, schema)).andReturn(2);
+    replay(schemaRegistryClientMock);
+
+    SchemaManager cachingSchemaManager =
+        new SchemaManagerImpl(
+            schemaRegistryClientMock,
+            new TopicNameStrategy(),
+            new SchemaCache(/* maxSize= */ 10, Duration.ofHours(1), Duration.ofHours(1)));
+
+    for (int i = 0; i < 3; i++) {
+      RegisteredSchema actual =
+          cachingSchemaManager.getSchema(
+              TOPIC_NAME,
+              /* format= */ Optional.of(EmbeddedFormat.AVRO),
+              /* subject= */ Optional.empty(),
+              /* subjectNameStrategy= */ Optional.empty(),
+              /* schemaId= */ Optional.empty(),
+              /* schemaVersion= */ Optional.empty(),
+              /* rawSchema= */ Optional.of("{\"type\": \"int\"}"),
+              /* isKey= */ true);
+      assertEquals(RegisteredSchema.create(KEY_SUBJECT, 1, 2, schema), actual);
+    }
+
+    verify(schemaRegistryClientMock);
+  }
+
+  private static RegisteredSchema getLatestKeySchema(SchemaManager schemaManager) {
+    return schemaManager.getSchema(
+        TOPIC_NAME,
+        /* format= */ Optional.empty(),
+        /* subject= */ Optional.empty(),
+        /* subjectNameStrategy= */ Optional.empty(),
+        /* schemaId= */ Optional.empty(),
+        /* schemaVersion= */ Optional.empty(),
+        /* rawSchema= */ Optional.empty(),
+        /* isKey= */ true);
+  }
+
   @Test
   public void getSchema_avro_latestSchema_subject() throws Exception {
     String subject = "my-subject";
@@ -531,6 +531,22 @@ public class TopicManagerImplTest {
     assertEquals(Arrays.asList(TOPIC_1, TOPIC_2, TOPIC_3), topics);
   }
 
+  @Test
+  public void listTopicNames_existingCluster_returnsSortedNamesWithoutDescribing()
+      throws Exception {
+    expect(clusterManager.getCluster(CLUSTER_ID)).andReturn(completedFuture(Optional.of(CLUSTER)));
+    expect(adminClient.listTopics()).andReturn(listTopicsResult);
+    expect(listTopicsResult.names())
+        .andReturn(
+            KafkaFuture.completedFuture(
+                new HashSet<>(Arrays.asList("topic-3", "topic-1", "topic-2"))));
+    replay(clusterManager, adminClient, listTopicsResult);
+
+    List<String> topicNames = topicManager.listTopicNames(CLUSTER_ID).get();
+
+    assertEquals(Arrays.asList("topic-1", "topic-2", "topic-3"), topicNames);
+  }
+
   @Test
   public void listTopics_timeoutException_throwsTimeoutException() throws Exception {
     expect(clusterManager.getCluster(CLUSTER_ID)).andReturn(completedFuture(Optional.of(CLUSTER)));
@@ -621,6 +637,29 @@ public class TopicManagerImplTest {
     assertFalse(topic.isPresent());
   }
 
+  @Test
+  public void listTopicsAllowMissing_someTopicsMissing_returnsExistingTopics() throws Exception {
+    expect(clusterManager.getCluster(CLUSTER_ID)).andReturn(completedFuture(Optional.of(CLUSTER)));
+    expect(adminClient.describeTopics(isA(Collection.class), anyObject()))
+        .andReturn(describeTopicResult);
+    expect(describeTopicResult.topicNameValues())
+        .andReturn(
+            ImmutableMap.of(
+                TOPIC_1.getName(),
+                KafkaFuture.completedFuture(TOPIC_DESCRIPTION_1),
+                "foobar",
+                failedFuture(new UnknownTopicOrPartitionException())));
+    replay(clusterManager, adminClient, describeTopicResult);
+
+    List<Topic> topics =
+        topicManager
+            .listTopicsAllowMissing(CLUSTER_ID, Arrays.asList(TOPIC_1.getName(), "foobar"))
+            .get();
+
+    assertEquals(singletonList(TOPIC_1), topics);
+    verify(adminClient);
+  }
+
   @Test
   public void getLocalTopic_existingTopic_returnsTopic() throws Exception {
     expect(clusterManager.getLocalCluster()).andReturn(completedFuture(CLUSTER));
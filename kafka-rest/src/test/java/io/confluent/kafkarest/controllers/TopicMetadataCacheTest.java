@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.controllers;
+
+import static io.confluent.kafkarest.common.KafkaFutures.failedFuture;
+import static java.util.Collections.singletonList;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.reset;
+import static org.easymock.EasyMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.easymock.EasyMockExtension;
+import org.easymock.Mock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(EasyMockExtension.class)
+public class TopicMetadataCacheTest {
+
+  private static final Duration REFRESH = Duration.ofSeconds(10);
+
+  private static final Node NODE_1 = new Node(1, "broker-1", 9091);
+
+  private static final TopicDescription TOPIC_1 = description("topic-1", /* internal= */ false);
+  private static final TopicDescription TOPIC_2 = description("topic-2", /* internal= */ false);
+  private static final TopicDescription INTERNAL = description("__internal", /* internal= */ true);
+
+  @Mock private Admin adminClient;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private TopicMetadataCache topicMetadataCache;
+
+  @BeforeEach
+  public void setUp() {
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        };
+    topicMetadataCache =
+        new TopicMetadataCache(adminClient, REFRESH, /* maxRefreshTopics= */ 10, ticker);
+  }
+
+  @Test
+  public void listTopics_beforeRefresh_returnsEmpty() {
+    replay(adminClient);
+
+    assertFalse(topicMetadataCache.listTopics().isPresent());
+  }
+
+  @Test
+  public void refresh_servesTopicsFromCache() throws Exception {
+    expectListTopics("topic-1", "topic-2");
+    expectDescribeChunk(TOPIC_1, TOPIC_2);
+    replay(adminClient);
+
+    topicMetadataCache.refresh();
+
+    assertEquals(
+        new HashSet<>(Arrays.asList(TOPIC_1, TOPIC_2)),
+        new HashSet<>(topicMetadataCache.listTopics().get()));
+    assertEquals(
+        singletonList(TOPIC_1), topicMetadataCache.describeTopics(singletonList("topic-1")).get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void listTopics_excludesInternalTopicsDescribedOnLookup() throws Exception {
+    expectListTopics("topic-1");
+    expectDescribeChunk(TOPIC_1);
+    expectDescribe(INTERNAL);
+    replay(adminClient);
+
+    topicMetadataCache.refresh();
+    topicMetadataCache.describeTopics(singletonList("__internal")).get();
+
+    assertEquals(singletonList(TOPIC_1), topicMetadataCache.listTopics().get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void refresh_keepsInternalTopics() throws Exception {
+    expectListTopics("topic-1", "__internal");
+    expectDescribeChunk(TOPIC_1, INTERNAL);
+    replay(adminClient);
+    topicMetadataCache.refresh();
+
+    reset(adminClient);
+    expectListTopics("topic-1", "__internal");
+    expectDescribeChunk(TOPIC_1, INTERNAL);
+    replay(adminClient);
+    topicMetadataCache.refresh();
+
+    assertEquals(
+        singletonList(INTERNAL),
+        topicMetadataCache.describeTopics(singletonList("__internal")).get());
+    assertEquals(singletonList(TOPIC_1), topicMetadataCache.listTopics().get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void refresh_manyTopics_describesEnoughToBoundStaleness() throws Exception {
+    int topicCount = 3 * TopicMetadataCache.MAX_REFRESHES_BETWEEN_DESCRIBES;
+    String[] topicNames = new String[topicCount];
+    TopicDescription[] descriptions = new TopicDescription[topicCount];
+    for (int i = 0; i < topicCount; i++) {
+      descriptions[i] = description("topic-" + i, /* internal= */ false);
+      topicNames[i] = descriptions[i].name();
+    }
+    TopicMetadataCache smallRefreshes =
+        new TopicMetadataCache(adminClient, REFRESH, /* maxRefreshTopics= */ 1);
+    expectListTopics(topicNames);
+    expect(adminClient.describeTopics(anyObject(List.class), anyObject()))
+        .andReturn(describeResult(descriptions))
+        .times(topicCount);
+    replay(adminClient);
+    smallRefreshes.refresh();
+
+    reset(adminClient);
+    expectListTopics(topicNames);
+    // A tenth of the topics, rather than maxRefreshTopics, one topic per request.
+    expect(adminClient.describeTopics(anyObject(List.class), anyObject()))
+        .andReturn(describeResult(descriptions))
+        .times(3);
+    replay(adminClient);
+    smallRefreshes.refresh();
+
+    verify(adminClient);
+  }
+
+  @Test
+  public void refresh_dropsDeletedTopics() throws Exception {
+    expectListTopics("topic-1", "topic-2");
+    expectDescribeChunk(TOPIC_1, TOPIC_2);
+    replay(adminClient);
+    topicMetadataCache.refresh();
+
+    reset(adminClient);
+    expectListTopics("topic-2");
+    expectDescribeChunk(TOPIC_2);
+    replay(adminClient);
+    topicMetadataCache.refresh();
+
+    assertEquals(singletonList(TOPIC_2), topicMetadataCache.listTopics().get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void refresh_topicDeletedWhileDescribing_dropsTopic() throws Exception {
+    expectListTopics("topic-1", "topic-2");
+    DescribeTopicsResult describeTopicsResult = createMock(DescribeTopicsResult.class);
+    expect(adminClient.describeTopics(eq(Arrays.asList("topic-1", "topic-2")), anyObject()))
+        .andReturn(describeTopicsResult);
+    expect(describeTopicsResult.topicNameValues())
+        .andReturn(
+            ImmutableMap.of(
+                "topic-1",
+                KafkaFuture.completedFuture(TOPIC_1),
+                "topic-2",
+                failedFuture(new UnknownTopicOrPartitionException())));
+    replay(adminClient, describeTopicsResult);
+
+    topicMetadataCache.refresh();
+
+    assertEquals(singletonList(TOPIC_1), topicMetadataCache.listTopics().get());
+  }
+
+  @Test
+  public void invalidate_dropsTopicAndListing() throws Exception {
+    expectListTopics("topic-1", "topic-2");
+    expectDescribeChunk(TOPIC_1, TOPIC_2);
+    expectDescribe(TOPIC_1);
+    replay(adminClient);
+    topicMetadataCache.refresh();
+
+    topicMetadataCache.invalidate("topic-1");
+
+    assertFalse(topicMetadataCache.listTopics().isPresent());
+    // topic-2 is still served from the cache, topic-1 is described again.
+    assertEquals(
+        singletonList(TOPIC_2), topicMetadataCache.describeTopics(singletonList("topic-2")).get());
+    assertEquals(
+        singletonList(TOPIC_1), topicMetadataCache.describeTopics(singletonList("topic-1")).get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void refresh_missedRefreshes_stopsServingFromCache() throws Exception {
+    expectListTopics("topic-1");
+    expectDescribeChunk(TOPIC_1);
+    expectDescribe(TOPIC_1);
+    replay(adminClient);
+    topicMetadataCache.refresh();
+
+    Duration missed = REFRESH.multipliedBy(TopicMetadataCache.MAX_MISSED_REFRESHES);
+    nanos.addAndGet(TimeUnit.NANOSECONDS.convert(missed));
+
+    assertFalse(topicMetadataCache.listTopics().isPresent());
+    assertEquals(
+        singletonList(TOPIC_1), topicMetadataCache.describeTopics(singletonList("topic-1")).get());
+    verify(adminClient);
+  }
+
+  @Test
+  public void disabled_isNotEnabled() {
+    replay(adminClient);
+
+    assertFalse(TopicMetadataCache.disabled(adminClient).isEnabled());
+    assertTrue(topicMetadataCache.isEnabled());
+  }
+
+  private void expectListTopics(String... topicNames) {
+    ListTopicsResult listTopicsResult = createMock(ListTopicsResult.class);
+    expect(adminClient.listTopics(anyObject(ListTopicsOptions.class))).andReturn(listTopicsResult);
+    expect(listTopicsResult.names())
+        .andReturn(KafkaFuture.completedFuture(ImmutableSet.copyOf(topicNames)));
+    replay(listTopicsResult);
+  }
+
+  private void expectDescribeChunk(TopicDescription... descriptions) {
+    DescribeTopicsResult describeTopicsResult = createMock(DescribeTopicsResult.class);
+    expect(adminClient.describeTopics(anyObject(List.class), anyObject()))
+        .andReturn(describeTopicsResult);
+    ImmutableMap.Builder<String, KafkaFuture<TopicDescription>> futures = ImmutableMap.builder();
+    for (TopicDescription description : descriptions) {
+      futures.put(description.name(), KafkaFuture.completedFuture(description));
+    }
+    expect(describeTopicsResult.topicNameValues()).andReturn(futures.build());
+    replay(describeTopicsResult);
+  }
+
+  /** Returns a result describing {@code descriptions}, whichever topics are asked for. */
+  private static DescribeTopicsResult describeResult(TopicDescription... descriptions) {
+    DescribeTopicsResult describeTopicsResult = createMock(DescribeTopicsResult.class);
+    ImmutableMap.Builder<String, KafkaFuture<TopicDescription>> futures = ImmutableMap.builder();
+    for (TopicDescription description : descriptions) {
+      futures.put(description.name(), KafkaFuture.completedFuture(description));
+    }
+    expect(describeTopicsResult.topicNameValues()).andReturn(futures.build()).anyTimes();
+    replay(describeTopicsResult);
+    return describeTopicsResult;
+  }
+
+  private void expectDescribe(TopicDescription description) {
+    DescribeTopicsResult describeTopicsResult = createMock(DescribeTopicsResult.class);
+    expect(adminClient.describeTopics(eq(singletonList(description.name())), anyObject()))
+        .andReturn(describeTopicsResult);
+    Map<String, TopicDescription> described = ImmutableMap.of(description.name(), description);
+    expect(describeTopicsResult.allTopicNames())
+        .andReturn(KafkaFuture.completedFuture(described));
+    replay(describeTopicsResult);
+  }
+
+  private static TopicDescription description(String topicName, boolean internal) {
+    return new TopicDescription(
+        topicName,
+        internal,
+        singletonList(
+            new TopicPartitionInfo(0, NODE_1, singletonList(NODE_1), singletonList(NODE_1))));
+  }
+}
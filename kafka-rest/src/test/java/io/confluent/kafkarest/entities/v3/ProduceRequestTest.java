@@ -20,12 +20,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.TimeZone;
 import org.junit.jupiter.api.BeforeEach;
@@ -86,4 +90,40 @@ public class ProduceRequestTest {
     assertEquals(basePr.getHeaders(), pr.getHeaders());
     assertEquals(basePr.getPartitionId(), pr.getPartitionId());
   }
+
+  @Test
+  public void testStreamingDataDeserializerDecodesBinaryAndJsonData() throws IOException {
+    String request =
+        "{\"key\":{\"type\":\"BINARY\",\"data\":\"Zm9v\"},"
+            + "\"value\":{\"type\":\"JSON\",\"data\":{\"foo\": [1, 2.5, \"bar\"]}}}";
+
+    ProduceRequest pr =
+        mapper
+            .readerFor(ProduceRequest.class)
+            .withAttribute(ProduceRequest.STREAMING_DATA_ATTRIBUTE, true)
+            .readValue(request);
+
+    assertEquals(
+        BinaryNode.valueOf("foo".getBytes(StandardCharsets.UTF_8)), pr.getKey().get().getData());
+    assertEquals(
+        JsonNodeFactory.instance.rawValueNode(new RawValue("{\"foo\":[1,2.5,\"bar\"]}")),
+        pr.getValue().get().getData());
+    assertEquals(request.length(), pr.getOriginalSize());
+  }
+
+  @Test
+  public void testStreamingDataDeserializerReadsTreeWhenTypeIsUnknown() throws IOException {
+    String request =
+        "{\"key\":{\"data\":\"Zm9v\",\"type\":\"BINARY\"},"
+            + "\"value\":{\"type\":\"BINARY\",\"data\":\"not base64!\"}}";
+
+    ProduceRequest pr =
+        mapper
+            .readerFor(ProduceRequest.class)
+            .withAttribute(ProduceRequest.STREAMING_DATA_ATTRIBUTE, true)
+            .readValue(request);
+
+    assertEquals(mapper.readValue(request, ProduceRequest.class).getKey(), pr.getKey());
+    assertEquals(mapper.readValue(request, ProduceRequest.class).getValue(), pr.getValue());
+  }
 }
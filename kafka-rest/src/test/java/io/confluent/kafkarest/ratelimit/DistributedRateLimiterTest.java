@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class DistributedRateLimiterTest {
+
+  private final FakeClock clock = new FakeClock();
+  private final InMemoryQuotaLedger ledger = new InMemoryQuotaLedger();
+
+  @Test
+  public void rateLimit_limitIsSharedBetweenNodes() {
+    RequestRateLimiter node1 = createNode().create("generic", 10, Duration.ZERO);
+    RequestRateLimiter node2 = createNode().create("generic", 10, Duration.ZERO);
+
+    for (int i = 0; i < 6; i++) {
+      node1.rateLimit(1);
+    }
+    for (int i = 0; i < 4; i++) {
+      node2.rateLimit(1);
+    }
+    assertThrows(RateLimitExceededException.class, () -> node1.rateLimit(1));
+    assertThrows(RateLimitExceededException.class, () -> node2.rateLimit(1));
+
+    clock.advance(Duration.ofSeconds(1));
+    assertDoesNotThrow(() -> node1.rateLimit(1));
+    assertDoesNotThrow(() -> node2.rateLimit(1));
+  }
+
+  @Test
+  public void rateLimit_permitsAreLeasedAShareAtATime() {
+    RequestRateLimiter node1 = createNode().create("generic", 10, Duration.ZERO);
+    RequestRateLimiter node2 = createNode().create("generic", 10, Duration.ZERO);
+
+    // Leasing 2 permits out of 10, node1 keeps 1 of them.
+    node1.rateLimit(1);
+    for (int i = 0; i < 8; i++) {
+      node2.rateLimit(1);
+    }
+    assertThrows(RateLimitExceededException.class, () -> node2.rateLimit(1));
+    assertDoesNotThrow(() -> node1.rateLimit(1));
+    assertThrows(RateLimitExceededException.class, () -> node1.rateLimit(1));
+  }
+
+  @Test
+  public void rateLimit_costAboveLeaseSize_leasesTheCost() {
+    RequestRateLimiter limiter = createNode().create("generic", 10, Duration.ZERO);
+
+    limiter.rateLimit(7);
+    assertThrows(RateLimitExceededException.class, () -> limiter.rateLimit(4));
+    assertDoesNotThrow(() -> limiter.rateLimit(3));
+  }
+
+  @Test
+  public void forKey_keysAreLimitedSeparately() {
+    RequestRateLimiter limiter = createNode().create("per-cluster", 2, Duration.ZERO);
+    RequestRateLimiter cluster1 = limiter.forKey("lkc-1");
+    RequestRateLimiter cluster2 = limiter.forKey("lkc-2");
+
+    cluster1.rateLimit(2);
+    assertThrows(RateLimitExceededException.class, () -> cluster1.rateLimit(1));
+    assertDoesNotThrow(() -> cluster2.rateLimit(2));
+  }
+
+  @Test
+  public void rateLimit_concurrentMisses_leaseOnce() throws Exception {
+    AtomicInteger leases = new AtomicInteger();
+    CountDownLatch leasing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    QuotaLedger slowLedger =
+        (key, window, permits, limit) -> {
+          leases.incrementAndGet();
+          leasing.countDown();
+          Uninterruptibles.awaitUninterruptibly(release);
+          return ledger.lease(key, window, permits, limit);
+        };
+    RequestRateLimiter limiter =
+        new DistributedRateLimiters(slowLedger, clock, /* leaseCount= */ 5)
+            .create("generic", 10, Duration.ofMillis(500));
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> first = executor.submit(() -> limiter.rateLimit(1));
+      leasing.await();
+      Future<?> second = executor.submit(() -> limiter.rateLimit(1));
+      release.countDown();
+
+      first.get();
+      second.get();
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, leases.get());
+  }
+
+  @Test
+  public void rateLimit_ledgerExhausted_doesNotLeaseAgainInWindow() {
+    AtomicInteger leases = new AtomicInteger();
+    QuotaLedger countingLedger =
+        (key, window, permits, limit) -> {
+          leases.incrementAndGet();
+          return ledger.lease(key, window, permits, limit);
+        };
+    RequestRateLimiter limiter =
+        new DistributedRateLimiters(countingLedger, clock, /* leaseCount= */ 1)
+            .create("generic", 2, Duration.ZERO);
+
+    limiter.rateLimit(2);
+    assertThrows(RateLimitExceededException.class, () -> limiter.rateLimit(1));
+    assertThrows(RateLimitExceededException.class, () -> limiter.rateLimit(1));
+    assertEquals(2, leases.get());
+  }
+
+  @Test
+  public void rateLimit_ledgerFails_rejectsUntilNextWindow() {
+    AtomicInteger leases = new AtomicInteger();
+    AtomicBoolean failing = new AtomicBoolean(true);
+    QuotaLedger flakyLedger =
+        (key, window, permits, limit) -> {
+          leases.incrementAndGet();
+          if (failing.get()) {
+            throw new IllegalStateException("Ledger unavailable.");
+          }
+          return ledger.lease(key, window, permits, limit);
+        };
+    RequestRateLimiter limiter =
+        new DistributedRateLimiters(flakyLedger, clock, /* leaseCount= */ 5)
+            .create("generic", 10, Duration.ZERO);
+
+    assertThrows(RateLimitExceededException.class, () -> limiter.rateLimit(1));
+    failing.set(false);
+    assertThrows(RateLimitExceededException.class, () -> limiter.rateLimit(1));
+    assertEquals(1, leases.get());
+
+    clock.advance(Duration.ofSeconds(1));
+    assertDoesNotThrow(() -> limiter.rateLimit(1));
+    assertEquals(2, leases.get());
+  }
+
+  @Test
+  public void lease_pastWindow_leasesNothing() {
+    assertEquals(3, ledger.lease("key", 2, 3, 10));
+    assertEquals(0, ledger.lease("key", 1, 3, 10));
+    assertEquals(7, ledger.lease("key", 2, 8, 10));
+    assertEquals(8, ledger.lease("key", 3, 8, 10));
+  }
+
+  private DistributedRateLimiters createNode() {
+    return new DistributedRateLimiters(ledger, clock, /* leaseCount= */ 5);
+  }
+
+  private static final class FakeClock extends Clock {
+    private final AtomicLong millis = new AtomicLong();
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long millis() {
+      return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+
+    void advance(Duration duration) {
+      millis.addAndGet(duration.toMillis());
+    }
+  }
+}
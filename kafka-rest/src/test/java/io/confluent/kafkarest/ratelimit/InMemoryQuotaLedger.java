@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link QuotaLedger} kept in memory, to be used in tests. Only the rate-limiters created with it
+ * lease from it, so the limits are not shared with other nodes.
+ */
+final class InMemoryQuotaLedger implements QuotaLedger {
+
+  private final ConcurrentHashMap<String, Leases> leases = new ConcurrentHashMap<>();
+  private final AtomicLong lastPurgedWindow = new AtomicLong(Long.MIN_VALUE);
+
+  @Override
+  public long lease(String key, long window, long permits, long limit) {
+    purgeBefore(window);
+    long[] leased = new long[1];
+    leases.compute(
+        key,
+        (k, current) -> {
+          if (current == null || current.window < window) {
+            current = new Leases(window);
+          } else if (current.window > window) {
+            // The window is over for the nodes that moved on to the next one already.
+            return current;
+          }
+          leased[0] = Math.max(0, Math.min(permits, limit - current.leased));
+          current.leased += leased[0];
+          return current;
+        });
+    return leased[0];
+  }
+
+  /** Drops the keys that have not been leased from since before the previous window. */
+  private void purgeBefore(long window) {
+    long lastPurged = lastPurgedWindow.get();
+    if (lastPurged < window && lastPurgedWindow.compareAndSet(lastPurged, window)) {
+      leases.values().removeIf(current -> current.window < window - 1);
+    }
+  }
+
+  private static final class Leases {
+    private final long window;
+    private long leased;
+
+    private Leases(long window) {
+      this.window = window;
+    }
+  }
+}
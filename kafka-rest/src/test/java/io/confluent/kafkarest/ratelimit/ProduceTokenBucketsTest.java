@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.confluent.kafkarest.ratelimit.ProduceTokenBuckets.Limit;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class ProduceTokenBucketsTest {
+
+  private final FakeTicker ticker = new FakeTicker();
+
+  private ProduceTokenBuckets create(
+      int countPerSecond, int bytesPerSecond, int countGlobalPerSecond, int bytesGlobalPerSecond) {
+    return new ProduceTokenBuckets(
+        ticker,
+        /* stripes= */ 1,
+        countPerSecond,
+        bytesPerSecond,
+        countGlobalPerSecond,
+        bytesGlobalPerSecond,
+        Duration.ZERO,
+        Duration.ofHours(1));
+  }
+
+  @Test
+  public void tryAcquire_tenantLimitExceeded_globalPermitsAreRefunded() {
+    ProduceTokenBuckets buckets = create(1, 1000, 2, 1000);
+
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 1));
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 1));
+    assertEquals(Optional.of(Limit.COUNT_PER_TENANT), buckets.tryAcquire("a", 1));
+
+    assertEquals(Optional.empty(), buckets.tryAcquire("b", 1));
+    assertEquals(Optional.of(Limit.COUNT_GLOBAL), buckets.tryAcquire("c", 1));
+  }
+
+  @Test
+  public void tryAcquire_bytesPerTenantLimitExceeded() {
+    ProduceTokenBuckets buckets = create(1000, 10, 1000, 1000);
+
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 30));
+    assertEquals(Optional.of(Limit.BYTES_PER_TENANT), buckets.tryAcquire("a", 1));
+    assertEquals(Optional.empty(), buckets.tryAcquire("b", 1));
+  }
+
+  @Test
+  public void tryAcquire_bytesGlobalLimitExceeded() {
+    ProduceTokenBuckets buckets = create(1000, 1000, 1000, 10);
+
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 30));
+    assertEquals(Optional.of(Limit.BYTES_GLOBAL), buckets.tryAcquire("b", 1));
+  }
+
+  @Test
+  public void clear_resetsTenantLimits() {
+    ProduceTokenBuckets buckets = create(1, 1000, 1000, 1000);
+
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 1));
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 1));
+    assertEquals(Optional.of(Limit.COUNT_PER_TENANT), buckets.tryAcquire("a", 1));
+
+    buckets.clear();
+    assertEquals(Optional.empty(), buckets.tryAcquire("a", 1));
+  }
+
+  @Test
+  public void stripes_powerOfTwoBoundedByProcessorsAndGlobalRate() {
+    assertEquals(8, ProduceTokenBuckets.stripes(8, 1000));
+    assertEquals(8, ProduceTokenBuckets.stripes(12, 1000));
+    assertEquals(4, ProduceTokenBuckets.stripes(64, 5));
+    assertEquals(1, ProduceTokenBuckets.stripes(4, 0));
+  }
+}
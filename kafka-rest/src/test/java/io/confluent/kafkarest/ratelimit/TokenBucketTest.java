@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final FakeTicker ticker = new FakeTicker();
+
+  @Test
+  public void tryAcquire_burstOfOneSecond_thenAtRate() {
+    TokenBucket bucket = new TokenBucket(ticker, Duration.ZERO, 10);
+
+    for (int i = 0; i < 11; i++) {
+      assertEquals(-1, bucket.tryAcquire(1));
+    }
+    assertEquals(0, bucket.tryAcquire(1));
+
+    ticker.advance(Duration.ofMillis(100));
+    assertEquals(-1, bucket.tryAcquire(1));
+    assertEquals(0, bucket.tryAcquire(1));
+  }
+
+  @Test
+  public void tryReserve_waitsUpToTimeout() {
+    TokenBucket bucket = new TokenBucket(ticker, Duration.ofSeconds(1), 1);
+
+    assertEquals(0, bucket.tryReserve(1));
+    assertEquals(0, bucket.tryReserve(1));
+    assertEquals(ONE_SECOND, bucket.tryReserve(1));
+    assertEquals(0, TokenBucket.blockedDimension(bucket.tryReserve(1)));
+  }
+
+  @Test
+  public void tryReserve_blockedDimension_nothingIsCharged() {
+    TokenBucket bucket = new TokenBucket(ticker, Duration.ZERO, 1, 1);
+
+    assertEquals(0, bucket.tryReserve(1, 2));
+    assertEquals(1, TokenBucket.blockedDimension(bucket.tryReserve(1, 1)));
+
+    ticker.advance(Duration.ofSeconds(1));
+    assertEquals(0, bucket.tryReserve(1, 1));
+    // The count permit of the blocked reservation was not charged, so there is one left.
+    assertTrue(bucket.tryReserve(1, 0) >= 0);
+    assertEquals(0, TokenBucket.blockedDimension(bucket.tryReserve(1, 0)));
+  }
+
+  @Test
+  public void refund_returnsReservedPermits() {
+    TokenBucket bucket = new TokenBucket(ticker, Duration.ZERO, 1);
+
+    assertEquals(0, bucket.tryReserve(1));
+    assertEquals(0, bucket.tryReserve(1));
+    assertEquals(0, TokenBucket.blockedDimension(bucket.tryReserve(1)));
+
+    bucket.refund(1);
+    assertEquals(0, bucket.tryReserve(1));
+  }
+}
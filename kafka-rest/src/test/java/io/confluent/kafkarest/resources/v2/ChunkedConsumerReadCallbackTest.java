@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.resources.v2;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+import io.confluent.kafkarest.entities.ConsumerRecord;
+import jakarta.ws.rs.container.AsyncResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.easymock.EasyMockExtension;
+import org.easymock.Mock;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(EasyMockExtension.class)
+public class ChunkedConsumerReadCallbackTest {
+
+  private static final List<ConsumerRecord<String, String>> RECORDS =
+      Collections.singletonList(ConsumerRecord.create("topic-1", "key", "value", 0, 0));
+
+  @Mock private AsyncResponse asyncResponse;
+
+  @Mock private ChunkedOutput<ConsumerRecordsChunk> output;
+
+  private ChunkedConsumerReadCallback<String, String> callback;
+
+  @BeforeEach
+  public void setUp() {
+    callback =
+        new ChunkedConsumerReadCallback<>(asyncResponse, Function.identity(), () -> output);
+  }
+
+  @Test
+  public void completion_afterFirstChunk_closesArrayAndOutput() throws Exception {
+    expect(asyncResponse.resume(output)).andReturn(true);
+    expect(output.isClosed()).andReturn(false).times(2);
+    output.write(ConsumerRecordsChunk.create(/* first= */ true, /* last= */ false, RECORDS));
+    output.write(
+        ConsumerRecordsChunk.create(
+            /* first= */ false, /* last= */ true, Collections.emptyList()));
+    output.close();
+    replay(asyncResponse, output);
+
+    callback.onRecords(RECORDS);
+    callback.onCompletion(Collections.emptyList(), /* e= */ null);
+
+    verify(asyncResponse, output);
+  }
+
+  @Test
+  public void error_afterFirstChunk_abortsOutput() throws Exception {
+    RuntimeException error = new RuntimeException("Consumer failed.");
+    expect(asyncResponse.resume(output)).andReturn(true);
+    expect(output.isClosed()).andReturn(false);
+    output.write(ConsumerRecordsChunk.create(/* first= */ true, /* last= */ false, RECORDS));
+    // Neither the closing chunk is written nor is the output closed normally.
+    output.close(error);
+    replay(asyncResponse, output);
+
+    callback.onRecords(RECORDS);
+    callback.onCompletion(Collections.emptyList(), error);
+
+    verify(asyncResponse, output);
+  }
+
+  @Test
+  public void error_beforeFirstChunk_resumesWithError() {
+    RuntimeException error = new RuntimeException("Consumer failed.");
+    expect(asyncResponse.resume(error)).andReturn(true);
+    replay(asyncResponse, output);
+
+    callback.onRecords(Collections.emptyList());
+    callback.onCompletion(Collections.emptyList(), error);
+
+    verify(asyncResponse, output);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.resources.v2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class ConsumerRecordsChunkTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void chunks_makeUpJsonArray() throws Exception {
+    String json =
+        OBJECT_MAPPER.writeValueAsString(
+                ConsumerRecordsChunk.create(
+                    /* first= */ true,
+                    /* last= */ false,
+                    Arrays.asList(ImmutableMap.of("offset", 0), ImmutableMap.of("offset", 1))))
+            + OBJECT_MAPPER.writeValueAsString(
+                ConsumerRecordsChunk.create(
+                    /* first= */ false,
+                    /* last= */ false,
+                    Collections.singletonList(ImmutableMap.of("offset", 2))))
+            + OBJECT_MAPPER.writeValueAsString(
+                ConsumerRecordsChunk.create(
+                    /* first= */ false, /* last= */ true, Collections.emptyList()));
+
+    assertEquals("[{\"offset\":0},{\"offset\":1},{\"offset\":2}]", json);
+  }
+
+  @Test
+  public void singleChunk_isJsonArray() throws Exception {
+    String json =
+        OBJECT_MAPPER.writeValueAsString(
+            ConsumerRecordsChunk.create(
+                /* first= */ true,
+                /* last= */ true,
+                Collections.singletonList(ImmutableMap.of("offset", 0))));
+
+    assertEquals("[{\"offset\":0}]", json);
+  }
+}
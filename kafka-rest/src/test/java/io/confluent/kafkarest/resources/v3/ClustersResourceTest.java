@@ -68,7 +68,7 @@ public class ClustersResourceTest {
 
   @Test
   public void listClusters_returnsArrayWithOwnClusters() {
-    expect(clusterManager.listClusters())
+    expect(clusterManager.listClustersWithBrokers())
         .andReturn(CompletableFuture.completedFuture(singletonList(CLUSTER_1)));
     replay(clusterManager);
 
@@ -112,7 +112,8 @@ public class ClustersResourceTest {
 
   @Test
   public void listClusters_timeoutException_returnsTimeoutException() {
-    expect(clusterManager.listClusters()).andReturn(failedFuture(new TimeoutException()));
+    expect(clusterManager.listClustersWithBrokers())
+        .andReturn(failedFuture(new TimeoutException()));
     replay(clusterManager);
 
     FakeAsyncResponse response = new FakeAsyncResponse();
@@ -123,7 +124,7 @@ public class ClustersResourceTest {
 
   @Test
   public void getCluster_ownCluster_returnsCluster() {
-    expect(clusterManager.getCluster(CLUSTER_1.getClusterId()))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_1.getClusterId()))
         .andReturn(CompletableFuture.completedFuture(Optional.of(CLUSTER_1)));
     replay(clusterManager);
 
@@ -157,7 +158,7 @@ public class ClustersResourceTest {
 
   @Test
   public void getCluster_otherCluster_returnsNotFoundException() {
-    expect(clusterManager.getCluster("foobar"))
+    expect(clusterManager.getClusterWithBrokers("foobar"))
         .andReturn(CompletableFuture.completedFuture(Optional.empty()));
     replay(clusterManager);
 
@@ -169,7 +170,7 @@ public class ClustersResourceTest {
 
   @Test
   public void getCluster_timeoutException_returnsTimeoutException() {
-    expect(clusterManager.getCluster(CLUSTER_1.getClusterId()))
+    expect(clusterManager.getClusterWithBrokers(CLUSTER_1.getClusterId()))
         .andReturn(failedFuture(new TimeoutException()));
     replay(clusterManager);
 
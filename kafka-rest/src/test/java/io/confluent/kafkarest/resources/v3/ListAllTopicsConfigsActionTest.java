@@ -17,16 +17,26 @@ package io.confluent.kafkarest.resources.v3;
 
 import static io.confluent.kafkarest.common.CompletableFutures.failedFuture;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.getCurrentArguments;
 import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.confluent.kafkarest.controllers.TopicConfigManager;
 import io.confluent.kafkarest.controllers.TopicManager;
 import io.confluent.kafkarest.entities.ConfigSource;
-import io.confluent.kafkarest.entities.Topic;
 import io.confluent.kafkarest.entities.TopicConfig;
 import io.confluent.kafkarest.entities.v3.ConfigSynonymData;
 import io.confluent.kafkarest.entities.v3.ListTopicConfigsResponse;
@@ -37,11 +47,25 @@ import io.confluent.kafkarest.entities.v3.TopicConfigDataList;
 import io.confluent.kafkarest.response.CrnFactoryImpl;
 import io.confluent.kafkarest.response.FakeAsyncResponse;
 import io.confluent.kafkarest.response.FakeUrlFactory;
+import io.confluent.kafkarest.response.StreamedCollection;
+import io.confluent.kafkarest.response.StreamedCollectionMessageBodyWriter;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.easymock.EasyMockExtension;
 import org.easymock.Mock;
@@ -55,6 +79,9 @@ public class ListAllTopicsConfigsActionTest {
   private static final String CLUSTER_ID = "cluster-1";
   private static final String TOPIC_NAME = "topic-1";
 
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().registerModule(new GuavaModule()).registerModule(new Jdk8Module());
+
   private static final TopicConfig CONFIG_1 =
       TopicConfig.create(
           CLUSTER_ID,
@@ -102,17 +129,15 @@ public class ListAllTopicsConfigsActionTest {
             () -> topicManager,
             () -> topicConfigManager,
             new CrnFactoryImpl(/* crnAuthorityConfig= */ ""),
-            new FakeUrlFactory());
+            new FakeUrlFactory(),
+            /* chunkSize= */ 0,
+            MoreExecutors.newDirectExecutorService());
   }
 
   @Test
   public void listTopicConfigs_existingTopic_returnsConfigs() {
-    expect(topicManager.listTopics(CLUSTER_ID))
-        .andReturn(
-            completedFuture(
-                Arrays.asList(
-                    Topic.create(
-                        CLUSTER_ID, TOPIC_NAME, new ArrayList<>(), (short) 1, false, emptySet()))));
+    expect(topicManager.listTopicNames(CLUSTER_ID))
+        .andReturn(completedFuture(Arrays.asList(TOPIC_NAME)));
 
     expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, Arrays.asList(TOPIC_NAME)))
         .andReturn(
@@ -125,7 +150,7 @@ public class ListAllTopicsConfigsActionTest {
     replay(topicManager, topicConfigManager);
 
     FakeAsyncResponse response = new FakeAsyncResponse();
-    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID);
+    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID, 0, "");
 
     ListTopicConfigsResponse expected =
         ListTopicConfigsResponse.create(
@@ -206,14 +231,14 @@ public class ListAllTopicsConfigsActionTest {
 
   @Test
   public void listTopicConfigs_noTopics_returnsEmptyConfigs() {
-    expect(topicManager.listTopics(CLUSTER_ID)).andReturn(completedFuture(new ArrayList<>()));
+    expect(topicManager.listTopicNames(CLUSTER_ID)).andReturn(completedFuture(new ArrayList<>()));
 
     expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, new ArrayList<>()))
         .andReturn(completedFuture(new HashMap<String, List<TopicConfig>>()));
     replay(topicManager, topicConfigManager);
 
     FakeAsyncResponse response = new FakeAsyncResponse();
-    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID);
+    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID, 0, "");
 
     ListTopicConfigsResponse expected =
         ListTopicConfigsResponse.create(
@@ -230,12 +255,155 @@ public class ListAllTopicsConfigsActionTest {
 
   @Test
   public void listTopicConfigs_nonExistingCluster_throwsNotFound() {
-    expect(topicManager.listTopics(CLUSTER_ID)).andReturn(failedFuture(new NotFoundException()));
+    expect(topicManager.listTopicNames(CLUSTER_ID))
+        .andReturn(failedFuture(new NotFoundException()));
     replay(topicManager);
 
     FakeAsyncResponse response = new FakeAsyncResponse();
-    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID);
+    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID, 0, "");
 
     assertEquals(NotFoundException.class, response.getException().getClass());
   }
+
+  @Test
+  public void listTopicConfigs_pageSize_returnsPageWithNextLink() {
+    expect(topicManager.listTopicNames(CLUSTER_ID))
+        .andReturn(completedFuture(Arrays.asList("topic-0", "topic-1", "topic-2", "topic-3")));
+    expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, Arrays.asList("topic-1", "topic-2")))
+        .andReturn(completedFuture(singletonMap(TOPIC_NAME, Arrays.asList(CONFIG_1))));
+    replay(topicManager, topicConfigManager);
+
+    FakeAsyncResponse response = new FakeAsyncResponse();
+    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID, 2, "topic-0");
+
+    TopicConfigDataList actual = ((ListTopicConfigsResponse) response.getValue()).getValue();
+    assertEquals(
+        ResourceCollection.Metadata.builder()
+            .setSelf("/v3/clusters/cluster-1/topics/-/configs?page_size=2&page_token=topic-0")
+            .setNext("/v3/clusters/cluster-1/topics/-/configs?page_size=2&page_token=topic-2")
+            .build(),
+        actual.getMetadata());
+    assertEquals(1, actual.getData().size());
+  }
+
+  @Test
+  public void listTopicConfigs_lastPage_returnsPageWithoutNextLink() {
+    expect(topicManager.listTopicNames(CLUSTER_ID))
+        .andReturn(completedFuture(Arrays.asList("topic-0", "topic-1", "topic-2", "topic-3")));
+    expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, Arrays.asList("topic-2", "topic-3")))
+        .andReturn(completedFuture(new HashMap<String, List<TopicConfig>>()));
+    replay(topicManager, topicConfigManager);
+
+    FakeAsyncResponse response = new FakeAsyncResponse();
+    // The page starts after the token, even if there's no topic with that name anymore.
+    allTopicConfigsResource.listTopicConfigs(response, CLUSTER_ID, 2, "topic-1a");
+
+    TopicConfigDataList actual = ((ListTopicConfigsResponse) response.getValue()).getValue();
+    assertEquals(
+        ResourceCollection.Metadata.builder()
+            .setSelf("/v3/clusters/cluster-1/topics/-/configs?page_size=2&page_token=topic-1a")
+            .build(),
+        actual.getMetadata());
+  }
+
+  @Test
+  public void listTopicConfigs_negativePageSize_throwsBadRequest() {
+    replay(topicManager, topicConfigManager);
+
+    assertThrows(
+        BadRequestException.class,
+        () ->
+            allTopicConfigsResource.listTopicConfigs(
+                new FakeAsyncResponse(), CLUSTER_ID, -1, ""));
+  }
+
+  @Test
+  public void listTopicConfigs_chunkSize_streamsConfigsInChunks() throws Exception {
+    ListAllTopicsConfigsAction streamingResource =
+        new ListAllTopicsConfigsAction(
+            () -> topicManager,
+            () -> topicConfigManager,
+            new CrnFactoryImpl(/* crnAuthorityConfig= */ ""),
+            new FakeUrlFactory(),
+            /* chunkSize= */ 1,
+            MoreExecutors.newDirectExecutorService());
+    expect(topicManager.listTopicNames(CLUSTER_ID))
+        .andReturn(completedFuture(Arrays.asList("topic-1", "topic-2")));
+    expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, singletonList("topic-1")))
+        .andReturn(completedFuture(singletonMap("topic-1", Arrays.asList(CONFIG_1, CONFIG_2))));
+    expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, singletonList("topic-2")))
+        .andReturn(completedFuture(singletonMap("topic-2", Arrays.asList(CONFIG_3))));
+    replay(topicManager, topicConfigManager);
+
+    FakeAsyncResponse response = new FakeAsyncResponse();
+    streamingResource.listTopicConfigs(response, CLUSTER_ID, 0, "");
+
+    StreamedCollection<?> collection = (StreamedCollection<?>) response.getValue();
+    assertEquals(TopicConfigDataList.KIND, collection.getKind());
+    assertEquals("/v3/clusters/cluster-1/topics/-/configs", collection.getMetadata().getSelf());
+    assertEquals(2, collection.getChunks().size());
+    assertEquals(2, collection.getChunks().get(0).get().get().size());
+    assertEquals(1, collection.getChunks().get(1).get().get().size());
+    verify(topicConfigManager);
+  }
+
+  @Test
+  public void listTopicConfigs_chunkSize_singleAdminThread_writesAllChunks() throws Exception {
+    // Like the Kafka Admin client, completes every future on one network thread.
+    ExecutorService adminThread = Executors.newSingleThreadExecutor();
+    ExecutorService writeExecutor = Executors.newCachedThreadPool();
+    try {
+      ListAllTopicsConfigsAction streamingResource =
+          new ListAllTopicsConfigsAction(
+              () -> topicManager,
+              () -> topicConfigManager,
+              new CrnFactoryImpl(/* crnAuthorityConfig= */ ""),
+              new FakeUrlFactory(),
+              /* chunkSize= */ 1,
+              writeExecutor);
+      expect(topicManager.listTopicNames(CLUSTER_ID))
+          .andReturn(
+              CompletableFuture.supplyAsync(
+                  () -> Arrays.asList("topic-1", "topic-2"), adminThread));
+      expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, singletonList("topic-1")))
+          .andReturn(
+              CompletableFuture.supplyAsync(
+                  () -> singletonMap("topic-1", Arrays.asList(CONFIG_1, CONFIG_2)),
+                  adminThread));
+      expect(topicConfigManager.listTopicConfigs(CLUSTER_ID, singletonList("topic-2")))
+          .andReturn(
+              CompletableFuture.supplyAsync(
+                  () -> singletonMap("topic-2", Arrays.asList(CONFIG_3)), adminThread));
+      // Like Jersey, writes the entity on the thread that resumes the response.
+      CompletableFuture<String> written = new CompletableFuture<>();
+      AsyncResponse response = createMock(AsyncResponse.class);
+      expect(response.resume(anyObject(Response.class)))
+          .andAnswer(
+              () -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                new StreamedCollectionMessageBodyWriter(OBJECT_MAPPER)
+                    .writeTo(
+                        (StreamedCollection<?>) ((Response) getCurrentArguments()[0]).getEntity(),
+                        StreamedCollection.class,
+                        StreamedCollection.class,
+                        new Annotation[0],
+                        MediaType.APPLICATION_JSON_TYPE,
+                        new MultivaluedHashMap<>(),
+                        out);
+                written.complete(out.toString(StandardCharsets.UTF_8.name()));
+                return true;
+              });
+      replay(topicManager, topicConfigManager, response);
+
+      streamingResource.listTopicConfigs(response, CLUSTER_ID, 0, "");
+
+      JsonNode data = OBJECT_MAPPER.readTree(written.get(10, TimeUnit.SECONDS)).get("data");
+      assertEquals(3, data.size());
+      assertEquals("config-3", data.get(2).get("name").asText());
+      verify(topicConfigManager, response);
+    } finally {
+      adminThread.shutdownNow();
+      writeExecutor.shutdownNow();
+    }
+  }
 }
@@ -279,6 +279,53 @@ public class ProducerMetricsTest {
         new ObjectName("kafka.rest:type=produce-api-metrics," + "otherTag=otherValue2,tag=value2"));
   }
 
+  @Test
+  public void testConcurrentRecording() throws Exception {
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int n = 0; n < 1000; n++) {
+                  producerMetrics.recordRequest();
+                  producerMetrics.recordRequestSize(2);
+                  producerMetrics.recordRequestLatency(n % 10);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    ObjectName beanName = new ObjectName("kafka.rest:type=produce-api-metrics,tag=value");
+    assertEquals(
+        8000.0,
+        mBeanServer.getAttribute(beanName, ProducerMetrics.REQUEST_COUNT_WINDOWED_METRIC_NAME));
+    assertEquals(16000.0, mBeanServer.getAttribute(beanName, "request-byte-total"));
+    assertEquals(
+        4.5, mBeanServer.getAttribute(beanName, ProducerMetrics.REQUEST_LATENCY_AVG_METRIC_NAME));
+    assertEquals(
+        9.0, mBeanServer.getAttribute(beanName, ProducerMetrics.REQUEST_LATENCY_MAX_METRIC_NAME));
+  }
+
+  @Test
+  public void testSameTagsShareSensors() throws Exception {
+    ProducerMetrics producerMetrics2 = new ProducerMetrics(config, tags);
+
+    producerMetrics.recordRequest();
+    producerMetrics2.recordRequest();
+    producerMetrics2.recordRequest();
+
+    assertEquals(
+        3.0,
+        ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(
+                new ObjectName("kafka.rest:type=produce-api-metrics,tag=value"),
+                ProducerMetrics.REQUEST_COUNT_WINDOWED_METRIC_NAME));
+  }
+
   @Test
   public void test_requestSensor_hasCorrectMetricObjectTypeSetup() {
     {
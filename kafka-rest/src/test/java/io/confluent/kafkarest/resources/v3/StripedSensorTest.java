@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.resources.v3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.junit.jupiter.api.Test;
+
+public class StripedSensorTest {
+
+  @Test
+  public void latencyBucket_belowOneHundredTwentyEight_isExact() {
+    for (long value = 0; value < 128; value++) {
+      assertEquals(value, StripedSensor.Latency.lowestValue(StripedSensor.Latency.bucket(value)));
+    }
+  }
+
+  @Test
+  public void latencyBucket_aboveOneHundredTwentyEight_isWithinOneSixtyFourth() {
+    int previous = -1;
+    for (long value = 128; value < 10_000_000; value += 7) {
+      int bucket = StripedSensor.Latency.bucket(value);
+      long lowest = StripedSensor.Latency.lowestValue(bucket);
+      assertTrue(lowest <= value);
+      assertTrue(value - lowest < value / 64.0);
+      assertTrue(bucket >= previous);
+      previous = bucket;
+    }
+  }
+
+  @Test
+  public void latencyBucket_outOfRange_isClamped() {
+    assertEquals(0, StripedSensor.Latency.bucket(-1));
+    assertEquals(
+        StripedSensor.Latency.bucket(Integer.MAX_VALUE),
+        StripedSensor.Latency.bucket(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void latencyFold_recordsAggregates() {
+    Metrics metrics = new Metrics();
+    StripedSensor.Latency latency = new StripedSensor.Latency(metrics.sensor("latency"));
+    MetricName max = metrics.metricName("latency-max", "test");
+    MetricName avg = metrics.metricName("latency-avg", "test");
+    MetricName p50 = metrics.metricName("latency-p50", "test");
+    latency.addMax(metrics, max);
+    latency.addAvg(metrics, avg);
+    latency.addPercentiles(metrics, 4000, 1000, new Percentile(p50, 50));
+    latency = (StripedSensor.Latency) latency.shared();
+
+    for (long value = 1; value <= 99; value++) {
+      latency.record(value);
+    }
+    // Kept to within 1/64th in the histogram, but exactly in the maximum and average.
+    latency.record(1001);
+
+    assertEquals(1001.0, metrics.metric(max).metricValue());
+    assertEquals((99 * 100 / 2 + 1001) / 100.0, metrics.metric(avg).metricValue());
+    assertEquals(50.0, (double) metrics.metric(p50).metricValue(), 1.0);
+
+    latency.record(10);
+
+    // Folded values are not folded again.
+    assertEquals((99 * 100 / 2 + 1001 + 10) / 101.0, metrics.metric(avg).metricValue());
+    metrics.close();
+  }
+}
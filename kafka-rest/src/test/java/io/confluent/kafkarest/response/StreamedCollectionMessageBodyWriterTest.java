@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.response;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import io.confluent.kafkarest.entities.ConfigSource;
+import io.confluent.kafkarest.entities.v3.Resource;
+import io.confluent.kafkarest.entities.v3.ResourceCollection;
+import io.confluent.kafkarest.entities.v3.TopicConfigData;
+import io.confluent.kafkarest.entities.v3.TopicConfigDataList;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class StreamedCollectionMessageBodyWriterTest {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().registerModule(new GuavaModule()).registerModule(new Jdk8Module());
+
+  private static final ResourceCollection.Metadata METADATA =
+      ResourceCollection.Metadata.builder()
+          .setSelf("/v3/clusters/cluster-1/topics/-/configs")
+          .setNext("/v3/clusters/cluster-1/topics/-/configs?page_token=topic-2")
+          .build();
+
+  private final StreamedCollectionMessageBodyWriter writer =
+      new StreamedCollectionMessageBodyWriter(OBJECT_MAPPER);
+
+  @Test
+  public void isWriteable_streamedCollectionAsJson() {
+    assertTrue(
+        writer.isWriteable(
+            StreamedCollection.class,
+            StreamedCollection.class,
+            new Annotation[0],
+            MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  @Test
+  public void writeTo_writesEquivalentResourceCollection() throws Exception {
+    TopicConfigData config1 = topicConfig("topic-1", "config-1");
+    TopicConfigData config2 = topicConfig("topic-1", "config-2");
+    TopicConfigData config3 = topicConfig("topic-2", "config-1");
+    List<Supplier<CompletableFuture<List<TopicConfigData>>>> chunks =
+        Arrays.asList(
+            () -> CompletableFuture.completedFuture(Arrays.asList(config1, config2)),
+            () -> CompletableFuture.completedFuture(emptyList()),
+            () -> CompletableFuture.completedFuture(Arrays.asList(config3)));
+
+    String written = write(new StreamedCollection<>(TopicConfigDataList.KIND, METADATA, chunks));
+
+    TopicConfigDataList expected =
+        TopicConfigDataList.builder()
+            .setMetadata(METADATA)
+            .setData(Arrays.asList(config1, config2, config3))
+            .build();
+    assertEquals(
+        OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(expected)),
+        OBJECT_MAPPER.readTree(written));
+  }
+
+  @Test
+  public void writeTo_noChunks_writesEmptyData() throws Exception {
+    String written =
+        write(new StreamedCollection<>(TopicConfigDataList.KIND, METADATA, emptyList()));
+
+    assertEquals(0, OBJECT_MAPPER.readTree(written).get("data").size());
+  }
+
+  @Test
+  public void writeTo_failedChunk_throwsIOException() {
+    CompletableFuture<List<TopicConfigData>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException());
+    List<Supplier<CompletableFuture<List<TopicConfigData>>>> chunks = Arrays.asList(() -> failed);
+
+    assertThrows(
+        IOException.class,
+        () -> write(new StreamedCollection<>(TopicConfigDataList.KIND, METADATA, chunks)));
+  }
+
+  private String write(StreamedCollection<?> collection) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    writer.writeTo(
+        collection,
+        StreamedCollection.class,
+        StreamedCollection.class,
+        new Annotation[0],
+        MediaType.APPLICATION_JSON_TYPE,
+        /* httpHeaders= */ null,
+        output);
+    return output.toString("UTF-8");
+  }
+
+  private static TopicConfigData topicConfig(String topicName, String name) {
+    return TopicConfigData.builder()
+        .setMetadata(
+            Resource.Metadata.builder()
+                .setSelf("/v3/clusters/cluster-1/topics/" + topicName + "/configs/" + name)
+                .build())
+        .setClusterId("cluster-1")
+        .setTopicName(topicName)
+        .setName(name)
+        .setValue("value")
+        .setDefault(false)
+        .setReadOnly(false)
+        .setSensitive(false)
+        .setSource(ConfigSource.DYNAMIC_TOPIC_CONFIG)
+        .setSynonyms(emptyList())
+        .build();
+  }
+}
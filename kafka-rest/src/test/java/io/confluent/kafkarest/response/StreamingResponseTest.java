@@ -15,11 +15,18 @@
 
 package io.confluent.kafkarest.response;
 
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static java.util.stream.Collectors.toList;
+import static org.easymock.EasyMock.createStrictMock;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.mock;
 import static org.easymock.EasyMock.replay;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.confluent.kafkarest.entities.EmbeddedFormat;
@@ -33,7 +40,16 @@ import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.easymock.EasyMock;
 import org.eclipse.jetty.http.HttpStatus;
 import org.glassfish.jersey.server.ChunkedOutput;
@@ -377,4 +393,129 @@ public class StreamingResponseTest {
     EasyMock.verify(requestsMappingIterator);
     EasyMock.verify(clock);
   }
+
+  @Test
+  public void testPipelinedComposeTransformsAndWritesInRequestOrder() throws Exception {
+    int numRequests = 8;
+    MappingIterator<Integer> requests = mock(MappingIterator.class);
+    for (int i = 0; i < numRequests; i++) {
+      expect(requests.hasNext()).andReturn(true);
+      expect(requests.nextValue()).andReturn(i);
+    }
+    expect(requests.hasNext()).andReturn(false);
+    requests.close();
+    replay(requests);
+
+    ChunkedOutputFactory mockedChunkedOutputFactory = mock(ChunkedOutputFactory.class);
+    ChunkedOutput<ResultOrError> mockedChunkedOutput = createStrictMock(ChunkedOutput.class);
+    ProduceRecordErrorCounter produceRecordErrorCounter = mock(ProduceRecordErrorCounter.class);
+
+    expect(mockedChunkedOutputFactory.getChunkedOutput()).andReturn(mockedChunkedOutput);
+    for (int i = 0; i < numRequests; i++) {
+      expect(mockedChunkedOutput.isClosed()).andReturn(false);
+      mockedChunkedOutput.write(ResultOrError.result(i));
+    }
+    CountDownLatch closed = new CountDownLatch(1);
+    mockedChunkedOutput.close();
+    expectLastCall()
+        .andAnswer(
+            () -> {
+              closed.countDown();
+              return null;
+            });
+    replay(mockedChunkedOutputFactory, mockedChunkedOutput);
+
+    StreamingResponse<Integer> streamingResponse =
+        new StreamingResponseFactory(mockedChunkedOutputFactory, DURATION, DURATION)
+            .from(new JsonStream<>(() -> requests));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Integer> transformed = Collections.synchronizedList(new ArrayList<>());
+    try {
+      streamingResponse
+          .compose(
+              // Earlier requests take longer to prepare, so they finish preparing out of order.
+              request -> {
+                sleepUninterruptibly((numRequests - request) * 10L, TimeUnit.MILLISECONDS);
+                return request;
+              },
+              request -> {
+                transformed.add(request);
+                return CompletableFuture.completedFuture(request);
+              },
+              executor,
+              /* maxInFlight= */ 4)
+          .resume(new FakeAsyncResponse(), produceRecordErrorCounter);
+
+      assertTrue(closed.await(5, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(IntStream.range(0, numRequests).boxed().collect(toList()), transformed);
+    EasyMock.verify(mockedChunkedOutput);
+    EasyMock.verify(mockedChunkedOutputFactory);
+    EasyMock.verify(requests);
+  }
+
+  @Test
+  public void testChunkCoalescingWritesBatchesInRequestOrder() throws Exception {
+    int numRequests = 5;
+    MappingIterator<Integer> requests = mock(MappingIterator.class);
+    for (int i = 0; i < numRequests; i++) {
+      expect(requests.hasNext()).andReturn(true);
+      expect(requests.nextValue()).andReturn(i);
+    }
+    expect(requests.hasNext()).andReturn(false);
+    requests.close();
+    replay(requests);
+
+    ChunkedOutputFactory mockedChunkedOutputFactory = mock(ChunkedOutputFactory.class);
+    ChunkedOutput<ResultOrError> mockedChunkedOutput = createStrictMock(ChunkedOutput.class);
+    ProduceRecordErrorCounter produceRecordErrorCounter = mock(ProduceRecordErrorCounter.class);
+
+    expect(mockedChunkedOutputFactory.getChunkedOutput()).andReturn(mockedChunkedOutput);
+    // Checked once as each result is written to the queue, and once more when flushing.
+    expect(mockedChunkedOutput.isClosed()).andReturn(false).times(4);
+    mockedChunkedOutput.write(
+        ResultOrError.batch(
+            Arrays.asList(
+                ResultOrError.result(0), ResultOrError.result(1), ResultOrError.result(2))));
+    expect(mockedChunkedOutput.isClosed()).andReturn(false).times(2);
+    // The linger never expires during the test, so the last, partial batch is written on close.
+    expect(mockedChunkedOutput.isClosed()).andReturn(false);
+    mockedChunkedOutput.write(
+        ResultOrError.batch(Arrays.asList(ResultOrError.result(3), ResultOrError.result(4))));
+    mockedChunkedOutput.close();
+    replay(mockedChunkedOutputFactory, mockedChunkedOutput);
+
+    StreamingResponse.from(
+            new JsonStream<>(() -> requests),
+            mockedChunkedOutputFactory,
+            DURATION,
+            DURATION,
+            ChunkCoalescing.create(Duration.ofHours(1), /* maxRecords= */ 3, Runnable::run))
+        .compose(CompletableFuture::completedFuture)
+        .resume(new FakeAsyncResponse(), produceRecordErrorCounter);
+
+    EasyMock.verify(mockedChunkedOutput);
+    EasyMock.verify(mockedChunkedOutputFactory);
+    EasyMock.verify(requests);
+  }
+
+  @Test
+  public void testBatchSerializesLikeIndividualChunks() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    String serialized =
+        objectMapper.writeValueAsString(
+            ResultOrError.batch(
+                Arrays.asList(
+                    ResultOrError.result(1),
+                    ResultOrError.error(ErrorResponse.create(400, "Bad Request")),
+                    ResultOrError.result("foo"))));
+
+    assertEquals(
+        "1\r\n{\"error_code\":400,\"message\":\"Bad Request\"}\r\n\"foo\"", serialized);
+  }
 }
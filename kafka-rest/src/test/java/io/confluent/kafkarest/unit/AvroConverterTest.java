@@ -19,9 +19,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
 import io.confluent.kafkarest.converters.AvroConverter;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,6 +33,7 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.util.Utf8;
 import org.junit.jupiter.api.Test;
 
 public class AvroConverterTest {
@@ -82,6 +87,33 @@ public class AvroConverterTest {
                   + "  \"symbols\" : [\"SPADES\", \"HEARTS\", \"DIAMONDS\", \"CLUBS\"]\n"
                   + "}");
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final Schema DIRECT_SCHEMA =
+      new Schema.Parser()
+          .parse(
+              "{\"type\": \"record\", \"name\": \"Outer\", \"namespace\": \"io.confluent\", "
+                  + "\"fields\": ["
+                  + "{\"name\": \"null\", \"type\": \"null\"},"
+                  + "{\"name\": \"boolean\", \"type\": \"boolean\"},"
+                  + "{\"name\": \"int\", \"type\": \"int\"},"
+                  + "{\"name\": \"long\", \"type\": \"long\"},"
+                  + "{\"name\": \"float\", \"type\": \"float\"},"
+                  + "{\"name\": \"double\", \"type\": \"double\"},"
+                  + "{\"name\": \"bytes\", \"type\": \"bytes\"},"
+                  + "{\"name\": \"string\", \"type\": \"string\"},"
+                  + "{\"name\": \"enum\", \"type\": {\"type\": \"enum\", \"name\": \"Suit\", "
+                  + "\"symbols\": [\"SPADES\", \"HEARTS\"]}},"
+                  + "{\"name\": \"fixed\", \"type\": {\"type\": \"fixed\", \"name\": \"Two\", "
+                  + "\"size\": 2}},"
+                  + "{\"name\": \"array\", \"type\": {\"type\": \"array\", \"items\": \"int\"}},"
+                  + "{\"name\": \"map\", \"type\": {\"type\": \"map\", \"values\": \"string\"}},"
+                  + "{\"name\": \"nullable\", \"type\": [\"null\", \"string\"]},"
+                  + "{\"name\": \"union\", \"type\": [\"null\", \"string\", {\"type\": "
+                  + "\"record\", \"name\": \"Inner\", \"fields\": "
+                  + "[{\"name\": \"value\", \"type\": \"long\"}]}]}"
+                  + "]}");
+
   @Test
   public void testPrimitiveTypesToJson() {
     AvroConverter.JsonNodeAndSize result = new AvroConverter().toJson((int) 0);
@@ -188,4 +220,77 @@ public class AvroConverterTest {
     assertTrue(result.getJson().isTextual());
     assertEquals("SPADES", result.getJson().textValue());
   }
+
+  @Test
+  public void testDirectRecordToJson() throws Exception {
+    GenericRecord record = newDirectRecord();
+
+    AvroConverter.JsonNodeAndSize direct = new AvroConverter(/* direct= */ true).toJson(record);
+
+    byte[] expected = AvroSchemaUtils.toJson(record);
+    assertEquals(
+        new String(expected, StandardCharsets.UTF_8),
+        OBJECT_MAPPER.writeValueAsString(direct.getJson()));
+    assertEquals(expected.length, direct.getSize());
+  }
+
+  @Test
+  public void testDirectRecordSizeToJson() throws Exception {
+    GenericRecord record = newDirectRecord();
+
+    AvroConverter.JsonNodeAndSize direct = new AvroConverter(/* direct= */ true).toJson(record);
+    AvroConverter.JsonNodeAndSize tree = new AvroConverter().toJson(record);
+
+    assertEquals(tree.getSize(), direct.getSize());
+    assertEquals(
+        tree.getJson(), OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(direct.getJson())));
+  }
+
+  @Test
+  public void testDirectPrimitiveToJson() throws Exception {
+    AvroConverter.JsonNodeAndSize direct = new AvroConverter(/* direct= */ true).toJson("café");
+
+    assertEquals("\"café\"", OBJECT_MAPPER.writeValueAsString(direct.getJson()));
+    assertEquals(7, direct.getSize());
+  }
+
+  @Test
+  public void testDirectNullToJson() {
+    JsonNode json = new AvroConverter(/* direct= */ true).toJson(null).getJson();
+
+    assertTrue(json.isNull());
+  }
+
+  private static GenericRecord newDirectRecord() {
+    Schema union = DIRECT_SCHEMA.getField("union").schema();
+    GenericRecord inner = new GenericData.Record(union.getTypes().get(2));
+    inner.put("value", 42L);
+
+    Map<Utf8, Utf8> map = new HashMap<>();
+    map.put(new Utf8("key"), new Utf8("\"quoted\" ünicode"));
+
+    GenericRecord record = new GenericData.Record(DIRECT_SCHEMA);
+    record.put("null", null);
+    record.put("boolean", true);
+    record.put("int", -1);
+    record.put("long", Long.MAX_VALUE);
+    record.put("float", 1.1f);
+    record.put("double", 2.2d);
+    record.put("bytes", ByteBuffer.wrap(new byte[] {0, 1, (byte) 0xff}));
+    record.put("string", new Utf8("café"));
+    record.put(
+        "enum", new GenericData.EnumSymbol(DIRECT_SCHEMA.getField("enum").schema(), "HEARTS"));
+    record.put(
+        "fixed",
+        new GenericData.Fixed(
+            DIRECT_SCHEMA.getField("fixed").schema(), new byte[] {(byte) 0x80, 'a'}));
+    record.put(
+        "array",
+        new GenericData.Array<>(
+            DIRECT_SCHEMA.getField("array").schema(), Arrays.asList(1, 2, 3)));
+    record.put("map", map);
+    record.put("nullable", null);
+    record.put("union", inner);
+    return record;
+  }
 }
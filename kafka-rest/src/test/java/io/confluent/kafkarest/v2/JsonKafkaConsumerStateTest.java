@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafkarest.v2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.google.common.collect.ImmutableMap;
+import io.confluent.kafkarest.ConsumerInstanceId;
+import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.entities.ConsumerInstanceConfig;
+import io.confluent.kafkarest.entities.EmbeddedFormat;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Properties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+public class JsonKafkaConsumerStateTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void createConsumerRecord_rawPassthrough_returnsRawValues() throws Exception {
+    JsonKafkaConsumerState state = newState(/* rawPassthrough= */ true);
+
+    io.confluent.kafkarest.entities.ConsumerRecord<Object, Object> record =
+        state.createConsumerRecord(newRecord("\"key\"", "{\"a\": [1, 2.50, null]}")).getRecord();
+
+    assertEquals(new RawValue("\"key\""), record.getKey());
+    assertEquals(new RawValue("{\"a\": [1, 2.50, null]}"), record.getValue());
+    assertEquals("{\"a\": [1, 2.50, null]}", OBJECT_MAPPER.writeValueAsString(record.getValue()));
+  }
+
+  @Test
+  public void createConsumerRecord_rawPassthrough_sizeIsSameAsDefault() {
+    ConsumerRecord<byte[], byte[]> consumerRecord = newRecord("\"ké\"", "[true]");
+
+    assertEquals(
+        newState(/* rawPassthrough= */ false).createConsumerRecord(consumerRecord).getSize(),
+        newState(/* rawPassthrough= */ true).createConsumerRecord(consumerRecord).getSize());
+  }
+
+  @Test
+  public void createConsumerRecord_rawPassthroughTrailingValue_deserializesFirstValue() {
+    JsonKafkaConsumerState state = newState(/* rawPassthrough= */ true);
+
+    io.confluent.kafkarest.entities.ConsumerRecord<Object, Object> record =
+        state.createConsumerRecord(newRecord("1 2", "{\"a\": 1} }")).getRecord();
+
+    assertEquals(1, record.getKey());
+    assertEquals(ImmutableMap.of("a", 1), record.getValue());
+  }
+
+  @Test
+  public void createConsumerRecord_rawPassthroughInvalidJson_throwsSerializationException() {
+    JsonKafkaConsumerState state = newState(/* rawPassthrough= */ true);
+
+    assertThrows(
+        SerializationException.class,
+        () -> state.createConsumerRecord(newRecord("\"key\"", "{\"a\": ")));
+  }
+
+  @Test
+  public void createConsumerRecord_default_deserializesValues() {
+    JsonKafkaConsumerState state = newState(/* rawPassthrough= */ false);
+
+    io.confluent.kafkarest.entities.ConsumerRecord<Object, Object> record =
+        state.createConsumerRecord(newRecord("\"key\"", "[1, 2]")).getRecord();
+
+    assertEquals("key", record.getKey());
+    assertEquals(Arrays.asList(1, 2), record.getValue());
+  }
+
+  private static JsonKafkaConsumerState newState(boolean rawPassthrough) {
+    Properties properties = new Properties();
+    properties.setProperty(
+        KafkaRestConfig.CONSUMER_JSON_RAW_PASSTHROUGH_ENABLE_CONFIG,
+        Boolean.toString(rawPassthrough));
+    return new JsonKafkaConsumerState(
+        new KafkaRestConfig(properties),
+        ConsumerInstanceConfig.create(EmbeddedFormat.JSON),
+        new ConsumerInstanceId("group", "instance"),
+        EasyMock.createMock(Consumer.class));
+  }
+
+  private static ConsumerRecord<byte[], byte[]> newRecord(String key, String value) {
+    return new ConsumerRecord<>(
+        "topic",
+        /* partition= */ 0,
+        /* offset= */ 0,
+        key.getBytes(StandardCharsets.UTF_8),
+        value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -20,18 +20,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.google.protobuf.ByteString;
 import io.confluent.kafkarest.ConsumerReadCallback;
 import io.confluent.kafkarest.KafkaRestConfig;
+import io.confluent.kafkarest.StreamingConsumerReadCallback;
 import io.confluent.kafkarest.entities.ConsumerInstanceConfig;
 import io.confluent.kafkarest.entities.ConsumerRecord;
 import io.confluent.kafkarest.entities.EmbeddedFormat;
 import io.confluent.kafkarest.entities.TopicPartitionOffset;
 import io.confluent.kafkarest.entities.v2.ConsumerOffsetCommitRequest;
 import io.confluent.kafkarest.entities.v2.ConsumerSubscriptionRecord;
+import io.confluent.rest.exceptions.RestNotFoundException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -45,6 +49,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigException;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
 import org.easymock.EasyMockExtension;
@@ -198,6 +203,243 @@ public class KafkaConsumerManagerTest {
     assertNull(actualException, "No exception in callback");
   }
 
+  @Test
+  public void testBlockingPollReturnsRecordsAtRequestTimeout() throws Exception {
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_CONFIG, "400");
+    props.setProperty(KafkaRestConfig.CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG, "100");
+    setUpConsumer(props);
+
+    List<ConsumerRecord<ByteString, ByteString>> referenceRecords = bootstrapConsumer(consumer);
+    readFromDefault(consumer.cid());
+
+    Thread.sleep(200);
+    assertFalse(sawCallback, "Callback failed early");
+    Thread.sleep(400);
+    assertTrue(sawCallback, "Callback failed to fire");
+    assertNull(actualException, "No exception in callback");
+    assertEquals(referenceRecords, actualRecords, "Records returned not as expected");
+  }
+
+  @Test
+  public void testBlockingPollReturnsRecordsArrivingMidPoll() throws Exception {
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_CONFIG, "5000");
+    props.setProperty(KafkaRestConfig.CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG, "5000");
+    props.setProperty(KafkaRestConfig.PROXY_FETCH_MIN_BYTES_CONFIG, "1");
+    setUpConsumer(props);
+    consumer.blockPollsUntilPollTask();
+
+    expectCreate(consumer);
+    String cid =
+        consumerManager.createConsumer(
+            groupName, ConsumerInstanceConfig.create(EmbeddedFormat.BINARY));
+    consumerManager.subscribe(
+        groupName, cid, new ConsumerSubscriptionRecord(Collections.singletonList(topicName), null));
+    consumer.rebalance(Collections.singletonList(new TopicPartition(topicName, 0)));
+    consumer.updateBeginningOffsets(singletonMap(new TopicPartition(topicName, 0), 0L));
+
+    CountDownLatch completed = new CountDownLatch(1);
+    long startNanos = System.nanoTime();
+    consumerManager.readRecords(
+        groupName,
+        cid,
+        BinaryKafkaConsumerState.class,
+        Duration.ofMillis(-1),
+        Long.MAX_VALUE,
+        new ConsumerReadCallback<ByteString, ByteString>() {
+          @Override
+          public void onCompletion(
+              List<ConsumerRecord<ByteString, ByteString>> records, Exception e) {
+            actualException = e;
+            actualRecords = records;
+            completed.countDown();
+          }
+        });
+
+    // The read is blocked in its poll by now, and gets the records as they arrive.
+    Thread.sleep(200);
+    assertEquals(1, completed.getCount(), "Callback failed early");
+    List<ConsumerRecord<ByteString, ByteString>> referenceRecords = schedulePoll();
+
+    assertTrue(completed.await(2, TimeUnit.SECONDS), "Callback failed to fire");
+    assertTrue(
+        System.nanoTime() - startNanos < TimeUnit.MILLISECONDS.toNanos(5000),
+        "Read waited for the request timeout");
+    assertNull(actualException, "No exception in callback");
+    assertEquals(referenceRecords, actualRecords, "Records returned not as expected");
+  }
+
+  @Test
+  public void testBlockingPollDoesNotHoldUpOtherOperations() throws Exception {
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_CONFIG, "5000");
+    props.setProperty(KafkaRestConfig.CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG, "5000");
+    props.setProperty(KafkaRestConfig.PROXY_FETCH_MIN_BYTES_CONFIG, "1");
+    setUpConsumer(props);
+    consumer.blockPollsUntilPollTask();
+
+    expectCreate(consumer);
+    String cid =
+        consumerManager.createConsumer(
+            groupName, ConsumerInstanceConfig.create(EmbeddedFormat.BINARY));
+    consumerManager.subscribe(
+        groupName, cid, new ConsumerSubscriptionRecord(Collections.singletonList(topicName), null));
+    consumer.rebalance(Collections.singletonList(new TopicPartition(topicName, 0)));
+    consumer.updateBeginningOffsets(singletonMap(new TopicPartition(topicName, 0), 0L));
+
+    CountDownLatch completed = new CountDownLatch(1);
+    consumerManager.readRecords(
+        groupName,
+        cid,
+        BinaryKafkaConsumerState.class,
+        Duration.ofMillis(-1),
+        Long.MAX_VALUE,
+        new ConsumerReadCallback<ByteString, ByteString>() {
+          @Override
+          public void onCompletion(
+              List<ConsumerRecord<ByteString, ByteString>> records, Exception e) {
+            actualException = e;
+            actualRecords = records;
+            completed.countDown();
+          }
+        });
+
+    // The read is blocked in its poll by now, but only holds the consumer for a slice of it.
+    Thread.sleep(200);
+    long startNanos = System.nanoTime();
+    assertEquals(
+        Collections.singletonList(
+            new io.confluent.kafkarest.entities.v2.TopicPartition(topicName, 0)),
+        consumerManager.assignment(groupName, cid).getPartitions());
+    assertTrue(
+        System.nanoTime() - startNanos < TimeUnit.MILLISECONDS.toNanos(1000),
+        "Assignment waited for the blocking poll");
+    assertEquals(1, completed.getCount(), "Read completed early");
+
+    schedulePoll();
+    assertTrue(completed.await(2, TimeUnit.SECONDS), "Callback failed to fire");
+    assertNull(actualException, "No exception in callback");
+  }
+
+  @Test
+  public void testStreamingReadHandsOverRecordsAsTheyAreRead() throws Exception {
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_CONFIG, "400");
+    // Each of the records is 4 bytes.
+    props.setProperty(KafkaRestConfig.CONSUMER_RESPONSE_STREAMING_CHUNK_BYTES_CONFIG, "4");
+    setUpConsumer(props);
+
+    List<ConsumerRecord<ByteString, ByteString>> referenceRecords = bootstrapConsumer(consumer);
+    List<List<ConsumerRecord<ByteString, ByteString>>> chunks = new CopyOnWriteArrayList<>();
+    CountDownLatch completed = new CountDownLatch(1);
+    consumerManager.readRecords(
+        groupName,
+        consumer.cid(),
+        BinaryKafkaConsumerState.class,
+        Duration.ofMillis(-1),
+        Long.MAX_VALUE,
+        new StreamingConsumerReadCallback<ByteString, ByteString>() {
+          @Override
+          public void onRecords(List<ConsumerRecord<ByteString, ByteString>> records) {
+            chunks.add(records);
+          }
+
+          @Override
+          public void onCompletion(
+              List<ConsumerRecord<ByteString, ByteString>> records, Exception e) {
+            actualException = e;
+            actualRecords = records;
+            completed.countDown();
+          }
+        });
+
+    assertTrue(completed.await(2, TimeUnit.SECONDS), "Callback failed to fire");
+    assertNull(actualException, "No exception in callback");
+    assertEquals(
+        Arrays.asList(
+            Collections.singletonList(referenceRecords.get(0)),
+            Collections.singletonList(referenceRecords.get(1)),
+            Collections.singletonList(referenceRecords.get(2))),
+        chunks,
+        "Records not streamed one at a time");
+    assertEquals(Collections.emptyList(), actualRecords, "Records left over after streaming");
+  }
+
+  @Test
+  public void testVirtualThreadsReadRecords() throws Exception {
+    assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_CONFIG, "400");
+    props.setProperty(KafkaRestConfig.CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG, "true");
+    setUpConsumer(props);
+
+    List<ConsumerRecord<ByteString, ByteString>> referenceRecords = bootstrapConsumer(consumer);
+    readFromDefault(consumer.cid());
+
+    Thread.sleep(600);
+    assertTrue(sawCallback, "Callback failed to fire");
+    assertNull(actualException, "No exception in callback");
+    assertEquals(referenceRecords, actualRecords, "Records returned not as expected");
+  }
+
+  @Test
+  public void testVirtualThreadsBlockingPollReturnsRecordsArrivingMidPoll() throws Exception {
+    assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_CONFIG, "5000");
+    props.setProperty(KafkaRestConfig.CONSUMER_POLL_BLOCKING_MAX_MS_CONFIG, "5000");
+    props.setProperty(KafkaRestConfig.CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG, "true");
+    props.setProperty(KafkaRestConfig.PROXY_FETCH_MIN_BYTES_CONFIG, "1");
+    setUpConsumer(props);
+    consumer.blockPollsUntilPollTask();
+
+    expectCreate(consumer);
+    String cid =
+        consumerManager.createConsumer(
+            groupName, ConsumerInstanceConfig.create(EmbeddedFormat.BINARY));
+    consumerManager.subscribe(
+        groupName, cid, new ConsumerSubscriptionRecord(Collections.singletonList(topicName), null));
+    consumer.rebalance(Collections.singletonList(new TopicPartition(topicName, 0)));
+    consumer.updateBeginningOffsets(singletonMap(new TopicPartition(topicName, 0), 0L));
+
+    CountDownLatch completed = new CountDownLatch(1);
+    consumerManager.readRecords(
+        groupName,
+        cid,
+        BinaryKafkaConsumerState.class,
+        Duration.ofMillis(-1),
+        Long.MAX_VALUE,
+        new ConsumerReadCallback<ByteString, ByteString>() {
+          @Override
+          public void onCompletion(
+              List<ConsumerRecord<ByteString, ByteString>> records, Exception e) {
+            actualException = e;
+            actualRecords = records;
+            completed.countDown();
+          }
+        });
+
+    Thread.sleep(200);
+    assertEquals(1, completed.getCount(), "Callback failed early");
+    List<ConsumerRecord<ByteString, ByteString>> referenceRecords = schedulePoll();
+
+    assertTrue(completed.await(2, TimeUnit.SECONDS), "Callback failed to fire");
+    assertNull(actualException, "No exception in callback");
+    assertEquals(referenceRecords, actualRecords, "Records returned not as expected");
+  }
+
+  @Test
+  public void testVirtualThreadsRequireJava21() {
+    assumeTrue(Runtime.version().feature() < 21, "Virtual threads are available");
+    Properties props = setUpProperties(new Properties());
+    props.setProperty(KafkaRestConfig.CONSUMER_VIRTUAL_THREADS_ENABLE_CONFIG, "true");
+
+    assertThrows(
+        ConfigException.class,
+        () -> new KafkaConsumerManager(new KafkaRestConfig(props), consumerFactory));
+  }
+
   /** Response should return no sooner than KafkaRestConfig.PROXY_FETCH_MAX_WAIT_MS_CONFIG */
   @Test
   public void testConsumerWaitMs() throws Exception {
@@ -563,6 +805,54 @@ public class KafkaConsumerManagerTest {
     assertTrue(state.expiration.isAfter(initialExpiration));
   }
 
+  @Test
+  public void testExpiredConsumerIsRemoved() throws Exception {
+    Properties props = setUpProperties();
+    props.put(KafkaRestConfig.CONSUMER_INSTANCE_TIMEOUT_MS_CONFIG, "500");
+    setUpConsumer(props);
+    bootstrapConsumer(consumer);
+
+    // The expiration thread sweeps once a second.
+    Thread.sleep(2500);
+
+    assertThrows(
+        RestNotFoundException.class,
+        () -> consumerManager.getConsumerInstance(groupName, consumer.cid()));
+    assertTrue(consumer.closed());
+  }
+
+  @Test
+  public void testConsumerInUseIsNotRemoved() throws Exception {
+    Properties props = setUpProperties();
+    props.put(KafkaRestConfig.CONSUMER_INSTANCE_TIMEOUT_MS_CONFIG, "500");
+    setUpConsumer(props);
+    bootstrapConsumer(consumer);
+
+    // Outlives its first queued expiration by a few sweeps.
+    for (int i = 0; i < 25; i++) {
+      consumerManager.getConsumerInstance(groupName, consumer.cid());
+      Thread.sleep(100);
+    }
+
+    assertNotNull(consumerManager.getConsumerInstance(groupName, consumer.cid()));
+    assertFalse(consumer.closed());
+  }
+
+  @Test
+  public void testEvictedConsumerIsNotFoundButCanBeDeleted() {
+    bootstrapConsumer(consumer);
+    KafkaConsumerState state = consumerManager.getConsumerInstance(groupName, consumer.cid());
+
+    assertTrue(state.evictIfExpired(Instant.MAX));
+    assertFalse(state.tryUpdateExpiration());
+    assertThrows(
+        RestNotFoundException.class,
+        () -> consumerManager.getConsumerInstance(groupName, consumer.cid()));
+
+    consumerManager.deleteConsumer(groupName, consumer.cid());
+    assertTrue(consumer.closed());
+  }
+
   private void awaitRead() throws InterruptedException {
     Thread.sleep(
         (long) (Integer.parseInt(KafkaRestConfig.CONSUMER_REQUEST_TIMEOUT_MS_DEFAULT) * 1.10));
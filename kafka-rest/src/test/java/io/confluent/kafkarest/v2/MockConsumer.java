@@ -17,6 +17,8 @@ package io.confluent.kafkarest.v2;
 
 import static java.util.Collections.unmodifiableMap;
 
+import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -24,9 +26,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
 
 public class MockConsumer<K, V> extends org.apache.kafka.clients.consumer.MockConsumer<K, V> {
   private String cid;
@@ -34,6 +40,8 @@ public class MockConsumer<K, V> extends org.apache.kafka.clients.consumer.MockCo
 
   private final Map<TopicPartition, SortedSet<OffsetAndTimestamp>> offsetForTimes = new HashMap<>();
 
+  @Nullable private volatile CountDownLatch pollTaskScheduled;
+
   MockConsumer(OffsetResetStrategy offsetResetStrategy, String groupName) {
     super(offsetResetStrategy);
     this.groupName = groupName;
@@ -47,6 +55,38 @@ public class MockConsumer<K, V> extends org.apache.kafka.clients.consumer.MockCo
     this.cid = cid;
   }
 
+  /**
+   * Makes polls block for up to their timeout until a poll task is scheduled, like a consumer
+   * waiting for records to arrive, rather than return right away.
+   */
+  void blockPollsUntilPollTask() {
+    pollTaskScheduled = new CountDownLatch(1);
+  }
+
+  @Override
+  public ConsumerRecords<K, V> poll(Duration timeout) {
+    // Not synchronized while waiting, so that poll tasks can be scheduled meanwhile.
+    CountDownLatch latch = pollTaskScheduled;
+    if (latch != null) {
+      try {
+        latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptException(e);
+      }
+    }
+    return super.poll(timeout);
+  }
+
+  @Override
+  public synchronized void schedulePollTask(Runnable task) {
+    super.schedulePollTask(task);
+    CountDownLatch latch = pollTaskScheduled;
+    if (latch != null) {
+      latch.countDown();
+    }
+  }
+
   synchronized void updateOffsetForTime(
       String topic, int partition, long offset, Instant timestamp) {
     SortedSet<OffsetAndTimestamp> offsets =